@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Alarm.Repetition;
+import eu.hansolo.medusa.tools.GaugeRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks the alarm checking that the Clock does on every tick.
+ * The alarms are not armed so that no events will be fired.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClockBenchmark {
+    @Param({ "1", "50" })
+    private int           noOfAlarms;
+    private Clock         clock;
+    private ZonedDateTime time;
+
+
+    // ******************** Setup *********************************************
+    @Setup public void setup() {
+        GaugeRenderer.startToolkit();
+        time  = ZonedDateTime.now();
+        clock = new Clock(time);
+        Repetition[] repetitions = { Repetition.HALF_HOURLY, Repetition.HOURLY, Repetition.DAILY, Repetition.WEEKLY };
+        for (int i = 0 ; i < noOfAlarms ; i++) {
+            clock.addAlarm(new Alarm(repetitions[i % repetitions.length], time.plusMinutes(i + 1), false));
+        }
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public ZonedDateTime checkAlarms() {
+        time = time.plusSeconds(1);
+        clock.checkAlarms(time);
+        return time;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.tools.GaugeRenderer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Measures the retained heap per Gauge for a dashboard of identically
+ * styled gauges (reported as the bytesPerGauge counter).
+ * With sharedStyle=false every gauge gets its own copy of the styling
+ * values, which corresponds to the memory layout before GaugeStyle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xms1g", "-Xmx1g" })
+public class GaugeMemoryBenchmark {
+    private static final int         NO_OF_GAUGES = 3000;
+    @Param({ "true", "false" })
+    private              boolean     sharedStyle;
+    private              List<Gauge> gauges;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+        public long bytesPerGauge;
+    }
+
+
+    // ******************** Setup *********************************************
+    @Setup public void setup() {
+        GaugeRenderer.startToolkit();
+    }
+
+    @Setup(Level.Iteration) public void clear() {
+        gauges = null;
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public List<Gauge> createGauges(final Heap HEAP) {
+        long before = usedHeap();
+        gauges = new ArrayList<>(NO_OF_GAUGES);
+        for (int i = 0 ; i < NO_OF_GAUGES ; i++) {
+            Gauge gauge = new Gauge(SkinType.MODERN);
+            // Writing a styling value gives the gauge its own copy of the style
+            if (!sharedStyle) { gauge.setNeedleColor(gauge.getNeedleColor()); }
+            gauges.add(gauge);
+        }
+        HEAP.bytesPerGauge = (usedHeap() - before) / NO_OF_GAUGES;
+        return gauges;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0 ; i < 3 ; i++) { System.gc(); }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks the color lookup of GradientLookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradientLookupBenchmark {
+    private GradientLookup gradientLookup;
+    private double         position;
+
+
+    // ******************** Setup *********************************************
+    @Setup public void setup() {
+        gradientLookup = new GradientLookup(new Stop(0.0, Color.BLUE),
+                                            new Stop(0.25, Color.CYAN),
+                                            new Stop(0.5, Color.LIME),
+                                            new Stop(0.75, Color.YELLOW),
+                                            new Stop(1.0, Color.RED));
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public Color getColorAt() {
+        position += 0.0013;
+        if (position > 1) { position = 0; }
+        return gradientLookup.getColorAt(position);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks the number formatting and scaling methods of Helper.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HelperBenchmark {
+    private double value = 47.11;
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public String formatNumber() {
+        value += 0.01;
+        return Helper.formatNumber(Locale.US, "%.2f", 2, value);
+    }
+
+    @Benchmark public String formatNumberMinMax() {
+        value += 0.01;
+        return Helper.formatNumber(Locale.US, -100, 100, 2, value);
+    }
+
+    @Benchmark public double calcNiceNumberRound() {
+        value += 0.01;
+        return Helper.calcNiceNumber(value, true);
+    }
+
+    @Benchmark public double calcNiceNumberCeil() {
+        value += 0.01;
+        return Helper.calcNiceNumber(value, false);
+    }
+
+    @Benchmark public double[] calcAutoScale() {
+        value += 0.01;
+        return Helper.calcAutoScale(-value, value);
+    }
+}
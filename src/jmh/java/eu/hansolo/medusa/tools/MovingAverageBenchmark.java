@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks adding data to and averaging a MovingAverage.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovingAverageBenchmark {
+    @Param({ "10", "1000" })
+    private int           period;
+    private MovingAverage movingAverage;
+    private double        value;
+
+
+    // ******************** Setup *********************************************
+    @Setup public void setup() {
+        movingAverage = new MovingAverage(period);
+        for (int i = 0 ; i < period ; i++) { movingAverage.addValue(i); }
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public double addData() {
+        value += 1;
+        movingAverage.addData(new Data(value));
+        return movingAverage.getAverage();
+    }
+
+    @Benchmark public double getTimeBasedAverageOf() {
+        return movingAverage.getTimeBasedAverageOf(Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks the raster generation of ConicalGradient and the noise image.
+ * Images need a running JavaFX toolkit which will be started in the setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RasterBenchmark {
+    @Param({ "100", "500" })
+    private double          size;
+    private ConicalGradient conicalGradient;
+
+
+    // ******************** Setup *********************************************
+    @Setup public void setup() {
+        GaugeRenderer.startToolkit();
+        conicalGradient = new ConicalGradient(size * 0.5, size * 0.5,
+                                              new Stop(0.0, Color.RED),
+                                              new Stop(0.5, Color.LIME),
+                                              new Stop(1.0, Color.BLUE));
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public Image conicalGradientImage() { return conicalGradient.getImage(size, size); }
+
+    @Benchmark public Image conicalGradientRoundImage() { return conicalGradient.getRoundImage(size); }
+
+    @Benchmark public Image noiseImage() { return Helper.createNoiseImage(size, size, Color.rgb(30, 30, 30), Color.rgb(50, 50, 50), 8); }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks the methods of Statistics.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsBenchmark {
+    @Param({ "100", "10000" })
+    private int          size;
+    private List<Double> data;
+
+
+    // ******************** Setup *********************************************
+    @Setup public void setup() {
+        Random rnd = new Random(42);
+        data = new ArrayList<>(size);
+        for (int i = 0 ; i < size ; i++) { data.add(rnd.nextDouble() * 100); }
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public double getMean() { return Statistics.getMean(data); }
+
+    @Benchmark public double getVariance() { return Statistics.getVariance(data); }
+
+    @Benchmark public double getStdDev() { return Statistics.getStdDev(data); }
+
+    @Benchmark public double getMedian() { return Statistics.getMedian(new ArrayList<>(data)); }
+
+    @Benchmark public double getMin() { return Statistics.getMin(data); }
+
+    @Benchmark public double getMax() { return Statistics.getMax(data); }
+}
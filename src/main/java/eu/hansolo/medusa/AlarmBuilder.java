@@ -48,6 +48,22 @@ public class AlarmBuilder<B extends AlarmBuilder<B>> {
         return new AlarmBuilder();
     }
 
+    /**
+     * Returns a new builder that is initialized with the settings of the
+     * given alarm. Could be used to create a template once and derive any
+     * number of alarms from it. Listeners are not copied.
+     * @param PROTOTYPE
+     * @return a new builder initialized with the settings of the given alarm
+     */
+    public static final AlarmBuilder from(final Alarm PROTOTYPE) {
+        return create().time(PROTOTYPE.getTime())
+                       .repetition(PROTOTYPE.getRepetition())
+                       .text(PROTOTYPE.getText())
+                       .armed(PROTOTYPE.isArmed())
+                       .command(PROTOTYPE.getCommand())
+                       .color(PROTOTYPE.getColor());
+    }
+
     public final B time(final ZonedDateTime DATE_TIME) {
         properties.put("time", new SimpleObjectProperty<ZonedDateTime>(DATE_TIME));
         return (B)this;
@@ -26,11 +26,15 @@ import eu.hansolo.medusa.events.UpdateEvent.EventType;
 import eu.hansolo.medusa.events.UpdateEventListener;
 import eu.hansolo.medusa.skins.*;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.MedusaMetrics;
+import eu.hansolo.medusa.tools.MedusaRuntime;
 import eu.hansolo.medusa.tools.TimeSectionComparator;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
+import javafx.beans.WeakListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.BooleanPropertyBase;
 import javafx.beans.property.DoubleProperty;
@@ -54,19 +58,19 @@ import javafx.scene.text.Font;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 
@@ -89,8 +93,7 @@ public class Clock extends Control {
     private        final UpdateEvent          SECTION_EVENT    = new UpdateEvent(Clock.this, UpdateEvent.EventType.SECTION);
     private        final UpdateEvent          FINISHED_EVENT   = new UpdateEvent(Clock.this, UpdateEvent.EventType.FINISHED);
 
-    private volatile ScheduledFuture<?>       periodicTickTask;
-    private static   ScheduledExecutorService periodicTickExecutorService;
+    private volatile MedusaRuntime.Task       periodicTickTask;
 
     // Alarm events
     private List<UpdateEventListener>         listenerList          = new CopyOnWriteArrayList<>();
@@ -200,6 +203,15 @@ public class Clock extends Control {
     private boolean                           _animated;
     private BooleanProperty                   animated;
     private long                              animationDuration;
+    private boolean                           _pulseDriven;
+    private BooleanProperty                   pulseDriven;
+    private AnimationTimer                    pulseTimer;
+    private boolean                           pulseUpdate;
+    private long                              pulseBaseNanos;
+    private long                              pulseBaseEpochNanos;
+    private long                              lastPulseSecond;
+    private ZoneOffset                        pulseZoneOffset;
+    private long                              pulseZoneOffsetValidUntil;
     private boolean                           _customFontEnabled;
     private BooleanProperty                   customFontEnabled;
     private Font                              _customFont;
@@ -226,6 +238,8 @@ public class Clock extends Control {
 
         init(TIME);
         registerListeners();
+
+        MedusaRuntime.register(Clock.this);
     }
 
 
@@ -233,6 +247,7 @@ public class Clock extends Control {
     private void init(final ZonedDateTime TIME) {
         time                    = new ObjectPropertyBase<ZonedDateTime>(TIME) {
             @Override protected void invalidated() {
+                if (!pulseUpdate) { pulseBaseNanos = -1; }
                 if (!isRunning() && isAnimated()) {
                     long animationDuration = getAnimationDuration();
                     timeline.stop();
@@ -241,6 +256,7 @@ public class Clock extends Control {
                     timeline.getKeyFrames().setAll(KEY_FRAME);
                     timeline.setOnFinished(e -> fireUpdateEvent(FINISHED_EVENT));
                     timeline.play();
+                    MedusaMetrics.animationStarted(skinType);
                 } else {
                     currentTime.set(TIME.toEpochSecond());
                     fireUpdateEvent(FINISHED_EVENT);
@@ -308,6 +324,8 @@ public class Clock extends Control {
         _tickLabelLocation      = TickLabelLocation.INSIDE;
         _animated               = false;
         animationDuration       = 10000;
+        _pulseDriven            = false;
+        pulseBaseNanos          = -1;
         _customFontEnabled      = false;
         _customFont             = Fonts.robotoRegular(12);
     }
@@ -718,7 +736,7 @@ public class Clock extends Control {
     public void setDiscreteSeconds(boolean DISCRETE) {
         if (null == discreteSeconds) {
             _discreteSeconds = DISCRETE;
-            stopTask(periodicTickTask);
+            stopTicking();
             if (isAnimated()) return;
             scheduleTickTask();
         } else {
@@ -729,7 +747,7 @@ public class Clock extends Control {
         if (null == discreteSeconds) {
             discreteSeconds = new BooleanPropertyBase() {
                 @Override protected void invalidated() {
-                    stopTask(periodicTickTask);
+                    stopTicking();
                     if (isAnimated()) return;
                     scheduleTickTask();
                 }
@@ -756,7 +774,7 @@ public class Clock extends Control {
     public void setDiscreteMinutes(boolean DISCRETE) {
         if (null == discreteMinutes) {
             _discreteMinutes = DISCRETE;
-            stopTask(periodicTickTask);
+            stopTicking();
             if (isAnimated()) return;
             scheduleTickTask();
         } else {
@@ -767,7 +785,7 @@ public class Clock extends Control {
         if (null == discreteMinutes) {
             discreteMinutes = new BooleanPropertyBase() {
                 @Override protected void invalidated() {
-                    stopTask(periodicTickTask);
+                    stopTicking();
                     if (isAnimated()) return;
                     scheduleTickTask();
                 }
@@ -980,7 +998,7 @@ public class Clock extends Control {
     public void setRunning(boolean RUNNING) { 
         if (null == running) {
             _running = RUNNING;
-            if (RUNNING && !isAnimated()) { scheduleTickTask(); } else { stopTask(periodicTickTask); }
+            if (RUNNING && !isAnimated()) { scheduleTickTask(); } else { stopTicking(); }
         } else {
             running.set(RUNNING);
         }
@@ -989,7 +1007,7 @@ public class Clock extends Control {
         if (null == running) {
             running = new BooleanPropertyBase(_running) {
             @Override protected void invalidated() {
-                if (get() && !isAnimated()) { scheduleTickTask(); } else { stopTask(periodicTickTask); }
+                if (get() && !isAnimated()) { scheduleTickTask(); } else { stopTicking(); }
             }
             @Override public Object getBean() { return Clock.this; }
             @Override public String getName() { return "running"; }
@@ -1857,6 +1875,42 @@ public class Clock extends Control {
         return animated;
     }
 
+    /**
+     * Returns true if the running clock will be updated on every JavaFX
+     * pulse instead of by a background thread. In this mode the time is
+     * interpolated from a monotonic nanosecond base which leads to smooth
+     * sweeping hands that follow the display refresh rate.
+     * @return true if the running clock will be updated on every pulse
+     */
+    public boolean isPulseDriven() { return null == pulseDriven ? _pulseDriven : pulseDriven.get(); }
+    /**
+     * Defines if the running clock should be updated on every JavaFX
+     * pulse instead of by a background thread. In this mode the time is
+     * interpolated from a monotonic nanosecond base which leads to smooth
+     * sweeping hands that follow the display refresh rate.
+     * @param PULSE_DRIVEN
+     */
+    public void setPulseDriven(final boolean PULSE_DRIVEN) {
+        if (null == pulseDriven) {
+            _pulseDriven = PULSE_DRIVEN;
+            if (isRunning() && !isAnimated()) { scheduleTickTask(); }
+        } else {
+            pulseDriven.set(PULSE_DRIVEN);
+        }
+    }
+    public BooleanProperty pulseDrivenProperty() {
+        if (null == pulseDriven) {
+            pulseDriven = new BooleanPropertyBase(_pulseDriven) {
+                @Override protected void invalidated() {
+                    if (isRunning() && !isAnimated()) { scheduleTickTask(); }
+                }
+                @Override public Object getBean() { return Clock.this; }
+                @Override public String getName() { return "pulseDriven"; }
+            };
+        }
+        return pulseDriven;
+    }
+
     /**
      * Returns the duration in milliseconds that will be used to animate
      * the hands of the clock from the current time to the given time.
@@ -1941,9 +1995,10 @@ public class Clock extends Control {
      * Calling this method will check the current time against all Alarm
      * objects in alarms. The Alarm object will fire events in case the
      * time is after the alarm time.
+     * Package private to make it accessible for the benchmarks.
      * @param TIME
      */
-    private void checkAlarms(final ZonedDateTime TIME) {
+    void checkAlarms(final ZonedDateTime TIME) {
         alarmsToRemove.clear();
         for (Alarm alarm : alarms) {
             final ZonedDateTime ALARM_TIME = alarm.getTime();
@@ -2022,10 +2077,46 @@ public class Clock extends Control {
         }
     }
 
-    private void tick() { Platform.runLater(() -> {
+    private void tick() {
+        MedusaMetrics.runLaterPosted(skinType);
+        Platform.runLater(() -> {
+            if (isAnimated()) return;
+            advanceTime(getTime().plus(Duration.ofMillis(updateInterval)));
+        });
+    }
+
+    private void pulse(final long NOW) {
         if (isAnimated()) return;
+        if (pulseBaseNanos < 0) {
+            ZonedDateTime time  = getTime();
+            pulseBaseNanos      = NOW;
+            pulseBaseEpochNanos = time.toEpochSecond() * 1_000_000_000L + time.getNano();
+            lastPulseSecond     = Long.MIN_VALUE;
+        }
+        long epochNanos  = pulseBaseEpochNanos + (NOW - pulseBaseNanos);
+        long epochSecond = Math.floorDiv(epochNanos, 1_000_000_000L);
+        int  nano        = isDiscreteSeconds() ? 0 : (int) Math.floorMod(epochNanos, 1_000_000_000L);
+        if (isDiscreteSeconds() && epochSecond == lastPulseSecond) return;
+        lastPulseSecond = epochSecond;
+
+        // Zone rules will only be evaluated again when the next offset transition (e.g. DST) is reached
+        if (null == pulseZoneOffset || epochSecond >= pulseZoneOffsetValidUntil) {
+            ZoneRules            rules      = zoneId.getRules();
+            Instant              instant    = Instant.ofEpochSecond(epochSecond);
+            ZoneOffsetTransition transition = rules.nextTransition(instant);
+            pulseZoneOffset           = rules.getOffset(instant);
+            pulseZoneOffsetValidUntil = null == transition ? Long.MAX_VALUE : transition.toEpochSecond();
+        }
+
+        pulseUpdate = true;
+        advanceTime(ZonedDateTime.ofLocal(LocalDateTime.ofEpochSecond(epochSecond, nano, pulseZoneOffset), zoneId, pulseZoneOffset));
+        pulseUpdate = false;
+    }
+
+    private void advanceTime(final ZonedDateTime TIME) {
+        MedusaMetrics.clockTicked(skinType);
         ZonedDateTime oldTime = getTime();
-        setTime(getTime().plus(Duration.ofMillis(updateInterval)));
+        setTime(TIME);
         ZonedDateTime now = time.get();
         if (isAlarmsEnabled()) checkAlarms(now);
         if (isAutoNightMode()) checkForNight(now);
@@ -2043,47 +2134,43 @@ public class Clock extends Control {
         if (oldTime.getSecond() != now.getSecond()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.SECOND));
         if (oldTime.getMinute() != now.getMinute()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.MINUTE));
         if (oldTime.getHour() != now.getHour()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.HOUR));
-    }); }
+        if (oldTime.getDayOfYear() != now.getDayOfYear()) fireTimeEvent(new TimeEvent(Clock.this, now, TimeEventType.DAY));
+    }
 
 
     // ******************** Scheduled tasks ***********************************
-    private synchronized static void enableTickExecutorService() {
-        if (null == periodicTickExecutorService) {
-            periodicTickExecutorService = new ScheduledThreadPoolExecutor(1, getThreadFactory("ClockTick", true));
-        }
-    }
     private synchronized void scheduleTickTask() {
-        enableTickExecutorService();
-        stopTask(periodicTickTask);
-
-        updateInterval = (isDiscreteMinutes() && isDiscreteSeconds()) ? LONG_INTERVAL : SHORT_INTERVAL;
-        periodicTickTask = periodicTickExecutorService.scheduleAtFixedRate(() -> tick(), 0, updateInterval, TimeUnit.MILLISECONDS);
-    }
+        stopTicking();
+        if (isPulseDriven()) {
+            if (null == pulseTimer) {
+                pulseTimer = new AnimationTimer() {
+                    @Override public void handle(final long NOW) { pulse(NOW); }
+                };
+            }
+            pulseBaseNanos = -1;
+            pulseTimer.start();
+            return;
+        }
 
-    private static ThreadFactory getThreadFactory(final String THREAD_NAME, final boolean IS_DAEMON) {
-        return runnable -> {
-            Thread thread = new Thread(runnable, THREAD_NAME);
-            thread.setDaemon(IS_DAEMON);
-            return thread;
-        };
+        updateInterval   = (isDiscreteMinutes() && isDiscreteSeconds()) ? LONG_INTERVAL : SHORT_INTERVAL;
+        periodicTickTask = MedusaRuntime.scheduleAtFixedRate(Clock.this, Clock::tick, 0, updateInterval, TimeUnit.MILLISECONDS);
     }
 
-    private void stopTask(ScheduledFuture<?> task) {
-        if (null == task) return;
-        task.cancel(true);
-        task = null;
+    private synchronized void stopTicking() {
+        if (null != periodicTickTask) {
+            periodicTickTask.cancel();
+            periodicTickTask = null;
+        }
+        if (null != pulseTimer) { pulseTimer.stop(); }
     }
 
     /**
-     * Calling this method will stop all threads. This is needed when using
-     * JavaFX on mobile devices when the device goes to sleep mode.
+     * Calling this method will stop the threads of this clock. This is
+     * needed when using JavaFX on mobile devices when the device goes to
+     * sleep mode. Other clocks are not affected, use MedusaRuntime.shutdown()
+     * to stop all threads.
      */
-    public void stop() {
-        if (null != periodicTickTask) { stopTask(periodicTickTask); }
-        if (null != periodicTickExecutorService) { periodicTickExecutorService.shutdownNow(); }
-    }
-
-    private void createShutdownHook() { Runtime.getRuntime().addShutdownHook(new Thread(() -> stop())); }
+    public void stop() { stopTicking(); }
 
 
     // ******************** Style related *************************************
@@ -2114,6 +2201,17 @@ public class Clock extends Control {
         return getClass().getResource("clock.css").toExternalForm();
     }
 
+    /**
+     * Creates the skin for the current skin type. As long as no skin exists
+     * the skin will be created by JavaFX via createDefaultSkin() when the
+     * clock is attached to a showing scene (or css is applied) the first
+     * time. An existing skin will be replaced immediately.
+     */
+    private void updateSkin() {
+        if (null == getSkin()) return;
+        super.setSkin(createDefaultSkin());
+    }
+
     public ClockSkinType getSkinType() { return skinType; }
     public void setSkinType(ClockSkinType SKIN) {
         skinType = SKIN;
@@ -2125,12 +2223,10 @@ public class Clock extends Control {
                 setHourColor(Color.WHITE);
                 setMinuteColor(Color.WHITE);
                 setKnobColor(Color.WHITE);
-                super.setSkin(new ClockSkin(Clock.this));
                 break;
             case LCD:
                 setBorderPaint(Color.WHITE);
                 setForegroundPaint(Color.WHITE);
-                super.setSkin(new LcdClockSkin(Clock.this));
                 break;
             case PEAR:
                 setBackgroundPaint(Color.BLACK);
@@ -2145,7 +2241,6 @@ public class Clock extends Control {
                 setSecondsVisible(true);
                 setTextVisible(false);
                 setTitleVisible(false);
-                super.setSkin(new PearClockSkin(Clock.this));
                 break;
             case PLAIN:
                 setBackgroundPaint(Color.rgb(29, 29, 29));
@@ -2156,24 +2251,19 @@ public class Clock extends Control {
                 setSecondsVisible(true);
                 setHourTickMarkColor(Color.rgb(240, 240, 240));
                 setMinuteTickMarkColor(Color.rgb(240, 240, 240));
-                super.setSkin(new PlainClockSkin(Clock.this));
                 break;
             case DB:
                 setDiscreteSeconds(false);
                 setDiscreteMinutes(true);
                 setSecondColor(Color.rgb(167, 0, 0));
                 setSecondsVisible(true);
-
-                super.setSkin(new DBClockSkin(Clock.this));
                 break;
             case FAT:
                 setDiscreteMinutes(true);
-                super.setSkin(new FatClockSkin(Clock.this));
                 break;
             case ROUND_LCD:
                 setTextVisible(true);
                 setDateVisible(true);
-                super.setSkin(new RoundLcdClockSkin(Clock.this));
                 break;
             case SLIM:
                 setSecondsVisible(true);
@@ -2183,7 +2273,6 @@ public class Clock extends Control {
                 setMinuteColor(Color.rgb(0,191,255));
                 setSecondColor(Color.WHITE);
                 setDateColor(Color.WHITE);
-                super.setSkin(new SlimClockSkin(Clock.this));
                 break;
             case MINIMAL:
                 setBackgroundPaint(Color.rgb(255, 255, 255, 0.3));
@@ -2192,19 +2281,16 @@ public class Clock extends Control {
                 setSecondColor(Color.rgb(255, 255, 255, 0.8));
                 setSecondsVisible(true);
                 setDateVisible(true);
-                super.setSkin(new MinimalClockSkin(Clock.this));
                 break;
             case DIGITAL:
                 setTextVisible(true);
                 setDateVisible(true);
                 setSecondsVisible(true);
-                super.setSkin(new DigitalClockSkin(Clock.this));
                 break;
             case TEXT:
                 setTextVisible(true);
                 setDateVisible(true);
                 setSecondsVisible(true);
-                super.setSkin(new TextClockSkin(Clock.this));
                 break;
             case DESIGN:
                 setDiscreteHours(false);
@@ -2215,7 +2301,6 @@ public class Clock extends Control {
                 setSecondsVisible(false);
                 setHourColor(Color.RED);
                 setBackgroundPaint(Color.WHITE);
-                super.setSkin(new DesignClockSkin(Clock.this));
                 break;
             case INDUSTRIAL:
                 setBackgroundPaint(Color.web("#efefef"));
@@ -2235,7 +2320,6 @@ public class Clock extends Control {
                 setTitleColor(Color.BLACK);
                 setBorderPaint(Color.BLACK);
                 setBorderWidth(5);
-                super.setSkin(new IndustrialClockSkin(Clock.this));
                 break;
             case TILE:
                 setBackgroundPaint(Color.rgb(42,42,42));
@@ -2252,15 +2336,12 @@ public class Clock extends Control {
                 setTextColor(Color.rgb(238, 238, 238));
                 setTitleVisible(true);
                 setTitleColor(Color.rgb(238, 238, 238));
-                super.setSkin(new TileClockSkin(Clock.this));
                 break;
             case DIGI:
                 setTextVisible(true);
                 setDateVisible(true);
-                super.setSkin(new DigitalClockSkin(Clock.this));
                 break;
             case MORPHING:
-                super.setSkin(new MorphingClockSkin(Clock.this));
                 break;
             case CLOCK:
                 setHourTickMarkColor(Color.rgb(255, 255, 255));
@@ -2270,40 +2351,51 @@ public class Clock extends Control {
                 setKnobColor(Color.WHITE);
                 setKnobColor(Color.WHITE);
             default:
-                super.setSkin(new ClockSkin(Clock.this));
                 break;
         }
+        updateSkin();
         fireUpdateEvent(RESIZE_EVENT);
     }
 
 
     // ******************** Event handling ************************************
     public void setOnUpdate(final UpdateEventListener LISTENER) { addUpdateEventListener(LISTENER); }
-    public void addUpdateEventListener(final UpdateEventListener LISTENER) { if(!listenerList.contains(LISTENER)) listenerList.add(LISTENER); }
+    public void addUpdateEventListener(final UpdateEventListener LISTENER) {
+        removeGarbageCollected(listenerList);
+        if (!listenerList.contains(LISTENER)) listenerList.add(LISTENER);
+    }
     public void removeUpdateEventListener(final UpdateEventListener LISTENER) { if (listenerList.contains(LISTENER)) listenerList.remove(LISTENER); }
 
     public void fireUpdateEvent(final UpdateEvent EVENT) {
-        int listSize = listenerList.size();
-        for (int i = 0 ; i < listSize ; i++) { listenerList.get(i).onUpdateEvent(EVENT); }
+        MedusaMetrics.updateEventFired(skinType, EVENT.eventType);
+        for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(EVENT); }
     }
 
 
     public void setOnAlarm(final AlarmEventListener LISTENER) { addAlarmEventListener(LISTENER); }
-    public void addAlarmEventListener(final AlarmEventListener LISTENER) { if (!alarmListenerList.contains(LISTENER)) alarmListenerList.add(LISTENER); }
+    public void addAlarmEventListener(final AlarmEventListener LISTENER) {
+        removeGarbageCollected(alarmListenerList);
+        if (!alarmListenerList.contains(LISTENER)) alarmListenerList.add(LISTENER);
+    }
     public void removeAlarmEventListener(final AlarmEventListener LISTENER) { if (alarmListenerList.contains(LISTENER)) alarmListenerList.remove(LISTENER); }
 
     public void fireAlarmEvent(final AlarmEvent EVENT) {
-        int listSize = alarmListenerList.size();
-        for (int i = 0 ; i < listSize ; i++) { alarmListenerList.get(i).onAlarmEvent(EVENT); }
+        for (AlarmEventListener listener : alarmListenerList) { listener.onAlarmEvent(EVENT); }
     }
 
 
     public void setOnTimeEvent(final TimeEventListener LISTENER) { addTimeEventListener(LISTENER); }
-    public void addTimeEventListener(final TimeEventListener LISTENER) { if (!timeEventListenerList.contains(LISTENER)) timeEventListenerList.add(LISTENER); }
+    public void addTimeEventListener(final TimeEventListener LISTENER) {
+        removeGarbageCollected(timeEventListenerList);
+        if (!timeEventListenerList.contains(LISTENER)) timeEventListenerList.add(LISTENER);
+    }
     public void removeTimeEventListener(final TimeEventListener LISTENER) { if (timeEventListenerList.contains(LISTENER)) timeEventListenerList.remove(LISTENER); }
 
     public void fireTimeEvent(final TimeEvent EVENT) {
-        int listSize = timeEventListenerList.size();
-        for (int i = 0 ; i < listSize ; i++) { timeEventListenerList.get(i).onTimeEvent(EVENT); }
+        for (TimeEventListener listener : timeEventListenerList) { listener.onTimeEvent(EVENT); }
+    }
+
+    private static void removeGarbageCollected(final List<?> LISTENERS) {
+        LISTENERS.removeIf(listener -> listener instanceof WeakListener && ((WeakListener) listener).wasGarbageCollected());
     }
 }
@@ -19,17 +19,6 @@ package eu.hansolo.medusa;
 import eu.hansolo.medusa.Clock.ClockSkinType;
 import eu.hansolo.medusa.events.AlarmEventListener;
 import eu.hansolo.medusa.events.TimeEventListener;
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.LongProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.Property;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.property.SimpleLongProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Insets;
 import javafx.scene.paint.Color;
@@ -37,7 +26,8 @@ import javafx.scene.paint.Paint;
 import javafx.scene.text.Font;
 
 import java.time.ZonedDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 
@@ -45,8 +35,97 @@ import java.util.Locale;
 /**
  * Created by hansolo on 28.01.16.
  */
-public class ClockBuilder <B extends ClockBuilder<B>> {
-    private HashMap<String, Property> properties = new HashMap<>();
+public class ClockBuilder <B extends ClockBuilder<B>> implements Cloneable {
+    private enum Option {
+        SKIN_TYPE, TIME, TITLE, TEXT, CHECK_SECTIONS_FOR_VALUE, CHECK_AREAS_FOR_VALUE, SECTIONS_ARRAY, SECTIONS_LIST,
+        SECTIONS_VISIBLE, HIGHLIGHT_SECTIONS, AREAS_ARRAY, AREAS_LIST, AREAS_VISIBLE, HIGHLIGHT_AREAS,
+        DISCRETE_SECONDS, DISCRETE_MINUTES, DISCRETE_HOURS, SECONDS_VISIBLE, TITLE_VISIBLE, TEXT_VISIBLE, DATE_VISIBLE,
+        DAY_VISIBLE, NIGHT_MODE, AUTO_NIGHT_MODE, RUNNING, BACKGROUND_PAINT, BORDER_PAINT, BORDER_WIDTH,
+        FOREGROUND_PAINT, TITLE_COLOR, TEXT_COLOR, DATE_COLOR, HOUR_TICK_MARK_COLOR, MINUTE_TICK_MARK_COLOR,
+        TICK_LABEL_COLOR, ALARM_COLOR, HOUR_TICK_MARKS_VISIBLE, MINUTE_TICK_MARKS_VISIBLE, TICK_LABELS_VISIBLE,
+        HOUR_COLOR, MINUTE_COLOR, SECOND_COLOR, KNOB_COLOR, LCD_DESIGN, ALARMS_ENABLED, ALARMS_VISIBLE, ALARMS_ARRAY,
+        ALARMS_LIST, ON_ALARM, ON_TIME_EVENT, LCD_CRYSTAL_ENABLED, SHADOWS_ENABLED, LCD_FONT, LOCALE, ANIMATED,
+        PULSE_DRIVEN, ANIMATION_DURATION, CUSTOM_FONT_ENABLED, CUSTOM_FONT, PREF_SIZE, MIN_SIZE, MAX_SIZE, PREF_WIDTH,
+        PREF_HEIGHT, MIN_WIDTH, MIN_HEIGHT, MAX_WIDTH, MAX_HEIGHT, SCALE_X, SCALE_Y, LAYOUT_X, LAYOUT_Y, TRANSLATE_X,
+        TRANSLATE_Y, PADDING
+    }
+
+    private EnumSet<Option>    options = EnumSet.noneOf(Option.class);
+    private ClockSkinType      skinType;
+    private ZonedDateTime      time;
+    private String             title;
+    private String             text;
+    private boolean            checkSectionsForValue;
+    private boolean            checkAreasForValue;
+    private TimeSection[]      sectionsArray;
+    private List<TimeSection>  sectionsList;
+    private boolean            sectionsVisible;
+    private boolean            highlightSections;
+    private TimeSection[]      areasArray;
+    private List<TimeSection>  areasList;
+    private boolean            areasVisible;
+    private boolean            highlightAreas;
+    private boolean            discreteSeconds;
+    private boolean            discreteMinutes;
+    private boolean            discreteHours;
+    private boolean            secondsVisible;
+    private boolean            titleVisible;
+    private boolean            textVisible;
+    private boolean            dateVisible;
+    private boolean            dayVisible;
+    private boolean            nightMode;
+    private boolean            autoNightMode;
+    private boolean            running;
+    private Paint              backgroundPaint;
+    private Paint              borderPaint;
+    private double             borderWidth;
+    private Paint              foregroundPaint;
+    private Color              titleColor;
+    private Color              textColor;
+    private Color              dateColor;
+    private Color              hourTickMarkColor;
+    private Color              minuteTickMarkColor;
+    private Color              tickLabelColor;
+    private Color              alarmColor;
+    private boolean            hourTickMarksVisible;
+    private boolean            minuteTickMarksVisible;
+    private boolean            tickLabelsVisible;
+    private Color              hourColor;
+    private Color              minuteColor;
+    private Color              secondColor;
+    private Color              knobColor;
+    private LcdDesign          lcdDesign;
+    private boolean            alarmsEnabled;
+    private boolean            alarmsVisible;
+    private Alarm[]            alarmsArray;
+    private List<Alarm>        alarmsList;
+    private AlarmEventListener onAlarm;
+    private TimeEventListener  onTimeEvent;
+    private boolean            lcdCrystalEnabled;
+    private boolean            shadowsEnabled;
+    private LcdFont            lcdFont;
+    private Locale             locale;
+    private boolean            animated;
+    private boolean            pulseDriven;
+    private long               animationDuration;
+    private boolean            customFontEnabled;
+    private Font               customFont;
+    private Dimension2D        prefSize;
+    private Dimension2D        minSize;
+    private Dimension2D        maxSize;
+    private double             prefWidth;
+    private double             prefHeight;
+    private double             minWidth;
+    private double             minHeight;
+    private double             maxWidth;
+    private double             maxHeight;
+    private double             scaleX;
+    private double             scaleY;
+    private double             layoutX;
+    private double             layoutY;
+    private double             translateX;
+    private double             translateY;
+    private Insets             padding;
 
 
     // ******************** Constructors **************************************
@@ -58,372 +137,543 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
         return new ClockBuilder();
     }
 
+    /**
+     * Returns a new builder that is initialized with the settings of the
+     * given clock. Could be used to create a template once and derive
+     * any number of clocks from it. The builder takes copies of the
+     * sections, areas and alarms of the prototype, so the clocks don't
+     * share them with the prototype. Listeners are not copied.
+     * @param PROTOTYPE
+     * @return a new builder initialized with the settings of the given clock
+     */
+    public static final ClockBuilder from(final Clock PROTOTYPE) {
+        return create().skinType(PROTOTYPE.getSkinType())
+                       .title(PROTOTYPE.getTitle())
+                       .text(PROTOTYPE.getText())
+                       .checkSectionsForValue(PROTOTYPE.getCheckSectionsForValue())
+                       .checkAreasForValue(PROTOTYPE.getCheckAreasForValue())
+                       .sections(copyTimeSections(PROTOTYPE.getSections()))
+                       .sectionsVisible(PROTOTYPE.getSectionsVisible())
+                       .highlightSections(PROTOTYPE.isHighlightSections())
+                       .areas(copyTimeSections(PROTOTYPE.getAreas()))
+                       .areasVisible(PROTOTYPE.getAreasVisible())
+                       .highlightAreas(PROTOTYPE.isHighlightAreas())
+                       .discreteSeconds(PROTOTYPE.isDiscreteSeconds())
+                       .discreteMinutes(PROTOTYPE.isDiscreteMinutes())
+                       .discreteHours(PROTOTYPE.isDiscreteHours())
+                       .secondsVisible(PROTOTYPE.isSecondsVisible())
+                       .titleVisible(PROTOTYPE.isTitleVisible())
+                       .textVisible(PROTOTYPE.isTextVisible())
+                       .dateVisible(PROTOTYPE.isDateVisible())
+                       .dayVisible(PROTOTYPE.isDayVisible())
+                       .nightMode(PROTOTYPE.isNightMode())
+                       .autoNightMode(PROTOTYPE.isAutoNightMode())
+                       .running(PROTOTYPE.isRunning())
+                       .backgroundPaint(PROTOTYPE.getBackgroundPaint())
+                       .borderPaint(PROTOTYPE.getBorderPaint())
+                       .borderWidth(PROTOTYPE.getBorderWidth())
+                       .foregroundPaint(PROTOTYPE.getForegroundPaint())
+                       .titleColor(PROTOTYPE.getTitleColor())
+                       .textColor(PROTOTYPE.getTextColor())
+                       .dateColor(PROTOTYPE.getDateColor())
+                       .hourTickMarkColor(PROTOTYPE.getHourTickMarkColor())
+                       .minuteTickMarkColor(PROTOTYPE.getMinuteTickMarkColor())
+                       .tickLabelColor(PROTOTYPE.getTickLabelColor())
+                       .alarmColor(PROTOTYPE.getAlarmColor())
+                       .hourTickMarksVisible(PROTOTYPE.isHourTickMarksVisible())
+                       .minuteTickMarksVisible(PROTOTYPE.isMinuteTickMarksVisible())
+                       .tickLabelsVisible(PROTOTYPE.isTickLabelsVisible())
+                       .hourColor(PROTOTYPE.getHourColor())
+                       .minuteColor(PROTOTYPE.getMinuteColor())
+                       .secondColor(PROTOTYPE.getSecondColor())
+                       .knobColor(PROTOTYPE.getKnobColor())
+                       .lcdDesign(PROTOTYPE.getLcdDesign())
+                       .alarmsEnabled(PROTOTYPE.isAlarmsEnabled())
+                       .alarmsVisible(PROTOTYPE.isAlarmsVisible())
+                       .alarms(copyAlarms(PROTOTYPE.getAlarms()))
+                       .lcdCrystalEnabled(PROTOTYPE.isLcdCrystalEnabled())
+                       .shadowsEnabled(PROTOTYPE.getShadowsEnabled())
+                       .lcdFont(PROTOTYPE.getLcdFont())
+                       .locale(PROTOTYPE.getLocale())
+                       .animated(PROTOTYPE.isAnimated())
+                       .pulseDriven(PROTOTYPE.isPulseDriven())
+                       .animationDuration(PROTOTYPE.getAnimationDuration())
+                       .customFontEnabled(PROTOTYPE.isCustomFontEnabled())
+                       .customFont(PROTOTYPE.getCustomFont());
+    }
+
+    private static List<TimeSection> copyTimeSections(final List<TimeSection> SECTIONS) {
+        List<TimeSection> copy = new ArrayList<>(SECTIONS.size());
+        for (TimeSection section : SECTIONS) { copy.add(TimeSectionBuilder.from(section).build()); }
+        return copy;
+    }
+
+    private static List<Alarm> copyAlarms(final List<Alarm> ALARMS) {
+        List<Alarm> copy = new ArrayList<>(ALARMS.size());
+        for (Alarm alarm : ALARMS) { copy.add(AlarmBuilder.from(alarm).build()); }
+        return copy;
+    }
+
+    /**
+     * Returns a new builder with the same settings as this builder.
+     * Changing the copy won't affect this builder.
+     * @return a new builder with the same settings as this builder
+     */
+    public final B copy() {
+        try {
+            ClockBuilder copy = (ClockBuilder) super.clone();
+            copy.options = options.clone();
+            return (B) copy;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
     public final B skinType(final ClockSkinType TYPE) {
-        properties.put("skinType", new SimpleObjectProperty<>(TYPE));
+        skinType = TYPE;
+        options.add(Option.SKIN_TYPE);
         return (B) this;
     }
 
     public final B time(final ZonedDateTime TIME) {
-        properties.put("time", new SimpleObjectProperty<>(TIME));
+        time = TIME;
+        options.add(Option.TIME);
         return (B)this;
     }
 
     public final B title(final String TITLE) {
-        properties.put("title", new SimpleStringProperty(TITLE));
+        title = TITLE;
+        options.add(Option.TITLE);
         return (B)this;
     }
 
     public final B text(final String TEXT) {
-        properties.put("text", new SimpleStringProperty(TEXT));
+        text = TEXT;
+        options.add(Option.TEXT);
         return (B)this;
     }
 
     public final B checkSectionsForValue(final boolean CHECK) {
-        properties.put("checkSectionsForValue", new SimpleBooleanProperty(CHECK));
+        checkSectionsForValue = CHECK;
+        options.add(Option.CHECK_SECTIONS_FOR_VALUE);
         return (B)this;
     }
 
     public final B checkAreasForValue(final boolean CHECK) {
-        properties.put("checkAreasForValue", new SimpleBooleanProperty(CHECK));
+        checkAreasForValue = CHECK;
+        options.add(Option.CHECK_AREAS_FOR_VALUE);
         return (B)this;
     }
 
     public final B sections(final TimeSection... SECTIONS) {
-        properties.put("sectionsArray", new SimpleObjectProperty<>(SECTIONS));
+        sectionsArray = SECTIONS;
+        options.add(Option.SECTIONS_ARRAY);
         return (B)this;
     }
 
     public final B sections(final List<TimeSection> SECTIONS) {
-        properties.put("sectionsList", new SimpleObjectProperty<>(SECTIONS));
+        sectionsList = SECTIONS;
+        options.add(Option.SECTIONS_LIST);
         return (B)this;
     }
 
     public final B sectionsVisible(final boolean VISIBLE) {
-        properties.put("sectionsVisible", new SimpleBooleanProperty(VISIBLE));
+        sectionsVisible = VISIBLE;
+        options.add(Option.SECTIONS_VISIBLE);
         return (B)this;
     }
 
     public final B highlightSections(final boolean HIGHLIGHT) {
-        properties.put("highlightSections", new SimpleBooleanProperty(HIGHLIGHT));
+        highlightSections = HIGHLIGHT;
+        options.add(Option.HIGHLIGHT_SECTIONS);
         return (B)this;
     }
 
     public final B areas(final TimeSection... AREAS) {
-        properties.put("areasArray", new SimpleObjectProperty<>(AREAS));
+        areasArray = AREAS;
+        options.add(Option.AREAS_ARRAY);
         return (B)this;
     }
 
     public final B areas(final List<TimeSection> AREAS) {
-        properties.put("areasList", new SimpleObjectProperty<>(AREAS));
+        areasList = AREAS;
+        options.add(Option.AREAS_LIST);
         return (B)this;
     }
 
     public final B areasVisible(final boolean VISIBLE) {
-        properties.put("areasVisible", new SimpleBooleanProperty(VISIBLE));
+        areasVisible = VISIBLE;
+        options.add(Option.AREAS_VISIBLE);
         return (B)this;
     }
 
     public final B highlightAreas(final boolean HIGHLIGHT) {
-        properties.put("highlightAreas", new SimpleBooleanProperty(HIGHLIGHT));
+        highlightAreas = HIGHLIGHT;
+        options.add(Option.HIGHLIGHT_AREAS);
         return (B)this;
     }
 
     public final B discreteSeconds(final boolean DISCRETE) {
-        properties.put("discreteSeconds", new SimpleBooleanProperty(DISCRETE));
+        discreteSeconds = DISCRETE;
+        options.add(Option.DISCRETE_SECONDS);
         return (B)this;
     }
 
     public final B discreteMinutes(final boolean DISCRETE) {
-        properties.put("discreteMinutes", new SimpleBooleanProperty(DISCRETE));
+        discreteMinutes = DISCRETE;
+        options.add(Option.DISCRETE_MINUTES);
         return (B)this;
     }
 
     public final B discreteHours(final boolean DISCRETE) {
-        properties.put("discreteHours", new SimpleBooleanProperty(DISCRETE));
+        discreteHours = DISCRETE;
+        options.add(Option.DISCRETE_HOURS);
         return (B)this;
     }
 
     public final B secondsVisible(final boolean VISIBLE) {
-        properties.put("secondsVisible", new SimpleBooleanProperty(VISIBLE));
+        secondsVisible = VISIBLE;
+        options.add(Option.SECONDS_VISIBLE);
         return (B)this;
     }
 
     public final B titleVisible(final boolean VISIBLE) {
-        properties.put("titleVisible", new SimpleBooleanProperty(VISIBLE));
+        titleVisible = VISIBLE;
+        options.add(Option.TITLE_VISIBLE);
         return (B)this;
     }
 
     public final B textVisible(final boolean VISIBLE) {
-        properties.put("textVisible", new SimpleBooleanProperty(VISIBLE));
+        textVisible = VISIBLE;
+        options.add(Option.TEXT_VISIBLE);
         return (B)this;
     }
 
     public final B dateVisible(final boolean VISIBLE) {
-        properties.put("dateVisible", new SimpleBooleanProperty(VISIBLE));
+        dateVisible = VISIBLE;
+        options.add(Option.DATE_VISIBLE);
         return (B)this;
     }
 
     public final B dayVisible(final boolean VISIBLE) {
-        properties.put("dayVisible", new SimpleBooleanProperty(VISIBLE));
+        dayVisible = VISIBLE;
+        options.add(Option.DAY_VISIBLE);
         return (B)this;
     }
 
     public final B nightMode(final boolean MODE) {
-        properties.put("nightMode", new SimpleBooleanProperty(MODE));
+        nightMode = MODE;
+        options.add(Option.NIGHT_MODE);
         return (B)this;
     }
 
     public final B autoNightMode(final boolean MODE) {
-        properties.put("autoNightMode", new SimpleBooleanProperty(MODE));
+        autoNightMode = MODE;
+        options.add(Option.AUTO_NIGHT_MODE);
         return (B)this;
     }
 
     public final B running(final boolean RUNNING) {
-        properties.put("running", new SimpleBooleanProperty(RUNNING));
+        running = RUNNING;
+        options.add(Option.RUNNING);
         return (B)this;
     }
 
     public final B backgroundPaint(final Paint PAINT) {
-        properties.put("backgroundPaint", new SimpleObjectProperty<>(PAINT));
+        backgroundPaint = PAINT;
+        options.add(Option.BACKGROUND_PAINT);
         return (B)this;
     }
 
     public final B borderPaint(final Paint PAINT) {
-        properties.put("borderPaint", new SimpleObjectProperty<>(PAINT));
+        borderPaint = PAINT;
+        options.add(Option.BORDER_PAINT);
         return (B)this;
     }
 
     public final B borderWidth(final double WIDTH) {
-        properties.put("borderWidth", new SimpleDoubleProperty(WIDTH));
+        borderWidth = WIDTH;
+        options.add(Option.BORDER_WIDTH);
         return (B)this;
     }
 
     public final B foregroundPaint(final Paint PAINT) {
-        properties.put("foregroundPaint", new SimpleObjectProperty<>(PAINT));
+        foregroundPaint = PAINT;
+        options.add(Option.FOREGROUND_PAINT);
         return (B)this;
     }
 
     public final B titleColor(final Color COLOR) {
-        properties.put("titleColor", new SimpleObjectProperty<>(COLOR));
+        titleColor = COLOR;
+        options.add(Option.TITLE_COLOR);
         return (B)this;
     }
 
     public final B textColor(final Color COLOR) {
-        properties.put("textColor", new SimpleObjectProperty<>(COLOR));
+        textColor = COLOR;
+        options.add(Option.TEXT_COLOR);
         return (B)this;
     }
 
     public final B dateColor(final Color COLOR) {
-        properties.put("dateColor", new SimpleObjectProperty<>(COLOR));
+        dateColor = COLOR;
+        options.add(Option.DATE_COLOR);
         return (B)this;
     }
 
     public final B hourTickMarkColor(final Color COLOR) {
-        properties.put("hourTickMarkColor", new SimpleObjectProperty<>(COLOR));
+        hourTickMarkColor = COLOR;
+        options.add(Option.HOUR_TICK_MARK_COLOR);
         return (B)this;
     }
 
     public final B minuteTickMarkColor(final Color COLOR) {
-        properties.put("minuteTickMarkColor", new SimpleObjectProperty<>(COLOR));
+        minuteTickMarkColor = COLOR;
+        options.add(Option.MINUTE_TICK_MARK_COLOR);
         return (B)this;
     }
 
     public final B tickLabelColor(final Color COLOR) {
-        properties.put("tickLabelColor", new SimpleObjectProperty<>(COLOR));
+        tickLabelColor = COLOR;
+        options.add(Option.TICK_LABEL_COLOR);
         return (B)this;
     }
 
     public final B alarmColor(final Color COLOR) {
-        properties.put("alarmColor", new SimpleObjectProperty<>(COLOR));
+        alarmColor = COLOR;
+        options.add(Option.ALARM_COLOR);
         return (B)this;
     }
 
     public final B hourTickMarksVisible(final boolean VISIBLE) {
-        properties.put("hourTickMarksVisible", new SimpleBooleanProperty(VISIBLE));
+        hourTickMarksVisible = VISIBLE;
+        options.add(Option.HOUR_TICK_MARKS_VISIBLE);
         return (B)this;
     }
 
     public final B minuteTickMarksVisible(final boolean VISIBLE) {
-        properties.put("minuteTickMarksVisible", new SimpleBooleanProperty(VISIBLE));
+        minuteTickMarksVisible = VISIBLE;
+        options.add(Option.MINUTE_TICK_MARKS_VISIBLE);
         return (B)this;
     }
 
     public final B tickLabelsVisible(final boolean VISIBLE) {
-        properties.put("tickLabelsVisible", new SimpleBooleanProperty(VISIBLE));
+        tickLabelsVisible = VISIBLE;
+        options.add(Option.TICK_LABELS_VISIBLE);
         return (B)this;
     }
 
     public final B hourColor(final Color COLOR) {
-        properties.put("hourColor", new SimpleObjectProperty<>(COLOR));
+        hourColor = COLOR;
+        options.add(Option.HOUR_COLOR);
         return (B)this;
     }
 
     public final B minuteColor(final Color COLOR) {
-        properties.put("minuteColor", new SimpleObjectProperty<>(COLOR));
+        minuteColor = COLOR;
+        options.add(Option.MINUTE_COLOR);
         return (B)this;
     }
 
     public final B secondColor(final Color COLOR) {
-        properties.put("secondColor", new SimpleObjectProperty<>(COLOR));
+        secondColor = COLOR;
+        options.add(Option.SECOND_COLOR);
         return (B)this;
     }
 
     public final B knobColor(final Color COLOR) {
-        properties.put("knobColor", new SimpleObjectProperty<>(COLOR));
+        knobColor = COLOR;
+        options.add(Option.KNOB_COLOR);
         return (B)this;
     }
 
     public final B lcdDesign(final LcdDesign DESIGN) {
-        properties.put("lcdDesign", new SimpleObjectProperty<>(DESIGN));
+        lcdDesign = DESIGN;
+        options.add(Option.LCD_DESIGN);
         return (B)this;
     }
 
     public final B alarmsEnabled(final boolean ENABLED) {
-        properties.put("alarmsEnabled", new SimpleBooleanProperty(ENABLED));
+        alarmsEnabled = ENABLED;
+        options.add(Option.ALARMS_ENABLED);
         return (B)this;
     }
 
     public final B alarmsVisible(final boolean VISIBLE) {
-        properties.put("alarmsVisible", new SimpleBooleanProperty(VISIBLE));
+        alarmsVisible = VISIBLE;
+        options.add(Option.ALARMS_VISIBLE);
         return (B)this;
     }
 
     public final B alarms(final Alarm... ALARMS) {
-        properties.put("alarmsArray", new SimpleObjectProperty<>(ALARMS));
+        alarmsArray = ALARMS;
+        options.add(Option.ALARMS_ARRAY);
         return (B)this;
     }
 
     public final B alarms(final List<Alarm> ALARMS) {
-        properties.put("alarmsList", new SimpleObjectProperty<>(ALARMS));
+        alarmsList = ALARMS;
+        options.add(Option.ALARMS_LIST);
         return (B)this;
     }
 
     public final B onAlarm(final AlarmEventListener LISTENER) {
-        properties.put("onAlarm", new SimpleObjectProperty<>(LISTENER));
+        onAlarm = LISTENER;
+        options.add(Option.ON_ALARM);
         return (B)this;
     }
 
     public final B onTimeEvent(final TimeEventListener LISTENER) {
-        properties.put("onTimeEvent", new SimpleObjectProperty<>(LISTENER));
+        onTimeEvent = LISTENER;
+        options.add(Option.ON_TIME_EVENT);
         return (B)this;
     }
 
     public final B lcdCrystalEnabled(final boolean ENABLED) {
-        properties.put("lcdCrystalEnabled", new SimpleBooleanProperty(ENABLED));
+        lcdCrystalEnabled = ENABLED;
+        options.add(Option.LCD_CRYSTAL_ENABLED);
         return (B)this;
     }
 
     public final B shadowsEnabled(final boolean ENABLED) {
-        properties.put("shadowsEnabled", new SimpleBooleanProperty(ENABLED));
+        shadowsEnabled = ENABLED;
+        options.add(Option.SHADOWS_ENABLED);
         return (B)this;
     }
 
     public final B lcdFont(final LcdFont FONT) {
-        properties.put("lcdFont", new SimpleObjectProperty<>(FONT));
+        lcdFont = FONT;
+        options.add(Option.LCD_FONT);
         return (B)this;
     }
 
     public final B locale(final Locale LOCALE) {
-        properties.put("locale", new SimpleObjectProperty<>(LOCALE));
+        locale = LOCALE;
+        options.add(Option.LOCALE);
         return (B)this;
     }
 
     public final B animated(final boolean ANIMATED) {
-        properties.put("animated", new SimpleBooleanProperty(ANIMATED));
+        animated = ANIMATED;
+        options.add(Option.ANIMATED);
+        return (B)this;
+    }
+
+    public final B pulseDriven(final boolean PULSE_DRIVEN) {
+        pulseDriven = PULSE_DRIVEN;
+        options.add(Option.PULSE_DRIVEN);
         return (B)this;
     }
 
     public final B animationDuration(final long DURATION) {
-        properties.put("animationDuration", new SimpleLongProperty(DURATION));
+        animationDuration = DURATION;
+        options.add(Option.ANIMATION_DURATION);
         return (B)this;
     }
 
     public final B customFontEnabled(final boolean ENABLED) {
-        properties.put("customFontEnabled", new SimpleBooleanProperty(ENABLED));
+        customFontEnabled = ENABLED;
+        options.add(Option.CUSTOM_FONT_ENABLED);
         return (B)this;
     }
 
     public final B customFont(final Font FONT) {
-        properties.put("customFont", new SimpleObjectProperty(FONT));
+        customFont = FONT;
+        options.add(Option.CUSTOM_FONT);
         return (B)this;
     }
 
     public final B prefSize(final double WIDTH, final double HEIGHT) {
-        properties.put("prefSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
+        prefSize = new Dimension2D(WIDTH, HEIGHT);
+        options.add(Option.PREF_SIZE);
         return (B)this;
     }
     public final B minSize(final double WIDTH, final double HEIGHT) {
-        properties.put("minSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
+        minSize = new Dimension2D(WIDTH, HEIGHT);
+        options.add(Option.MIN_SIZE);
         return (B)this;
     }
     public final B maxSize(final double WIDTH, final double HEIGHT) {
-        properties.put("maxSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
+        maxSize = new Dimension2D(WIDTH, HEIGHT);
+        options.add(Option.MAX_SIZE);
         return (B)this;
     }
 
     public final B prefWidth(final double PREF_WIDTH) {
-        properties.put("prefWidth", new SimpleDoubleProperty(PREF_WIDTH));
+        prefWidth = PREF_WIDTH;
+        options.add(Option.PREF_WIDTH);
         return (B)this;
     }
     public final B prefHeight(final double PREF_HEIGHT) {
-        properties.put("prefHeight", new SimpleDoubleProperty(PREF_HEIGHT));
+        prefHeight = PREF_HEIGHT;
+        options.add(Option.PREF_HEIGHT);
         return (B)this;
     }
 
     public final B minWidth(final double MIN_WIDTH) {
-        properties.put("minWidth", new SimpleDoubleProperty(MIN_WIDTH));
+        minWidth = MIN_WIDTH;
+        options.add(Option.MIN_WIDTH);
         return (B)this;
     }
     public final B minHeight(final double MIN_HEIGHT) {
-        properties.put("minHeight", new SimpleDoubleProperty(MIN_HEIGHT));
+        minHeight = MIN_HEIGHT;
+        options.add(Option.MIN_HEIGHT);
         return (B)this;
     }
 
     public final B maxWidth(final double MAX_WIDTH) {
-        properties.put("maxWidth", new SimpleDoubleProperty(MAX_WIDTH));
+        maxWidth = MAX_WIDTH;
+        options.add(Option.MAX_WIDTH);
         return (B)this;
     }
     public final B maxHeight(final double MAX_HEIGHT) {
-        properties.put("maxHeight", new SimpleDoubleProperty(MAX_HEIGHT));
+        maxHeight = MAX_HEIGHT;
+        options.add(Option.MAX_HEIGHT);
         return (B)this;
     }
 
     public final B scaleX(final double SCALE_X) {
-        properties.put("scaleX", new SimpleDoubleProperty(SCALE_X));
+        scaleX = SCALE_X;
+        options.add(Option.SCALE_X);
         return (B)this;
     }
     public final B scaleY(final double SCALE_Y) {
-        properties.put("scaleY", new SimpleDoubleProperty(SCALE_Y));
+        scaleY = SCALE_Y;
+        options.add(Option.SCALE_Y);
         return (B)this;
     }
 
     public final B layoutX(final double LAYOUT_X) {
-        properties.put("layoutX", new SimpleDoubleProperty(LAYOUT_X));
+        layoutX = LAYOUT_X;
+        options.add(Option.LAYOUT_X);
         return (B)this;
     }
     public final B layoutY(final double LAYOUT_Y) {
-        properties.put("layoutY", new SimpleDoubleProperty(LAYOUT_Y));
+        layoutY = LAYOUT_Y;
+        options.add(Option.LAYOUT_Y);
         return (B)this;
     }
 
     public final B translateX(final double TRANSLATE_X) {
-        properties.put("translateX", new SimpleDoubleProperty(TRANSLATE_X));
+        translateX = TRANSLATE_X;
+        options.add(Option.TRANSLATE_X);
         return (B)this;
     }
     public final B translateY(final double TRANSLATE_Y) {
-        properties.put("translateY", new SimpleDoubleProperty(TRANSLATE_Y));
+        translateY = TRANSLATE_Y;
+        options.add(Option.TRANSLATE_Y);
         return (B)this;
     }
 
     public final B padding(final Insets INSETS) {
-        properties.put("padding", new SimpleObjectProperty<>(INSETS));
+        padding = INSETS;
+        options.add(Option.PADDING);
         return (B)this;
     }
 
     public final Clock build() {
         final Clock CONTROL;
-        if (properties.containsKey("skinType")) {
-            ClockSkinType skinType = ((ObjectProperty<ClockSkinType>) properties.get("skinType")).get();
+        if (options.contains(Option.SKIN_TYPE)) {
             CONTROL = new Clock(skinType);
 
             switch(skinType) {
@@ -562,168 +812,235 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
         }
 
         // Make sure that alarms, sections, areas and markers will be added first
-        if (properties.keySet().contains("alarmsArray")) {
-            CONTROL.setAlarms(((ObjectProperty<Alarm[]>) properties.get("alarmsArray")).get());
+        if (options.contains(Option.ALARMS_ARRAY)) {
+            CONTROL.setAlarms(alarmsArray);
         }
-        if(properties.keySet().contains("alarmsList")) {
-            CONTROL.setAlarms(((ObjectProperty<List<Alarm>>) properties.get("alarmsList")).get());
+        if(options.contains(Option.ALARMS_LIST)) {
+            CONTROL.setAlarms(alarmsList);
         }
 
-        if (properties.keySet().contains("sectionsArray")) {
-            CONTROL.setSections(((ObjectProperty<TimeSection[]>) properties.get("sectionsArray")).get());
+        if (options.contains(Option.SECTIONS_ARRAY)) {
+            CONTROL.setSections(sectionsArray);
         }
-        if(properties.keySet().contains("sectionsList")) {
-            CONTROL.setSections(((ObjectProperty<List<TimeSection>>) properties.get("sectionsList")).get());
+        if(options.contains(Option.SECTIONS_LIST)) {
+            CONTROL.setSections(sectionsList);
         }
 
-        if (properties.keySet().contains("areasArray")) {
-            CONTROL.setAreas(((ObjectProperty<TimeSection[]>) properties.get("areasArray")).get());
+        if (options.contains(Option.AREAS_ARRAY)) {
+            CONTROL.setAreas(areasArray);
         }
-        if(properties.keySet().contains("areasList")) {
-            CONTROL.setAreas(((ObjectProperty<List<TimeSection>>) properties.get("areasList")).get());
+        if(options.contains(Option.AREAS_LIST)) {
+            CONTROL.setAreas(areasList);
         }
 
-        for (String key : properties.keySet()) {
-            if ("prefSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setPrefSize(dim.getWidth(), dim.getHeight());
-            } else if("minSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setMinSize(dim.getWidth(), dim.getHeight());
-            } else if("maxSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setMaxSize(dim.getWidth(), dim.getHeight());
-            } else if("prefWidth".equals(key)) {
-                CONTROL.setPrefWidth(((DoubleProperty) properties.get(key)).get());
-            } else if("prefHeight".equals(key)) {
-                CONTROL.setPrefHeight(((DoubleProperty) properties.get(key)).get());
-            } else if("minWidth".equals(key)) {
-                CONTROL.setMinWidth(((DoubleProperty) properties.get(key)).get());
-            } else if("minHeight".equals(key)) {
-                CONTROL.setMinHeight(((DoubleProperty) properties.get(key)).get());
-            } else if("maxWidth".equals(key)) {
-                CONTROL.setMaxWidth(((DoubleProperty) properties.get(key)).get());
-            } else if("maxHeight".equals(key)) {
-                CONTROL.setMaxHeight(((DoubleProperty) properties.get(key)).get());
-            } else if("scaleX".equals(key)) {
-                CONTROL.setScaleX(((DoubleProperty) properties.get(key)).get());
-            } else if("scaleY".equals(key)) {
-                CONTROL.setScaleY(((DoubleProperty) properties.get(key)).get());
-            } else if ("layoutX".equals(key)) {
-                CONTROL.setLayoutX(((DoubleProperty) properties.get(key)).get());
-            } else if ("layoutY".equals(key)) {
-                CONTROL.setLayoutY(((DoubleProperty) properties.get(key)).get());
-            } else if ("translateX".equals(key)) {
-                CONTROL.setTranslateX(((DoubleProperty) properties.get(key)).get());
-            } else if ("translateY".equals(key)) {
-                CONTROL.setTranslateY(((DoubleProperty) properties.get(key)).get());
-            } else if ("padding".equals(key)) {
-                CONTROL.setPadding(((ObjectProperty<Insets>) properties.get(key)).get());
-            } else if ("styleClass".equals(key)) {
-                CONTROL.getStyleClass().setAll("gauge");
-                CONTROL.getStyleClass().addAll(((ObjectProperty<String[]>) properties.get(key)).get());
-            } else if ("time".equals(key)) {
-                CONTROL.setTime(((ObjectProperty<ZonedDateTime>) properties.get(key)).get());
-            } else if ("title".equals(key)) {
-                CONTROL.setTitle(((StringProperty) properties.get(key)).get());
-            } else if ("text".equals(key)) {
-                CONTROL.setText(((StringProperty) properties.get(key)).get());
-            } else if ("checkSectionsForValue".equals(key)) {
-                CONTROL.setCheckSectionsForValue(((BooleanProperty) properties.get(key)).get());
-            } else if ("checkAreasForValue".equals(key)) {
-                CONTROL.setCheckAreasForValue(((BooleanProperty) properties.get(key)).get());
-            } else if ("sectionsVisible".equals(key)) {
-                CONTROL.setSectionsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("highlightSections".equals(key)) {
-                CONTROL.setHighlightSections(((BooleanProperty) properties.get(key)).get());
-            } else if ("areasVisible".equals(key)) {
-                CONTROL.setAreasVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("highlightAreas".equals(key)) {
-                CONTROL.setHighlightAreas(((BooleanProperty) properties.get(key)).get());
-            } else if ("discreteSeconds".equals(key)) {
-                CONTROL.setDiscreteSeconds(((BooleanProperty) properties.get(key)).get());
-            } else if ("discreteMinutes".equals(key)) {
-                CONTROL.setDiscreteMinutes(((BooleanProperty) properties.get(key)).get());
-            } else if ("discreteHours".equals(key)) {
-                CONTROL.setDiscreteHours(((BooleanProperty) properties.get(key)).get());
-            } else if ("secondsVisible".equals(key)) {
-                CONTROL.setSecondsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("titleVisible".equals(key)) {
-                CONTROL.setTitleVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("textVisible".equals(key)) {
-                CONTROL.setTextVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("dateVisible".equals(key)) {
-                CONTROL.setDateVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("dayVisible".equals(key)) {
-                CONTROL.setDayVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("nightMode".equals(key)) {
-                CONTROL.setNightMode(((BooleanProperty) properties.get(key)).get());
-            } else if ("autoNightMode".equals(key)) {
-                CONTROL.setAutoNightMode(((BooleanProperty) properties.get(key)).get());
-            } else if ("backgroundPaint".equals(key)) {
-                CONTROL.setBackgroundPaint(((ObjectProperty<Paint>) properties.get(key)).get());
-            } else if ("borderPaint".equals(key)) {
-                CONTROL.setBorderPaint(((ObjectProperty<Paint>) properties.get(key)).get());
-            } else if ("borderWidth".equals(key)) {
-                CONTROL.setBorderWidth(((DoubleProperty) properties.get(key)).get());
-            } else if ("foregroundPaint".equals(key)) {
-                CONTROL.setForegroundPaint(((ObjectProperty<Paint>) properties.get(key)).get());
-            } else if ("titleColor".equals(key)) {
-                CONTROL.setTitleColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("textColor".equals(key)) {
-                CONTROL.setTextColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("dateColor".equals(key)) {
-                CONTROL.setDateColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("hourTickMarkColor".equals(key)) {
-                CONTROL.setHourTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("minuteTickMarkColor".equals(key)) {
-                CONTROL.setMinuteTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("tickLabelColor".equals(key)) {
-                CONTROL.setTickLabelColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("alarmColor".equals(key)) {
-                CONTROL.setAlarmColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("hourTickMarksVisible".equals(key)) {
-                CONTROL.setHourTickMarksVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("minuteTickMarksVisible".equals(key)) {
-                CONTROL.setMinuteTickMarksVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("tickLabelsVisible".equals(key)) {
-                CONTROL.setTickLabelsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("hourColor".equals(key)) {
-                CONTROL.setHourColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("minuteColor".equals(key)) {
-                CONTROL.setMinuteColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("secondColor".equals(key)) {
-                CONTROL.setSecondColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("knobColor".equals(key)) {
-                CONTROL.setKnobColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("lcdDesign".equals(key)) {
-                CONTROL.setLcdDesign(((ObjectProperty<LcdDesign>) properties.get(key)).get());
-            } else if ("onAlarm".equals(key)) {
-                CONTROL.setOnAlarm(((ObjectProperty<AlarmEventListener>) properties.get(key)).get());
-            } else if ("onTimeEvent".equals(key)) {
-                CONTROL.setOnTimeEvent(((ObjectProperty<TimeEventListener>) properties.get(key)).get());
-            } else if ("alarmsEnabled".equals(key)) {
-                CONTROL.setAlarmsEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("alarmsVisible".equals(key)) {
-                CONTROL.setAlarmsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("lcdCrystalEnabled".equals(key)) {
-                CONTROL.setLcdCrystalEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("shadowsEnabled".equals(key)) {
-                CONTROL.setShadowsEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("lcdFont".equals(key)) {
-                CONTROL.setLcdFont(((ObjectProperty<LcdFont>) properties.get(key)).get());
-            } else if ("locale".equals(key)) {
-                CONTROL.setLocale(((ObjectProperty<Locale>) properties.get(key)).get());
-            } else if("animated".equals(key)) {
-                CONTROL.setAnimated(((BooleanProperty) properties.get(key)).get());
-            } else if("animationDuration".equals(key)) {
-                CONTROL.setAnimationDuration(((LongProperty) properties.get(key)).get());
-            } else if ("running".equals(key)) {
-                CONTROL.setRunning(((BooleanProperty) properties.get(key)).get());
-            } else if ("customFontEnabled".equals(key)) {
-                CONTROL.setCustomFontEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("customFont".equals(key)) {
-                CONTROL.setCustomFont(((ObjectProperty<Font>) properties.get(key)).get());
+        for (Option option : options) {
+            switch (option) {
+                case PREF_SIZE:
+                    CONTROL.setPrefSize(prefSize.getWidth(), prefSize.getHeight());
+                    break;
+                case MIN_SIZE:
+                    CONTROL.setMinSize(minSize.getWidth(), minSize.getHeight());
+                    break;
+                case MAX_SIZE:
+                    CONTROL.setMaxSize(maxSize.getWidth(), maxSize.getHeight());
+                    break;
+                case PREF_WIDTH:
+                    CONTROL.setPrefWidth(prefWidth);
+                    break;
+                case PREF_HEIGHT:
+                    CONTROL.setPrefHeight(prefHeight);
+                    break;
+                case MIN_WIDTH:
+                    CONTROL.setMinWidth(minWidth);
+                    break;
+                case MIN_HEIGHT:
+                    CONTROL.setMinHeight(minHeight);
+                    break;
+                case MAX_WIDTH:
+                    CONTROL.setMaxWidth(maxWidth);
+                    break;
+                case MAX_HEIGHT:
+                    CONTROL.setMaxHeight(maxHeight);
+                    break;
+                case SCALE_X:
+                    CONTROL.setScaleX(scaleX);
+                    break;
+                case SCALE_Y:
+                    CONTROL.setScaleY(scaleY);
+                    break;
+                case LAYOUT_X:
+                    CONTROL.setLayoutX(layoutX);
+                    break;
+                case LAYOUT_Y:
+                    CONTROL.setLayoutY(layoutY);
+                    break;
+                case TRANSLATE_X:
+                    CONTROL.setTranslateX(translateX);
+                    break;
+                case TRANSLATE_Y:
+                    CONTROL.setTranslateY(translateY);
+                    break;
+                case PADDING:
+                    CONTROL.setPadding(padding);
+                    break;
+                case TIME:
+                    CONTROL.setTime(time);
+                    break;
+                case TITLE:
+                    CONTROL.setTitle(title);
+                    break;
+                case TEXT:
+                    CONTROL.setText(text);
+                    break;
+                case CHECK_SECTIONS_FOR_VALUE:
+                    CONTROL.setCheckSectionsForValue(checkSectionsForValue);
+                    break;
+                case CHECK_AREAS_FOR_VALUE:
+                    CONTROL.setCheckAreasForValue(checkAreasForValue);
+                    break;
+                case SECTIONS_VISIBLE:
+                    CONTROL.setSectionsVisible(sectionsVisible);
+                    break;
+                case HIGHLIGHT_SECTIONS:
+                    CONTROL.setHighlightSections(highlightSections);
+                    break;
+                case AREAS_VISIBLE:
+                    CONTROL.setAreasVisible(areasVisible);
+                    break;
+                case HIGHLIGHT_AREAS:
+                    CONTROL.setHighlightAreas(highlightAreas);
+                    break;
+                case DISCRETE_SECONDS:
+                    CONTROL.setDiscreteSeconds(discreteSeconds);
+                    break;
+                case DISCRETE_MINUTES:
+                    CONTROL.setDiscreteMinutes(discreteMinutes);
+                    break;
+                case DISCRETE_HOURS:
+                    CONTROL.setDiscreteHours(discreteHours);
+                    break;
+                case SECONDS_VISIBLE:
+                    CONTROL.setSecondsVisible(secondsVisible);
+                    break;
+                case TITLE_VISIBLE:
+                    CONTROL.setTitleVisible(titleVisible);
+                    break;
+                case TEXT_VISIBLE:
+                    CONTROL.setTextVisible(textVisible);
+                    break;
+                case DATE_VISIBLE:
+                    CONTROL.setDateVisible(dateVisible);
+                    break;
+                case DAY_VISIBLE:
+                    CONTROL.setDayVisible(dayVisible);
+                    break;
+                case NIGHT_MODE:
+                    CONTROL.setNightMode(nightMode);
+                    break;
+                case AUTO_NIGHT_MODE:
+                    CONTROL.setAutoNightMode(autoNightMode);
+                    break;
+                case BACKGROUND_PAINT:
+                    CONTROL.setBackgroundPaint(backgroundPaint);
+                    break;
+                case BORDER_PAINT:
+                    CONTROL.setBorderPaint(borderPaint);
+                    break;
+                case BORDER_WIDTH:
+                    CONTROL.setBorderWidth(borderWidth);
+                    break;
+                case FOREGROUND_PAINT:
+                    CONTROL.setForegroundPaint(foregroundPaint);
+                    break;
+                case TITLE_COLOR:
+                    CONTROL.setTitleColor(titleColor);
+                    break;
+                case TEXT_COLOR:
+                    CONTROL.setTextColor(textColor);
+                    break;
+                case DATE_COLOR:
+                    CONTROL.setDateColor(dateColor);
+                    break;
+                case HOUR_TICK_MARK_COLOR:
+                    CONTROL.setHourTickMarkColor(hourTickMarkColor);
+                    break;
+                case MINUTE_TICK_MARK_COLOR:
+                    CONTROL.setMinuteTickMarkColor(minuteTickMarkColor);
+                    break;
+                case TICK_LABEL_COLOR:
+                    CONTROL.setTickLabelColor(tickLabelColor);
+                    break;
+                case ALARM_COLOR:
+                    CONTROL.setAlarmColor(alarmColor);
+                    break;
+                case HOUR_TICK_MARKS_VISIBLE:
+                    CONTROL.setHourTickMarksVisible(hourTickMarksVisible);
+                    break;
+                case MINUTE_TICK_MARKS_VISIBLE:
+                    CONTROL.setMinuteTickMarksVisible(minuteTickMarksVisible);
+                    break;
+                case TICK_LABELS_VISIBLE:
+                    CONTROL.setTickLabelsVisible(tickLabelsVisible);
+                    break;
+                case HOUR_COLOR:
+                    CONTROL.setHourColor(hourColor);
+                    break;
+                case MINUTE_COLOR:
+                    CONTROL.setMinuteColor(minuteColor);
+                    break;
+                case SECOND_COLOR:
+                    CONTROL.setSecondColor(secondColor);
+                    break;
+                case KNOB_COLOR:
+                    CONTROL.setKnobColor(knobColor);
+                    break;
+                case LCD_DESIGN:
+                    CONTROL.setLcdDesign(lcdDesign);
+                    break;
+                case ON_ALARM:
+                    CONTROL.setOnAlarm(onAlarm);
+                    break;
+                case ON_TIME_EVENT:
+                    CONTROL.setOnTimeEvent(onTimeEvent);
+                    break;
+                case ALARMS_ENABLED:
+                    CONTROL.setAlarmsEnabled(alarmsEnabled);
+                    break;
+                case ALARMS_VISIBLE:
+                    CONTROL.setAlarmsVisible(alarmsVisible);
+                    break;
+                case LCD_CRYSTAL_ENABLED:
+                    CONTROL.setLcdCrystalEnabled(lcdCrystalEnabled);
+                    break;
+                case SHADOWS_ENABLED:
+                    CONTROL.setShadowsEnabled(shadowsEnabled);
+                    break;
+                case LCD_FONT:
+                    CONTROL.setLcdFont(lcdFont);
+                    break;
+                case LOCALE:
+                    CONTROL.setLocale(locale);
+                    break;
+                case ANIMATED:
+                    CONTROL.setAnimated(animated);
+                    break;
+                case ANIMATION_DURATION:
+                    CONTROL.setAnimationDuration(animationDuration);
+                    break;
+                case PULSE_DRIVEN:
+                    CONTROL.setPulseDriven(pulseDriven);
+                    break;
+                case RUNNING:
+                    CONTROL.setRunning(running);
+                    break;
+                case CUSTOM_FONT_ENABLED:
+                    CONTROL.setCustomFontEnabled(customFontEnabled);
+                    break;
+                case CUSTOM_FONT:
+                    CONTROL.setCustomFont(customFont);
+                    break;
+                default:
+                    break;
             }
         }
         return CONTROL;
@@ -18,8 +18,6 @@ package eu.hansolo.medusa;
 
 import eu.hansolo.medusa.Gauge.SkinType;
 import eu.hansolo.medusa.GaugeDesign.GaugeBackground;
-import eu.hansolo.medusa.skins.GaugeSkin;
-import javafx.scene.control.Skin;
 import javafx.scene.effect.BlurType;
 import javafx.scene.effect.InnerShadow;
 import javafx.scene.layout.Region;
@@ -71,14 +69,9 @@ public class FGauge extends Region {
         gaugeDesign     = DESIGN;
         gaugeBackground = BACKGROUND;
 
-        Skin skin = gauge.getSkin();
-        /*
-        if (null != skin && gauge.getSkin().getClass() != GaugeSkin.class) {
-            throw new RuntimeException("Please change Skin to GaugeSkin.");
-        }
-        */
-        if (null != skin) {
-            throw new RuntimeException("Please change Skin to a valid Skin.");
+        // Skins are created lazily, so the skin type is the only thing that can be checked here
+        if (Gauge.SkinType.GAUGE != gauge.getSkinType()) {
+            throw new RuntimeException("Please change SkinType to GAUGE.");
         }
 
         init();
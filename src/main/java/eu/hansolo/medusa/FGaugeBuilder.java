@@ -17,7 +17,6 @@
 package eu.hansolo.medusa;
 
 import eu.hansolo.medusa.GaugeDesign.GaugeBackground;
-import eu.hansolo.medusa.skins.GaugeSkin;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
@@ -26,7 +25,6 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.geometry.Dimension2D;
-import javafx.scene.control.Skin;
 
 import java.util.HashMap;
 
@@ -139,9 +137,9 @@ public class FGaugeBuilder<B extends FGaugeBuilder<B>> {
         GaugeDesign     design     = null == properties.get("gaugeDesign") ? GaugeDesign.METAL : ((ObjectProperty<GaugeDesign>) properties.get("gaugeDesign")).get();
         GaugeBackground background = null == properties.get("gaugeBackground") ? GaugeBackground.DARK_GRAY : ((ObjectProperty<GaugeBackground>) properties.get("gaugeBackground")).get();
 
-        Skin skin = gauge.getSkin();
-        if (null != skin && gauge.getSkin().getClass() != GaugeSkin.class) {
-            throw new RuntimeException("Please change Skin to GaugeSkin.");
+        // Skins are created lazily, so the skin type is the only thing that can be checked here
+        if (Gauge.SkinType.GAUGE != gauge.getSkinType()) {
+            throw new RuntimeException("Please change SkinType to GAUGE.");
         }
 
         final FGauge CONTROL = new FGauge(gauge, design, background);
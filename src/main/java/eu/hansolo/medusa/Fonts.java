@@ -18,102 +18,102 @@ package eu.hansolo.medusa;
 
 import javafx.scene.text.Font;
 
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 
 /**
  * Created by hansolo on 11.12.15.
  */
 public class Fonts {
-    private static final String DIGITAL_NAME;
-    private static final String DIGITAL_READOUT_NAME;
-    private static final String DIGITAL_READOUT_BOLD_NAME;
-    private static final String ELEKTRA_NAME;
-    private static final String ROBOTO_THIN_NAME;
-    private static final String ROBOTO_LIGHT_NAME;
-    private static final String ROBOTO_REGULAR_NAME;
-    private static final String ROBOTO_MEDIUM_NAME;
-    private static final String ROBOTO_BOLD_NAME;
-    private static final String ROBOTO_LIGHT_CONDENSED_NAME;
-    private static final String ROBOTO_REGULAR_CONDENSED_NAME;
-    private static final String ROBOTO_BOLD_CONDENSED_NAME;
-    private static final String LATO_LIGHT_NAME;
-    private static final String LATO_REGULAR_NAME;
-    private static final String LATO_BOLD_NAME;
-
-    private static String digitalName;
-    private static String digitalReadoutName;
-    private static String digitalReadoutBoldName;
-    private static String elektraName;
-
-    private static String robotoThinName;
-    private static String robotoLightName;
-    private static String robotoRegularName;
-    private static String robotoMediumName;
-    private static String robotoBoldName;
-
-    private static String robotoLightCondensedName;
-    private static String robotoRegularCondensedName;
-    private static String robotoBoldCondensedName;
-
-    private static String latoLightName;
-    private static String latoRegularName;
-    private static String latoBoldName;
-
-
-    static {
-        try {
-            digitalName                = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/digital.ttf"), 10).getName();
-            digitalReadoutName         = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/digitalreadout.ttf"), 10).getName();
-            digitalReadoutBoldName     = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/digitalreadoutb.ttf"), 10).getName();
-            elektraName                = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/elektra.ttf"), 10).getName();
-            robotoThinName             = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Thin.ttf"), 10).getName();
-            robotoLightName            = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Light.ttf"), 10).getName();
-            robotoRegularName          = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Regular.ttf"), 10).getName();
-            robotoMediumName           = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Medium.ttf"), 10).getName();
-            robotoBoldName             = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Roboto-Bold.ttf"), 10).getName();
-            robotoLightCondensedName   = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/RobotoCondensed-Light.ttf"), 10).getName();
-            robotoRegularCondensedName = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/RobotoCondensed-Regular.ttf"), 10).getName();
-            robotoBoldCondensedName    = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/RobotoCondensed-Bold.ttf"), 10).getName();
-            latoLightName              = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Lato-Lig.otf"), 10).getName();
-            latoRegularName            = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Lato-Reg.otf"), 10).getName();
-            latoBoldName               = Font.loadFont(Fonts.class.getResourceAsStream("/eu/hansolo/medusa/Lato-Bol.otf"), 10).getName();
-        } catch (Exception exception) { }
-        DIGITAL_NAME                  = digitalName;
-        DIGITAL_READOUT_NAME          = digitalReadoutName;
-        DIGITAL_READOUT_BOLD_NAME     = digitalReadoutBoldName;
-        ELEKTRA_NAME                  = elektraName;
-        ROBOTO_THIN_NAME              = robotoThinName;
-        ROBOTO_LIGHT_NAME             = robotoLightName;
-        ROBOTO_REGULAR_NAME           = robotoRegularName;
-        ROBOTO_MEDIUM_NAME            = robotoMediumName;
-        ROBOTO_BOLD_NAME              = robotoBoldName;
-        ROBOTO_LIGHT_CONDENSED_NAME   = robotoLightCondensedName;
-        ROBOTO_REGULAR_CONDENSED_NAME = robotoRegularCondensedName;
-        ROBOTO_BOLD_CONDENSED_NAME    = robotoBoldCondensedName;
-        LATO_LIGHT_NAME               = latoLightName;
-        LATO_REGULAR_NAME             = latoRegularName;
-        LATO_BOLD_NAME                = latoBoldName;
+    private static final double          STEPS_PER_PIXEL = 10;
+    private static final int             MAX_FONTS       = 512;
+    private static final Map<Long, Font> FONTS           = new LinkedHashMap<Long, Font>(64, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<Long, Font> ELDEST) { return size() > MAX_FONTS; }
+    };
+
+    // Each font file will be loaded when the first font of its family is requested
+    private enum Family {
+        DIGITAL("digital.ttf"),
+        DIGITAL_READOUT("digitalreadout.ttf"),
+        DIGITAL_READOUT_BOLD("digitalreadoutb.ttf"),
+        ELEKTRA("elektra.ttf"),
+        ROBOTO_THIN("Roboto-Thin.ttf"),
+        ROBOTO_LIGHT("Roboto-Light.ttf"),
+        ROBOTO_REGULAR("Roboto-Regular.ttf"),
+        ROBOTO_MEDIUM("Roboto-Medium.ttf"),
+        ROBOTO_BOLD("Roboto-Bold.ttf"),
+        ROBOTO_LIGHT_CONDENSED("RobotoCondensed-Light.ttf"),
+        ROBOTO_REGULAR_CONDENSED("RobotoCondensed-Regular.ttf"),
+        ROBOTO_BOLD_CONDENSED("RobotoCondensed-Bold.ttf"),
+        LATO_LIGHT("Lato-Lig.otf"),
+        LATO_REGULAR("Lato-Reg.otf"),
+        LATO_BOLD("Lato-Bol.otf");
+
+        private final    String  file;
+        private volatile boolean loaded;
+        private          String  name;
+
+
+        Family(final String FILE) { file = FILE; }
+
+
+        String getName() {
+            if (!loaded) {
+                synchronized (this) {
+                    if (!loaded) {
+                        try (InputStream stream = Fonts.class.getResourceAsStream("/eu/hansolo/medusa/" + file)) {
+                            name = Font.loadFont(stream, 10).getName();
+                        } catch (Exception exception) { }
+                        loaded = true;
+                    }
+                }
+            }
+            return name;
+        }
     }
 
 
     // ******************** Methods *******************************************
-    public static Font digital(final double SIZE) { return new Font(DIGITAL_NAME, SIZE); }
-
-    public static Font digitalReadout(final double SIZE) { return new Font(DIGITAL_READOUT_NAME, SIZE); }
-    public static Font digitalReadoutBold(final double SIZE) { return new Font(DIGITAL_READOUT_BOLD_NAME, SIZE); }
-
-    public static Font elektra(final double SIZE) { return new Font(ELEKTRA_NAME, SIZE); }
-
-    public static Font robotoThin(final double SIZE) { return new Font(ROBOTO_THIN_NAME, SIZE); }
-    public static Font robotoLight(final double SIZE) { return new Font(ROBOTO_LIGHT_NAME, SIZE); }
-    public static Font robotoRegular(final double SIZE) { return new Font(ROBOTO_REGULAR_NAME, SIZE); }
-    public static Font robotoMedium(final double SIZE) { return new Font(ROBOTO_MEDIUM_NAME, SIZE); }
-    public static Font robotoBold(final double SIZE) { return new Font(ROBOTO_BOLD_NAME, SIZE); }
-
-    public static Font robotoCondensedLight(final double SIZE) { return new Font(ROBOTO_LIGHT_CONDENSED_NAME, SIZE); }
-    public static Font robotoCondensedRegular(final double SIZE) { return new Font(ROBOTO_REGULAR_CONDENSED_NAME, SIZE); }
-    public static Font robotoCondensedBold(final double SIZE) { return new Font(ROBOTO_BOLD_CONDENSED_NAME, SIZE); }
-
-    public static Font latoLight(final double SIZE) { return new Font(LATO_LIGHT_NAME, SIZE); }
-    public static Font latoRegular(final double SIZE) { return new Font(LATO_REGULAR_NAME, SIZE); }
-    public static Font latoBold(final double SIZE) { return new Font(LATO_BOLD_NAME, SIZE); }
+    public static Font digital(final double SIZE) { return getFont(Family.DIGITAL, SIZE); }
+
+    public static Font digitalReadout(final double SIZE) { return getFont(Family.DIGITAL_READOUT, SIZE); }
+    public static Font digitalReadoutBold(final double SIZE) { return getFont(Family.DIGITAL_READOUT_BOLD, SIZE); }
+
+    public static Font elektra(final double SIZE) { return getFont(Family.ELEKTRA, SIZE); }
+
+    public static Font robotoThin(final double SIZE) { return getFont(Family.ROBOTO_THIN, SIZE); }
+    public static Font robotoLight(final double SIZE) { return getFont(Family.ROBOTO_LIGHT, SIZE); }
+    public static Font robotoRegular(final double SIZE) { return getFont(Family.ROBOTO_REGULAR, SIZE); }
+    public static Font robotoMedium(final double SIZE) { return getFont(Family.ROBOTO_MEDIUM, SIZE); }
+    public static Font robotoBold(final double SIZE) { return getFont(Family.ROBOTO_BOLD, SIZE); }
+
+    public static Font robotoCondensedLight(final double SIZE) { return getFont(Family.ROBOTO_LIGHT_CONDENSED, SIZE); }
+    public static Font robotoCondensedRegular(final double SIZE) { return getFont(Family.ROBOTO_REGULAR_CONDENSED, SIZE); }
+    public static Font robotoCondensedBold(final double SIZE) { return getFont(Family.ROBOTO_BOLD_CONDENSED, SIZE); }
+
+    public static Font latoLight(final double SIZE) { return getFont(Family.LATO_LIGHT, SIZE); }
+    public static Font latoRegular(final double SIZE) { return getFont(Family.LATO_REGULAR, SIZE); }
+    public static Font latoBold(final double SIZE) { return getFont(Family.LATO_BOLD, SIZE); }
+
+    /**
+     * Returns a font of the given family where the size is rounded to
+     * 1 / STEPS_PER_PIXEL. Fonts are immutable which makes it possible to share
+     * the instances of the most recently used sizes between all skins.
+     */
+    private static Font getFont(final Family FAMILY, final double SIZE) {
+        final String NAME  = FAMILY.getName();
+        final long   STEPS = Math.round(SIZE * STEPS_PER_PIXEL);
+        if (STEPS <= 0 || STEPS > Integer.MAX_VALUE) return new Font(NAME, SIZE);
+
+        final Long   KEY   = (long) FAMILY.ordinal() << 32 | STEPS;
+        synchronized (FONTS) {
+            Font font = FONTS.get(KEY);
+            if (null != font) return font;
+        }
+        final Font FONT = new Font(NAME, STEPS / STEPS_PER_PIXEL);
+        synchronized (FONTS) { FONTS.put(KEY, FONT); }
+        return FONT;
+    }
 }
@@ -16,15 +16,21 @@
 
 package eu.hansolo.medusa;
 
+import eu.hansolo.medusa.events.ModelEventListener;
 import eu.hansolo.medusa.events.UpdateEvent;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.events.WeakModelEventListener;
 import eu.hansolo.medusa.skins.*;
+import eu.hansolo.medusa.tools.BlinkManager;
 import eu.hansolo.medusa.tools.Data;
 import eu.hansolo.medusa.tools.GradientLookup;
 import eu.hansolo.medusa.tools.Helper;
 import eu.hansolo.medusa.tools.MarkerComparator;
+import eu.hansolo.medusa.tools.MedusaMetrics;
+import eu.hansolo.medusa.tools.MedusaRuntime;
 import eu.hansolo.medusa.tools.MovingAverage;
 import eu.hansolo.medusa.tools.SectionComparator;
+import eu.hansolo.medusa.tools.ValueHistory;
 
 import java.time.Instant;
 import java.util.Arrays;
@@ -32,19 +38,16 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Queue;
-import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javafx.animation.Animation.Status;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
+import javafx.beans.WeakListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
 import javafx.beans.property.BooleanProperty;
@@ -115,7 +118,6 @@ public class Gauge extends Control {
 
     public static final  Color   DARK_COLOR          = Color.rgb(36, 36, 36);
     public static final  Color   BRIGHT_COLOR        = Color.rgb(223, 223, 223);
-    private static final long    LED_BLINK_INTERVAL  = 500l;
     private static final int     MAX_NO_OF_DECIMALS  = 3;
 
     public final  ButtonEvent    BTN_PRESSED_EVENT   = new ButtonEvent(ButtonEvent.BTN_PRESSED);
@@ -134,16 +136,24 @@ public class Gauge extends Control {
     private final UpdateEvent    ALERT_EVENT         = new UpdateEvent(Gauge.this, UpdateEvent.EventType.ALERT);
     private final UpdateEvent    VALUE_EVENT         = new UpdateEvent(Gauge.this, UpdateEvent.EventType.VALUE);
 
-    private static volatile Future               blinkFuture;
-    private static ScheduledExecutorService      blinkService = new ScheduledThreadPoolExecutor(1, Helper.getThreadFactory("BlinkTask", true));
-    private static volatile Callable<Void>       blinkTask;
 
     private        BooleanBinding                showing;
 
     // Update events
     private              Queue<UpdateEvent>      updateEventQueue = new LinkedBlockingQueue<>();
+    private              Queue<UpdateEvent>      skinEventQueue   = new LinkedBlockingQueue<>();
     private List<UpdateEventListener>            listenerList     = new CopyOnWriteArrayList<>();
 
+    // Style related (shared with other gauges until one of the values changes)
+    private GaugeStyle                           style;
+    private boolean                              styleShared;
+
+    // Model related
+    private GaugeModel                           model;
+    private ModelEventListener                   modelListener;
+    private WeakModelEventListener               weakModelListener;
+    private AtomicBoolean                        modelSyncPending = new AtomicBoolean(false);
+
     // Data related
     private DoubleProperty                       value;
     private DoubleProperty                       oldValue;      // last value
@@ -168,6 +178,7 @@ public class Gauge extends Control {
     private int                                  _averagingPeriod;
     private IntegerProperty                      averagingPeriod;
     private MovingAverage                        movingAverage;
+    private ValueHistory                         history;
     private ObservableList<Section>              sections;
     private ObservableList<Section>              areas;
     private ObservableList<Section>              tickMarkSections;
@@ -179,7 +190,6 @@ public class Gauge extends Control {
     private BooleanProperty                      startFromZero;
     private boolean                              _returnToZero;
     private BooleanProperty                      returnToZero;
-    private Color                                _zeroColor;
     private ObjectProperty<Color>                zeroColor;
     private double                               _minMeasuredValue;
     private DoubleProperty                       minMeasuredValue;
@@ -193,19 +203,12 @@ public class Gauge extends Control {
     private BooleanProperty                      oldValueVisible;
     private boolean                              _valueVisible;
     private BooleanProperty                      valueVisible;
-    private Paint                                _backgroundPaint;
     private ObjectProperty<Paint>                backgroundPaint;
-    private Paint                                _borderPaint;
     private ObjectProperty<Paint>                borderPaint;
-    private double                               _borderWidth;
     private DoubleProperty                       borderWidth;
-    private Paint                                _foregroundPaint;
     private ObjectProperty<Paint>                foregroundPaint;
-    private Color                                _knobColor;
     private ObjectProperty<Color>                knobColor;
-    private KnobType                             _knobType;
     private ObjectProperty<KnobType>             knobType;
-    private Pos                                  _knobPosition;
     private ObjectProperty<Pos>                  knobPosition;
     private boolean                              _knobVisible;
     private BooleanProperty                      knobVisible;
@@ -226,37 +229,21 @@ public class Gauge extends Control {
     private BooleanProperty                      barEffectEnabled;
     private ScaleDirection                       _scaleDirection;
     private ObjectProperty<ScaleDirection>       scaleDirection;
-    private TickLabelLocation                    _tickLabelLocation;
     private ObjectProperty<TickLabelLocation>    tickLabelLocation;
-    private TickLabelOrientation                 _tickLabelOrientation;
     private ObjectProperty<TickLabelOrientation> tickLabelOrientation;
-    private Color                                _tickLabelColor;
     private ObjectProperty<Color>                tickLabelColor;
-    private Color                                _tickMarkColor;
     private ObjectProperty<Color>                tickMarkColor;
-    private Color                                _majorTickMarkColor;
     private ObjectProperty<Color>                majorTickMarkColor;
-    private double                               _majorTickMarkLengthFactor;
     private DoubleProperty                       majorTickMarkLengthFactor;
-    private double                               _majorTickMarkWidthFactor;
     private DoubleProperty                       majorTickMarkWidthFactor;
-    private Color                                _mediumTickMarkColor;
     private ObjectProperty<Color>                mediumTickMarkColor;
-    private double                               _mediumTickMarkLengthFactor;
     private DoubleProperty                       mediumTickMarkLengthFactor;
-    private double                               _mediumTickMarkWidthFactor;
     private DoubleProperty                       mediumTickMarkWidthFactor;
-    private Color                                _minorTickMarkColor;
     private ObjectProperty<Color>                minorTickMarkColor;
-    private double                               _minorTickMarkLengthFactor;
     private DoubleProperty                       minorTickMarkLengthFactor;
-    private double                               _minorTickMarkWidthFactor;
     private DoubleProperty                       minorTickMarkWidthFactor;
-    private TickMarkType                         _majorTickMarkType;
     private ObjectProperty<TickMarkType>         majorTickMarkType;
-    private TickMarkType                         _mediumTickMarkType;
     private ObjectProperty<TickMarkType>         mediumTickMarkType;
-    private TickMarkType                         _minorTickMarkType;
     private ObjectProperty<TickMarkType>         minorTickMarkType;
     private Locale                               _locale;
     private ObjectProperty<Locale>               locale;
@@ -264,43 +251,25 @@ public class Gauge extends Control {
     private IntegerProperty                      decimals;
     private int                                  _tickLabelDecimals;
     private IntegerProperty                      tickLabelDecimals;
-    private NeedleType                           _needleType;
     private ObjectProperty<NeedleType>           needleType;
-    private NeedleShape                          _needleShape;
     private ObjectProperty<NeedleShape>          needleShape;
-    private NeedleSize                           _needleSize;
     private ObjectProperty<NeedleSize>           needleSize;
     private NeedleBehavior                       _needleBehavior;
     private ObjectProperty<NeedleBehavior>       needleBehavior;
-    private Color                                _needleColor;
     private ObjectProperty<Color>                needleColor;
-    private Color                                _needleBorderColor;
     private ObjectProperty<Color>                needleBorderColor;
-    private Color                                _barColor;
     private ObjectProperty<Color>                barColor;
-    private Color                                _barBorderColor;
     private ObjectProperty<Color>                barBorderColor;
-    private Color                                _barBackgroundColor;
     private ObjectProperty<Color>                barBackgroundColor;
-    private LcdDesign                            _lcdDesign;
     private ObjectProperty<LcdDesign>            lcdDesign;
-    private LcdFont                              _lcdFont;
     private ObjectProperty<LcdFont>              lcdFont;
-    private Color                                _ledColor;
     private ObjectProperty<Color>                ledColor;
-    private LedType                              _ledType;
     private ObjectProperty<LedType>              ledType;
-    private Color                                _titleColor;
     private ObjectProperty<Color>                titleColor;
-    private Color                                _subTitleColor;
     private ObjectProperty<Color>                subTitleColor;
-    private Color                                _unitColor;
     private ObjectProperty<Color>                unitColor;
-    private Color                                _valueColor;
     private ObjectProperty<Color>                valueColor;
-    private Color                                _thresholdColor;
     private ObjectProperty<Color>                thresholdColor;
-    private Color                                _averageColor;
     private ObjectProperty<Color>                averageColor;
     private boolean                              _checkSectionsForValue;
     private BooleanProperty                      checkSectionsForValue;
@@ -372,7 +341,6 @@ public class Gauge extends Control {
     private boolean                              _customTickLabelsEnabled;
     private BooleanProperty                      customTickLabelsEnabled;
     private ObservableList<String>               customTickLabels;
-    private double                               _customTickLabelFontSize;
     private DoubleProperty                       customTickLabelFontSize;
     private boolean                              _interactive;
     private BooleanProperty                      interactive;
@@ -382,7 +350,6 @@ public class Gauge extends Control {
     private BooleanProperty                      keepAspect;
     private boolean                              _customFontEnabled;
     private BooleanProperty                      customFontEnabled;
-    private Font                                 _customFont;
     private ObjectProperty<Font>                 customFont;
     private boolean                              _alert;
     private BooleanProperty                      alert;
@@ -399,6 +366,7 @@ public class Gauge extends Control {
     private Timeline timeline;
     private Instant  lastCall;
     private boolean  withinSpeedLimit;
+    private boolean  skinReleased;
 
 
     // ******************** Constructors **************************************
@@ -414,11 +382,16 @@ public class Gauge extends Control {
         registerListeners();
 
         setSkinType(SKIN_TYPE);
+        compactStyle();
+
+        MedusaRuntime.register(Gauge.this);
     }
 
 
     // ******************** Initialization ************************************
     private void init() {
+        style                               = GaugeStyle.DEFAULT;
+        styleShared                         = true;
         _minValue                           = 0;
         _maxValue                           = 100;
         value                               = new DoublePropertyBase(_minValue) {
@@ -426,6 +399,11 @@ public class Gauge extends Control {
                 final double VALUE = get();
                 withinSpeedLimit = !(Instant.now().minusMillis(getAnimationDuration()).isBefore(lastCall));
                 lastCall = Instant.now();
+                if (isAveragingEnabled()) {
+                    movingAverage.addValue(VALUE);
+                } else if (null != history) {
+                    history.add(VALUE);
+                }
                 if (isAnimated() && withinSpeedLimit) {
                     long animationDuration = isReturnToZero() ? (long) (0.2 * getAnimationDuration()) : getAnimationDuration();
                     timeline.stop();
@@ -454,11 +432,11 @@ public class Gauge extends Control {
                     final KeyFrame KEY_FRAME = new KeyFrame(Duration.millis(animationDuration), KEY_VALUE);
                     timeline.getKeyFrames().setAll(KEY_FRAME);
                     timeline.play();
+                    MedusaMetrics.animationStarted(skinType);
                 } else {
                     currentValue.set(VALUE);
                     fireUpdateEvent(FINISHED_EVENT);
                 }
-                if (isAveragingEnabled()) { movingAverage.addData(new Data(VALUE)); }
             }
             @Override public void set(final double VALUE) {
                 super.set(VALUE);
@@ -507,20 +485,12 @@ public class Gauge extends Control {
 
         _startFromZero                      = false;
         _returnToZero                       = false;
-        _zeroColor                          = DARK_COLOR;
         _minMeasuredValue                   = _maxValue;
         _maxMeasuredValue                   = _minValue;
         _minMeasuredValueVisible            = false;
         _maxMeasuredValueVisible            = false;
         _oldValueVisible                    = false;
         _valueVisible                       = true;
-        _backgroundPaint                    = Color.TRANSPARENT;
-        _borderPaint                        = Color.TRANSPARENT;
-        _borderWidth                        = 1;
-        _foregroundPaint                    = Color.TRANSPARENT;
-        _knobColor                          = Color.rgb(204, 204, 204);
-        _knobType                           = KnobType.STANDARD;
-        _knobPosition                       = Pos.CENTER;
         _knobVisible                        = true;
         _animated                           = false;
         animationDuration                   = 800;
@@ -531,44 +501,10 @@ public class Gauge extends Control {
         _shadowsEnabled                     = false;
         _barEffectEnabled                   = false;
         _scaleDirection                     = ScaleDirection.CLOCKWISE;
-        _tickLabelLocation                  = TickLabelLocation.INSIDE;
-        _tickLabelOrientation               = TickLabelOrientation.HORIZONTAL;
-        _tickLabelColor                     = DARK_COLOR;
-        _tickMarkColor                      = DARK_COLOR;
-        _majorTickMarkColor                 = DARK_COLOR;
-        _majorTickMarkLengthFactor          = 0.42;
-        _majorTickMarkWidthFactor           = 0.275;
-        _mediumTickMarkColor                = DARK_COLOR;
-        _mediumTickMarkLengthFactor         = 0.41;
-        _mediumTickMarkWidthFactor          = 0.175;
-        _minorTickMarkColor                 = DARK_COLOR;
-        _minorTickMarkLengthFactor          = 0.40;
-        _minorTickMarkWidthFactor           = 0.1125;
-        _majorTickMarkType                  = TickMarkType.LINE;
-        _mediumTickMarkType                 = TickMarkType.LINE;
-        _minorTickMarkType                  = TickMarkType.LINE;
         _locale                             = Locale.US;
         _decimals                           = 1;
         _tickLabelDecimals                  = 0;
-        _needleType                         = NeedleType.STANDARD;
-        _needleShape                        = NeedleShape.ANGLED;
-        _needleSize                         = NeedleSize.STANDARD;
         _needleBehavior                     = NeedleBehavior.STANDARD;
-        _needleColor                        = Color.rgb(200, 0, 0);
-        _needleBorderColor                  = Color.TRANSPARENT;
-        _barColor                           = BRIGHT_COLOR;
-        _barBorderColor                     = Color.TRANSPARENT;
-        _barBackgroundColor                 = DARK_COLOR;
-        _lcdDesign                          = LcdDesign.STANDARD;
-        _lcdFont                            = LcdFont.DIGITAL_BOLD;
-        _ledColor                           = Color.RED;
-        _ledType                            = LedType.STANDARD;
-        _titleColor                         = DARK_COLOR;
-        _subTitleColor                      = DARK_COLOR;
-        _unitColor                          = DARK_COLOR;
-        _valueColor                         = DARK_COLOR;
-        _thresholdColor                     = Color.CRIMSON;
-        _averageColor                       = Color.MAGENTA;
         _checkSectionsForValue              = false;
         _checkAreasForValue                 = false;
         _checkThreshold                     = false;
@@ -604,12 +540,10 @@ public class Gauge extends Control {
         _gradientBarEnabled                 = false;
         _customTickLabelsEnabled            = false;
         customTickLabels                    = FXCollections.observableArrayList();
-        _customTickLabelFontSize            = 18;
         _interactive                        = false;
         _buttonTooltipText                  = "";
         _keepAspect                         = true;
         _customFontEnabled                  = false;
-        _customFont                         = Fonts.robotoRegular(12);
         _alert                              = false;
         _alertMessage                       = "";
         _smoothing                          = false;
@@ -626,6 +560,7 @@ public class Gauge extends Control {
                 final KeyFrame KEY_FRAME2 = new KeyFrame(Duration.millis((long) (0.8 * getAnimationDuration())), KEY_VALUE2);
                 timeline.getKeyFrames().setAll(KEY_FRAME2);
                 timeline.play();
+                MedusaMetrics.animationStarted(skinType);
             }
             fireUpdateEvent(FINISHED_EVENT);
         });
@@ -634,21 +569,8 @@ public class Gauge extends Control {
     private void registerListeners() {
         disabledProperty().addListener(o -> setOpacity(isDisabled() ? 0.4 : 1));
         valueProperty().addListener((o, ov, nv) -> oldValue.set(ov.doubleValue()));
-        if (null != getScene()) {
-            setupBinding();
-        } else {
-            sceneProperty().addListener((o1, ov1, nv1) -> {
-                if (null == nv1) { return; }
-                if (null != getScene().getWindow()) {
-                    setupBinding();
-                } else {
-                    sceneProperty().get().windowProperty().addListener((o2, ov2, nv2) -> {
-                        if (null == nv2) { return; }
-                        setupBinding();
-                    });
-                }
-            });
-        }
+        // The binding follows scene and window changes by itself and only observes them weakly
+        setupBinding();
     }
 
 
@@ -724,7 +646,7 @@ public class Gauge extends Control {
             setRange(getMaxValue() - _minValue);
             if (Double.compare(originalMinValue, -Double.MAX_VALUE) == 0) originalMinValue = _minValue;
             if (isStartFromZero() && _minValue < 0) setValue(0);
-            if (Double.compare(originalThreshold, getThreshold()) < 0) { setThreshold(Helper.clamp(_minValue, getMaxValue(), originalThreshold)); }
+            if (Double.compare(originalThreshold, getThreshold()) < 0) { clampThreshold(Helper.clamp(_minValue, getMaxValue(), originalThreshold)); }
             updateFormatString();
             fireUpdateEvent(RECALC_EVENT);
             if (!valueProperty().isBound()) Gauge.this.setValue(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
@@ -741,7 +663,7 @@ public class Gauge extends Control {
                     setRange(getMaxValue() - VALUE);
                     if (Double.compare(originalMinValue, -Double.MAX_VALUE) == 0) originalMinValue = VALUE;
                     if (isStartFromZero() && _minValue < 0) Gauge.this.setValue(0);
-                    if (Double.compare(originalThreshold, getThreshold()) < 0) { setThreshold(Helper.clamp(VALUE, getMaxValue(), originalThreshold)); }
+                    if (Double.compare(originalThreshold, getThreshold()) < 0) { clampThreshold(Helper.clamp(VALUE, getMaxValue(), originalThreshold)); }
                     updateFormatString();
                     fireUpdateEvent(RECALC_EVENT);
                     if (!valueProperty().isBound()) Gauge.this.setValue(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
@@ -772,7 +694,7 @@ public class Gauge extends Control {
             _maxValue = Helper.clamp(getMinValue(), Double.MAX_VALUE, VALUE);
             setRange(_maxValue - getMinValue());
             if (Double.compare(originalMaxValue, Double.MAX_VALUE) == 0) originalMaxValue = _maxValue;
-            if (Double.compare(originalThreshold, getThreshold()) > 0) { setThreshold(Helper.clamp(getMinValue(), _maxValue, originalThreshold)); }
+            if (Double.compare(originalThreshold, getThreshold()) > 0) { clampThreshold(Helper.clamp(getMinValue(), _maxValue, originalThreshold)); }
 
             if (!valueProperty().isBound()) Gauge.this.setValue(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
             updateFormatString();
@@ -789,7 +711,7 @@ public class Gauge extends Control {
                     if (VALUE < getMinValue()) setMinValue(VALUE);
                     setRange(VALUE - getMinValue());
                     if (Double.compare(originalMaxValue, Double.MAX_VALUE) == 0) originalMaxValue = VALUE;
-                    if (Double.compare(originalThreshold, getThreshold()) > 0) { setThreshold(Helper.clamp(getMinValue(), VALUE, originalThreshold)); }
+                    if (Double.compare(originalThreshold, getThreshold()) > 0) { clampThreshold(Helper.clamp(getMinValue(), VALUE, originalThreshold)); }
                     updateFormatString();
                     fireUpdateEvent(RECALC_EVENT);
                     if (!valueProperty().isBound()) Gauge.this.setValue(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
@@ -851,6 +773,16 @@ public class Gauge extends Control {
      */
     public void setThreshold(final double THRESHOLD) {
         originalThreshold = THRESHOLD;
+        clampThreshold(THRESHOLD);
+    }
+    /**
+     * Sets the threshold after the range has changed. In contrast to
+     * setThreshold() the threshold that was set by the user will be kept,
+     * so that it can be restored if the range grows again.
+     *
+     * @param THRESHOLD
+     */
+    private void clampThreshold(final double THRESHOLD) {
         if (null == threshold) {
             _threshold = Helper.clamp(getMinValue(), getMaxValue(), THRESHOLD);
             fireUpdateEvent(RESIZE_EVENT);
@@ -1027,7 +959,7 @@ public class Gauge extends Control {
     public void setAveragingPeriod(final int PERIOD) {
         if (null == averagingPeriod) {
             _averagingPeriod = PERIOD;
-            movingAverage    = new MovingAverage(PERIOD); // MAX 1000 values
+            movingAverage    = new MovingAverage(history, PERIOD); // MAX 1000 values
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             averagingPeriod.set(PERIOD);
@@ -1037,7 +969,7 @@ public class Gauge extends Control {
         if (null == averagingPeriod) {
             averagingPeriod = new IntegerPropertyBase(_averagingPeriod) {
                 @Override protected void invalidated() {
-                    movingAverage = new MovingAverage(get());
+                    movingAverage = new MovingAverage(history, get());
                     fireUpdateEvent(REDRAW_EVENT);
                 }
                 @Override public Object getBean() { return Gauge.this; }
@@ -1067,6 +999,39 @@ public class Gauge extends Control {
      */
     public double getTimeBasedAverageOf(final java.time.Duration DURATION) { return movingAverage.getTimeBasedAverageOf(DURATION); }
 
+    /**
+     * Returns the value history of the gauge or null if no history
+     * capacity has been set. The history contains the latest values
+     * with their timestamps in primitive ring buffers and is shared
+     * with the averaging, so skins and tooltips can read from it
+     * instead of keeping their own copy of the values.
+     * @return the value history of the gauge or null
+     */
+    public ValueHistory getHistory() { return history; }
+    /**
+     * Returns the number of values that will be kept in the history.
+     * @return the number of values that will be kept in the history
+     */
+    public int getHistoryCapacity() { return null == history ? 0 : history.getCapacity(); }
+    /**
+     * Defines the number of values that will be kept in the history.
+     * The history will be at least as large as the averaging period,
+     * a capacity of 0 disables the history.
+     * @param CAPACITY
+     */
+    public void setHistoryCapacity(final int CAPACITY) {
+        if (CAPACITY <= 0) {
+            if (null == history) return;
+            history       = null;
+            movingAverage = new MovingAverage(getAveragingPeriod());
+        } else if (null == history) {
+            history       = new ValueHistory(CAPACITY);
+            movingAverage = new MovingAverage(history, getAveragingPeriod());
+        } else {
+            history.setCapacity(Math.max(CAPACITY, getAveragingPeriod()));
+        }
+    }
+
     /**
      * Returns an observable list of Section objects. The sections
      * will be used to colorize areas with a special meaning such
@@ -1377,16 +1342,16 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setForegroundBaseColor(final Color COLOR) {
-        if (null == titleColor) { _titleColor = COLOR; } else { titleColor.set(COLOR); }
-        if (null == subTitleColor) { _subTitleColor = COLOR; } else { subTitleColor.set(COLOR); }
-        if (null == unitColor) { _unitColor = COLOR; } else { unitColor.set(COLOR); }
-        if (null == valueColor) { _valueColor = COLOR; } else { valueColor.set(COLOR); }
-        if (null == tickLabelColor) { _tickLabelColor = COLOR; } else { tickLabelColor.set(COLOR); }
-        if (null == zeroColor) { _zeroColor = COLOR; } else { zeroColor.set(COLOR); }
-        if (null == tickMarkColor) { _tickMarkColor = COLOR; } else { tickMarkColor.set(COLOR); }
-        if (null == majorTickMarkColor) { _majorTickMarkColor = COLOR; } else { majorTickMarkColor.set(COLOR); }
-        if (null == mediumTickMarkColor) { _mediumTickMarkColor = COLOR; } else { mediumTickMarkColor.set(COLOR); }
-        if (null == minorTickMarkColor) { _minorTickMarkColor = COLOR; } else { minorTickMarkColor.set(COLOR); }
+        if (null == titleColor) { writableStyle().titleColor = COLOR; } else { titleColor.set(COLOR); }
+        if (null == subTitleColor) { writableStyle().subTitleColor = COLOR; } else { subTitleColor.set(COLOR); }
+        if (null == unitColor) { writableStyle().unitColor = COLOR; } else { unitColor.set(COLOR); }
+        if (null == valueColor) { writableStyle().valueColor = COLOR; } else { valueColor.set(COLOR); }
+        if (null == tickLabelColor) { writableStyle().tickLabelColor = COLOR; } else { tickLabelColor.set(COLOR); }
+        if (null == zeroColor) { writableStyle().zeroColor = COLOR; } else { zeroColor.set(COLOR); }
+        if (null == tickMarkColor) { writableStyle().tickMarkColor = COLOR; } else { tickMarkColor.set(COLOR); }
+        if (null == majorTickMarkColor) { writableStyle().majorTickMarkColor = COLOR; } else { majorTickMarkColor.set(COLOR); }
+        if (null == mediumTickMarkColor) { writableStyle().mediumTickMarkColor = COLOR; } else { mediumTickMarkColor.set(COLOR); }
+        if (null == minorTickMarkColor) { writableStyle().minorTickMarkColor = COLOR; } else { minorTickMarkColor.set(COLOR); }
         fireUpdateEvent(REDRAW_EVENT);
     }
 
@@ -1472,7 +1437,7 @@ public class Gauge extends Control {
      *
      * @return the color that will used to visualize the 0 tickmark and ticklabel
      */
-    public Color getZeroColor() { return null == zeroColor ? _zeroColor : zeroColor.get(); }
+    public Color getZeroColor() { return null == zeroColor ? style.zeroColor : zeroColor.get(); }
     /**
      * Defines the color that will be used to colorize the 0 tickmark and ticklabel
      * when the gauge range has a negative min- and positive maxValue.
@@ -1481,7 +1446,7 @@ public class Gauge extends Control {
      */
     public void setZeroColor(final Color COLOR) {
         if (null == zeroColor) {
-            _zeroColor = COLOR;
+            writableStyle().zeroColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             zeroColor.set(COLOR);
@@ -1489,12 +1454,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> zeroColorProperty() {
         if (null == zeroColor) {
-            zeroColor  = new ObjectPropertyBase<Color>(_zeroColor) {
+            zeroColor  = new ObjectPropertyBase<Color>(style.zeroColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "zeroColor"; }
             };
-            _zeroColor = null;
         }
         return zeroColor;
     }
@@ -1684,7 +1648,7 @@ public class Gauge extends Control {
      *
      * @return the Paint object that will be used to fill the gauge background
      */
-    public Paint getBackgroundPaint() { return null == backgroundPaint ? _backgroundPaint : backgroundPaint.get(); }
+    public Paint getBackgroundPaint() { return null == backgroundPaint ? style.backgroundPaint : backgroundPaint.get(); }
     /**
      * Defines the Paint object that will be used to fill the gauge background.
      *
@@ -1692,7 +1656,7 @@ public class Gauge extends Control {
      */
     public void setBackgroundPaint(final Paint PAINT) {
         if (null == backgroundPaint) {
-            _backgroundPaint = PAINT;
+            writableStyle().backgroundPaint = PAINT;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             backgroundPaint.set(PAINT);
@@ -1700,12 +1664,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Paint> backgroundPaintProperty() {
         if (null == backgroundPaint) {
-            backgroundPaint  = new ObjectPropertyBase<Paint>(_backgroundPaint) {
+            backgroundPaint  = new ObjectPropertyBase<Paint>(style.backgroundPaint) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "backgroundPaint"; }
             };
-            _backgroundPaint = null;
         }
         return backgroundPaint;
     }
@@ -1716,7 +1679,7 @@ public class Gauge extends Control {
      *
      * @return the Paint object that will be used to draw the border of the gauge
      */
-    public Paint getBorderPaint() { return null == borderPaint ? _borderPaint : borderPaint.get(); }
+    public Paint getBorderPaint() { return null == borderPaint ? style.borderPaint : borderPaint.get(); }
     /**
      * Defines the Paint object that will be used to draw the border of the gauge.
      *
@@ -1724,7 +1687,7 @@ public class Gauge extends Control {
      */
     public void setBorderPaint(final Paint PAINT) {
         if (null == borderPaint) {
-            _borderPaint = PAINT;
+            writableStyle().borderPaint = PAINT;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             borderPaint.set(PAINT);
@@ -1732,12 +1695,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Paint> borderPaintProperty() {
         if (null == borderPaint) {
-            borderPaint  = new ObjectPropertyBase<Paint>(_borderPaint) {
+            borderPaint  = new ObjectPropertyBase<Paint>(style.borderPaint) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "borderPaint"; }
             };
-            _borderPaint = null;
         }
         return borderPaint;
     }
@@ -1748,7 +1710,7 @@ public class Gauge extends Control {
      *
      * @return the width in pixels that will be used to draw the border of the gauge
      */
-    public double getBorderWidth() { return null == borderWidth ? _borderWidth : borderWidth.get(); }
+    public double getBorderWidth() { return null == borderWidth ? style.borderWidth : borderWidth.get(); }
     /**
      * Defines the width in pixels that will be used to draw the border of the gauge.
      * The value will be clamped between 0 and 50 pixels.
@@ -1757,7 +1719,7 @@ public class Gauge extends Control {
      */
     public void setBorderWidth(final double WIDTH) {
         if (null == borderWidth) {
-            _borderWidth = Helper.clamp(0.0, 50.0, WIDTH);
+            writableStyle().borderWidth = Helper.clamp(0.0, 50.0, WIDTH);
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             borderWidth.set(WIDTH);
@@ -1765,7 +1727,7 @@ public class Gauge extends Control {
     }
     public DoubleProperty borderWidthProperty() {
         if (null == borderWidth) {
-            borderWidth = new DoublePropertyBase(_borderWidth) {
+            borderWidth = new DoublePropertyBase(style.borderWidth) {
                 @Override protected void invalidated() {
                     final double WIDTH = get();
                     if (WIDTH < 0 || WIDTH > 50) set(Helper.clamp(0.0, 50.0, WIDTH));
@@ -1784,7 +1746,7 @@ public class Gauge extends Control {
      *
      * @return the Paint object that will be used to fill the foreground of the gauge
      */
-    public Paint getForegroundPaint() { return null == foregroundPaint ? _foregroundPaint : foregroundPaint.get(); }
+    public Paint getForegroundPaint() { return null == foregroundPaint ? style.foregroundPaint : foregroundPaint.get(); }
     /**
      * Defines the Paint object that will be used to fill the foreground of the gauge.
      * This could be used to visualize glass effects etc. and is only rarely used.
@@ -1793,7 +1755,7 @@ public class Gauge extends Control {
      */
     public void setForegroundPaint(final Paint PAINT) {
         if (null == foregroundPaint) {
-            _foregroundPaint = PAINT;
+            writableStyle().foregroundPaint = PAINT;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             foregroundPaint.set(PAINT);
@@ -1801,12 +1763,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Paint> foregroundPaintProperty() {
         if (null == foregroundPaint) {
-            foregroundPaint  = new ObjectPropertyBase<Paint>(_foregroundPaint) {
+            foregroundPaint  = new ObjectPropertyBase<Paint>(style.foregroundPaint) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "foregroundPaint"; }
             };
-            _foregroundPaint = null;
         }
         return foregroundPaint;
     }
@@ -1817,7 +1778,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the knob of the radial gauges
      */
-    public Color getKnobColor() { return null == knobColor ? _knobColor : knobColor.get(); }
+    public Color getKnobColor() { return null == knobColor ? style.knobColor : knobColor.get(); }
     /**
      * Defines the color that will be used to colorize the knob of
      * the radial gauges.
@@ -1826,7 +1787,7 @@ public class Gauge extends Control {
      */
     public void setKnobColor(final Color COLOR) {
         if (null == knobColor) {
-            _knobColor = COLOR;
+            writableStyle().knobColor = COLOR;
             fireUpdateEvent(RESIZE_EVENT);
         } else {
             knobColor.set(COLOR);
@@ -1834,12 +1795,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> knobColorProperty() {
         if (null == knobColor) {
-            knobColor  = new ObjectPropertyBase<Color>(_knobColor) {
+            knobColor  = new ObjectPropertyBase<Color>(style.knobColor) {
                 @Override protected void invalidated() { fireUpdateEvent(RESIZE_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "knobColor"; }
             };
-            _knobColor = null;
         }
         return knobColor;
     }
@@ -1850,7 +1810,7 @@ public class Gauge extends Control {
      *
      * @return the type of knob that will be used in the radial gauges
      */
-    public KnobType getKnobType() { return null == knobType ? _knobType : knobType.get(); }
+    public KnobType getKnobType() { return null == knobType ? style.knobType : knobType.get(); }
     /**
      * Defines the type of knob that will be used in the radial
      * gauges. The values are STANDARD, PLAIN, METAL and FLAT.
@@ -1859,7 +1819,7 @@ public class Gauge extends Control {
      */
     public void setKnobType(final KnobType TYPE) {
         if (null == knobType) {
-            _knobType = null == TYPE ? KnobType.STANDARD : TYPE;
+            writableStyle().knobType = null == TYPE ? KnobType.STANDARD : TYPE;
             fireUpdateEvent(RESIZE_EVENT);
         } else {
             knobType.set(TYPE);
@@ -1867,7 +1827,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<KnobType> knobTypeProperty() {
         if (null == knobType) {
-            knobType  = new ObjectPropertyBase<KnobType>(_knobType) {
+            knobType  = new ObjectPropertyBase<KnobType>(style.knobType) {
                 @Override protected void invalidated() {
                     if (null == get()) set(KnobType.STANDARD);
                     fireUpdateEvent(RESIZE_EVENT);
@@ -1875,7 +1835,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "knobType"; }
             };
-            _knobType = null;
         }
         return knobType;
     }
@@ -1891,7 +1850,7 @@ public class Gauge extends Control {
      *
      * @return the position of the knob in the radial gauges
      */
-    public Pos getKnobPosition() { return null == knobPosition ? _knobPosition : knobPosition.get(); }
+    public Pos getKnobPosition() { return null == knobPosition ? style.knobPosition : knobPosition.get(); }
     /**
      * Defines the position of the knob in radial gauges. This
      * position also defines where the needle will be placed.
@@ -1905,7 +1864,7 @@ public class Gauge extends Control {
      */
     public void setKnobPosition(final Pos POSITION) {
         if (null == knobPosition) {
-            _knobPosition = POSITION;
+            writableStyle().knobPosition = POSITION;
             fireUpdateEvent(RESIZE_EVENT);
         } else {
             knobPosition.set(POSITION);
@@ -1913,7 +1872,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Pos> knobPositionProperty() {
         if (null == knobPosition) {
-            knobPosition  = new ObjectPropertyBase<Pos>(_knobPosition) {
+            knobPosition  = new ObjectPropertyBase<Pos>(style.knobPosition) {
                 @Override protected void invalidated() {
                     final Pos POSITION = get();
                     if (null == POSITION) {
@@ -1929,7 +1888,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "knobPosition"; }
             };
-            _knobPosition = null;
         }
         return knobPosition;
     }
@@ -2302,7 +2260,7 @@ public class Gauge extends Control {
      *
      * @return the location of the ticklabels
      */
-    public TickLabelLocation getTickLabelLocation() { return null == tickLabelLocation ? _tickLabelLocation : tickLabelLocation.get(); }
+    public TickLabelLocation getTickLabelLocation() { return null == tickLabelLocation ? style.tickLabelLocation : tickLabelLocation.get(); }
     /**
      * Defines the location of the ticklabels. The values are
      * INSIDE and OUTSIDE. The location of the ticklabels has an
@@ -2312,7 +2270,7 @@ public class Gauge extends Control {
      */
     public void setTickLabelLocation(final TickLabelLocation LOCATION) {
         if (null == tickLabelLocation) {
-            _tickLabelLocation = null == LOCATION ? TickLabelLocation.INSIDE : LOCATION;
+            writableStyle().tickLabelLocation = null == LOCATION ? TickLabelLocation.INSIDE : LOCATION;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             tickLabelLocation.set(LOCATION);
@@ -2320,7 +2278,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<TickLabelLocation> tickLabelLocationProperty() {
         if (null == tickLabelLocation) {
-            tickLabelLocation  = new ObjectPropertyBase<TickLabelLocation>(_tickLabelLocation) {
+            tickLabelLocation  = new ObjectPropertyBase<TickLabelLocation>(style.tickLabelLocation) {
                 @Override protected void invalidated() {
                     if(null == get()) set(TickLabelLocation.INSIDE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -2328,7 +2286,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickLabelLocation"; }
             };
-            _tickLabelLocation = null;
         }
         return tickLabelLocation;
     }
@@ -2340,7 +2297,7 @@ public class Gauge extends Control {
      *
      * @return the orientation of the ticklabels
      */
-    public TickLabelOrientation getTickLabelOrientation() { return null == tickLabelOrientation ? _tickLabelOrientation : tickLabelOrientation.get(); }
+    public TickLabelOrientation getTickLabelOrientation() { return null == tickLabelOrientation ? style.tickLabelOrientation : tickLabelOrientation.get(); }
     /**
      * Defines the orientation of the ticklabels. The values are
      * HORIZONTAL, ORTHOGONAL and TANGENT. Especially the ORTHOGONAL
@@ -2350,7 +2307,7 @@ public class Gauge extends Control {
      */
     public void setTickLabelOrientation(final TickLabelOrientation ORIENTATION) {
         if (null == tickLabelOrientation) {
-            _tickLabelOrientation = null == ORIENTATION ? TickLabelOrientation.HORIZONTAL : ORIENTATION;
+            writableStyle().tickLabelOrientation = null == ORIENTATION ? TickLabelOrientation.HORIZONTAL : ORIENTATION;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             tickLabelOrientation.set(ORIENTATION);
@@ -2358,7 +2315,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<TickLabelOrientation> tickLabelOrientationProperty() {
         if (null == tickLabelOrientation) {
-            tickLabelOrientation  = new ObjectPropertyBase<TickLabelOrientation>(_tickLabelOrientation) {
+            tickLabelOrientation  = new ObjectPropertyBase<TickLabelOrientation>(style.tickLabelOrientation) {
                 @Override protected void invalidated() {
                     if(null == get()) set(TickLabelOrientation.HORIZONTAL);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -2366,7 +2323,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickLabelOrientation"; }
             };
-            _tickLabelOrientation = null;
         }
         return tickLabelOrientation;
     }
@@ -2377,7 +2333,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the ticklabels
      */
-    public Color getTickLabelColor() { return null == tickLabelColor ? _tickLabelColor : tickLabelColor.get(); }
+    public Color getTickLabelColor() { return null == tickLabelColor ? style.tickLabelColor : tickLabelColor.get(); }
     /**
      * Defines the color that will be used to colorize the ticklabels. This color
      * will only be used if no ticklabel section defines a different color.
@@ -2386,7 +2342,7 @@ public class Gauge extends Control {
      */
     public void setTickLabelColor(final Color COLOR) {
         if (null == tickLabelColor) {
-            _tickLabelColor = COLOR;
+            writableStyle().tickLabelColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             tickLabelColor.set(COLOR);
@@ -2394,12 +2350,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> tickLabelColorProperty() {
         if (null == tickLabelColor) {
-            tickLabelColor  = new ObjectPropertyBase<Color>(_tickLabelColor) {
+            tickLabelColor  = new ObjectPropertyBase<Color>(style.tickLabelColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickLabelColor"; }
             };
-            _tickLabelColor = null;
         }
         return tickLabelColor;
     }
@@ -2411,7 +2366,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the tickmarks
      */
-    public Color getTickMarkColor() { return null == tickMarkColor ? _tickMarkColor : tickMarkColor.get(); }
+    public Color getTickMarkColor() { return null == tickMarkColor ? style.tickMarkColor : tickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the tickmarks. This color
      * will only be used if no tickmark section or major-, medium- and minorTickMarkColor
@@ -2421,7 +2376,7 @@ public class Gauge extends Control {
      */
     public void setTickMarkColor(final Color COLOR) {
         if (null == tickMarkColor) {
-            _tickMarkColor = COLOR;
+            writableStyle().tickMarkColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             tickMarkColor.set(COLOR);
@@ -2429,12 +2384,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> tickMarkColorProperty() {
         if (null == tickMarkColor) {
-            tickMarkColor  = new ObjectPropertyBase<Color>(_tickMarkColor) {
+            tickMarkColor  = new ObjectPropertyBase<Color>(style.tickMarkColor) {
                 @Override protected void invalidated() { fireUpdateEvent( REDRAW_EVENT ); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickMarkColor"; }
             };
-            _tickMarkColor = null;
         }
         return tickMarkColor;
     }
@@ -2446,7 +2400,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the major tickmarks
      */
-    public Color getMajorTickMarkColor() { return null == majorTickMarkColor ? _majorTickMarkColor : majorTickMarkColor.get(); }
+    public Color getMajorTickMarkColor() { return null == majorTickMarkColor ? style.majorTickMarkColor : majorTickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the major
      * tickmarks. This color will only be used if no tickmark
@@ -2456,7 +2410,7 @@ public class Gauge extends Control {
      */
     public void setMajorTickMarkColor(final Color COLOR) {
         if (null == majorTickMarkColor) {
-            _majorTickMarkColor = COLOR;
+            writableStyle().majorTickMarkColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             majorTickMarkColor.set(COLOR);
@@ -2464,12 +2418,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> majorTickMarkColorProperty() {
         if (null == majorTickMarkColor) {
-            majorTickMarkColor  = new ObjectPropertyBase<Color>(_majorTickMarkColor) {
+            majorTickMarkColor  = new ObjectPropertyBase<Color>(style.majorTickMarkColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "majorTickMarkColor"; }
             };
-            _majorTickMarkColor = null;
         }
         return majorTickMarkColor;
     }
@@ -2480,7 +2433,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the length of the major tick mark
      */
-    public double getMajorTickMarkLengthFactor() { return null == majorTickMarkLengthFactor ? _majorTickMarkLengthFactor : majorTickMarkLengthFactor.get(); }
+    public double getMajorTickMarkLengthFactor() { return null == majorTickMarkLengthFactor ? style.majorTickMarkLengthFactor : majorTickMarkLengthFactor.get(); }
     /**
      * The factor defines the length of the major tick mark.
      * It can be in the range from 0 - 1.
@@ -2489,7 +2442,7 @@ public class Gauge extends Control {
      */
     public void setMajorTickMarkLengthFactor(final double FACTOR) {
         if (null == majorTickMarkLengthFactor) {
-            _majorTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+            writableStyle().majorTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             majorTickMarkLengthFactor.set(FACTOR);
@@ -2497,7 +2450,7 @@ public class Gauge extends Control {
     }
     public DoubleProperty majorTickMarkLengthFactorProperty() {
         if (null == majorTickMarkLengthFactor) {
-            majorTickMarkLengthFactor = new DoublePropertyBase(_majorTickMarkLengthFactor) {
+            majorTickMarkLengthFactor = new DoublePropertyBase(style.majorTickMarkLengthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2516,7 +2469,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the width of the major tick mark
      */
-    public double getMajorTickMarkWidthFactor() { return null == majorTickMarkWidthFactor ? _majorTickMarkWidthFactor : majorTickMarkWidthFactor.get(); }
+    public double getMajorTickMarkWidthFactor() { return null == majorTickMarkWidthFactor ? style.majorTickMarkWidthFactor : majorTickMarkWidthFactor.get(); }
     /**
      * The factor defines the width of the major tick mark.
      * It can be in the range from 0 - 1.
@@ -2525,7 +2478,7 @@ public class Gauge extends Control {
      */
     public void setMajorTickMarkWidthFactor(final double FACTOR) {
         if (null == majorTickMarkWidthFactor) {
-            _majorTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+            writableStyle().majorTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             majorTickMarkWidthFactor.set(FACTOR);
@@ -2533,7 +2486,7 @@ public class Gauge extends Control {
     }
     public DoubleProperty majorTickMarkWidthFactorProperty() {
         if (null == majorTickMarkWidthFactor) {
-            majorTickMarkWidthFactor = new DoublePropertyBase(_majorTickMarkWidthFactor) {
+            majorTickMarkWidthFactor = new DoublePropertyBase(style.majorTickMarkWidthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2553,7 +2506,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the medium tickmark
      */
-    public Color getMediumTickMarkColor() { return null == mediumTickMarkColor ? _mediumTickMarkColor : mediumTickMarkColor.get(); }
+    public Color getMediumTickMarkColor() { return null == mediumTickMarkColor ? style.mediumTickMarkColor : mediumTickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the medium
      * tickmarks. This color will only be used if no tickmark
@@ -2563,7 +2516,7 @@ public class Gauge extends Control {
      */
     public void setMediumTickMarkColor(final Color COLOR) {
         if (null == mediumTickMarkColor) {
-            _mediumTickMarkColor = COLOR;
+            writableStyle().mediumTickMarkColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             mediumTickMarkColor.set(COLOR);
@@ -2571,12 +2524,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> mediumTickMarkColorProperty() {
         if (null == mediumTickMarkColor) {
-            mediumTickMarkColor  = new ObjectPropertyBase<Color>(_mediumTickMarkColor) {
+            mediumTickMarkColor  = new ObjectPropertyBase<Color>(style.mediumTickMarkColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "mediumTickMarkColor"; }
             };
-            _mediumTickMarkColor = null;
         }
         return mediumTickMarkColor;
     }
@@ -2587,7 +2539,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the length of the medium tick mark
      */
-    public double getMediumTickMarkLengthFactor() { return null == mediumTickMarkLengthFactor ? _mediumTickMarkLengthFactor : mediumTickMarkLengthFactor.get(); }
+    public double getMediumTickMarkLengthFactor() { return null == mediumTickMarkLengthFactor ? style.mediumTickMarkLengthFactor : mediumTickMarkLengthFactor.get(); }
     /**
      * The factor defines the length of the medium tick mark.
      * It can be in the range from 0 - 1.
@@ -2596,7 +2548,7 @@ public class Gauge extends Control {
      */
     public void setMediumTickMarkLengthFactor(final double FACTOR) {
         if (null == mediumTickMarkLengthFactor) {
-            _mediumTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+            writableStyle().mediumTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             mediumTickMarkLengthFactor.set(FACTOR);
@@ -2604,7 +2556,7 @@ public class Gauge extends Control {
     }
     public DoubleProperty mediumTickMarkLengthFactorProperty() {
         if (null == mediumTickMarkLengthFactor) {
-            mediumTickMarkLengthFactor = new DoublePropertyBase(_mediumTickMarkLengthFactor) {
+            mediumTickMarkLengthFactor = new DoublePropertyBase(style.mediumTickMarkLengthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2623,7 +2575,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the width of the medium tick mark
      */
-    public double getMediumTickMarkWidthFactor() { return null == mediumTickMarkWidthFactor ? _mediumTickMarkWidthFactor : mediumTickMarkWidthFactor.get(); }
+    public double getMediumTickMarkWidthFactor() { return null == mediumTickMarkWidthFactor ? style.mediumTickMarkWidthFactor : mediumTickMarkWidthFactor.get(); }
     /**
      * The factor defines the width of the medium tick mark.
      * It can be in the range from 0 - 1.
@@ -2632,7 +2584,7 @@ public class Gauge extends Control {
      */
     public void setMediumTickMarkWidthFactor(final double FACTOR) {
         if (null == mediumTickMarkWidthFactor) {
-            _mediumTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+            writableStyle().mediumTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             mediumTickMarkWidthFactor.set(FACTOR);
@@ -2640,7 +2592,7 @@ public class Gauge extends Control {
     }
     public DoubleProperty mediumTickMarkWidthFactorProperty() {
         if (null == mediumTickMarkWidthFactor) {
-            mediumTickMarkWidthFactor = new DoublePropertyBase(_mediumTickMarkWidthFactor) {
+            mediumTickMarkWidthFactor = new DoublePropertyBase(style.mediumTickMarkWidthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2660,7 +2612,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the minor tickmark
      */
-    public Color getMinorTickMarkColor() { return null == minorTickMarkColor ? _minorTickMarkColor : minorTickMarkColor.get(); }
+    public Color getMinorTickMarkColor() { return null == minorTickMarkColor ? style.minorTickMarkColor : minorTickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the minor
      * tickmarks. This color will only be used if no tickmark
@@ -2670,7 +2622,7 @@ public class Gauge extends Control {
      */
     public void setMinorTickMarkColor(final Color COLOR) {
         if (null == minorTickMarkColor) {
-            _minorTickMarkColor = COLOR;
+            writableStyle().minorTickMarkColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             minorTickMarkColor.set(COLOR);
@@ -2678,12 +2630,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> minorTickMarkColorProperty() {
         if (null == minorTickMarkColor) {
-            minorTickMarkColor  = new ObjectPropertyBase<Color>(_minorTickMarkColor) {
+            minorTickMarkColor  = new ObjectPropertyBase<Color>(style.minorTickMarkColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "minorTickMarkColor"; }
             };
-            _minorTickMarkColor = null;
         }
         return minorTickMarkColor;
     }
@@ -2694,7 +2645,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the length of the minor tick mark
      */
-    public double getMinorTickMarkLengthFactor() { return null == minorTickMarkLengthFactor ? _minorTickMarkLengthFactor : minorTickMarkLengthFactor.get(); }
+    public double getMinorTickMarkLengthFactor() { return null == minorTickMarkLengthFactor ? style.minorTickMarkLengthFactor : minorTickMarkLengthFactor.get(); }
     /**
      * The factor defines the length of the minor tick mark.
      * It can be in the range from 0 - 1.
@@ -2703,7 +2654,7 @@ public class Gauge extends Control {
      */
     public void setMinorTickMarkLengthFactor(final double FACTOR) {
         if (null == minorTickMarkLengthFactor) {
-            _minorTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+            writableStyle().minorTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             minorTickMarkLengthFactor.set(FACTOR);
@@ -2711,7 +2662,7 @@ public class Gauge extends Control {
     }
     public DoubleProperty minorTickMarkLengthFactorProperty() {
         if (null == minorTickMarkLengthFactor) {
-            minorTickMarkLengthFactor = new DoublePropertyBase(_minorTickMarkLengthFactor) {
+            minorTickMarkLengthFactor = new DoublePropertyBase(style.minorTickMarkLengthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2730,7 +2681,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the width of the minor tick mark
      */
-    public double getMinorTickMarkWidthFactor() { return null == minorTickMarkWidthFactor ? _minorTickMarkWidthFactor : minorTickMarkWidthFactor.get(); }
+    public double getMinorTickMarkWidthFactor() { return null == minorTickMarkWidthFactor ? style.minorTickMarkWidthFactor : minorTickMarkWidthFactor.get(); }
     /**
      * The factor defines the width of the minor tick mark.
      * It can be in the range from 0 - 1.
@@ -2739,7 +2690,7 @@ public class Gauge extends Control {
      */
     public void setMinorTickMarkWidthFactor(final double FACTOR) {
         if (null == minorTickMarkWidthFactor) {
-            _minorTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+            writableStyle().minorTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             minorTickMarkWidthFactor.set(FACTOR);
@@ -2747,7 +2698,7 @@ public class Gauge extends Control {
     }
     public DoubleProperty minorTickMarkWidthFactorProperty() {
         if (null == minorTickMarkWidthFactor) {
-            minorTickMarkWidthFactor = new DoublePropertyBase(_minorTickMarkWidthFactor) {
+            minorTickMarkWidthFactor = new DoublePropertyBase(style.minorTickMarkWidthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2766,7 +2717,7 @@ public class Gauge extends Control {
      *
      * @return the shape that will be used to visualize the major tickmark
      */
-    public TickMarkType getMajorTickMarkType() { return null == majorTickMarkType ? _majorTickMarkType : majorTickMarkType.get(); }
+    public TickMarkType getMajorTickMarkType() { return null == majorTickMarkType ? style.majorTickMarkType : majorTickMarkType.get(); }
     /**
      * Defines the shape that will be used to visualize the major tickmark.
      * Values are LINE, DOT, TRAPEZOID, BOX, TICK_LABEL and PILL
@@ -2775,7 +2726,7 @@ public class Gauge extends Control {
      */
     public void setMajorTickMarkType(final TickMarkType TYPE) {
         if (null == majorTickMarkType) {
-            _majorTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
+            writableStyle().majorTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             majorTickMarkType.set(TYPE);
@@ -2783,7 +2734,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<TickMarkType> majorTickMarkTypeProperty() {
         if (null == majorTickMarkType) {
-            majorTickMarkType  = new ObjectPropertyBase<TickMarkType>(_majorTickMarkType) {
+            majorTickMarkType  = new ObjectPropertyBase<TickMarkType>(style.majorTickMarkType) {
                 @Override protected void invalidated() {
                     if (null == get()) set(TickMarkType.LINE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -2791,7 +2742,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "majorTickMarkType"; }
             };
-            _majorTickMarkType = null;
         }
         return majorTickMarkType;
     }
@@ -2802,7 +2752,7 @@ public class Gauge extends Control {
      *
      * @return the shape that will be used to visualize the medium tickmark
      */
-    public TickMarkType getMediumTickMarkType() { return null == mediumTickMarkType ? _mediumTickMarkType : mediumTickMarkType.get(); }
+    public TickMarkType getMediumTickMarkType() { return null == mediumTickMarkType ? style.mediumTickMarkType : mediumTickMarkType.get(); }
     /**
      * Defines the shape that will be used to visualize the medium tickmark.
      * Values are LINE, DOT, TRAPEZOID, BOX and PILL
@@ -2811,7 +2761,7 @@ public class Gauge extends Control {
      */
     public void setMediumTickMarkType(final TickMarkType TYPE) {
         if (null == mediumTickMarkType) {
-            _mediumTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
+            writableStyle().mediumTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             mediumTickMarkType.set(TYPE);
@@ -2819,7 +2769,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<TickMarkType> mediumTickMarkTypeProperty() {
         if (null == mediumTickMarkType) {
-            mediumTickMarkType  = new ObjectPropertyBase<TickMarkType>(_mediumTickMarkType) {
+            mediumTickMarkType  = new ObjectPropertyBase<TickMarkType>(style.mediumTickMarkType) {
                 @Override protected void invalidated() {
                     if (null == get()) set(TickMarkType.LINE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -2827,7 +2777,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "mediumTickMarkType"; }
             };
-            _mediumTickMarkType = null;
         }
         return mediumTickMarkType;
     }
@@ -2838,7 +2787,7 @@ public class Gauge extends Control {
      *
      * @return the shape that will be used to visualize the minor tickmark
      */
-    public TickMarkType getMinorTickMarkType() { return null == minorTickMarkType ? _minorTickMarkType : minorTickMarkType.get(); }
+    public TickMarkType getMinorTickMarkType() { return null == minorTickMarkType ? style.minorTickMarkType : minorTickMarkType.get(); }
     /**
      * Defines the shape that will be used to visualize the minor tickmark.
      * Values are LINE, DOT, TRAPEZOID, BOX and PILL
@@ -2847,7 +2796,7 @@ public class Gauge extends Control {
      */
     public void setMinorTickMarkType(final TickMarkType TYPE) {
         if (null == minorTickMarkType) {
-            _minorTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
+            writableStyle().minorTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             minorTickMarkType.set(TYPE);
@@ -2855,7 +2804,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<TickMarkType> minorTickMarkTypeProperty() {
         if (null == minorTickMarkType) {
-            minorTickMarkType  = new ObjectPropertyBase<TickMarkType>(_minorTickMarkType) {
+            minorTickMarkType  = new ObjectPropertyBase<TickMarkType>(style.minorTickMarkType) {
                 @Override protected void invalidated() {
                     if (null == get()) set(TickMarkType.LINE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -2863,7 +2812,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "minorTickMarkType"; }
             };
-            _minorTickMarkType = null;
         }
         return minorTickMarkType;
     }
@@ -2980,7 +2928,7 @@ public class Gauge extends Control {
      *
      * @return the shape of the needle that will be used
      */
-    public NeedleType getNeedleType() { return null == needleType ? _needleType : needleType.get(); }
+    public NeedleType getNeedleType() { return null == needleType ? style.needleType : needleType.get(); }
     /**
      * Defines the shape of the needle that will be used. This is
      * dependent on the used SkinType. Values are
@@ -2993,7 +2941,7 @@ public class Gauge extends Control {
      */
     public void setNeedleType(final NeedleType TYPE) {
         if (null == needleType) {
-            _needleType = TYPE == null ? NeedleType.STANDARD : TYPE;
+            writableStyle().needleType = TYPE == null ? NeedleType.STANDARD : TYPE;
             fireUpdateEvent(RESIZE_EVENT);
         } else {
             needleType.set(TYPE);
@@ -3001,7 +2949,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<NeedleType> needleTypeProperty() {
         if (null == needleType) {
-            needleType  = new ObjectPropertyBase<NeedleType>(_needleType) {
+            needleType  = new ObjectPropertyBase<NeedleType>(style.needleType) {
                 @Override protected void invalidated() {
                     if (null == get()) set(NeedleType.STANDARD);
                     fireUpdateEvent(RESIZE_EVENT);
@@ -3009,7 +2957,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleType"; }
             };
-            _needleType = null;
         }
         return needleType;
     }
@@ -3021,7 +2968,7 @@ public class Gauge extends Control {
      *
      * @return the graphical representation of the needle
      */
-    public NeedleShape getNeedleShape() { return null == needleShape ? _needleShape : needleShape.get(); }
+    public NeedleShape getNeedleShape() { return null == needleShape ? style.needleShape : needleShape.get(); }
     /**
      * Defines the graphical representation of the needle that will be used.
      * Values are ANGLED, ROUND and FLAT
@@ -3031,7 +2978,7 @@ public class Gauge extends Control {
      */
     public void setNeedleShape(final NeedleShape SHAPE) {
         if (null == needleShape) {
-            _needleShape = null == SHAPE ? NeedleShape.ANGLED : SHAPE;
+            writableStyle().needleShape = null == SHAPE ? NeedleShape.ANGLED : SHAPE;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             needleShape.set(SHAPE);
@@ -3039,7 +2986,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<NeedleShape> needleShapeProperty() {
         if (null == needleShape) {
-            needleShape  = new ObjectPropertyBase<NeedleShape>(_needleShape) {
+            needleShape  = new ObjectPropertyBase<NeedleShape>(style.needleShape) {
                 @Override protected void invalidated() {
                     if (null == get()) set(NeedleShape.ANGLED);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3047,7 +2994,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleShape"; }
             };
-            _needleShape = null;
         }
         return needleShape;
     }
@@ -3058,7 +3004,7 @@ public class Gauge extends Control {
      *
      * @return the thickness of the needle
      */
-    public NeedleSize getNeedleSize() { return null == needleSize ? _needleSize : needleSize.get(); }
+    public NeedleSize getNeedleSize() { return null == needleSize ? style.needleSize : needleSize.get(); }
     /**
      * Defines the thickness of the needle.
      * The values are THIN, STANDARD and THICK
@@ -3067,7 +3013,7 @@ public class Gauge extends Control {
      */
     public void setNeedleSize(final NeedleSize SIZE) {
         if (null == needleSize) {
-            _needleSize = null == SIZE ? NeedleSize.STANDARD : SIZE;
+            writableStyle().needleSize = null == SIZE ? NeedleSize.STANDARD : SIZE;
             fireUpdateEvent(RESIZE_EVENT);
         } else {
             needleSize.set(SIZE);
@@ -3075,7 +3021,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<NeedleSize> needleSizeProperty() {
         if (null == needleSize) {
-            needleSize  = new ObjectPropertyBase<NeedleSize>(_needleSize) {
+            needleSize  = new ObjectPropertyBase<NeedleSize>(style.needleSize) {
                 @Override protected void invalidated() {
                     if(null == get()) set(NeedleSize.STANDARD);
                     fireUpdateEvent(RESIZE_EVENT);
@@ -3083,7 +3029,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleSize"; }
             };
-            _needleSize = null;
         }
         return needleSize;
     }
@@ -3140,7 +3085,7 @@ public class Gauge extends Control {
      *
      * @return the color that wil be used to colorize the needle
      */
-    public Color getNeedleColor() { return null == needleColor ? _needleColor : needleColor.get(); }
+    public Color getNeedleColor() { return null == needleColor ? style.needleColor : needleColor.get(); }
     /**
      * Defines the color that will be used to colorize the needle of
      * the radial gauges.
@@ -3149,7 +3094,7 @@ public class Gauge extends Control {
      */
     public void setNeedleColor(final Color COLOR) {
         if (null == needleColor) {
-            _needleColor = COLOR;
+            writableStyle().needleColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             needleColor.set(COLOR);
@@ -3157,12 +3102,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> needleColorProperty() {
         if (null == needleColor) {
-            needleColor  = new ObjectPropertyBase<Color>(_needleColor) {
+            needleColor  = new ObjectPropertyBase<Color>(style.needleColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleColor"; }
             };
-            _needleColor = null;
         }
         return needleColor;
     }
@@ -3172,7 +3116,7 @@ public class Gauge extends Control {
      *
      * @return the color that is used to colorize the border of the needle
      */
-    public Color getNeedleBorderColor() { return null == needleBorderColor ? _needleBorderColor : needleBorderColor.get(); }
+    public Color getNeedleBorderColor() { return null == needleBorderColor ? style.needleBorderColor : needleBorderColor.get(); }
     /**
      * Defines the color that will be used to colorize the border of the needle.
      *
@@ -3180,7 +3124,7 @@ public class Gauge extends Control {
      */
     public void setNeedleBorderColor(final Color COLOR) {
         if (null == needleBorderColor) {
-            _needleBorderColor = null == COLOR ? Color.TRANSPARENT : COLOR;
+            writableStyle().needleBorderColor = null == COLOR ? Color.TRANSPARENT : COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             needleBorderColor.set(COLOR);
@@ -3188,7 +3132,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> needleBorderColorProperty() {
         if (null == needleBorderColor) {
-            needleBorderColor  = new ObjectPropertyBase<Color>(_needleBorderColor) {
+            needleBorderColor  = new ObjectPropertyBase<Color>(style.needleBorderColor) {
                 @Override protected void invalidated() {
                     if (null == get()) set(Color.TRANSPARENT);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3196,7 +3140,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleBorderColor"; }
             };
-            _needleBorderColor = null;
         }
         return needleBorderColor;
     }
@@ -3207,7 +3150,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorized the bar (if available)
      */
-    public Color getBarColor() { return null == barColor ? _barColor : barColor.get(); }
+    public Color getBarColor() { return null == barColor ? style.barColor : barColor.get(); }
     /**
      * Defines the color that will be used to colorize the bar of
      * the gauge (if it has a bar).
@@ -3216,7 +3159,7 @@ public class Gauge extends Control {
      */
     public void setBarColor(final Color COLOR) {
         if (null == barColor) {
-            _barColor = COLOR;
+            writableStyle().barColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             barColor.set(COLOR);
@@ -3224,12 +3167,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> barColorProperty() {
         if (null == barColor) {
-            barColor  = new ObjectPropertyBase<Color>(_barColor) {
+            barColor  = new ObjectPropertyBase<Color>(style.barColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "barColor"; }
             };
-            _barColor = null;
         }
         return barColor;
     }
@@ -3239,7 +3181,7 @@ public class Gauge extends Control {
      *
      * @return the color that is used to colorize the border of the bar
      */
-    public Color getBarBorderColor() { return null == barBorderColor ? _barBorderColor : barBorderColor.get(); }
+    public Color getBarBorderColor() { return null == barBorderColor ? style.barBorderColor : barBorderColor.get(); }
     /**
      * Defines the color that will be used to colorize the border of the bar.
      *
@@ -3247,7 +3189,7 @@ public class Gauge extends Control {
      */
     public void setBarBorderColor(final Color COLOR) {
         if (null == barBorderColor) {
-            _barBorderColor = null == COLOR ? Color.TRANSPARENT : COLOR;
+            writableStyle().barBorderColor = null == COLOR ? Color.TRANSPARENT : COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             barBorderColor.set(COLOR);
@@ -3255,7 +3197,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> barBorderColorProperty() {
         if (null == barBorderColor) {
-            barBorderColor  = new ObjectPropertyBase<Color>(_barBorderColor) {
+            barBorderColor  = new ObjectPropertyBase<Color>(style.barBorderColor) {
                 @Override protected void invalidated() {
                     if(null == get()) set(Color.TRANSPARENT);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3263,7 +3205,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "barBorderColor"; }
             };
-            _barBorderColor = null;
         }
         return barBorderColor;
     }
@@ -3274,7 +3215,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the bar background
      */
-    public Color getBarBackgroundColor() { return null == barBackgroundColor ? _barBackgroundColor : barBackgroundColor.get(); }
+    public Color getBarBackgroundColor() { return null == barBackgroundColor ? style.barBackgroundColor : barBackgroundColor.get(); }
     /**
      * Returns the color that will be used to colorize the bar background of
      * the gauge (if it has a bar).
@@ -3283,7 +3224,7 @@ public class Gauge extends Control {
      */
     public void setBarBackgroundColor(final Color COLOR) {
         if (null == barBackgroundColor) {
-            _barBackgroundColor = COLOR;
+            writableStyle().barBackgroundColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             barBackgroundColor.set(COLOR);
@@ -3291,12 +3232,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> barBackgroundColorProperty() {
         if (null == barBackgroundColor) {
-            barBackgroundColor  = new ObjectPropertyBase<Color>(_barBackgroundColor) {
+            barBackgroundColor  = new ObjectPropertyBase<Color>(style.barBackgroundColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "barBackgroundColor"; }
             };
-            _barBackgroundColor = null;
         }
         return barBackgroundColor;
     }
@@ -3315,7 +3255,7 @@ public class Gauge extends Control {
      *
      * @return the design that will be used to visualize the LCD display (if available)
      */
-    public LcdDesign getLcdDesign() { return null == lcdDesign ? _lcdDesign : lcdDesign.get(); }
+    public LcdDesign getLcdDesign() { return null == lcdDesign ? style.lcdDesign : lcdDesign.get(); }
     /**
      * Defines the design that will be used to visualize the LCD display
      * of the gauge (if it has one). The values are
@@ -3332,7 +3272,7 @@ public class Gauge extends Control {
      */
     public void setLcdDesign(final LcdDesign DESIGN) {
         if (null == lcdDesign) {
-            _lcdDesign = null == DESIGN ? LcdDesign.STANDARD : DESIGN;
+            writableStyle().lcdDesign = null == DESIGN ? LcdDesign.STANDARD : DESIGN;
             fireUpdateEvent(LCD_EVENT);
         } else {
             lcdDesign.set(DESIGN);
@@ -3340,7 +3280,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<LcdDesign> lcdDesignProperty() {
         if (null == lcdDesign) {
-            lcdDesign  = new ObjectPropertyBase<LcdDesign>(_lcdDesign) {
+            lcdDesign  = new ObjectPropertyBase<LcdDesign>(style.lcdDesign) {
                 @Override protected void invalidated() {
                     if(null == get()) set(LcdDesign.STANDARD);
                     fireUpdateEvent(LCD_EVENT);
@@ -3348,7 +3288,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "lcdDesign"; }
             };
-            _lcdDesign = null;
         }
         return lcdDesign;
     }
@@ -3360,7 +3299,7 @@ public class Gauge extends Control {
      *
      * @return the font that will be used to visualize the LCD value
      */
-    public LcdFont getLcdFont() { return null == lcdFont ? _lcdFont : lcdFont.get(); }
+    public LcdFont getLcdFont() { return null == lcdFont ? style.lcdFont : lcdFont.get(); }
     /**
      * Defines the font that will be used to visualize the LCD value
      * if the gauge has a LCD display.
@@ -3370,7 +3309,7 @@ public class Gauge extends Control {
      */
     public void setLcdFont(final LcdFont FONT) {
         if (null == lcdFont) {
-            _lcdFont = null == FONT ? LcdFont.DIGITAL_BOLD : FONT;
+            writableStyle().lcdFont = null == FONT ? LcdFont.DIGITAL_BOLD : FONT;
             fireUpdateEvent(RESIZE_EVENT);
         } else {
             lcdFont.set(FONT);
@@ -3378,7 +3317,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<LcdFont> lcdFontProperty() {
         if (null == lcdFont) {
-            lcdFont  = new ObjectPropertyBase<LcdFont>(_lcdFont) {
+            lcdFont  = new ObjectPropertyBase<LcdFont>(style.lcdFont) {
                 @Override protected void invalidated() {
                     if(null == get()) set(LcdFont.DIGITAL_BOLD);
                     fireUpdateEvent(RESIZE_EVENT);
@@ -3386,7 +3325,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "lcdFont"; }
             };
-            _lcdFont = null;
         }
         return lcdFont;
     }
@@ -3397,7 +3335,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to visualize the LED
      */
-    public Color getLedColor() { return null == ledColor ? _ledColor : ledColor.get(); }
+    public Color getLedColor() { return null == ledColor ? style.ledColor : ledColor.get(); }
     /**
      * Defines the color that will be used to visualize the LED of the
      * gauge if it has one.
@@ -3406,7 +3344,7 @@ public class Gauge extends Control {
      */
     public void setLedColor(final Color COLOR) {
         if (null == ledColor) {
-            _ledColor = null == COLOR ? Color.RED : COLOR;
+            writableStyle().ledColor = null == COLOR ? Color.RED : COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             ledColor.set(COLOR);
@@ -3414,7 +3352,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> ledColorProperty() {
         if (null == ledColor) {
-            ledColor  = new ObjectPropertyBase<Color>(_ledColor) {
+            ledColor  = new ObjectPropertyBase<Color>(style.ledColor) {
                 @Override protected void invalidated() {
                     if (null == get()) set(Color.RED);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3422,7 +3360,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "ledColor"; }
             };
-            _ledColor = null;
         }
         return ledColor;
     }
@@ -3434,7 +3371,7 @@ public class Gauge extends Control {
      *
      * @return the graphical representation of the LED
      */
-    public LedType getLedType() { return null == ledType ? _ledType : ledType.get(); }
+    public LedType getLedType() { return null == ledType ? style.ledType : ledType.get(); }
     /**
      * Defines the graphical representation of the LED.
      * The values are STANDARD and FLAT
@@ -3444,7 +3381,7 @@ public class Gauge extends Control {
      */
     public void setLedType(final LedType TYPE) {
         if (null == ledType) {
-            _ledType = null == TYPE ? LedType.STANDARD : TYPE;
+            writableStyle().ledType = null == TYPE ? LedType.STANDARD : TYPE;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             ledType.set(TYPE);
@@ -3452,7 +3389,7 @@ public class Gauge extends Control {
     }
     public ObjectProperty<LedType> ledTypeProperty() {
         if (null == ledType) {
-            ledType  = new ObjectPropertyBase<LedType>(_ledType) {
+            ledType  = new ObjectPropertyBase<LedType>(style.ledType) {
                 @Override protected void invalidated() {
                     if(null == get()) set(LedType.STANDARD);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3460,7 +3397,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "ledType"; }
             };
-            _ledType = null;
         }
         return ledType;
     }
@@ -3471,7 +3407,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the title
      */
-    public Color getTitleColor() { return null == titleColor ? _titleColor : titleColor.get(); }
+    public Color getTitleColor() { return null == titleColor ? style.titleColor : titleColor.get(); }
     /**
      * Defines the color that will be used to colorize the title
      * of the gauge.
@@ -3480,7 +3416,7 @@ public class Gauge extends Control {
      */
     public void setTitleColor(final Color COLOR) {
         if (null == titleColor) {
-            _titleColor = COLOR;
+            writableStyle().titleColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             titleColor.set(COLOR);
@@ -3488,12 +3424,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> titleColorProperty() {
         if (null == titleColor) {
-            titleColor  = new ObjectPropertyBase<Color>(_titleColor) {
+            titleColor  = new ObjectPropertyBase<Color>(style.titleColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "titleColor"; }
             };
-            _titleColor = null;
         }
         return titleColor;
     }
@@ -3504,7 +3439,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the subTitle
      */
-    public Color getSubTitleColor() { return null == subTitleColor ? _subTitleColor : subTitleColor.get(); }
+    public Color getSubTitleColor() { return null == subTitleColor ? style.subTitleColor : subTitleColor.get(); }
     /**
      * Defines the color that will be used to colorize the subTitle
      * of the gauge.
@@ -3513,7 +3448,7 @@ public class Gauge extends Control {
      */
     public void setSubTitleColor(final Color COLOR) {
         if (null == subTitleColor) {
-            _subTitleColor = COLOR;
+            writableStyle().subTitleColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             subTitleColor.set(COLOR);
@@ -3521,12 +3456,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> subTitleColorProperty() {
         if (null == subTitleColor) {
-            subTitleColor  = new ObjectPropertyBase<Color>(_subTitleColor) {
+            subTitleColor  = new ObjectPropertyBase<Color>(style.subTitleColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "subTitleColor"; }
             };
-            _subTitleColor = null;
         }
         return subTitleColor;
     }
@@ -3537,7 +3471,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the unit
      */
-    public Color getUnitColor() { return null == unitColor ? _unitColor : unitColor.get(); }
+    public Color getUnitColor() { return null == unitColor ? style.unitColor : unitColor.get(); }
     /**
      * Defines the color that will be used to colorize the unit
      * of the gauge.
@@ -3546,7 +3480,7 @@ public class Gauge extends Control {
      */
     public void setUnitColor(final Color COLOR) {
         if (null == unitColor) {
-            _unitColor = COLOR;
+            writableStyle().unitColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             unitColor.set(COLOR);
@@ -3554,12 +3488,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> unitColorProperty() {
         if (null == unitColor) {
-            unitColor  = new ObjectPropertyBase<Color>(_unitColor) {
+            unitColor  = new ObjectPropertyBase<Color>(style.unitColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "unitColor"; }
             };
-            _unitColor = null;
         }
         return unitColor;
     }
@@ -3570,7 +3503,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the value
      */
-    public Color getValueColor() { return null == valueColor ? _valueColor : valueColor.get(); }
+    public Color getValueColor() { return null == valueColor ? style.valueColor : valueColor.get(); }
     /**
      * Defines the color that will be used to colorize the value
      * of the gauge.
@@ -3579,7 +3512,7 @@ public class Gauge extends Control {
      */
     public void setValueColor(final Color COLOR) {
         if (null == valueColor) {
-            _valueColor = COLOR;
+            writableStyle().valueColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             valueColor.set(COLOR);
@@ -3587,12 +3520,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> valueColorProperty() {
         if (null == valueColor) {
-            valueColor  = new ObjectPropertyBase<Color>(_valueColor) {
+            valueColor  = new ObjectPropertyBase<Color>(style.valueColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "valueColor"; }
             };
-            _valueColor = null;
         }
         return valueColor;
     }
@@ -3603,7 +3535,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the threshold indicator
      */
-    public Color getThresholdColor() { return null == thresholdColor ? _thresholdColor : thresholdColor.get(); }
+    public Color getThresholdColor() { return null == thresholdColor ? style.thresholdColor : thresholdColor.get(); }
     /**
      * Defines the color that will be used to colorize the threshold
      * indicator of the gauge.
@@ -3612,7 +3544,7 @@ public class Gauge extends Control {
      */
     public void setThresholdColor(final Color COLOR) {
         if (null == thresholdColor) {
-            _thresholdColor = COLOR;
+            writableStyle().thresholdColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             thresholdColor.set(COLOR);
@@ -3620,12 +3552,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> thresholdColorProperty() {
         if (null == thresholdColor) {
-            thresholdColor  = new ObjectPropertyBase<Color>(_thresholdColor) {
+            thresholdColor  = new ObjectPropertyBase<Color>(style.thresholdColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "thresholdColor"; }
             };
-            _thresholdColor = null;
         }
         return thresholdColor;
     }
@@ -3636,7 +3567,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the average indicator
      */
-    public Color getAverageColor() { return null == averageColor ? _averageColor : averageColor.get(); }
+    public Color getAverageColor() { return null == averageColor ? style.averageColor : averageColor.get(); }
     /**
      * Defines the color that will be used to colorize the average
      * indicator of the gauge.
@@ -3645,7 +3576,7 @@ public class Gauge extends Control {
      */
     public void setAverageColor(final Color COLOR) {
         if (null == averageColor) {
-            _averageColor = COLOR;
+            writableStyle().averageColor = COLOR;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             averageColor.set(COLOR);
@@ -3653,12 +3584,11 @@ public class Gauge extends Control {
     }
     public ObjectProperty<Color> averageColorProperty() {
         if (null == averageColor) {
-            averageColor  = new ObjectPropertyBase<Color>(_averageColor) {
+            averageColor  = new ObjectPropertyBase<Color>(style.averageColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "averageColor"; }
             };
-            _averageColor = null;
         }
         return averageColor;
     }
@@ -4609,9 +4539,9 @@ public class Gauge extends Control {
         if (null == ledBlinking) {
             _ledBlinking = BLINKING;
             if (_ledBlinking) {
-                startBlinkExecutorService();
+                startBlinkTask();
             } else {
-                if (null != blinkFuture) blinkFuture.cancel(true);
+                stopBlinkTask();
                 setLedOn(false);
             }
         } else {
@@ -4623,9 +4553,9 @@ public class Gauge extends Control {
             ledBlinking = new BooleanPropertyBase(_ledBlinking) {
                 @Override protected void invalidated() {
                     if (get()) {
-                        startBlinkExecutorService();
+                        startBlinkTask();
                     } else {
-                        if (null != blinkFuture) blinkFuture.cancel(true);
+                        stopBlinkTask();
                         setLedOn(false);
                     }
                 }
@@ -4843,7 +4773,7 @@ public class Gauge extends Control {
      *
      * @return the custom font size
      */
-    public double getCustomTickLabelFontSize() { return null == customTickLabelFontSize ? _customTickLabelFontSize : customTickLabelFontSize.get(); }
+    public double getCustomTickLabelFontSize() { return null == customTickLabelFontSize ? style.customTickLabelFontSize : customTickLabelFontSize.get(); }
     /**
      * Defines the custom font size. The default font size is 18px at
      * a size of 250px. This value will be used to calculate the current
@@ -4853,7 +4783,7 @@ public class Gauge extends Control {
      */
     public void setCustomTickLabelFontSize(final double SIZE) {
         if (null == customTickLabelFontSize) {
-            _customTickLabelFontSize = Helper.clamp(0.0, 72.0, SIZE);
+            writableStyle().customTickLabelFontSize = Helper.clamp(0.0, 72.0, SIZE);
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             customTickLabelFontSize.set(SIZE);
@@ -4861,7 +4791,7 @@ public class Gauge extends Control {
     }
     public DoubleProperty customTickLabelFontSizeProperty() {
         if (null == customTickLabelFontSize) {
-            customTickLabelFontSize = new DoublePropertyBase(_customTickLabelFontSize) {
+            customTickLabelFontSize = new DoublePropertyBase(style.customTickLabelFontSize) {
                 @Override protected void invalidated() {
                     final double SIZE = get();
                     if (SIZE < 0 || SIZE > 72) set(Helper.clamp(0.0, 72.0, SIZE));
@@ -5004,7 +4934,7 @@ public class Gauge extends Control {
      * customFontEnabled = true
      * @return the given custom Font
      */
-    public Font getCustomFont() { return null == customFont ? _customFont : customFont.get(); }
+    public Font getCustomFont() { return null == customFont ? style.customFont : customFont.get(); }
     /**
      * Defines the custom font that can be used to render all
      * text elements. To enable the custom font one has to set
@@ -5013,7 +4943,7 @@ public class Gauge extends Control {
      */
     public void setCustomFont(final Font FONT) {
         if (null == customFont) {
-            _customFont = FONT;
+            writableStyle().customFont = FONT;
             fireUpdateEvent(RESIZE_EVENT);
         } else {
             customFont.set(FONT);
@@ -5026,7 +4956,6 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "customFont"; }
             };
-            _customFont = null;
         }
         return customFont;
     }
@@ -5156,39 +5085,20 @@ public class Gauge extends Control {
 
 
     // ******************** Misc **********************************************
-    private synchronized void createBlinkTask() {
-        blinkTask = new Callable<Void>() {
-            @Override public Void call() throws Exception {
-                try {
-                    Platform.runLater(() -> setLedOn(!isLedOn()));
-                } finally {
-                    if (!Thread.currentThread().isInterrupted()) {
-                        // Schedule the same Callable with the current updateInterval
-                        blinkFuture = blinkService.schedule(this, LED_BLINK_INTERVAL, TimeUnit.MILLISECONDS);
-                    }
-                }
-                return null;
-            }
-        };
-    }
-    private synchronized void startBlinkExecutorService() {
-        if (null == blinkTask) { createBlinkTask(); }
-        if (null == blinkService) { blinkService = new ScheduledThreadPoolExecutor(1, Helper.getThreadFactory("BlinkTask", true)); }
-        blinkFuture = blinkService.schedule(blinkTask, LED_BLINK_INTERVAL, TimeUnit.MILLISECONDS);
-    }
+    private void startBlinkTask() { BlinkManager.getInstance().register(Gauge.this); }
+    private void stopBlinkTask() { BlinkManager.getInstance().unregister(Gauge.this); }
 
     /**
-     * Calling this method will stop all threads. This is needed when using
-     * JavaFX on mobile devices when the device goes to sleep mode.
+     * Calling this method will stop the threads of this gauge. This is
+     * needed when using JavaFX on mobile devices when the device goes to
+     * sleep mode. Other gauges are not affected, use MedusaRuntime.shutdown()
+     * to stop all threads.
      */
     public void stop() {
         setLedOn(false);
-        if (null != blinkFuture) { blinkFuture.cancel(true); }
-        if (null != blinkService) { blinkService.shutdownNow(); }
+        stopBlinkTask();
     }
 
-    private void createShutdownHook() { Runtime.getRuntime().addShutdownHook(new Thread(() -> stop())); }
-
     @Override public String toString() {
         return new StringBuilder("{")
             .append("\"title\":").append("\"").append(getTitle()).append("\",")
@@ -5207,17 +5117,95 @@ public class Gauge extends Control {
         showing = Bindings.selectBoolean(sceneProperty(), "window", "showing");
         showing.addListener((o, ov, nv) -> {
             if (nv) {
+                skinReleased = false;
+                if (null == getSkin()) {
+                    skinEventQueue.clear();
+                    super.setSkin(createDefaultSkin());
+                }
+                UpdateEventListener skinListener = getSkinUpdateEventListener();
+                while(skinEventQueue.peek() != null) {
+                    UpdateEvent event = skinEventQueue.poll();
+                    if (null != skinListener) { skinListener.onUpdateEvent(event); }
+                }
                 while(updateEventQueue.peek() != null) {
                     UpdateEvent event = updateEventQueue.poll();
-                    for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(event); }
+                    for (UpdateEventListener listener : listenerList) {
+                        if (listener != skinListener) { listener.onUpdateEvent(event); }
+                    }
                 }
             }
         });
     }
 
 
+    // ******************** Model related *************************************
+    /**
+     * Returns the GaugeModel that is shown by the gauge or null.
+     *
+     * @return the GaugeModel that is shown by the gauge or null
+     */
+    public GaugeModel getModel() { return model; }
+    /**
+     * Lets the gauge show the given GaugeModel. The range, the threshold and
+     * the value of the gauge will follow the model. Changes of the model on
+     * other threads will be coalesced into one update on the JavaFX
+     * application thread. Setting null releases the current model.
+     *
+     * @param MODEL
+     */
+    public void setModel(final GaugeModel MODEL) {
+        if (null != model) { model.removeModelEventListener(weakModelListener); }
+        model = MODEL;
+        if (null == model) return;
+        if (null == modelListener) {
+            modelListener     = e -> scheduleModelSync();
+            // A model might be shared and outlive the gauge, so it only gets a weak reference
+            weakModelListener = new WeakModelEventListener(modelListener);
+        }
+        model.addModelEventListener(weakModelListener);
+        scheduleModelSync();
+    }
+
+    private void scheduleModelSync() {
+        if (Platform.isFxApplicationThread()) {
+            syncWithModel();
+        } else if (!modelSyncPending.getAndSet(true)) {
+            Platform.runLater(() -> {
+                modelSyncPending.set(false);
+                syncWithModel();
+            });
+        }
+    }
+
+    private void syncWithModel() {
+        final GaugeModel MODEL = model;
+        if (null == MODEL) return;
+        final double MIN_VALUE;
+        final double MAX_VALUE;
+        final double THRESHOLD;
+        final double VALUE;
+        synchronized (MODEL) {
+            MIN_VALUE = MODEL.getMinValue();
+            MAX_VALUE = MODEL.getMaxValue();
+            THRESHOLD = MODEL.getThreshold();
+            VALUE     = MODEL.getValue();
+        }
+        if (MIN_VALUE > getMaxValue()) {
+            setMaxValue(MAX_VALUE);
+            setMinValue(MIN_VALUE);
+        } else {
+            if (Double.compare(MIN_VALUE, getMinValue()) != 0) { setMinValue(MIN_VALUE); }
+            if (Double.compare(MAX_VALUE, getMaxValue()) != 0) { setMaxValue(MAX_VALUE); }
+        }
+        if (Double.compare(THRESHOLD, getThreshold()) != 0) { setThreshold(THRESHOLD); }
+        if (Double.compare(VALUE, getValue()) != 0) { setValue(VALUE); }
+    }
+
+
     // ******************** Style related *************************************
     @Override protected Skin createDefaultSkin() {
+        // A released skin will only be created again when the gauge is showing the next time
+        if (skinReleased) return null;
         switch (skinType) {
             case AMP            : return new AmpSkin(Gauge.this);
             case BULLET_CHART   : return new BulletChartSkin(Gauge.this);
@@ -5254,6 +5242,126 @@ public class Gauge extends Control {
 
     @Override public String getUserAgentStylesheet() { return getClass().getResource("gauge.css").toExternalForm(); }
 
+    /**
+     * Creates the skin for the current skin type. As long as the gauge was
+     * never showing no skin will be created, JavaFX will call
+     * createDefaultSkin() when the gauge is attached to a showing scene
+     * (or css is applied) the first time. An existing skin will be
+     * replaced immediately.
+     */
+    private void updateSkin() {
+        if (null == getSkin() && (null == showing || !showing.get())) return;
+        skinEventQueue.clear();
+        super.setSkin(createDefaultSkin());
+    }
+
+    /**
+     * Disposes the current skin and releases all its nodes (canvases,
+     * paths, texts, effects). Could be used for gauges that will be hidden
+     * for a long time. The gauge keeps all its properties and the skin
+     * will be created again when the gauge is showing the next time.
+     * The call will be ignored while the gauge is showing, because it would
+     * stay empty until it is shown again. Css that is applied to a gauge
+     * that is not showing won't create the skin again.
+     */
+    public void releaseSkin() {
+        if (null == getSkin() || (null != showing && showing.get())) return;
+        skinReleased = true;
+        super.setSkin(null);
+        getChildren().clear();
+        skinEventQueue.clear();
+    }
+
+    /**
+     * Returns the styling values of the gauge (colors, paints, tick mark
+     * factors and types, needle, knob, lcd and led styles and the custom
+     * font) as a shared, immutable GaugeStyle.
+     *
+     * @return the styling values of the gauge as a shared GaugeStyle
+     */
+    public GaugeStyle getGaugeStyle() { return GaugeStyle.intern(new GaugeStyle(Gauge.this)); }
+    /**
+     * Applies all values of the given GaugeStyle to the gauge. The gauge
+     * will reference the given style until one of its values changes.
+     *
+     * @param STYLE
+     */
+    public void setGaugeStyle(final GaugeStyle STYLE) {
+        if (null == STYLE) return;
+        style       = GaugeStyle.intern(STYLE);
+        styleShared = true;
+        if (null != zeroColor) { zeroColor.set(STYLE.getZeroColor()); }
+        if (null != backgroundPaint) { backgroundPaint.set(STYLE.getBackgroundPaint()); }
+        if (null != borderPaint) { borderPaint.set(STYLE.getBorderPaint()); }
+        if (null != borderWidth) { borderWidth.set(STYLE.getBorderWidth()); }
+        if (null != foregroundPaint) { foregroundPaint.set(STYLE.getForegroundPaint()); }
+        if (null != knobColor) { knobColor.set(STYLE.getKnobColor()); }
+        if (null != knobType) { knobType.set(STYLE.getKnobType()); }
+        if (null != knobPosition) { knobPosition.set(STYLE.getKnobPosition()); }
+        if (null != tickLabelLocation) { tickLabelLocation.set(STYLE.getTickLabelLocation()); }
+        if (null != tickLabelOrientation) { tickLabelOrientation.set(STYLE.getTickLabelOrientation()); }
+        if (null != tickLabelColor) { tickLabelColor.set(STYLE.getTickLabelColor()); }
+        if (null != tickMarkColor) { tickMarkColor.set(STYLE.getTickMarkColor()); }
+        if (null != majorTickMarkColor) { majorTickMarkColor.set(STYLE.getMajorTickMarkColor()); }
+        if (null != majorTickMarkLengthFactor) { majorTickMarkLengthFactor.set(STYLE.getMajorTickMarkLengthFactor()); }
+        if (null != majorTickMarkWidthFactor) { majorTickMarkWidthFactor.set(STYLE.getMajorTickMarkWidthFactor()); }
+        if (null != mediumTickMarkColor) { mediumTickMarkColor.set(STYLE.getMediumTickMarkColor()); }
+        if (null != mediumTickMarkLengthFactor) { mediumTickMarkLengthFactor.set(STYLE.getMediumTickMarkLengthFactor()); }
+        if (null != mediumTickMarkWidthFactor) { mediumTickMarkWidthFactor.set(STYLE.getMediumTickMarkWidthFactor()); }
+        if (null != minorTickMarkColor) { minorTickMarkColor.set(STYLE.getMinorTickMarkColor()); }
+        if (null != minorTickMarkLengthFactor) { minorTickMarkLengthFactor.set(STYLE.getMinorTickMarkLengthFactor()); }
+        if (null != minorTickMarkWidthFactor) { minorTickMarkWidthFactor.set(STYLE.getMinorTickMarkWidthFactor()); }
+        if (null != majorTickMarkType) { majorTickMarkType.set(STYLE.getMajorTickMarkType()); }
+        if (null != mediumTickMarkType) { mediumTickMarkType.set(STYLE.getMediumTickMarkType()); }
+        if (null != minorTickMarkType) { minorTickMarkType.set(STYLE.getMinorTickMarkType()); }
+        if (null != needleType) { needleType.set(STYLE.getNeedleType()); }
+        if (null != needleShape) { needleShape.set(STYLE.getNeedleShape()); }
+        if (null != needleSize) { needleSize.set(STYLE.getNeedleSize()); }
+        if (null != needleColor) { needleColor.set(STYLE.getNeedleColor()); }
+        if (null != needleBorderColor) { needleBorderColor.set(STYLE.getNeedleBorderColor()); }
+        if (null != barColor) { barColor.set(STYLE.getBarColor()); }
+        if (null != barBorderColor) { barBorderColor.set(STYLE.getBarBorderColor()); }
+        if (null != barBackgroundColor) { barBackgroundColor.set(STYLE.getBarBackgroundColor()); }
+        if (null != lcdDesign) { lcdDesign.set(STYLE.getLcdDesign()); }
+        if (null != lcdFont) { lcdFont.set(STYLE.getLcdFont()); }
+        if (null != ledColor) { ledColor.set(STYLE.getLedColor()); }
+        if (null != ledType) { ledType.set(STYLE.getLedType()); }
+        if (null != titleColor) { titleColor.set(STYLE.getTitleColor()); }
+        if (null != subTitleColor) { subTitleColor.set(STYLE.getSubTitleColor()); }
+        if (null != unitColor) { unitColor.set(STYLE.getUnitColor()); }
+        if (null != valueColor) { valueColor.set(STYLE.getValueColor()); }
+        if (null != thresholdColor) { thresholdColor.set(STYLE.getThresholdColor()); }
+        if (null != averageColor) { averageColor.set(STYLE.getAverageColor()); }
+        if (null != customTickLabelFontSize) { customTickLabelFontSize.set(STYLE.getCustomTickLabelFontSize()); }
+        if (null != customFont) { customFont.set(STYLE.getCustomFont()); }
+        fireUpdateEvent(RESIZE_EVENT);
+    }
+
+    /**
+     * Makes the gauge share its styling values with all other gauges that
+     * use the same styling. GaugeBuilder calls this after a gauge has been
+     * built, call it after changing the style of a gauge manually if there
+     * are many gauges with the same styling.
+     */
+    public void compactStyle() {
+        style       = GaugeStyle.intern(style);
+        styleShared = true;
+    }
+
+    private GaugeStyle writableStyle() {
+        if (styleShared) {
+            style       = new GaugeStyle(style);
+            styleShared = false;
+        }
+        return style;
+    }
+
+    /**
+     * Returns true if the skin of the gauge has been created.
+     * @return true if the skin of the gauge has been created
+     */
+    public boolean isSkinCreated() { return null != getSkin(); }
+
     public SkinType getSkinType() { return skinType; }
     public void setSkinType(final SkinType SKIN_TYPE) {
         skinType = SKIN_TYPE;
@@ -5266,20 +5374,17 @@ public class Gauge extends Control {
                 setForegroundPaint(Color.BLACK);
                 setLcdVisible(true);
                 setShadowsEnabled(true);
-                super.setSkin(new AmpSkin(Gauge.this));
                 break;
             case BULLET_CHART:
                 setKnobPosition(Pos.CENTER);
                 setBarColor(Color.BLACK);
                 setThresholdColor(Color.BLACK);
-                super.setSkin(new BulletChartSkin(Gauge.this));
                 break;
             case DASHBOARD:
                 setKnobPosition(Pos.BOTTOM_CENTER);
                 setDecimals(0);
                 setBarBackgroundColor(Color.LIGHTGRAY);
                 setBarColor(Color.rgb(93, 190, 205));
-                super.setSkin(new DashboardSkin(Gauge.this));
                 break;
             case FLAT:
                 setKnobPosition(Pos.CENTER);
@@ -5290,7 +5395,6 @@ public class Gauge extends Control {
                 setUnitColor(Gauge.DARK_COLOR);
                 setBorderPaint(Color.rgb(208, 208, 208));
                 setDecimals(0);
-                super.setSkin(new FlatSkin(Gauge.this));
                 break;
             case INDICATOR:
                 setKnobPosition(Pos.BOTTOM_CENTER);
@@ -5304,7 +5408,6 @@ public class Gauge extends Control {
                 setBarBackgroundColor(Color.rgb(232, 231, 223));
                 setBarColor(Color.rgb(255, 0, 39));
                 setAngleRange(180);
-                super.setSkin(new IndicatorSkin(Gauge.this));
                 break;
             case KPI:
                 setKnobPosition(Pos.BOTTOM_CENTER);
@@ -5315,7 +5418,6 @@ public class Gauge extends Control {
                 setThresholdColor(Color.rgb(45, 86, 184));
                 setNeedleColor(Color.rgb(74, 74, 74));
                 setAngleRange(128);
-                super.setSkin(new KpiSkin(Gauge.this));
                 break;
             case MODERN:
                 setKnobPosition(Pos.CENTER);
@@ -5330,7 +5432,6 @@ public class Gauge extends Control {
                 setTickLabelColor(Color.rgb(151, 151, 151));
                 setTickMarkColor(Color.BLACK);
                 setTickLabelOrientation(TickLabelOrientation.ORTHOGONAL);
-                super.setSkin(new ModernSkin(Gauge.this));
                 break;
             case SIMPLE:
                 setKnobPosition(Pos.CENTER);
@@ -5344,7 +5445,6 @@ public class Gauge extends Control {
                 setTitleColor(Color.WHITE);
                 setSubTitleColor(Color.WHITE);
                 setSectionsVisible(true);
-                super.setSkin(new SimpleSkin(Gauge.this));
                 break;
             case SLIM:
                 setKnobPosition(Pos.CENTER);
@@ -5354,7 +5454,6 @@ public class Gauge extends Control {
                 setTitleColor(Color.rgb(142, 147, 151));
                 setValueColor(Color.rgb(228, 231, 238));
                 setUnitColor(Color.rgb(142, 147, 151));
-                super.setSkin(new SlimSkin(Gauge.this));
                 break;
             case SPACE_X:
                 setKnobPosition(Pos.CENTER);
@@ -5365,22 +5464,18 @@ public class Gauge extends Control {
                 setTitleColor(Color.WHITE);
                 setValueColor(Color.WHITE);
                 setUnitColor(Color.WHITE);
-                super.setSkin(new SpaceXSkin(Gauge.this));
                 break;
             case QUARTER:
                 setKnobPosition(Pos.BOTTOM_RIGHT);
                 setAngleRange(90);
-                super.setSkin(new QuarterSkin(Gauge.this));
                 break;
             case HORIZONTAL:
                 setKnobPosition(Pos.BOTTOM_CENTER);
                 setAngleRange(180);
-                super.setSkin(new HSkin(Gauge.this));
                 break;
             case VERTICAL:
                 setKnobPosition(Pos.CENTER_RIGHT);
                 setAngleRange(180);
-                super.setSkin(new VSkin(Gauge.this));
                 break;
             case LCD:
                 setDecimals(1);
@@ -5390,7 +5485,6 @@ public class Gauge extends Control {
                 setOldValueVisible(true);
                 setBorderPaint(Color.WHITE);
                 setForegroundPaint(Color.WHITE);
-                super.setSkin(new LcdSkin(Gauge.this));
                 break;
             case TINY:
                 setBorderWidth(24);
@@ -5401,32 +5495,26 @@ public class Gauge extends Control {
                 setSectionsVisible(true);
                 setMajorTickMarksVisible(true);
                 setMajorTickMarkColor(Color.WHITE);
-                super.setSkin(new TinySkin(Gauge.this));
                 break;
             case BATTERY:
                 setBarBackgroundColor(Color.BLACK);
                 setBarColor(Color.BLACK);
                 setValueColor(Color.WHITE);
-                super.setSkin(new BatterySkin(Gauge.this));
                 break;
             case LEVEL:
                 setValueColor(Color.WHITE);
                 setBarColor(Color.CYAN);
-                super.setSkin(new LevelSkin(Gauge.this));
                 break;
             case LINEAR:
                 setOrientation(Orientation.VERTICAL);
                 setBarColor(DARK_COLOR);
                 setBarEffectEnabled(true);
-                super.setSkin(new LinearSkin(Gauge.this));
                 break;
             case DIGITAL:
                 setBarColor(DARK_COLOR);
-                super.setSkin(new DigitalSkin(Gauge.this));
                 break;
             case SIMPLE_DIGITAL:
                 setBarColor(DARK_COLOR);
-                super.setSkin(new SimpleDigitalSkin(Gauge.this));
                 break;
             case SECTION:
                 setBackgroundPaint(Gauge.DARK_COLOR);
@@ -5435,7 +5523,6 @@ public class Gauge extends Control {
                 setKnobColor(Color.rgb(82, 82, 84));
                 setSectionsVisible(true);
                 setSectionTextVisible(true);
-                super.setSkin(new SectionSkin(Gauge.this));
                 break;
             case BAR:
                 Color barColor = getBarColor();
@@ -5448,7 +5535,6 @@ public class Gauge extends Control {
                                     new Stop(0.01, barColor),
                                     new Stop(0.75, barColor.deriveColor(-10, 1, 1, 1)),
                                     new Stop(1.0, barColor.deriveColor(-20, 1, 1, 1)));
-                super.setSkin(new BarSkin(Gauge.this));
                 break;
             case WHITE:
                 setAnimated(true);
@@ -5459,13 +5545,11 @@ public class Gauge extends Control {
                 setBarColor(Color.WHITE);
                 setValueColor(Color.WHITE);
                 setUnitColor(Color.WHITE);
-                super.setSkin(new WhiteSkin(Gauge.this));
                 break;
             case CHARGE:
                 setAnimated(true);
                 setMinValue(0.0);
                 setMaxValue(1.0);
-                super.setSkin(new ChargeSkin(Gauge.this));
                 break;
             case SIMPLE_SECTION:
                 setAnimated(true);
@@ -5477,7 +5561,6 @@ public class Gauge extends Control {
                 setTitleColor(Color.rgb(90, 90, 90));
                 setUnitColor(Color.rgb(90, 90, 90));
                 setValueColor(Color.rgb(90, 90, 90));
-                super.setSkin(new SimpleSectionSkin(Gauge.this));
                 break;
             case TILE_KPI:
                 setKnobPosition(Pos.BOTTOM_CENTER);
@@ -5490,7 +5573,6 @@ public class Gauge extends Control {
                 setThresholdColor(Color.rgb(41,177,255));
                 setNeedleColor(Color.rgb(238,238,238));
                 setAngleRange(180);
-                super.setSkin(new TileKpiSkin(Gauge.this));
                 break;
             case TILE_TEXT_KPI:
                 setDecimals(0);
@@ -5501,7 +5583,6 @@ public class Gauge extends Control {
                 setUnitColor(Color.rgb(238, 238, 238));
                 setThresholdVisible(false);
                 setThresholdColor(Color.rgb(139,144,146));
-                super.setSkin(new TileTextKpiSkin(Gauge.this));
                 break;
             case TILE_SPARK_LINE:
                 setDecimals(0);
@@ -5514,32 +5595,52 @@ public class Gauge extends Control {
                 setAveragingPeriod(10);
                 setAverageColor(Color.rgb(238, 238, 238, 0.5));
                 setAnimated(false);
-                super.setSkin(new TileSparklineSkin(Gauge.this));
                 break;
             case GAUGE:
                 setStartAngle(320);
                 setAngleRange(280);
             default:
-                super.setSkin(new GaugeSkin(Gauge.this));
                 break;
         }
+        updateSkin();
         fireUpdateEvent(RESIZE_EVENT);
     }
 
 
     // ******************** Event handling ************************************
     public void setOnUpdate(final UpdateEventListener LISTENER) { addUpdateEventListener(LISTENER); }
-    public void addUpdateEventListener(final UpdateEventListener LISTENER) { if (!listenerList.contains(LISTENER)) listenerList.add(LISTENER); }
+    public void addUpdateEventListener(final UpdateEventListener LISTENER) {
+        listenerList.removeIf(listener -> listener instanceof WeakListener && ((WeakListener) listener).wasGarbageCollected());
+        if (!listenerList.contains(LISTENER)) listenerList.add(LISTENER);
+    }
     public void removeUpdateEventListener(final UpdateEventListener LISTENER) { if (listenerList.contains(LISTENER)) listenerList.remove(LISTENER); }
 
     public void fireUpdateEvent(final UpdateEvent EVENT) {
         if (null != showing && showing.get()) {
+            MedusaMetrics.updateEventFired(skinType, EVENT.eventType);
             for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(EVENT); }
         } else {
-            updateEventQueue.add(EVENT);
+            // All listeners except the skin get every event as before
+            UpdateEventListener skinListener = getSkinUpdateEventListener();
+            boolean queued = false;
+            if (listenerList.size() > (null != skinListener && listenerList.contains(skinListener) ? 1 : 0)) {
+                updateEventQueue.add(EVENT);
+                queued = true;
+            }
+            // A new skin reads the current state of the gauge, so only a skin that
+            // already exists needs the events and each event type only once
+            if (null != skinListener && skinEventQueue.stream().noneMatch(queuedEvent -> queuedEvent.eventType == EVENT.eventType)) {
+                skinEventQueue.add(EVENT);
+                queued = true;
+            }
+            if (queued) { MedusaMetrics.updateEventQueued(skinType, EVENT.eventType); }
         }
     }
 
+    private UpdateEventListener getSkinUpdateEventListener() {
+        return getSkin() instanceof GaugeSkinBase ? ((GaugeSkinBase) getSkin()).getRegisteredUpdateEventListener() : null;
+    }
+
 
     public void setOnButtonPressed(final EventHandler<ButtonEvent> HANDLER) { addEventHandler(ButtonEvent.BTN_PRESSED, HANDLER); }
     public void removeOnButtonPressed(final EventHandler<ButtonEvent> HANDLER) { removeEventHandler(ButtonEvent.BTN_PRESSED, HANDLER); }
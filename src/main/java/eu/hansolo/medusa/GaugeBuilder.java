@@ -26,23 +26,11 @@ import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.Gauge.SkinType;
 import eu.hansolo.medusa.tools.GradientLookup;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 import javafx.beans.InvalidationListener;
-import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.LongProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.Property;
-import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleLongProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
 import javafx.event.EventHandler;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Insets;
@@ -57,8 +45,190 @@ import javafx.scene.text.Font;
 /**
  * Created by hansolo on 13.12.15.
  */
-public class GaugeBuilder<B extends GaugeBuilder<B>> {
-    private HashMap<String, Property> properties = new HashMap<>();
+public class GaugeBuilder<B extends GaugeBuilder<B>> implements Cloneable {
+    private enum Option {
+        SKIN_TYPE, VALUE, MIN_VALUE, MAX_VALUE, THRESHOLD, DECIMALS, TICK_LABEL_DECIMALS, TITLE, SUB_TITLE, UNIT,
+        AVERAGING_ENABLED, AVERAGING_PERIOD, FOREGROUND_BASE_COLOR, START_FROM_ZERO, RETURN_TO_ZERO, ZERO_COLOR,
+        MIN_MEASURED_VALUE_VISIBLE, MAX_MEASURED_VALUE_VISIBLE, OLD_VALUE_VISIBLE, VALUE_VISIBLE, BACKGROUND_PAINT,
+        BORDER_PAINT, BORDER_WIDTH, FOREGROUND_PAINT, KNOB_COLOR, KNOB_TYPE, KNOB_VISIBLE, KNOB_POSITION, ANIMATED,
+        ANIMATION_DURATION, START_ANGLE, ANGLE_RANGE, AUTO_SCALE, NEEDLE_TYPE, NEEDLE_SHAPE, NEEDLE_SIZE,
+        NEEDLE_BEHAVIOR, NEEDLE_COLOR, NEEDLE_BORDER_COLOR, BAR_COLOR, BAR_BORDER_COLOR, BAR_BACKGROUND_COLOR,
+        TICK_LABEL_ORIENTATION, TICK_LABEL_LOCATION, LOCALE, MAJOR_TICK_SPACE, MINOR_TICK_SPACE, SHADOWS_ENABLED,
+        BAR_EFFECT_ENABLED, SCALE_DIRECTION, TICK_LABEL_COLOR, TICK_MARK_COLOR, MAJOR_TICK_MARK_COLOR,
+        MAJOR_TICK_MARK_LENGTH_FACTOR, MAJOR_TICK_MARK_WIDTH_FACTOR, MEDIUM_TICK_MARK_COLOR,
+        MEDIUM_TICK_MARK_LENGTH_FACTOR, MEDIUM_TICK_MARK_WIDTH_FACTOR, MINOR_TICK_MARK_COLOR,
+        MINOR_TICK_MARK_LENGTH_FACTOR, MINOR_TICK_MARK_WIDTH_FACTOR, MAJOR_TICK_MARK_TYPE, MEDIUM_TICK_MARK_TYPE,
+        MINOR_TICK_MARK_TYPE, STYLE, STYLE_CLASS, LED_COLOR, LED_TYPE, LED_VISIBLE, LCD_VISIBLE, LCD_CRYSTAL_ENABLED,
+        LCD_DESIGN, LCD_FONT, SECTIONS_ARRAY, SECTIONS_LIST, AREAS_ARRAY, AREAS_LIST, TICK_MARK_SECTIONS_ARRAY,
+        TICK_MARK_SECTIONS_LIST, TICK_LABEL_SECTIONS_ARRAY, TICK_LABEL_SECTIONS_LIST, MARKERS_ARRAY, MARKERS_LIST,
+        TITLE_COLOR, SUB_TITLE_COLOR, UNIT_COLOR, VALUE_COLOR, THRESHOLD_COLOR, AVERAGE_COLOR,
+        CHECK_SECTIONS_FOR_VALUE, CHECK_AREAS_FOR_VALUE, CHECK_THRESHOLD, INNER_SHADOW_ENABLED, THRESHOLD_VISIBLE,
+        AVERAGE_VISIBLE, SECTIONS_VISIBLE, SECTIONS_ALWAYS_VISIBLE, SECTION_TEXT_VISIBLE, SECTION_ICONS_VISIBLE,
+        HIGHLIGHT_SECTIONS, AREAS_VISIBLE, AREA_TEXT_VISIBLE, AREA_ICONS_VISIBLE, HIGHLIGHT_AREAS,
+        TICK_MARK_SECTIONS_VISIBLE, TICK_LABEL_SECTIONS_VISIBLE, MARKERS_VISIBLE, TICK_LABELS_VISIBLE,
+        ONLY_FIRST_AND_LAST_TICK_LABEL_VISIBLE, MAJOR_TICK_MARKS_VISIBLE, MEDIUM_TICK_MARKS_VISIBLE,
+        MINOR_TICK_MARKS_VISIBLE, TICK_MARK_RING_VISIBLE, LED_ON, LED_BLINKING, ORIENTATION, GRADIENT_BAR_ENABLED,
+        GRADIENT_LOOKUP, GRADIENT_BAR_STOPS_ARRAY, GRADIENT_BAR_STOPS_LIST, CUSTOM_TICK_LABELS_ENABLED,
+        CUSTOM_TICK_LABELS_ARRAY, CUSTOM_TICK_LABELS_LIST, CUSTOM_TICK_LABEL_FONT_SIZE, INTERACTIVE,
+        BUTTON_TOOLTIP_TEXT, KEEP_ASPECT, CUSTOM_FONT_ENABLED, CUSTOM_FONT, ALERT_MESSAGE, SMOOTHING, ON_VALUE_CHANGED,
+        ON_BUTTON_PRESSED, ON_BUTTON_RELEASED, ON_THRESHOLD_EXCEEDED, ON_THRESHOLD_UNDERRUN, PREF_SIZE, MIN_SIZE,
+        MAX_SIZE, PREF_WIDTH, PREF_HEIGHT, MIN_WIDTH, MIN_HEIGHT, MAX_WIDTH, MAX_HEIGHT, SCALE_X, SCALE_Y, LAYOUT_X,
+        LAYOUT_Y, TRANSLATE_X, TRANSLATE_Y, PADDING
+    }
+
+    private EnumSet<Option>                    options = EnumSet.noneOf(Option.class);
+    private SkinType                           skinType;
+    private double                             value;
+    private double                             minValue;
+    private double                             maxValue;
+    private double                             threshold;
+    private int                                decimals;
+    private int                                tickLabelDecimals;
+    private String                             title;
+    private String                             subTitle;
+    private String                             unit;
+    private boolean                            averagingEnabled;
+    private int                                averagingPeriod;
+    private Color                              foregroundBaseColor;
+    private boolean                            startFromZero;
+    private boolean                            returnToZero;
+    private Color                              zeroColor;
+    private boolean                            minMeasuredValueVisible;
+    private boolean                            maxMeasuredValueVisible;
+    private boolean                            oldValueVisible;
+    private boolean                            valueVisible;
+    private Paint                              backgroundPaint;
+    private Paint                              borderPaint;
+    private double                             borderWidth;
+    private Paint                              foregroundPaint;
+    private Color                              knobColor;
+    private KnobType                           knobType;
+    private boolean                            knobVisible;
+    private Pos                                knobPosition;
+    private boolean                            animated;
+    private long                               animationDuration;
+    private double                             startAngle;
+    private double                             angleRange;
+    private boolean                            autoScale;
+    private NeedleType                         needleType;
+    private NeedleShape                        needleShape;
+    private NeedleSize                         needleSize;
+    private NeedleBehavior                     needleBehavior;
+    private Color                              needleColor;
+    private Color                              needleBorderColor;
+    private Color                              barColor;
+    private Color                              barBorderColor;
+    private Color                              barBackgroundColor;
+    private TickLabelOrientation               tickLabelOrientation;
+    private TickLabelLocation                  tickLabelLocation;
+    private Locale                             locale;
+    private double                             majorTickSpace;
+    private double                             minorTickSpace;
+    private boolean                            shadowsEnabled;
+    private boolean                            barEffectEnabled;
+    private ScaleDirection                     scaleDirection;
+    private Color                              tickLabelColor;
+    private Color                              tickMarkColor;
+    private Color                              majorTickMarkColor;
+    private double                             majorTickMarkLengthFactor;
+    private double                             majorTickMarkWidthFactor;
+    private Color                              mediumTickMarkColor;
+    private double                             mediumTickMarkLengthFactor;
+    private double                             mediumTickMarkWidthFactor;
+    private Color                              minorTickMarkColor;
+    private double                             minorTickMarkLengthFactor;
+    private double                             minorTickMarkWidthFactor;
+    private TickMarkType                       majorTickMarkType;
+    private TickMarkType                       mediumTickMarkType;
+    private TickMarkType                       minorTickMarkType;
+    private String                             style;
+    private String[]                           styleClass;
+    private Color                              ledColor;
+    private LedType                            ledType;
+    private boolean                            ledVisible;
+    private boolean                            lcdVisible;
+    private boolean                            lcdCrystalEnabled;
+    private LcdDesign                          lcdDesign;
+    private LcdFont                            lcdFont;
+    private Section[]                          sectionsArray;
+    private List<Section>                      sectionsList;
+    private Section[]                          areasArray;
+    private List<Section>                      areasList;
+    private Section[]                          tickMarkSectionsArray;
+    private List<Section>                      tickMarkSectionsList;
+    private Section[]                          tickLabelSectionsArray;
+    private List<Section>                      tickLabelSectionsList;
+    private Marker[]                           markersArray;
+    private List<Marker>                       markersList;
+    private Color                              titleColor;
+    private Color                              subTitleColor;
+    private Color                              unitColor;
+    private Color                              valueColor;
+    private Color                              thresholdColor;
+    private Color                              averageColor;
+    private boolean                            checkSectionsForValue;
+    private boolean                            checkAreasForValue;
+    private boolean                            checkThreshold;
+    private boolean                            innerShadowEnabled;
+    private boolean                            thresholdVisible;
+    private boolean                            averageVisible;
+    private boolean                            sectionsVisible;
+    private boolean                            sectionsAlwaysVisible;
+    private boolean                            sectionTextVisible;
+    private boolean                            sectionIconsVisible;
+    private boolean                            highlightSections;
+    private boolean                            areasVisible;
+    private boolean                            areaTextVisible;
+    private boolean                            areaIconsVisible;
+    private boolean                            highlightAreas;
+    private boolean                            tickMarkSectionsVisible;
+    private boolean                            tickLabelSectionsVisible;
+    private boolean                            markersVisible;
+    private boolean                            tickLabelsVisible;
+    private boolean                            onlyFirstAndLastTickLabelVisible;
+    private boolean                            majorTickMarksVisible;
+    private boolean                            mediumTickMarksVisible;
+    private boolean                            minorTickMarksVisible;
+    private boolean                            tickMarkRingVisible;
+    private boolean                            ledOn;
+    private boolean                            ledBlinking;
+    private Orientation                        orientation;
+    private boolean                            gradientBarEnabled;
+    private GradientLookup                     gradientLookup;
+    private Stop[]                             gradientBarStopsArray;
+    private List<Stop>                         gradientBarStopsList;
+    private boolean                            customTickLabelsEnabled;
+    private String[]                           customTickLabelsArray;
+    private List<String>                       customTickLabelsList;
+    private double                             customTickLabelFontSize;
+    private boolean                            interactive;
+    private String                             buttonTooltipText;
+    private boolean                            keepAspect;
+    private boolean                            customFontEnabled;
+    private Font                               customFont;
+    private String                             alertMessage;
+    private boolean                            smoothing;
+    private InvalidationListener               onValueChanged;
+    private EventHandler<Gauge.ButtonEvent>    onButtonPressed;
+    private EventHandler<Gauge.ButtonEvent>    onButtonReleased;
+    private EventHandler<Gauge.ThresholdEvent> onThresholdExceeded;
+    private EventHandler<Gauge.ThresholdEvent> onThresholdUnderrun;
+    private Dimension2D                        prefSize;
+    private Dimension2D                        minSize;
+    private Dimension2D                        maxSize;
+    private double                             prefWidth;
+    private double                             prefHeight;
+    private double                             minWidth;
+    private double                             minHeight;
+    private double                             maxWidth;
+    private double                             maxHeight;
+    private double                             scaleX;
+    private double                             scaleY;
+    private double                             layoutX;
+    private double                             layoutY;
+    private double                             translateX;
+    private double                             translateY;
+    private Insets                             padding;
 
 
     // ******************** Constructors **************************************
@@ -70,762 +240,1071 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
         return new GaugeBuilder();
     }
 
+    /**
+     * Returns a new builder that is initialized with the settings of the
+     * given gauge. Could be used to create a template once and derive
+     * any number of gauges from it. The builder takes copies of the
+     * sections, areas and markers of the prototype, so the gauges don't
+     * share them with the prototype. Listeners are not copied.
+     * @param PROTOTYPE
+     * @return a new builder initialized with the settings of the given gauge
+     */
+    public static final GaugeBuilder from(final Gauge PROTOTYPE) {
+        return create().skinType(PROTOTYPE.getSkinType())
+                       .value(PROTOTYPE.getValue())
+                       .minValue(PROTOTYPE.getMinValue())
+                       .maxValue(PROTOTYPE.getMaxValue())
+                       .threshold(PROTOTYPE.getThreshold())
+                       .decimals(PROTOTYPE.getDecimals())
+                       .tickLabelDecimals(PROTOTYPE.getTickLabelDecimals())
+                       .title(PROTOTYPE.getTitle())
+                       .subTitle(PROTOTYPE.getSubTitle())
+                       .unit(PROTOTYPE.getUnit())
+                       .averagingEnabled(PROTOTYPE.isAveragingEnabled())
+                       .averagingPeriod(PROTOTYPE.getAveragingPeriod())
+                       .startFromZero(PROTOTYPE.isStartFromZero())
+                       .returnToZero(PROTOTYPE.isReturnToZero())
+                       .zeroColor(PROTOTYPE.getZeroColor())
+                       .minMeasuredValueVisible(PROTOTYPE.isMinMeasuredValueVisible())
+                       .maxMeasuredValueVisible(PROTOTYPE.isMaxMeasuredValueVisible())
+                       .oldValueVisible(PROTOTYPE.isOldValueVisible())
+                       .valueVisible(PROTOTYPE.isValueVisible())
+                       .backgroundPaint(PROTOTYPE.getBackgroundPaint())
+                       .borderPaint(PROTOTYPE.getBorderPaint())
+                       .borderWidth(PROTOTYPE.getBorderWidth())
+                       .foregroundPaint(PROTOTYPE.getForegroundPaint())
+                       .knobColor(PROTOTYPE.getKnobColor())
+                       .knobType(PROTOTYPE.getKnobType())
+                       .knobVisible(PROTOTYPE.isKnobVisible())
+                       .knobPosition(PROTOTYPE.getKnobPosition())
+                       .animated(PROTOTYPE.isAnimated())
+                       .animationDuration(PROTOTYPE.getAnimationDuration())
+                       .startAngle(PROTOTYPE.getStartAngle())
+                       .angleRange(PROTOTYPE.getAngleRange())
+                       .autoScale(PROTOTYPE.isAutoScale())
+                       .needleType(PROTOTYPE.getNeedleType())
+                       .needleShape(PROTOTYPE.getNeedleShape())
+                       .needleSize(PROTOTYPE.getNeedleSize())
+                       .needleBehavior(PROTOTYPE.getNeedleBehavior())
+                       .needleColor(PROTOTYPE.getNeedleColor())
+                       .needleBorderColor(PROTOTYPE.getNeedleBorderColor())
+                       .barColor(PROTOTYPE.getBarColor())
+                       .barBorderColor(PROTOTYPE.getBarBorderColor())
+                       .barBackgroundColor(PROTOTYPE.getBarBackgroundColor())
+                       .tickLabelOrientation(PROTOTYPE.getTickLabelOrientation())
+                       .tickLabelLocation(PROTOTYPE.getTickLabelLocation())
+                       .locale(PROTOTYPE.getLocale())
+                       .majorTickSpace(PROTOTYPE.getMajorTickSpace())
+                       .minorTickSpace(PROTOTYPE.getMinorTickSpace())
+                       .shadowsEnabled(PROTOTYPE.isShadowsEnabled())
+                       .barEffectEnabled(PROTOTYPE.isBarEffectEnabled())
+                       .scaleDirection(PROTOTYPE.getScaleDirection())
+                       .tickLabelColor(PROTOTYPE.getTickLabelColor())
+                       .majorTickMarkColor(PROTOTYPE.getMajorTickMarkColor())
+                       .majorTickMarkLengthFactor(PROTOTYPE.getMajorTickMarkLengthFactor())
+                       .majorTickMarkWidthFactor(PROTOTYPE.getMajorTickMarkWidthFactor())
+                       .mediumTickMarkColor(PROTOTYPE.getMediumTickMarkColor())
+                       .mediumTickMarkLengthFactor(PROTOTYPE.getMediumTickMarkLengthFactor())
+                       .mediumTickMarkWidthFactor(PROTOTYPE.getMediumTickMarkWidthFactor())
+                       .minorTickMarkColor(PROTOTYPE.getMinorTickMarkColor())
+                       .minorTickMarkLengthFactor(PROTOTYPE.getMinorTickMarkLengthFactor())
+                       .minorTickMarkWidthFactor(PROTOTYPE.getMinorTickMarkWidthFactor())
+                       .majorTickMarkType(PROTOTYPE.getMajorTickMarkType())
+                       .mediumTickMarkType(PROTOTYPE.getMediumTickMarkType())
+                       .minorTickMarkType(PROTOTYPE.getMinorTickMarkType())
+                       .ledColor(PROTOTYPE.getLedColor())
+                       .ledType(PROTOTYPE.getLedType())
+                       .ledVisible(PROTOTYPE.isLedVisible())
+                       .lcdVisible(PROTOTYPE.isLcdVisible())
+                       .lcdCrystalEnabled(PROTOTYPE.isLcdCrystalEnabled())
+                       .lcdDesign(PROTOTYPE.getLcdDesign())
+                       .lcdFont(PROTOTYPE.getLcdFont())
+                       .sections(copySections(PROTOTYPE.getSections()))
+                       .areas(copySections(PROTOTYPE.getAreas()))
+                       .tickMarkSections(copySections(PROTOTYPE.getTickMarkSections()))
+                       .tickLabelSections(copySections(PROTOTYPE.getTickLabelSections()))
+                       .markers(copyMarkers(PROTOTYPE.getMarkers()))
+                       .titleColor(PROTOTYPE.getTitleColor())
+                       .subTitleColor(PROTOTYPE.getSubTitleColor())
+                       .unitColor(PROTOTYPE.getUnitColor())
+                       .valueColor(PROTOTYPE.getValueColor())
+                       .thresholdColor(PROTOTYPE.getThresholdColor())
+                       .averageColor(PROTOTYPE.getAverageColor())
+                       .checkSectionsForValue(PROTOTYPE.getCheckSectionsForValue())
+                       .checkAreasForValue(PROTOTYPE.getCheckAreasForValue())
+                       .checkThreshold(PROTOTYPE.isCheckThreshold())
+                       .innerShadowEnabled(PROTOTYPE.isInnerShadowEnabled())
+                       .thresholdVisible(PROTOTYPE.isThresholdVisible())
+                       .averageVisible(PROTOTYPE.isAverageVisible())
+                       .sectionsVisible(PROTOTYPE.getSectionsVisible())
+                       .sectionsAlwaysVisible(PROTOTYPE.getSectionsAlwaysVisible())
+                       .sectionTextVisible(PROTOTYPE.isSectionTextVisible())
+                       .sectionIconsVisible(PROTOTYPE.getSectionIconsVisible())
+                       .highlightSections(PROTOTYPE.isHighlightSections())
+                       .areasVisible(PROTOTYPE.getAreasVisible())
+                       .areaTextVisible(PROTOTYPE.isAreaTextVisible())
+                       .areaIconsVisible(PROTOTYPE.getAreaIconsVisible())
+                       .highlightAreas(PROTOTYPE.isHighlightAreas())
+                       .tickMarkSectionsVisible(PROTOTYPE.getTickMarkSectionsVisible())
+                       .tickLabelSectionsVisible(PROTOTYPE.getTickLabelSectionsVisible())
+                       .markersVisible(PROTOTYPE.getMarkersVisible())
+                       .tickLabelsVisible(PROTOTYPE.getTickLabelsVisible())
+                       .onlyFirstAndLastTickLabelVisible(PROTOTYPE.isOnlyFirstAndLastTickLabelVisible())
+                       .majorTickMarksVisible(PROTOTYPE.getMajorTickMarksVisible())
+                       .mediumTickMarksVisible(PROTOTYPE.getMediumTickMarksVisible())
+                       .minorTickMarksVisible(PROTOTYPE.getMinorTickMarksVisible())
+                       .tickMarkRingVisible(PROTOTYPE.isTickMarkRingVisible())
+                       .ledOn(PROTOTYPE.isLedOn())
+                       .ledBlinking(PROTOTYPE.isLedBlinking())
+                       .orientation(PROTOTYPE.getOrientation())
+                       .gradientBarEnabled(PROTOTYPE.isGradientBarEnabled())
+                       .gradientBarStops(PROTOTYPE.getGradientBarStops())
+                       .customTickLabelsEnabled(PROTOTYPE.getCustomTickLabelsEnabled())
+                       .customTickLabels(PROTOTYPE.getCustomTickLabels())
+                       .customTickLabelFontSize(PROTOTYPE.getCustomTickLabelFontSize())
+                       .interactive(PROTOTYPE.isInteractive())
+                       .buttonTooltipText(PROTOTYPE.getButtonTooltipText())
+                       .keepAspect(PROTOTYPE.isKeepAspect())
+                       .customFontEnabled(PROTOTYPE.isCustomFontEnabled())
+                       .customFont(PROTOTYPE.getCustomFont())
+                       .alertMessage(PROTOTYPE.getAlertMessage())
+                       .smoothing(PROTOTYPE.isSmoothing());
+    }
+
+    private static List<Section> copySections(final List<Section> SECTIONS) {
+        List<Section> copy = new ArrayList<>(SECTIONS.size());
+        for (Section section : SECTIONS) { copy.add(SectionBuilder.from(section).build()); }
+        return copy;
+    }
+
+    private static List<Marker> copyMarkers(final List<Marker> MARKERS) {
+        List<Marker> copy = new ArrayList<>(MARKERS.size());
+        for (Marker marker : MARKERS) { copy.add(MarkerBuilder.from(marker).build()); }
+        return copy;
+    }
+
+    /**
+     * Returns a new builder with the same settings as this builder.
+     * Changing the copy won't affect this builder.
+     * @return a new builder with the same settings as this builder
+     */
+    public final B copy() {
+        try {
+            GaugeBuilder copy = (GaugeBuilder) super.clone();
+            copy.options = options.clone();
+            return (B) copy;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
     public final B skinType(final SkinType TYPE) {
-        properties.put("skinType", new SimpleObjectProperty<>(TYPE));
+        skinType = TYPE;
+        options.add(Option.SKIN_TYPE);
         return (B)this;
     }
 
     public final B value(final double VALUE) {
-        properties.put("value", new SimpleDoubleProperty(VALUE));
+        value = VALUE;
+        options.add(Option.VALUE);
         return (B) this;
     }
 
     public final B minValue(final double VALUE) {
-        properties.put("minValue", new SimpleDoubleProperty(VALUE));
+        minValue = VALUE;
+        options.add(Option.MIN_VALUE);
         return (B) this;
     }
 
     public final B maxValue(final double VALUE) {
-        properties.put("maxValue", new SimpleDoubleProperty(VALUE));
+        maxValue = VALUE;
+        options.add(Option.MAX_VALUE);
         return (B) this;
     }
 
     public final B threshold(final double VALUE) {
-        properties.put("threshold", new SimpleDoubleProperty(VALUE));
+        threshold = VALUE;
+        options.add(Option.THRESHOLD);
         return (B)this;
     }
 
     public final B decimals(final int DECIMALS) {
-        properties.put("decimals", new SimpleIntegerProperty(DECIMALS));
+        decimals = DECIMALS;
+        options.add(Option.DECIMALS);
         return (B) this;
     }
 
     public final B tickLabelDecimals(final int DECIMALS) {
-        properties.put("tickLabelDecimals", new SimpleIntegerProperty(DECIMALS));
+        tickLabelDecimals = DECIMALS;
+        options.add(Option.TICK_LABEL_DECIMALS);
         return (B)this;
     }
 
     public final B title(final String TITLE) {
-        properties.put("title", new SimpleStringProperty(TITLE));
+        title = TITLE;
+        options.add(Option.TITLE);
         return (B)this;
     }
 
     public final B subTitle(final String SUBTITLE) {
-        properties.put("subTitle", new SimpleStringProperty(SUBTITLE));
+        subTitle = SUBTITLE;
+        options.add(Option.SUB_TITLE);
         return (B)this;
     }
 
     public final B unit(final String UNIT) {
-        properties.put("unit", new SimpleStringProperty(UNIT));
+        unit = UNIT;
+        options.add(Option.UNIT);
         return (B)this;
     }
 
     public final B averagingEnabled(final boolean ENABLED) {
-        properties.put("averagingEnabled", new SimpleBooleanProperty(ENABLED));
+        averagingEnabled = ENABLED;
+        options.add(Option.AVERAGING_ENABLED);
         return (B)this;
     }
 
     public final B averagingPeriod(final int PERIOD) {
-        properties.put("averagingPeriod", new SimpleIntegerProperty(PERIOD));
+        averagingPeriod = PERIOD;
+        options.add(Option.AVERAGING_PERIOD);
         return (B)this;
     }
 
     public final B foregroundBaseColor(final Color COLOR) {
-        properties.put("foregroundBaseColor", new SimpleObjectProperty<>(COLOR));
+        foregroundBaseColor = COLOR;
+        options.add(Option.FOREGROUND_BASE_COLOR);
         return (B)this;
     }
 
     public final B startFromZero(final boolean START) {
-        properties.put("startFromZero", new SimpleBooleanProperty(START));
+        startFromZero = START;
+        options.add(Option.START_FROM_ZERO);
         return (B)this;
     }
 
     public final B returnToZero(final boolean RETURN) {
-        properties.put("returnToZero", new SimpleBooleanProperty(RETURN));
+        returnToZero = RETURN;
+        options.add(Option.RETURN_TO_ZERO);
         return (B)this;
     }
 
     public final B zeroColor(final Color COLOR) {
-        properties.put("zeroColor", new SimpleObjectProperty<>(COLOR));
+        zeroColor = COLOR;
+        options.add(Option.ZERO_COLOR);
         return (B)this;
     }
 
     public final B minMeasuredValueVisible(final boolean VISIBLE) {
-        properties.put("minMeasuredValueVisible", new SimpleBooleanProperty(VISIBLE));
+        minMeasuredValueVisible = VISIBLE;
+        options.add(Option.MIN_MEASURED_VALUE_VISIBLE);
         return (B)this;
     }
 
     public final B maxMeasuredValueVisible(final boolean VISIBLE) {
-        properties.put("maxMeasuredValueVisible", new SimpleBooleanProperty(VISIBLE));
+        maxMeasuredValueVisible = VISIBLE;
+        options.add(Option.MAX_MEASURED_VALUE_VISIBLE);
         return (B)this;
     }
 
     public final B oldValueVisible(final boolean VISIBLE) {
-        properties.put("oldValueVisible", new SimpleBooleanProperty(VISIBLE));
+        oldValueVisible = VISIBLE;
+        options.add(Option.OLD_VALUE_VISIBLE);
         return (B)this;
     }
 
     public final B valueVisible(final boolean VISIBLE) {
-        properties.put("valueVisible", new SimpleBooleanProperty(VISIBLE));
+        valueVisible = VISIBLE;
+        options.add(Option.VALUE_VISIBLE);
         return (B)this;
     }
 
     public final B backgroundPaint(final Paint PAINT) {
-        properties.put("backgroundPaint", new SimpleObjectProperty<>(PAINT));
+        backgroundPaint = PAINT;
+        options.add(Option.BACKGROUND_PAINT);
         return (B)this;
     }
 
     public final B borderPaint(final Paint PAINT) {
-        properties.put("borderPaint", new SimpleObjectProperty<>(PAINT));
+        borderPaint = PAINT;
+        options.add(Option.BORDER_PAINT);
         return (B)this;
     }
 
     public final B borderWidth(final double WIDTH) {
-        properties.put("borderWidth", new SimpleDoubleProperty(WIDTH));
+        borderWidth = WIDTH;
+        options.add(Option.BORDER_WIDTH);
         return (B)this;
     }
 
     public final B foregroundPaint(final Paint PAINT) {
-        properties.put("foregroundPaint", new SimpleObjectProperty<>(PAINT));
+        foregroundPaint = PAINT;
+        options.add(Option.FOREGROUND_PAINT);
         return (B)this;
     }
 
     public final B knobColor(final Color COLOR) {
-        properties.put("knobColor", new SimpleObjectProperty<>(COLOR));
+        knobColor = COLOR;
+        options.add(Option.KNOB_COLOR);
         return (B)this;
     }
 
     public final B knobType(final KnobType TYPE) {
-        properties.put("knobType", new SimpleObjectProperty<>(TYPE));
+        knobType = TYPE;
+        options.add(Option.KNOB_TYPE);
         return (B)this;
     }
 
     public final B knobVisible(final boolean VISIBLE) {
-        properties.put("knobVisible", new SimpleBooleanProperty(VISIBLE));
+        knobVisible = VISIBLE;
+        options.add(Option.KNOB_VISIBLE);
         return (B)this;
     }
 
     public final B knobPosition(final Pos POSITION) {
-        properties.put("knobPosition", new SimpleObjectProperty<>(POSITION));
+        knobPosition = POSITION;
+        options.add(Option.KNOB_POSITION);
         return (B)this;
     }
 
     public final B animated(final boolean ANIMATED) {
-        properties.put("animated", new SimpleBooleanProperty(ANIMATED));
+        animated = ANIMATED;
+        options.add(Option.ANIMATED);
         return (B)this;
     }
 
     public final B animationDuration(final long DURATION) {
-        properties.put("animationDuration", new SimpleLongProperty(DURATION));
+        animationDuration = DURATION;
+        options.add(Option.ANIMATION_DURATION);
         return (B)this;
     }
 
     public final B startAngle(final double ANGLE) {
-        properties.put("startAngle", new SimpleDoubleProperty(ANGLE));
+        startAngle = ANGLE;
+        options.add(Option.START_ANGLE);
         return (B)this;
     }
 
     public final B angleRange(final double RANGE) {
-        properties.put("angleRange", new SimpleDoubleProperty(RANGE));
+        angleRange = RANGE;
+        options.add(Option.ANGLE_RANGE);
         return (B)this;
     }
 
     public final B autoScale(final boolean AUTO_SCALE) {
-        properties.put("autoScale", new SimpleBooleanProperty(AUTO_SCALE));
+        autoScale = AUTO_SCALE;
+        options.add(Option.AUTO_SCALE);
         return (B)this;
     }
 
     public final B needleType(final NeedleType TYPE) {
-        properties.put("needleType", new SimpleObjectProperty<>(TYPE));
+        needleType = TYPE;
+        options.add(Option.NEEDLE_TYPE);
         return (B)this;
     }
 
     public final B needleShape(final NeedleShape SHAPE) {
-        properties.put("needleShape", new SimpleObjectProperty<>(SHAPE));
+        needleShape = SHAPE;
+        options.add(Option.NEEDLE_SHAPE);
         return (B)this;
     }
 
     public final B needleSize(final NeedleSize SIZE) {
-        properties.put("needleSize", new SimpleObjectProperty<>(SIZE));
+        needleSize = SIZE;
+        options.add(Option.NEEDLE_SIZE);
         return (B)this;
     }
 
     public final B needleBehavior(final NeedleBehavior BEHAVIOR) {
-        properties.put("needleBehavior", new SimpleObjectProperty<>(BEHAVIOR));
+        needleBehavior = BEHAVIOR;
+        options.add(Option.NEEDLE_BEHAVIOR);
         return (B)this;
     }
 
     public final B needleColor(final Color COLOR) {
-        properties.put("needleColor", new SimpleObjectProperty<>(COLOR));
+        needleColor = COLOR;
+        options.add(Option.NEEDLE_COLOR);
         return (B)this;
     }
 
     public final B needleBorderColor(final Color COLOR) {
-        properties.put("needleBorderColor", new SimpleObjectProperty<>(COLOR));
+        needleBorderColor = COLOR;
+        options.add(Option.NEEDLE_BORDER_COLOR);
         return (B)this;
     }
 
     public final B barColor(final Color COLOR) {
-        properties.put("barColor", new SimpleObjectProperty<>(COLOR));
+        barColor = COLOR;
+        options.add(Option.BAR_COLOR);
         return (B)this;
     }
 
     public final B barBorderColor(final Color COLOR) {
-        properties.put("barBorderColor", new SimpleObjectProperty<>(COLOR));
+        barBorderColor = COLOR;
+        options.add(Option.BAR_BORDER_COLOR);
         return (B)this;
     }
 
     public final B barBackgroundColor(final Color COLOR) {
-        properties.put("barBackgroundColor", new SimpleObjectProperty<>(COLOR));
+        barBackgroundColor = COLOR;
+        options.add(Option.BAR_BACKGROUND_COLOR);
         return (B)this;
     }
 
     public final B tickLabelOrientation(final TickLabelOrientation ORIENTATION) {
-        properties.put("tickLabelOrientation", new SimpleObjectProperty<>(ORIENTATION));
+        tickLabelOrientation = ORIENTATION;
+        options.add(Option.TICK_LABEL_ORIENTATION);
         return (B)this;
     }
 
     public final B tickLabelLocation(final TickLabelLocation LOCATION) {
-        properties.put("tickLabelLocation", new SimpleObjectProperty<>(LOCATION));
+        tickLabelLocation = LOCATION;
+        options.add(Option.TICK_LABEL_LOCATION);
         return (B)this;
     }
 
     public final B locale(final Locale LOCALE) {
-        properties.put("locale", new SimpleObjectProperty<>(LOCALE));
+        locale = LOCALE;
+        options.add(Option.LOCALE);
         return (B)this;
     }
 
     public final B majorTickSpace(final double SPACE) {
-        properties.put("majorTickSpace", new SimpleDoubleProperty(SPACE));
+        majorTickSpace = SPACE;
+        options.add(Option.MAJOR_TICK_SPACE);
         return (B)this;
     }
 
     public final B minorTickSpace(final double SPACE) {
-        properties.put("minorTickSpace", new SimpleDoubleProperty(SPACE));
+        minorTickSpace = SPACE;
+        options.add(Option.MINOR_TICK_SPACE);
         return (B)this;
     }
 
     public final B shadowsEnabled(final boolean ENABLED) {
-        properties.put("shadowsEnabled", new SimpleBooleanProperty(ENABLED));
+        shadowsEnabled = ENABLED;
+        options.add(Option.SHADOWS_ENABLED);
         return (B)this;
     }
 
     public final B barEffectEnabled(final boolean ENABLED) {
-        properties.put("barEffectEnabled", new SimpleBooleanProperty(ENABLED));
+        barEffectEnabled = ENABLED;
+        options.add(Option.BAR_EFFECT_ENABLED);
         return (B)this;
     }
 
     public final B scaleDirection(final ScaleDirection DIRECTION) {
-        properties.put("scaleDirection", new SimpleObjectProperty<>(DIRECTION));
+        scaleDirection = DIRECTION;
+        options.add(Option.SCALE_DIRECTION);
         return (B)this;
     }
 
     public final B tickLabelColor(final Color COLOR) {
-        properties.put("tickLabelColor", new SimpleObjectProperty<>(COLOR));
+        tickLabelColor = COLOR;
+        options.add(Option.TICK_LABEL_COLOR);
         return (B)this;
     }
 
     public final B tickMarkColor(final Color COLOR) {
-        properties.put("tickMarkColor", new SimpleObjectProperty<>(COLOR));
+        tickMarkColor = COLOR;
+        options.add(Option.TICK_MARK_COLOR);
         return (B)this;
     }
 
     public final B majorTickMarkColor(final Color COLOR) {
-        properties.put("majorTickMarkColor", new SimpleObjectProperty<>(COLOR));
+        majorTickMarkColor = COLOR;
+        options.add(Option.MAJOR_TICK_MARK_COLOR);
         return (B)this;
     }
 
     public final B majorTickMarkLengthFactor(final double FACTOR) {
-        properties.put("majorTickMarkLengthFactor", new SimpleDoubleProperty(FACTOR));
+        majorTickMarkLengthFactor = FACTOR;
+        options.add(Option.MAJOR_TICK_MARK_LENGTH_FACTOR);
         return (B)this;
     }
     
     public final B majorTickMarkWidthFactor(final double FACTOR) {
-        properties.put("majorTickMarkWidthFactor", new SimpleDoubleProperty(FACTOR));
+        majorTickMarkWidthFactor = FACTOR;
+        options.add(Option.MAJOR_TICK_MARK_WIDTH_FACTOR);
         return (B)this;
     }
     
     public final B mediumTickMarkColor(final Color COLOR) {
-        properties.put("mediumTickMarkColor", new SimpleObjectProperty<>(COLOR));
+        mediumTickMarkColor = COLOR;
+        options.add(Option.MEDIUM_TICK_MARK_COLOR);
         return (B)this;
     }
 
     public final B mediumTickMarkLengthFactor(final double FACTOR) {
-        properties.put("mediumTickMarkLengthFactor", new SimpleDoubleProperty(FACTOR));
+        mediumTickMarkLengthFactor = FACTOR;
+        options.add(Option.MEDIUM_TICK_MARK_LENGTH_FACTOR);
         return (B)this;
     }
 
     public final B mediumTickMarkWidthFactor(final double FACTOR) {
-        properties.put("mediumTickMarkWidthFactor", new SimpleDoubleProperty(FACTOR));
+        mediumTickMarkWidthFactor = FACTOR;
+        options.add(Option.MEDIUM_TICK_MARK_WIDTH_FACTOR);
         return (B)this;
     }
     
     public final B minorTickMarkColor(final Color COLOR) {
-        properties.put("minorTickMarkColor", new SimpleObjectProperty<>(COLOR));
+        minorTickMarkColor = COLOR;
+        options.add(Option.MINOR_TICK_MARK_COLOR);
         return (B)this;
     }
 
     public final B minorTickMarkLengthFactor(final double FACTOR) {
-        properties.put("minorTickMarkLengthFactor", new SimpleDoubleProperty(FACTOR));
+        minorTickMarkLengthFactor = FACTOR;
+        options.add(Option.MINOR_TICK_MARK_LENGTH_FACTOR);
         return (B)this;
     }
 
     public final B minorTickMarkWidthFactor(final double FACTOR) {
-        properties.put("minorTickMarkWidthFactor", new SimpleDoubleProperty(FACTOR));
+        minorTickMarkWidthFactor = FACTOR;
+        options.add(Option.MINOR_TICK_MARK_WIDTH_FACTOR);
         return (B)this;
     }
     
     public final B majorTickMarkType(final TickMarkType TYPE) {
-        properties.put("majorTickMarkType", new SimpleObjectProperty<>(TYPE));
+        majorTickMarkType = TYPE;
+        options.add(Option.MAJOR_TICK_MARK_TYPE);
         return (B)this;
     }
 
     public final B mediumTickMarkType(final TickMarkType TYPE) {
-        properties.put("mediumTickMarkType", new SimpleObjectProperty<>(TYPE));
+        mediumTickMarkType = TYPE;
+        options.add(Option.MEDIUM_TICK_MARK_TYPE);
         return (B)this;
     }
 
     public final B minorTickMarkType(final TickMarkType TYPE) {
-        properties.put("minorTickMarkType", new SimpleObjectProperty<>(TYPE));
+        minorTickMarkType = TYPE;
+        options.add(Option.MINOR_TICK_MARK_TYPE);
         return (B)this;
     }
 
     public final B style(final String STYLE) {
-        properties.put("style", new SimpleStringProperty(STYLE));
+        style = STYLE;
+        options.add(Option.STYLE);
         return (B)this;
     }
 
     public final B styleClass(final String... STYLES) {
-        properties.put("styleClass", new SimpleObjectProperty<>(STYLES));
+        styleClass = STYLES;
+        options.add(Option.STYLE_CLASS);
         return (B)this;
     }
 
     public final B ledColor(final Color COLOR) {
-        properties.put("ledColor", new SimpleObjectProperty<>(COLOR));
+        ledColor = COLOR;
+        options.add(Option.LED_COLOR);
         return (B)this;
     }
 
     public final B ledType(final LedType TYPE) {
-        properties.put("ledType", new SimpleObjectProperty<>(TYPE));
+        ledType = TYPE;
+        options.add(Option.LED_TYPE);
         return (B)this;
     }
 
     public final B ledVisible(final boolean VISIBLE) {
-        properties.put("ledVisible", new SimpleBooleanProperty(VISIBLE));
+        ledVisible = VISIBLE;
+        options.add(Option.LED_VISIBLE);
         return (B) this;
     }
 
     public final B lcdVisible(final boolean VISIBLE) {
-        properties.put("lcdVisible", new SimpleBooleanProperty(VISIBLE));
+        lcdVisible = VISIBLE;
+        options.add(Option.LCD_VISIBLE);
         return (B)this;
     }
 
     public final B lcdCrystalEnabled(final boolean ENABLED) {
-        properties.put("lcdCrystalEnabled", new SimpleBooleanProperty(ENABLED));
+        lcdCrystalEnabled = ENABLED;
+        options.add(Option.LCD_CRYSTAL_ENABLED);
         return (B)this;
     }
 
     public final B lcdDesign(final LcdDesign DESIGN) {
-        properties.put("lcdDesign", new SimpleObjectProperty<>(DESIGN));
+        lcdDesign = DESIGN;
+        options.add(Option.LCD_DESIGN);
         return (B)this;
     }
 
     public final B lcdFont(final LcdFont FONT) {
-        properties.put("lcdFont", new SimpleObjectProperty<>(FONT));
+        lcdFont = FONT;
+        options.add(Option.LCD_FONT);
         return (B)this;
     }
 
     public final B sections(final Section... SECTIONS) {
-        properties.put("sectionsArray", new SimpleObjectProperty<>(SECTIONS));
+        sectionsArray = SECTIONS;
+        options.add(Option.SECTIONS_ARRAY);
         return (B)this;
     }
 
     public final B sections(final List<Section> SECTIONS) {
-        properties.put("sectionsList", new SimpleObjectProperty<>(SECTIONS));
+        sectionsList = SECTIONS;
+        options.add(Option.SECTIONS_LIST);
         return (B)this;
     }
 
     public final B areas(final Section... AREAS) {
-        properties.put("areasArray", new SimpleObjectProperty<>(AREAS));
+        areasArray = AREAS;
+        options.add(Option.AREAS_ARRAY);
         return (B)this;
     }
 
     public final B areas(final List<Section> AREAS) {
-        properties.put("areasList", new SimpleObjectProperty<>(AREAS));
+        areasList = AREAS;
+        options.add(Option.AREAS_LIST);
         return (B)this;
     }
 
     public final B tickMarkSections(final Section... SECTIONS) {
-        properties.put("tickMarkSectionsArray", new SimpleObjectProperty<>(SECTIONS));
+        tickMarkSectionsArray = SECTIONS;
+        options.add(Option.TICK_MARK_SECTIONS_ARRAY);
         return (B)this;
     }
 
     public final B tickMarkSections(final List<Section> SECTIONS) {
-        properties.put("tickMarkSectionsList", new SimpleObjectProperty<>(SECTIONS));
+        tickMarkSectionsList = SECTIONS;
+        options.add(Option.TICK_MARK_SECTIONS_LIST);
         return (B)this;
     }
 
     public final B tickLabelSections(final Section... SECTIONS) {
-        properties.put("tickLabelSectionsArray", new SimpleObjectProperty<>(SECTIONS));
+        tickLabelSectionsArray = SECTIONS;
+        options.add(Option.TICK_LABEL_SECTIONS_ARRAY);
         return (B)this;
     }
 
     public final B tickLabelSections(final List<Section> SECTIONS) {
-        properties.put("tickLabelSectionsList", new SimpleObjectProperty<>(SECTIONS));
+        tickLabelSectionsList = SECTIONS;
+        options.add(Option.TICK_LABEL_SECTIONS_LIST);
         return (B)this;
     }
 
     public final B markers(final Marker... MARKERS) {
-        properties.put("markersArray", new SimpleObjectProperty<>(MARKERS));
+        markersArray = MARKERS;
+        options.add(Option.MARKERS_ARRAY);
         return (B)this;
     }
 
     public final B markers(final List<Marker> MARKERS) {
-        properties.put("markersList", new SimpleObjectProperty<>(MARKERS));
+        markersList = MARKERS;
+        options.add(Option.MARKERS_LIST);
         return (B)this;
     }
 
     public final B titleColor(final Color COLOR) {
-        properties.put("titleColor", new SimpleObjectProperty<>(COLOR));
+        titleColor = COLOR;
+        options.add(Option.TITLE_COLOR);
         return (B)this;
     }
 
     public final B subTitleColor(final Color COLOR) {
-        properties.put("subTitleColor", new SimpleObjectProperty<>(COLOR));
+        subTitleColor = COLOR;
+        options.add(Option.SUB_TITLE_COLOR);
         return (B)this;
     }
 
     public B unitColor(final Color COLOR) {
-        properties.put("unitColor", new SimpleObjectProperty<>(COLOR));
+        unitColor = COLOR;
+        options.add(Option.UNIT_COLOR);
         return (B)this;
     }
 
     public B valueColor(final Color COLOR) {
-        properties.put("valueColor", new SimpleObjectProperty<>(COLOR));
+        valueColor = COLOR;
+        options.add(Option.VALUE_COLOR);
         return (B)this;
     }
 
     public B thresholdColor(final Color COLOR) {
-        properties.put("thresholdColor", new SimpleObjectProperty<>(COLOR));
+        thresholdColor = COLOR;
+        options.add(Option.THRESHOLD_COLOR);
         return (B)this;
     }
 
     public B averageColor(final Color COLOR) {
-        properties.put("averageColor", new SimpleObjectProperty<>(COLOR));
+        averageColor = COLOR;
+        options.add(Option.AVERAGE_COLOR);
         return (B)this;
     }
 
     public final B checkSectionsForValue(final boolean CHECK) {
-        properties.put("checkSectionsForValue", new SimpleBooleanProperty(CHECK));
+        checkSectionsForValue = CHECK;
+        options.add(Option.CHECK_SECTIONS_FOR_VALUE);
         return (B)this;
     }
 
     public final B checkAreasForValue(final boolean CHECK) {
-        properties.put("checkAreasForValue", new SimpleBooleanProperty(CHECK));
+        checkAreasForValue = CHECK;
+        options.add(Option.CHECK_AREAS_FOR_VALUE);
         return (B)this;
     }
 
     public final B checkThreshold(final boolean CHECK) {
-        properties.put("checkThreshold", new SimpleBooleanProperty(CHECK));
+        checkThreshold = CHECK;
+        options.add(Option.CHECK_THRESHOLD);
         return (B)this;
     }
 
     public final B innerShadowEnabled(final boolean ENABLED) {
-        properties.put("innerShadowEnabled", new SimpleBooleanProperty(ENABLED));
+        innerShadowEnabled = ENABLED;
+        options.add(Option.INNER_SHADOW_ENABLED);
         return (B)this;
     }
 
     public final B thresholdVisible(final boolean VISIBLE) {
-        properties.put("thresholdVisible", new SimpleBooleanProperty(VISIBLE));
+        thresholdVisible = VISIBLE;
+        options.add(Option.THRESHOLD_VISIBLE);
         return (B)this;
     }
 
     public final B averageVisible(final boolean VISIBLE) {
-        properties.put("averageVisible", new SimpleBooleanProperty(VISIBLE));
+        averageVisible = VISIBLE;
+        options.add(Option.AVERAGE_VISIBLE);
         return (B)this;
     }
 
     public final B sectionsVisible(final boolean VISIBLE) {
-        properties.put("sectionsVisible", new SimpleBooleanProperty(VISIBLE));
+        sectionsVisible = VISIBLE;
+        options.add(Option.SECTIONS_VISIBLE);
         return (B)this;
     }
 
     public final B sectionsAlwaysVisible(final boolean VISIBLE) {
-        properties.put("sectionsAlwaysVisible", new SimpleBooleanProperty(VISIBLE));
+        sectionsAlwaysVisible = VISIBLE;
+        options.add(Option.SECTIONS_ALWAYS_VISIBLE);
         return (B)this;
     }
 
     public final B sectionTextVisible(final boolean VISIBLE) {
-        properties.put("sectionTextVisible", new SimpleBooleanProperty(VISIBLE));
+        sectionTextVisible = VISIBLE;
+        options.add(Option.SECTION_TEXT_VISIBLE);
         return (B)this;
     }
 
     public final B sectionIconsVisible(final boolean VISIBLE) {
-        properties.put("sectionIconsVisible", new SimpleBooleanProperty(VISIBLE));
+        sectionIconsVisible = VISIBLE;
+        options.add(Option.SECTION_ICONS_VISIBLE);
         return (B)this;
     }
 
     public final B highlightSections(final boolean HIGHLIGHT) {
-        properties.put("highlightSections", new SimpleBooleanProperty(HIGHLIGHT));
+        highlightSections = HIGHLIGHT;
+        options.add(Option.HIGHLIGHT_SECTIONS);
         return (B)this;
     }
 
     public final B areasVisible(final boolean VISIBLE) {
-        properties.put("areasVisible", new SimpleBooleanProperty(VISIBLE));
+        areasVisible = VISIBLE;
+        options.add(Option.AREAS_VISIBLE);
         return (B)this;
     }
 
     public final B areaTextVisible(final boolean VISIBLE) {
-        properties.put("areaTextVisible", new SimpleBooleanProperty(VISIBLE));
+        areaTextVisible = VISIBLE;
+        options.add(Option.AREA_TEXT_VISIBLE);
         return (B)this;
     }
 
     public final B areaIconsVisible(final boolean VISIBLE) {
-        properties.put("areaIconsVisible", new SimpleBooleanProperty(VISIBLE));
+        areaIconsVisible = VISIBLE;
+        options.add(Option.AREA_ICONS_VISIBLE);
         return (B)this;
     }
 
     public final B highlightAreas(final boolean HIGHLIGHT) {
-        properties.put("highlightAreas", new SimpleBooleanProperty(HIGHLIGHT));
+        highlightAreas = HIGHLIGHT;
+        options.add(Option.HIGHLIGHT_AREAS);
         return (B)this;
     }
 
     public final B tickMarkSectionsVisible(final boolean VISIBLE) {
-        properties.put("tickMarkSectionsVisible", new SimpleBooleanProperty(VISIBLE));
+        tickMarkSectionsVisible = VISIBLE;
+        options.add(Option.TICK_MARK_SECTIONS_VISIBLE);
         return (B)this;
     }
 
     public final B tickLabelSectionsVisible(final boolean VISIBLE) {
-        properties.put("tickLabelSectionsVisible", new SimpleBooleanProperty(VISIBLE));
+        tickLabelSectionsVisible = VISIBLE;
+        options.add(Option.TICK_LABEL_SECTIONS_VISIBLE);
         return (B)this;
     }
 
     public final B markersVisible(final boolean VISIBLE) {
-        properties.put("markersVisible", new SimpleBooleanProperty(VISIBLE));
+        markersVisible = VISIBLE;
+        options.add(Option.MARKERS_VISIBLE);
         return (B)this;
     }
 
     public final B tickLabelsVisible(final boolean VISIBLE) {
-        properties.put("tickLabelsVisible", new SimpleBooleanProperty(VISIBLE));
+        tickLabelsVisible = VISIBLE;
+        options.add(Option.TICK_LABELS_VISIBLE);
         return (B)this;
     }
 
     public final B onlyFirstAndLastTickLabelVisible(final boolean VISIBLE) {
-        properties.put("onlyFirstAndLastTickLabelVisible", new SimpleBooleanProperty(VISIBLE));
+        onlyFirstAndLastTickLabelVisible = VISIBLE;
+        options.add(Option.ONLY_FIRST_AND_LAST_TICK_LABEL_VISIBLE);
         return (B)this;
     }
 
     public final B majorTickMarksVisible(final boolean VISIBLE) {
-        properties.put("majorTickMarksVisible", new SimpleBooleanProperty(VISIBLE));
+        majorTickMarksVisible = VISIBLE;
+        options.add(Option.MAJOR_TICK_MARKS_VISIBLE);
         return (B)this;
     }
 
     public final B mediumTickMarksVisible(final boolean VISIBLE) {
-        properties.put("mediumTickMarksVisible", new SimpleBooleanProperty(VISIBLE));
+        mediumTickMarksVisible = VISIBLE;
+        options.add(Option.MEDIUM_TICK_MARKS_VISIBLE);
         return (B)this;
     }
 
     public final B minorTickMarksVisible(final boolean VISIBLE) {
-        properties.put("minorTickMarksVisible", new SimpleBooleanProperty(VISIBLE));
+        minorTickMarksVisible = VISIBLE;
+        options.add(Option.MINOR_TICK_MARKS_VISIBLE);
         return (B)this;
     }
 
     public final B tickMarkRingVisible(final boolean VISIBLE) {
-        properties.put("tickMarkRingVisible", new SimpleBooleanProperty(VISIBLE));
+        tickMarkRingVisible = VISIBLE;
+        options.add(Option.TICK_MARK_RING_VISIBLE);
         return (B)this;
     }
 
     public final B ledOn(final boolean ON) {
-        properties.put("ledOn", new SimpleBooleanProperty(ON));
+        ledOn = ON;
+        options.add(Option.LED_ON);
         return (B)this;
     }
 
     public final B ledBlinking(final boolean BLINKING) {
-        properties.put("ledBlinking", new SimpleBooleanProperty(BLINKING));
+        ledBlinking = BLINKING;
+        options.add(Option.LED_BLINKING);
         return (B)this;
     }
 
     public final B orientation(final Orientation ORIENTATION) {
-        properties.put("orientation", new SimpleObjectProperty<>(ORIENTATION));
+        orientation = ORIENTATION;
+        options.add(Option.ORIENTATION);
         return (B)this;
     }
 
     public final B gradientBarEnabled(final boolean ENABLED) {
-        properties.put("gradientBarEnabled", new SimpleBooleanProperty(ENABLED));
+        gradientBarEnabled = ENABLED;
+        options.add(Option.GRADIENT_BAR_ENABLED);
         return (B)this;
     }
 
     public final B gradientLookup(final GradientLookup GRADIENT_LOOKUP) {
-        properties.put("gradientLookup", new SimpleObjectProperty<>(GRADIENT_LOOKUP));
+        gradientLookup = GRADIENT_LOOKUP;
+        options.add(Option.GRADIENT_LOOKUP);
         return (B)this;
     }
 
     public final B gradientBarStops(final Stop... STOPS) {
-        properties.put("gradientBarStopsArray", new SimpleObjectProperty<>(STOPS));
+        gradientBarStopsArray = STOPS;
+        options.add(Option.GRADIENT_BAR_STOPS_ARRAY);
         return (B)this;
     }
 
     public final B gradientBarStops(final List<Stop> STOPS) {
-        properties.put("gradientBarStopsList", new SimpleObjectProperty<>(STOPS));
+        gradientBarStopsList = STOPS;
+        options.add(Option.GRADIENT_BAR_STOPS_LIST);
         return (B)this;
     }
 
     public final B customTickLabelsEnabled(final boolean ENABLED) {
-        properties.put("customTickLabelsEnabled", new SimpleBooleanProperty(ENABLED));
+        customTickLabelsEnabled = ENABLED;
+        options.add(Option.CUSTOM_TICK_LABELS_ENABLED);
         return (B)this;
     }
 
     public final B customTickLabels(final String... TICK_LABELS) {
-        properties.put("customTickLabelsArray", new SimpleObjectProperty<>(TICK_LABELS));
+        customTickLabelsArray = TICK_LABELS;
+        options.add(Option.CUSTOM_TICK_LABELS_ARRAY);
         return (B)this;
     }
 
     public final B customTickLabels(final List<String> TICK_LABELS) {
-        properties.put("customTickLabelsList", new SimpleObjectProperty<>(TICK_LABELS));
+        customTickLabelsList = TICK_LABELS;
+        options.add(Option.CUSTOM_TICK_LABELS_LIST);
         return (B)this;
     }
 
     public final B customTickLabelFontSize(final double SIZE) {
-        properties.put("customTickLabelFontSize", new SimpleDoubleProperty(SIZE));
+        customTickLabelFontSize = SIZE;
+        options.add(Option.CUSTOM_TICK_LABEL_FONT_SIZE);
         return (B)this;
     }
 
     public final B interactive(final boolean INTERACTIVE) {
-        properties.put("interactive", new SimpleBooleanProperty(INTERACTIVE));
+        interactive = INTERACTIVE;
+        options.add(Option.INTERACTIVE);
         return (B)this;
     }
 
     public final B buttonTooltipText(final String TEXT) {
-        properties.put("buttonTooltipText", new SimpleStringProperty(TEXT));
+        buttonTooltipText = TEXT;
+        options.add(Option.BUTTON_TOOLTIP_TEXT);
         return (B)this;
     }
 
     public final B keepAspect(final boolean KEEP) {
-        properties.put("keepAspect", new SimpleBooleanProperty(KEEP));
+        keepAspect = KEEP;
+        options.add(Option.KEEP_ASPECT);
         return (B)this;
     }
 
     public final B customFontEnabled(final boolean ENABLED) {
-        properties.put("customFontEnabled", new SimpleBooleanProperty(ENABLED));
+        customFontEnabled = ENABLED;
+        options.add(Option.CUSTOM_FONT_ENABLED);
         return (B)this;
     }
 
     public final B customFont(final Font FONT) {
-        properties.put("customFont", new SimpleObjectProperty(FONT));
+        customFont = FONT;
+        options.add(Option.CUSTOM_FONT);
         return (B)this;
     }
 
     public final B alertMessage(final String MESSAGE) {
-        properties.put("alertMessage", new SimpleStringProperty(MESSAGE));
+        alertMessage = MESSAGE;
+        options.add(Option.ALERT_MESSAGE);
         return (B)this;
     }
 
     public final B smoothing(final boolean SMOOTHING) {
-        properties.put("smoothing", new SimpleBooleanProperty(SMOOTHING));
+        smoothing = SMOOTHING;
+        options.add(Option.SMOOTHING);
         return (B)this;
     }
 
     public final B onValueChanged(final InvalidationListener LISTENER) {
-        properties.put("onValueChanged", new SimpleObjectProperty<>(LISTENER));
+        onValueChanged = LISTENER;
+        options.add(Option.ON_VALUE_CHANGED);
         return (B)this;
     }
 
     public final B onButtonPressed(final EventHandler<Gauge.ButtonEvent> HANDLER) {
-        properties.put("onButtonPressed", new SimpleObjectProperty<>(HANDLER));
+        onButtonPressed = HANDLER;
+        options.add(Option.ON_BUTTON_PRESSED);
         return (B)this;
     }
 
     public final B onButtonReleased(final EventHandler<Gauge.ButtonEvent> HANDLER) {
-        properties.put("onButtonReleased", new SimpleObjectProperty<>(HANDLER));
+        onButtonReleased = HANDLER;
+        options.add(Option.ON_BUTTON_RELEASED);
         return (B)this;
     }
 
     public final B onThresholdExceeded(final EventHandler<Gauge.ThresholdEvent> HANDLER) {
-        properties.put("onThresholdExceeded", new SimpleObjectProperty<>(HANDLER));
+        onThresholdExceeded = HANDLER;
+        options.add(Option.ON_THRESHOLD_EXCEEDED);
         return (B)this;
     }
 
     public final B onThresholdUnderrun(final EventHandler<Gauge.ThresholdEvent> HANDLER) {
-        properties.put("onThresholdUnderrun", new SimpleObjectProperty<>(HANDLER));
+        onThresholdUnderrun = HANDLER;
+        options.add(Option.ON_THRESHOLD_UNDERRUN);
         return (B)this;
     }
 
     public final B prefSize(final double WIDTH, final double HEIGHT) {
-        properties.put("prefSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
+        prefSize = new Dimension2D(WIDTH, HEIGHT);
+        options.add(Option.PREF_SIZE);
         return (B)this;
     }
     public final B minSize(final double WIDTH, final double HEIGHT) {
-        properties.put("minSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
+        minSize = new Dimension2D(WIDTH, HEIGHT);
+        options.add(Option.MIN_SIZE);
         return (B)this;
     }
     public final B maxSize(final double WIDTH, final double HEIGHT) {
-        properties.put("maxSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
+        maxSize = new Dimension2D(WIDTH, HEIGHT);
+        options.add(Option.MAX_SIZE);
         return (B)this;
     }
 
     public final B prefWidth(final double PREF_WIDTH) {
-        properties.put("prefWidth", new SimpleDoubleProperty(PREF_WIDTH));
+        prefWidth = PREF_WIDTH;
+        options.add(Option.PREF_WIDTH);
         return (B)this;
     }
     public final B prefHeight(final double PREF_HEIGHT) {
-        properties.put("prefHeight", new SimpleDoubleProperty(PREF_HEIGHT));
+        prefHeight = PREF_HEIGHT;
+        options.add(Option.PREF_HEIGHT);
         return (B)this;
     }
 
     public final B minWidth(final double MIN_WIDTH) {
-        properties.put("minWidth", new SimpleDoubleProperty(MIN_WIDTH));
+        minWidth = MIN_WIDTH;
+        options.add(Option.MIN_WIDTH);
         return (B)this;
     }
     public final B minHeight(final double MIN_HEIGHT) {
-        properties.put("minHeight", new SimpleDoubleProperty(MIN_HEIGHT));
+        minHeight = MIN_HEIGHT;
+        options.add(Option.MIN_HEIGHT);
         return (B)this;
     }
 
     public final B maxWidth(final double MAX_WIDTH) {
-        properties.put("maxWidth", new SimpleDoubleProperty(MAX_WIDTH));
+        maxWidth = MAX_WIDTH;
+        options.add(Option.MAX_WIDTH);
         return (B)this;
     }
     public final B maxHeight(final double MAX_HEIGHT) {
-        properties.put("maxHeight", new SimpleDoubleProperty(MAX_HEIGHT));
+        maxHeight = MAX_HEIGHT;
+        options.add(Option.MAX_HEIGHT);
         return (B)this;
     }
 
     public final B scaleX(final double SCALE_X) {
-        properties.put("scaleX", new SimpleDoubleProperty(SCALE_X));
+        scaleX = SCALE_X;
+        options.add(Option.SCALE_X);
         return (B)this;
     }
     public final B scaleY(final double SCALE_Y) {
-        properties.put("scaleY", new SimpleDoubleProperty(SCALE_Y));
+        scaleY = SCALE_Y;
+        options.add(Option.SCALE_Y);
         return (B)this;
     }
 
     public final B layoutX(final double LAYOUT_X) {
-        properties.put("layoutX", new SimpleDoubleProperty(LAYOUT_X));
+        layoutX = LAYOUT_X;
+        options.add(Option.LAYOUT_X);
         return (B)this;
     }
     public final B layoutY(final double LAYOUT_Y) {
-        properties.put("layoutY", new SimpleDoubleProperty(LAYOUT_Y));
+        layoutY = LAYOUT_Y;
+        options.add(Option.LAYOUT_Y);
         return (B)this;
     }
 
     public final B translateX(final double TRANSLATE_X) {
-        properties.put("translateX", new SimpleDoubleProperty(TRANSLATE_X));
+        translateX = TRANSLATE_X;
+        options.add(Option.TRANSLATE_X);
         return (B)this;
     }
     public final B translateY(final double TRANSLATE_Y) {
-        properties.put("translateY", new SimpleDoubleProperty(TRANSLATE_Y));
+        translateY = TRANSLATE_Y;
+        options.add(Option.TRANSLATE_Y);
         return (B)this;
     }
 
     public final B padding(final Insets INSETS) {
-        properties.put("padding", new SimpleObjectProperty<>(INSETS));
+        padding = INSETS;
+        options.add(Option.PADDING);
         return (B)this;
     }
 
     public final Gauge build() {
         final Gauge CONTROL;
-        if (properties.containsKey("skinType")) {
-            SkinType skinType = ((ObjectProperty<SkinType>) properties.get("skinType")).get();
+        if (options.contains(Option.SKIN_TYPE)) {
             CONTROL = new Gauge(skinType);
             switch(skinType) {
                 case AMP         :
@@ -1074,350 +1553,486 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
         }
 
         // Make sure that sections, areas and markers will be added first
-        if (properties.keySet().contains("sectionsArray")) {
-            CONTROL.setSections(((ObjectProperty<Section[]>) properties.get("sectionsArray")).get());
+        if (options.contains(Option.SECTIONS_ARRAY)) {
+            CONTROL.setSections(sectionsArray);
         }
-        if(properties.keySet().contains("sectionsList")) {
-            CONTROL.setSections(((ObjectProperty<List<Section>>) properties.get("sectionsList")).get());
+        if(options.contains(Option.SECTIONS_LIST)) {
+            CONTROL.setSections(sectionsList);
         }
 
-        if (properties.keySet().contains("areasArray")) {
-            CONTROL.setAreas(((ObjectProperty<Section[]>) properties.get("areasArray")).get());
+        if (options.contains(Option.AREAS_ARRAY)) {
+            CONTROL.setAreas(areasArray);
         }
-        if(properties.keySet().contains("areasList")) {
-            CONTROL.setAreas(((ObjectProperty<List<Section>>) properties.get("areasList")).get());
+        if(options.contains(Option.AREAS_LIST)) {
+            CONTROL.setAreas(areasList);
         }
 
-        if (properties.keySet().contains("tickMarkSectionsArray")) {
-            CONTROL.setTickMarkSections(((ObjectProperty<Section[]>) properties.get("tickMarkSectionsArray")).get());
+        if (options.contains(Option.TICK_MARK_SECTIONS_ARRAY)) {
+            CONTROL.setTickMarkSections(tickMarkSectionsArray);
         }
-        if(properties.keySet().contains("tickMarkSectionsList")) {
-            CONTROL.setTickMarkSections(((ObjectProperty<List<Section>>) properties.get("tickMarkSectionsList")).get());
+        if(options.contains(Option.TICK_MARK_SECTIONS_LIST)) {
+            CONTROL.setTickMarkSections(tickMarkSectionsList);
         }
 
-        if (properties.keySet().contains("tickLabelSectionsArray")) {
-            CONTROL.setTickLabelSections(((ObjectProperty<Section[]>) properties.get("tickLabelSectionsArray")).get());
+        if (options.contains(Option.TICK_LABEL_SECTIONS_ARRAY)) {
+            CONTROL.setTickLabelSections(tickLabelSectionsArray);
         }
-        if(properties.keySet().contains("tickLabelSectionsList")) {
-            CONTROL.setTickLabelSections(((ObjectProperty<List<Section>>) properties.get("tickLabelSectionsList")).get());
+        if(options.contains(Option.TICK_LABEL_SECTIONS_LIST)) {
+            CONTROL.setTickLabelSections(tickLabelSectionsList);
         }
 
-        if (properties.keySet().contains("markersArray")) {
-            CONTROL.setMarkers(((ObjectProperty<Marker[]>) properties.get("markersArray")).get());
+        if (options.contains(Option.MARKERS_ARRAY)) {
+            CONTROL.setMarkers(markersArray);
         }
-        if (properties.keySet().contains("markersList")) {
-            CONTROL.setMarkers(((ObjectProperty<List<Marker>>) properties.get("markersList")).get());
+        if (options.contains(Option.MARKERS_LIST)) {
+            CONTROL.setMarkers(markersList);
         }
 
-        if (properties.keySet().contains("gradientBarStopsArray")) {
-            CONTROL.setGradientBarStops(((ObjectProperty<Stop[]>) properties.get("gradientBarStopsArray")).get());
+        if (options.contains(Option.GRADIENT_BAR_STOPS_ARRAY)) {
+            CONTROL.setGradientBarStops(gradientBarStopsArray);
         }
-        if (properties.keySet().contains("gradientBarStopsList")) {
-            CONTROL.setGradientBarStops(((ObjectProperty<List<Stop>>) properties.get("gradientBarStopsList")).get());
+        if (options.contains(Option.GRADIENT_BAR_STOPS_LIST)) {
+            CONTROL.setGradientBarStops(gradientBarStopsList);
         }
 
-        if (properties.keySet().contains("customTickLabelsArray")) {
-            CONTROL.setCustomTickLabels(((ObjectProperty<String[]>) properties.get("customTickLabelsArray")).get());
+        if (options.contains(Option.CUSTOM_TICK_LABELS_ARRAY)) {
+            CONTROL.setCustomTickLabels(customTickLabelsArray);
         }
-        if (properties.keySet().contains("customTickLabelsList")) {
-            CONTROL.setCustomTickLabels(((ObjectProperty<List<String>>) properties.get("customTickLabelsList")).get());
+        if (options.contains(Option.CUSTOM_TICK_LABELS_LIST)) {
+            CONTROL.setCustomTickLabels(customTickLabelsList);
         }
 
-        if(properties.keySet().contains("foregroundBaseColor")) {
-            CONTROL.setForegroundBaseColor(((ObjectProperty<Color>) properties.get("foregroundBaseColor")).get());
+        if(options.contains(Option.FOREGROUND_BASE_COLOR)) {
+            CONTROL.setForegroundBaseColor(foregroundBaseColor);
         }
 
-        if (properties.keySet().contains("minValue")) {
-            CONTROL.setMinValue(((DoubleProperty) properties.get("minValue")).get());
+        if (options.contains(Option.MIN_VALUE)) {
+            CONTROL.setMinValue(minValue);
         }
-        if (properties.keySet().contains("maxValue")) {
-            CONTROL.setMaxValue(((DoubleProperty) properties.get("maxValue")).get());
+        if (options.contains(Option.MAX_VALUE)) {
+            CONTROL.setMaxValue(maxValue);
         }
 
-        for (String key : properties.keySet()) {
-            if ("prefSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setPrefSize(dim.getWidth(), dim.getHeight());
-            } else if("minSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setMinSize(dim.getWidth(), dim.getHeight());
-            } else if("maxSize".equals(key)) {
-                Dimension2D dim = ((ObjectProperty<Dimension2D>) properties.get(key)).get();
-                CONTROL.setMaxSize(dim.getWidth(), dim.getHeight());
-            } else if("prefWidth".equals(key)) {
-                CONTROL.setPrefWidth(((DoubleProperty) properties.get(key)).get());
-            } else if("prefHeight".equals(key)) {
-                CONTROL.setPrefHeight(((DoubleProperty) properties.get(key)).get());
-            } else if("minWidth".equals(key)) {
-                CONTROL.setMinWidth(((DoubleProperty) properties.get(key)).get());
-            } else if("minHeight".equals(key)) {
-                CONTROL.setMinHeight(((DoubleProperty) properties.get(key)).get());
-            } else if("maxWidth".equals(key)) {
-                CONTROL.setMaxWidth(((DoubleProperty) properties.get(key)).get());
-            } else if("maxHeight".equals(key)) {
-                CONTROL.setMaxHeight(((DoubleProperty) properties.get(key)).get());
-            } else if("scaleX".equals(key)) {
-                CONTROL.setScaleX(((DoubleProperty) properties.get(key)).get());
-            } else if("scaleY".equals(key)) {
-                CONTROL.setScaleY(((DoubleProperty) properties.get(key)).get());
-            } else if ("layoutX".equals(key)) {
-                CONTROL.setLayoutX(((DoubleProperty) properties.get(key)).get());
-            } else if ("layoutY".equals(key)) {
-                CONTROL.setLayoutY(((DoubleProperty) properties.get(key)).get());
-            } else if ("translateX".equals(key)) {
-                CONTROL.setTranslateX(((DoubleProperty) properties.get(key)).get());
-            } else if ("translateY".equals(key)) {
-                CONTROL.setTranslateY(((DoubleProperty) properties.get(key)).get());
-            } else if ("padding".equals(key)) {
-                CONTROL.setPadding(((ObjectProperty<Insets>) properties.get(key)).get());
-            } else if("styleClass".equals(key)) {
-                CONTROL.getStyleClass().setAll("gauge");
-                CONTROL.getStyleClass().addAll(((ObjectProperty<String[]>) properties.get(key)).get());
-            } else if ("autoScale".equals(key)) {
-                CONTROL.setAutoScale(((BooleanProperty) properties.get(key)).get());
-            } else if("value".equals(key)) {
-                CONTROL.setValue(((DoubleProperty) properties.get(key)).get());
-            } else if("decimals".equals(key)) {
-                CONTROL.setDecimals(((IntegerProperty) properties.get(key)).get());
-            } else if ("tickLabelDecimals".equals(key)) {
-                CONTROL.setTickLabelDecimals(((IntegerProperty) properties.get(key)).get());
-            } else if("title".equals(key)) {
-                CONTROL.setTitle(((StringProperty) properties.get(key)).get());
-            } else if("subTitle".equals(key)) {
-                CONTROL.setSubTitle(((StringProperty) properties.get(key)).get());
-            } else if("unit".equals(key)) {
-                CONTROL.setUnit(((StringProperty) properties.get(key)).get());
-            } else if("averagingEnabled".equals(key)) {
-                CONTROL.setAveragingEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if("averagingPeriod".equals(key)) {
-                CONTROL.setAveragingPeriod(((IntegerProperty) properties.get(key)).get());
-            } else if("startFromZero".equals(key)) {
-                CONTROL.setStartFromZero(((BooleanProperty) properties.get(key)).get());
-            } else if("returnToZero".equals(key)) {
-                CONTROL.setReturnToZero(((BooleanProperty) properties.get(key)).get());
-            } else if("zeroColor".equals(key)) {
-                CONTROL.setZeroColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("minMeasuredValueVisible".equals(key)) {
-                CONTROL.setMinMeasuredValueVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("maxMeasuredValueVisible".equals(key)) {
-                CONTROL.setMaxMeasuredValueVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("oldValueVisible".equals(key)) {
-                CONTROL.setOldValueVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("valueVisible".equals(key)) {
-                CONTROL.setValueVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("backgroundPaint".equals(key)) {
-                CONTROL.setBackgroundPaint(((ObjectProperty<Paint>) properties.get(key)).get());
-            } else if ("borderPaint".equals(key)) {
-                CONTROL.setBorderPaint(((ObjectProperty<Paint>) properties.get(key)).get());
-            } else if ("borderWidth".equals(key)) {
-                CONTROL.setBorderWidth(((DoubleProperty) properties.get(key)).get());
-            } else if ("foregroundPaint".equals(key)) {
-                CONTROL.setForegroundPaint(((ObjectProperty<Paint>) properties.get(key)).get());
-            } else if ("knobColor".equals(key)) {
-                CONTROL.setKnobColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("knobType".equals(key)) {
-                CONTROL.setKnobType(((ObjectProperty<KnobType>) properties.get(key)).get());
-            } else if ("knobPosition".equals(key)) {
-                CONTROL.setKnobPosition(((ObjectProperty<Pos>) properties.get(key)).get());
-            } else if ("knobVisible".equals(key)) {
-                CONTROL.setKnobVisible(((BooleanProperty) properties.get(key)).get());
-            } else if("animated".equals(key)) {
-                CONTROL.setAnimated(((BooleanProperty) properties.get(key)).get());
-            } else if("animationDuration".equals(key)) {
-                CONTROL.setAnimationDuration(((LongProperty) properties.get(key)).get());
-            } else if("startAngle".equals(key)) {
-                CONTROL.setStartAngle(((DoubleProperty) properties.get(key)).get());
-            } else if("angleRange".equals(key)) {
-                CONTROL.setAngleRange(((DoubleProperty) properties.get(key)).get());
-            } else if("needleType".equals(key)) {
-                CONTROL.setNeedleType(((ObjectProperty<NeedleType>) properties.get(key)).get());
-            } else if("needleShape".equals(key)) {
-                CONTROL.setNeedleShape(((ObjectProperty<NeedleShape>) properties.get(key)).get());
-            } else if("needleSize".equals(key)) {
-                CONTROL.setNeedleSize(((ObjectProperty<NeedleSize>) properties.get(key)).get());
-            } else if("needleBehavior".equals(key)) {
-                CONTROL.setNeedleBehavior(((ObjectProperty<NeedleBehavior>) properties.get(key)).get());
-            } else if("needleColor".equals(key)) {
-                CONTROL.setNeedleColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if("needleBorderColor".equals(key)) {
-                CONTROL.setNeedleBorderColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if("barColor".equals(key)) {
-                CONTROL.setBarColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if("barBorderColor".equals(key)) {
-                CONTROL.setBarBorderColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("barBackgroundColor".equals(key)) {
-                CONTROL.setBarBackgroundColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if("tickLabelOrientation".equals(key)) {
-                CONTROL.setTickLabelOrientation(((ObjectProperty<TickLabelOrientation>) properties.get(key)).get());
-            } else if("tickLabelLocation".equals(key)) {
-                CONTROL.setTickLabelLocation(((ObjectProperty<TickLabelLocation>) properties.get(key)).get());
-            } else if("locale".equals(key)) {
-                CONTROL.setLocale(((ObjectProperty<Locale>) properties.get(key)).get());
-            } else if("majorTickSpace".equals(key)) {
-                CONTROL.setMajorTickSpace(((DoubleProperty) properties.get(key)).get());
-            } else if("minorTickSpace".equals(key)) {
-                CONTROL.setMinorTickSpace(((DoubleProperty) properties.get(key)).get());
-            } else if("shadowsEnabled".equals(key)) {
-                CONTROL.setShadowsEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("barEffectEnabled".equals(key)) {
-                CONTROL.setBarEffectEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("scaleDirection".equals(key)) {
-                CONTROL.setScaleDirection(((ObjectProperty<ScaleDirection>) properties.get(key)).get());
-            } else if("tickLabelColor".equals(key)) {
-                CONTROL.setTickLabelColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("tickMarkColor".equals(key)) {
-                CONTROL.setTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("majorTickMarkColor".equals(key)) {
-                CONTROL.setMajorTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("majorTickMarkLengthFactor".equals(key)) {
-                CONTROL.setMajorTickMarkLengthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("majorTickMarkWidthFactor".equals(key)) {
-                CONTROL.setMajorTickMarkWidthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("mediumTickMarkColor".equals(key)) {
-                CONTROL.setMediumTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("mediumTickMarkLengthFactor".equals(key)) {
-                CONTROL.setMediumTickMarkLengthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("mediumTickMarkWidthFactor".equals(key)) {
-                CONTROL.setMediumTickMarkWidthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("minorTickMarkColor".equals(key)) {
-                CONTROL.setMinorTickMarkColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("minorTickMarkLengthFactor".equals(key)) {
-                CONTROL.setMinorTickMarkLengthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("minorTickMarkWidthFactor".equals(key)) {
-                CONTROL.setMinorTickMarkWidthFactor(((DoubleProperty) properties.get(key)).get());
-            } else if ("style".equals(key)) {
-                CONTROL.setStyle(((StringProperty) properties.get(key)).get());
-            } else if("ledColor".equals(key)) {
-                CONTROL.setLedColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if("ledType".equals(key)) {
-                CONTROL.setLedType(((ObjectProperty<LedType>) properties.get(key)).get());
-            } else if ("ledVisible".equals(key)) {
-                CONTROL.setLedVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("lcdVisible".equals(key)) {
-                CONTROL.setLcdVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("lcdCrystalEnabled".equals(key)) {
-                CONTROL.setLcdCrystalEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("lcdDesign".equals(key)) {
-                CONTROL.setLcdDesign(((ObjectProperty<LcdDesign>) properties.get(key)).get());
-            } else if ("lcdFont".equals(key)) {
-                CONTROL.setLcdFont(((ObjectProperty<LcdFont>) properties.get(key)).get());
-            } else if ("innerShadowEnabled".equals(key)) {
-                CONTROL.setInnerShadowEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("thresholdVisible".equals(key)) {
-                CONTROL.setThresholdVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("averageVisible".equals(key)) {
-                CONTROL.setAverageVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("sectionsVisible".equals(key)) {
-                CONTROL.setSectionsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("sectionsAlwaysVisible".equals(key)) {
-                CONTROL.setSectionsAlwaysVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("sectionTextVisible".equals(key)) {
-                CONTROL.setSectionTextVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("sectionIconsVisible".equals(key)) {
-                CONTROL.setSectionIconsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("highlightSections".equals(key)) {
-                CONTROL.setHighlightSections(((BooleanProperty) properties.get(key)).get());
-            } else if ("areasVisible".equals(key)) {
-                CONTROL.setAreasVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("areaTextVisible".equals(key)) {
-                CONTROL.setAreaTextVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("areaIconsVisible".equals(key)) {
-                CONTROL.setAreaIconsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("highlightAreas".equals(key)) {
-                CONTROL.setHighlightAreas(((BooleanProperty) properties.get(key)).get());
-            } else if ("tickMarkSectionsVisible".equals(key)) {
-                CONTROL.setTickMarkSectionsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("tickLabelSectionsVisible".equals(key)) {
-                CONTROL.setTickLabelSectionsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("markersVisible".equals(key)) {
-                CONTROL.setMarkersVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("majorTickMarkType".equals(key)) {
-                CONTROL.setMajorTickMarkType(((ObjectProperty<TickMarkType>) properties.get(key)).get());
-            } else if ("mediumTickMarkType".equals(key)) {
-                CONTROL.setMediumTickMarkType(((ObjectProperty<TickMarkType>) properties.get(key)).get());
-            } else if ("minorTickMarkType".equals(key)) {
-                CONTROL.setMinorTickMarkType(((ObjectProperty<TickMarkType>) properties.get(key)).get());
-            } else if ("titleColor".equals(key)) {
-                CONTROL.setTitleColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("subTitleColor".equals(key)) {
-                CONTROL.setSubTitleColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("unitColor".equals(key)) {
-                CONTROL.setUnitColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("valueColor".equals(key)) {
-                CONTROL.setValueColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("thresholdColor".equals(key)) {
-                CONTROL.setThresholdColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("averageColor".equals(key)) {
-                CONTROL.setAverageColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("tickLabelsVisible".equals(key)) {
-                CONTROL.setTickLabelsVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("onlyFirstAndLastTickLabelVisible".equals(key)) {
-                CONTROL.setOnlyFirstAndLastTickLabelVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("majorTickMarksVisible".equals(key)) {
-                CONTROL.setMajorTickMarksVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("mediumTickMarksVisible".equals(key)) {
-                CONTROL.setMediumTickMarksVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("minorTickMarksVisible".equals(key)) {
-                CONTROL.setMinorTickMarksVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("tickMarkRingVisible".equals(key)) {
-                CONTROL.setTickMarkRingVisible(((BooleanProperty) properties.get(key)).get());
-            } else if ("ledBlinking".equals(key)) {
-                CONTROL.setLedBlinking(((BooleanProperty) properties.get(key)).get());
-            } else if ("ledOn".equals(key)) {
-                CONTROL.setLedOn(((BooleanProperty) properties.get(key)).get());
-            } else if ("orientation".equals(key)) {
-                CONTROL.setOrientation(((ObjectProperty<Orientation>) properties.get(key)).get());
-            } else if("gradientBarEnabled".equals(key)) {
-                CONTROL.setGradientBarEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("gradientLookup".equals(key)) {
-                CONTROL.setGradientLookup(((ObjectProperty<GradientLookup>) properties.get(key)).get());
-            } else if ("customTickLabelsEnabled".equals(key)) {
-                CONTROL.setCustomTickLabelsEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("customTickLabelFontSize".equals(key)) {
-                CONTROL.setCustomTickLabelFontSize(((DoubleProperty) properties.get(key)).get());
-            } else if ("interactive".equals(key)) {
-                CONTROL.setInteractive(((BooleanProperty) properties.get(key)).get());
-            } else if ("checkSectionsForValue".equals(key)) {
-                CONTROL.setCheckSectionsForValue(((BooleanProperty) properties.get(key)).get());
-            } else if ("checkAreasForValue".equals(key)) {
-                CONTROL.setCheckAreasForValue(((BooleanProperty) properties.get(key)).get());
-            } else if ("checkThreshold".equals(key)) {
-                CONTROL.setCheckThreshold(((BooleanProperty) properties.get(key)).get());
-            } else if ("onValueChanged".equals(key)) {
-                CONTROL.currentValueProperty().addListener(((ObjectProperty<InvalidationListener>) properties.get(key)).get());
-            } else if ("onButtonPressed".equals(key)) {
-                CONTROL.setOnButtonPressed(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("onButtonReleased".equals(key)) {
-                CONTROL.setOnButtonReleased(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("onThresholdExceeded".equals(key)) {
-                CONTROL.setOnThresholdExceeded(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("onThresholdUnderrun".equals(key)) {
-                CONTROL.setOnThresholdUnderrun(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("buttonTooltipText".equals(key)) {
-                CONTROL.setButtonTooltipText(((StringProperty) properties.get(key)).get());
-            } else if ("keepAspect".equals(key)) {
-                CONTROL.setKeepAspect(((BooleanProperty) properties.get(key)).get());
-            } else if ("threshold".equals(key)) {
-                CONTROL.setThreshold(((DoubleProperty) properties.get(key)).get());
-            } else if ("customFontEnabled".equals(key)) {
-                CONTROL.setCustomFontEnabled(((BooleanProperty) properties.get(key)).get());
-            } else if ("customFont".equals(key)) {
-                CONTROL.setCustomFont(((ObjectProperty<Font>) properties.get(key)).get());
-            } else if ("alertMessage".equals(key)) {
-                CONTROL.setAlertMessage(((StringProperty) properties.get(key)).get());
-            } else if ("smoothing".equals(key)) {
-                CONTROL.setSmoothing(((BooleanProperty) properties.get(key)).get());
+        for (Option option : options) {
+            switch (option) {
+                case PREF_SIZE:
+                    CONTROL.setPrefSize(prefSize.getWidth(), prefSize.getHeight());
+                    break;
+                case MIN_SIZE:
+                    CONTROL.setMinSize(minSize.getWidth(), minSize.getHeight());
+                    break;
+                case MAX_SIZE:
+                    CONTROL.setMaxSize(maxSize.getWidth(), maxSize.getHeight());
+                    break;
+                case PREF_WIDTH:
+                    CONTROL.setPrefWidth(prefWidth);
+                    break;
+                case PREF_HEIGHT:
+                    CONTROL.setPrefHeight(prefHeight);
+                    break;
+                case MIN_WIDTH:
+                    CONTROL.setMinWidth(minWidth);
+                    break;
+                case MIN_HEIGHT:
+                    CONTROL.setMinHeight(minHeight);
+                    break;
+                case MAX_WIDTH:
+                    CONTROL.setMaxWidth(maxWidth);
+                    break;
+                case MAX_HEIGHT:
+                    CONTROL.setMaxHeight(maxHeight);
+                    break;
+                case SCALE_X:
+                    CONTROL.setScaleX(scaleX);
+                    break;
+                case SCALE_Y:
+                    CONTROL.setScaleY(scaleY);
+                    break;
+                case LAYOUT_X:
+                    CONTROL.setLayoutX(layoutX);
+                    break;
+                case LAYOUT_Y:
+                    CONTROL.setLayoutY(layoutY);
+                    break;
+                case TRANSLATE_X:
+                    CONTROL.setTranslateX(translateX);
+                    break;
+                case TRANSLATE_Y:
+                    CONTROL.setTranslateY(translateY);
+                    break;
+                case PADDING:
+                    CONTROL.setPadding(padding);
+                    break;
+                case STYLE_CLASS:
+                    CONTROL.getStyleClass().setAll("gauge");
+                    CONTROL.getStyleClass().addAll(styleClass);
+                    break;
+                case AUTO_SCALE:
+                    CONTROL.setAutoScale(autoScale);
+                    break;
+                case VALUE:
+                    CONTROL.setValue(value);
+                    break;
+                case DECIMALS:
+                    CONTROL.setDecimals(decimals);
+                    break;
+                case TICK_LABEL_DECIMALS:
+                    CONTROL.setTickLabelDecimals(tickLabelDecimals);
+                    break;
+                case TITLE:
+                    CONTROL.setTitle(title);
+                    break;
+                case SUB_TITLE:
+                    CONTROL.setSubTitle(subTitle);
+                    break;
+                case UNIT:
+                    CONTROL.setUnit(unit);
+                    break;
+                case AVERAGING_ENABLED:
+                    CONTROL.setAveragingEnabled(averagingEnabled);
+                    break;
+                case AVERAGING_PERIOD:
+                    CONTROL.setAveragingPeriod(averagingPeriod);
+                    break;
+                case START_FROM_ZERO:
+                    CONTROL.setStartFromZero(startFromZero);
+                    break;
+                case RETURN_TO_ZERO:
+                    CONTROL.setReturnToZero(returnToZero);
+                    break;
+                case ZERO_COLOR:
+                    CONTROL.setZeroColor(zeroColor);
+                    break;
+                case MIN_MEASURED_VALUE_VISIBLE:
+                    CONTROL.setMinMeasuredValueVisible(minMeasuredValueVisible);
+                    break;
+                case MAX_MEASURED_VALUE_VISIBLE:
+                    CONTROL.setMaxMeasuredValueVisible(maxMeasuredValueVisible);
+                    break;
+                case OLD_VALUE_VISIBLE:
+                    CONTROL.setOldValueVisible(oldValueVisible);
+                    break;
+                case VALUE_VISIBLE:
+                    CONTROL.setValueVisible(valueVisible);
+                    break;
+                case BACKGROUND_PAINT:
+                    CONTROL.setBackgroundPaint(backgroundPaint);
+                    break;
+                case BORDER_PAINT:
+                    CONTROL.setBorderPaint(borderPaint);
+                    break;
+                case BORDER_WIDTH:
+                    CONTROL.setBorderWidth(borderWidth);
+                    break;
+                case FOREGROUND_PAINT:
+                    CONTROL.setForegroundPaint(foregroundPaint);
+                    break;
+                case KNOB_COLOR:
+                    CONTROL.setKnobColor(knobColor);
+                    break;
+                case KNOB_TYPE:
+                    CONTROL.setKnobType(knobType);
+                    break;
+                case KNOB_POSITION:
+                    CONTROL.setKnobPosition(knobPosition);
+                    break;
+                case KNOB_VISIBLE:
+                    CONTROL.setKnobVisible(knobVisible);
+                    break;
+                case ANIMATED:
+                    CONTROL.setAnimated(animated);
+                    break;
+                case ANIMATION_DURATION:
+                    CONTROL.setAnimationDuration(animationDuration);
+                    break;
+                case START_ANGLE:
+                    CONTROL.setStartAngle(startAngle);
+                    break;
+                case ANGLE_RANGE:
+                    CONTROL.setAngleRange(angleRange);
+                    break;
+                case NEEDLE_TYPE:
+                    CONTROL.setNeedleType(needleType);
+                    break;
+                case NEEDLE_SHAPE:
+                    CONTROL.setNeedleShape(needleShape);
+                    break;
+                case NEEDLE_SIZE:
+                    CONTROL.setNeedleSize(needleSize);
+                    break;
+                case NEEDLE_BEHAVIOR:
+                    CONTROL.setNeedleBehavior(needleBehavior);
+                    break;
+                case NEEDLE_COLOR:
+                    CONTROL.setNeedleColor(needleColor);
+                    break;
+                case NEEDLE_BORDER_COLOR:
+                    CONTROL.setNeedleBorderColor(needleBorderColor);
+                    break;
+                case BAR_COLOR:
+                    CONTROL.setBarColor(barColor);
+                    break;
+                case BAR_BORDER_COLOR:
+                    CONTROL.setBarBorderColor(barBorderColor);
+                    break;
+                case BAR_BACKGROUND_COLOR:
+                    CONTROL.setBarBackgroundColor(barBackgroundColor);
+                    break;
+                case TICK_LABEL_ORIENTATION:
+                    CONTROL.setTickLabelOrientation(tickLabelOrientation);
+                    break;
+                case TICK_LABEL_LOCATION:
+                    CONTROL.setTickLabelLocation(tickLabelLocation);
+                    break;
+                case LOCALE:
+                    CONTROL.setLocale(locale);
+                    break;
+                case MAJOR_TICK_SPACE:
+                    CONTROL.setMajorTickSpace(majorTickSpace);
+                    break;
+                case MINOR_TICK_SPACE:
+                    CONTROL.setMinorTickSpace(minorTickSpace);
+                    break;
+                case SHADOWS_ENABLED:
+                    CONTROL.setShadowsEnabled(shadowsEnabled);
+                    break;
+                case BAR_EFFECT_ENABLED:
+                    CONTROL.setBarEffectEnabled(barEffectEnabled);
+                    break;
+                case SCALE_DIRECTION:
+                    CONTROL.setScaleDirection(scaleDirection);
+                    break;
+                case TICK_LABEL_COLOR:
+                    CONTROL.setTickLabelColor(tickLabelColor);
+                    break;
+                case TICK_MARK_COLOR:
+                    CONTROL.setTickMarkColor(tickMarkColor);
+                    break;
+                case MAJOR_TICK_MARK_COLOR:
+                    CONTROL.setMajorTickMarkColor(majorTickMarkColor);
+                    break;
+                case MAJOR_TICK_MARK_LENGTH_FACTOR:
+                    CONTROL.setMajorTickMarkLengthFactor(majorTickMarkLengthFactor);
+                    break;
+                case MAJOR_TICK_MARK_WIDTH_FACTOR:
+                    CONTROL.setMajorTickMarkWidthFactor(majorTickMarkWidthFactor);
+                    break;
+                case MEDIUM_TICK_MARK_COLOR:
+                    CONTROL.setMediumTickMarkColor(mediumTickMarkColor);
+                    break;
+                case MEDIUM_TICK_MARK_LENGTH_FACTOR:
+                    CONTROL.setMediumTickMarkLengthFactor(mediumTickMarkLengthFactor);
+                    break;
+                case MEDIUM_TICK_MARK_WIDTH_FACTOR:
+                    CONTROL.setMediumTickMarkWidthFactor(mediumTickMarkWidthFactor);
+                    break;
+                case MINOR_TICK_MARK_COLOR:
+                    CONTROL.setMinorTickMarkColor(minorTickMarkColor);
+                    break;
+                case MINOR_TICK_MARK_LENGTH_FACTOR:
+                    CONTROL.setMinorTickMarkLengthFactor(minorTickMarkLengthFactor);
+                    break;
+                case MINOR_TICK_MARK_WIDTH_FACTOR:
+                    CONTROL.setMinorTickMarkWidthFactor(minorTickMarkWidthFactor);
+                    break;
+                case STYLE:
+                    CONTROL.setStyle(style);
+                    break;
+                case LED_COLOR:
+                    CONTROL.setLedColor(ledColor);
+                    break;
+                case LED_TYPE:
+                    CONTROL.setLedType(ledType);
+                    break;
+                case LED_VISIBLE:
+                    CONTROL.setLedVisible(ledVisible);
+                    break;
+                case LCD_VISIBLE:
+                    CONTROL.setLcdVisible(lcdVisible);
+                    break;
+                case LCD_CRYSTAL_ENABLED:
+                    CONTROL.setLcdCrystalEnabled(lcdCrystalEnabled);
+                    break;
+                case LCD_DESIGN:
+                    CONTROL.setLcdDesign(lcdDesign);
+                    break;
+                case LCD_FONT:
+                    CONTROL.setLcdFont(lcdFont);
+                    break;
+                case INNER_SHADOW_ENABLED:
+                    CONTROL.setInnerShadowEnabled(innerShadowEnabled);
+                    break;
+                case THRESHOLD_VISIBLE:
+                    CONTROL.setThresholdVisible(thresholdVisible);
+                    break;
+                case AVERAGE_VISIBLE:
+                    CONTROL.setAverageVisible(averageVisible);
+                    break;
+                case SECTIONS_VISIBLE:
+                    CONTROL.setSectionsVisible(sectionsVisible);
+                    break;
+                case SECTIONS_ALWAYS_VISIBLE:
+                    CONTROL.setSectionsAlwaysVisible(sectionsAlwaysVisible);
+                    break;
+                case SECTION_TEXT_VISIBLE:
+                    CONTROL.setSectionTextVisible(sectionTextVisible);
+                    break;
+                case SECTION_ICONS_VISIBLE:
+                    CONTROL.setSectionIconsVisible(sectionIconsVisible);
+                    break;
+                case HIGHLIGHT_SECTIONS:
+                    CONTROL.setHighlightSections(highlightSections);
+                    break;
+                case AREAS_VISIBLE:
+                    CONTROL.setAreasVisible(areasVisible);
+                    break;
+                case AREA_TEXT_VISIBLE:
+                    CONTROL.setAreaTextVisible(areaTextVisible);
+                    break;
+                case AREA_ICONS_VISIBLE:
+                    CONTROL.setAreaIconsVisible(areaIconsVisible);
+                    break;
+                case HIGHLIGHT_AREAS:
+                    CONTROL.setHighlightAreas(highlightAreas);
+                    break;
+                case TICK_MARK_SECTIONS_VISIBLE:
+                    CONTROL.setTickMarkSectionsVisible(tickMarkSectionsVisible);
+                    break;
+                case TICK_LABEL_SECTIONS_VISIBLE:
+                    CONTROL.setTickLabelSectionsVisible(tickLabelSectionsVisible);
+                    break;
+                case MARKERS_VISIBLE:
+                    CONTROL.setMarkersVisible(markersVisible);
+                    break;
+                case MAJOR_TICK_MARK_TYPE:
+                    CONTROL.setMajorTickMarkType(majorTickMarkType);
+                    break;
+                case MEDIUM_TICK_MARK_TYPE:
+                    CONTROL.setMediumTickMarkType(mediumTickMarkType);
+                    break;
+                case MINOR_TICK_MARK_TYPE:
+                    CONTROL.setMinorTickMarkType(minorTickMarkType);
+                    break;
+                case TITLE_COLOR:
+                    CONTROL.setTitleColor(titleColor);
+                    break;
+                case SUB_TITLE_COLOR:
+                    CONTROL.setSubTitleColor(subTitleColor);
+                    break;
+                case UNIT_COLOR:
+                    CONTROL.setUnitColor(unitColor);
+                    break;
+                case VALUE_COLOR:
+                    CONTROL.setValueColor(valueColor);
+                    break;
+                case THRESHOLD_COLOR:
+                    CONTROL.setThresholdColor(thresholdColor);
+                    break;
+                case AVERAGE_COLOR:
+                    CONTROL.setAverageColor(averageColor);
+                    break;
+                case TICK_LABELS_VISIBLE:
+                    CONTROL.setTickLabelsVisible(tickLabelsVisible);
+                    break;
+                case ONLY_FIRST_AND_LAST_TICK_LABEL_VISIBLE:
+                    CONTROL.setOnlyFirstAndLastTickLabelVisible(onlyFirstAndLastTickLabelVisible);
+                    break;
+                case MAJOR_TICK_MARKS_VISIBLE:
+                    CONTROL.setMajorTickMarksVisible(majorTickMarksVisible);
+                    break;
+                case MEDIUM_TICK_MARKS_VISIBLE:
+                    CONTROL.setMediumTickMarksVisible(mediumTickMarksVisible);
+                    break;
+                case MINOR_TICK_MARKS_VISIBLE:
+                    CONTROL.setMinorTickMarksVisible(minorTickMarksVisible);
+                    break;
+                case TICK_MARK_RING_VISIBLE:
+                    CONTROL.setTickMarkRingVisible(tickMarkRingVisible);
+                    break;
+                case LED_BLINKING:
+                    CONTROL.setLedBlinking(ledBlinking);
+                    break;
+                case LED_ON:
+                    CONTROL.setLedOn(ledOn);
+                    break;
+                case ORIENTATION:
+                    CONTROL.setOrientation(orientation);
+                    break;
+                case GRADIENT_BAR_ENABLED:
+                    CONTROL.setGradientBarEnabled(gradientBarEnabled);
+                    break;
+                case GRADIENT_LOOKUP:
+                    CONTROL.setGradientLookup(gradientLookup);
+                    break;
+                case CUSTOM_TICK_LABELS_ENABLED:
+                    CONTROL.setCustomTickLabelsEnabled(customTickLabelsEnabled);
+                    break;
+                case CUSTOM_TICK_LABEL_FONT_SIZE:
+                    CONTROL.setCustomTickLabelFontSize(customTickLabelFontSize);
+                    break;
+                case INTERACTIVE:
+                    CONTROL.setInteractive(interactive);
+                    break;
+                case CHECK_SECTIONS_FOR_VALUE:
+                    CONTROL.setCheckSectionsForValue(checkSectionsForValue);
+                    break;
+                case CHECK_AREAS_FOR_VALUE:
+                    CONTROL.setCheckAreasForValue(checkAreasForValue);
+                    break;
+                case CHECK_THRESHOLD:
+                    CONTROL.setCheckThreshold(checkThreshold);
+                    break;
+                case ON_VALUE_CHANGED:
+                    CONTROL.currentValueProperty().addListener(onValueChanged);
+                    break;
+                case ON_BUTTON_PRESSED:
+                    CONTROL.setOnButtonPressed(onButtonPressed);
+                    break;
+                case ON_BUTTON_RELEASED:
+                    CONTROL.setOnButtonReleased(onButtonReleased);
+                    break;
+                case ON_THRESHOLD_EXCEEDED:
+                    CONTROL.setOnThresholdExceeded(onThresholdExceeded);
+                    break;
+                case ON_THRESHOLD_UNDERRUN:
+                    CONTROL.setOnThresholdUnderrun(onThresholdUnderrun);
+                    break;
+                case BUTTON_TOOLTIP_TEXT:
+                    CONTROL.setButtonTooltipText(buttonTooltipText);
+                    break;
+                case KEEP_ASPECT:
+                    CONTROL.setKeepAspect(keepAspect);
+                    break;
+                case THRESHOLD:
+                    CONTROL.setThreshold(threshold);
+                    break;
+                case CUSTOM_FONT_ENABLED:
+                    CONTROL.setCustomFontEnabled(customFontEnabled);
+                    break;
+                case CUSTOM_FONT:
+                    CONTROL.setCustomFont(customFont);
+                    break;
+                case ALERT_MESSAGE:
+                    CONTROL.setAlertMessage(alertMessage);
+                    break;
+                case SMOOTHING:
+                    CONTROL.setSmoothing(smoothing);
+                    break;
+                default:
+                    break;
             }
         }
 
         // Adjust tick mark colors
-        if (properties.containsKey("tickMarkColor")) {
-            Color tickMarkColor = ((ObjectProperty<Color>) properties.get("tickMarkColor")).get();
-            if (!properties.containsKey("majorTickMarkColor")) CONTROL.setMajorTickMarkColor(tickMarkColor);
-            if (!properties.containsKey("mediumTickMarkColor")) CONTROL.setMediumTickMarkColor(tickMarkColor);
-            if (!properties.containsKey("minorTickMarkColor")) CONTROL.setMinorTickMarkColor(tickMarkColor);
+        if (options.contains(Option.TICK_MARK_COLOR)) {
+            if (!options.contains(Option.MAJOR_TICK_MARK_COLOR)) CONTROL.setMajorTickMarkColor(tickMarkColor);
+            if (!options.contains(Option.MEDIUM_TICK_MARK_COLOR)) CONTROL.setMediumTickMarkColor(tickMarkColor);
+            if (!options.contains(Option.MINOR_TICK_MARK_COLOR)) CONTROL.setMinorTickMarkColor(tickMarkColor);
         }
 
+        // Share the styling values with all other gauges that are styled the same way
+        CONTROL.compactStyle();
+
         return CONTROL;
     }
 }
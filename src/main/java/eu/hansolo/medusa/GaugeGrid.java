@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.tools.Helper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * A scrollable grid of gauges that only attaches the gauges inside of the
+ * viewport to the scene graph. All other gauges stay plain models without
+ * a skin (the skin of a gauge will only be created when it's showing).
+ * Gauges that were scrolled out of the viewport keep their skin in a
+ * least recently used cache so that scrolling back and forth will reuse
+ * them. If the cache is full the skin of the eldest gauge will be released.
+ */
+public class GaugeGrid extends Region {
+    public static final double PREFERRED_WIDTH    = 800;
+    public static final double PREFERRED_HEIGHT   = 600;
+    public static final double MINIMUM_WIDTH      = 50;
+    public static final double MINIMUM_HEIGHT     = 50;
+    public static final double MAXIMUM_WIDTH      = 4096;
+    public static final double MAXIMUM_HEIGHT     = 4096;
+    public static final double DEFAULT_CELL_SIZE  = 150;
+    public static final double DEFAULT_SPACING    = 5;
+    public static final int    DEFAULT_CACHE_SIZE = 64;
+
+    // Model related
+    private ObservableList<Gauge> gauges;
+    private Map<Gauge, Boolean>   skinCache;
+    private double                cellWidth;
+    private double                cellHeight;
+    private double                spacing;
+    private int                   cacheSize;
+
+    // View related
+    private Pane                  cellPane;
+    private Rectangle             clip;
+    private ScrollBar             scrollBar;
+    private int                   noOfColumns;
+    private int                   firstIndex;
+    private int                   lastIndex;
+    private boolean               cellsDirty;
+
+
+    // ******************** Constructors **************************************
+    public GaugeGrid() {
+        this(FXCollections.observableArrayList());
+    }
+    public GaugeGrid(final List<Gauge> GAUGES) {
+        this(FXCollections.observableArrayList(GAUGES));
+    }
+    public GaugeGrid(final ObservableList<Gauge> GAUGES) {
+        gauges     = GAUGES;
+        cellWidth  = DEFAULT_CELL_SIZE;
+        cellHeight = DEFAULT_CELL_SIZE;
+        spacing    = DEFAULT_SPACING;
+        cacheSize  = DEFAULT_CACHE_SIZE;
+        skinCache  = new LinkedHashMap<Gauge, Boolean>(16, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(final Map.Entry<Gauge, Boolean> ELDEST) {
+                if (size() <= cacheSize) return false;
+                ELDEST.getKey().releaseSkin();
+                return true;
+            }
+        };
+        cellsDirty = true;
+
+        init();
+        initGraphics();
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void init() {
+        if (Double.compare(getPrefWidth(), 0) <= 0 || Double.compare(getPrefHeight(), 0) <= 0) {
+            setPrefSize(PREFERRED_WIDTH, PREFERRED_HEIGHT);
+        }
+        if (Double.compare(getMinWidth(), 0) <= 0 || Double.compare(getMinHeight(), 0) <= 0) {
+            setMinSize(MINIMUM_WIDTH, MINIMUM_HEIGHT);
+        }
+        if (Double.compare(getMaxWidth(), 0) <= 0 || Double.compare(getMaxHeight(), 0) <= 0) {
+            setMaxSize(MAXIMUM_WIDTH, MAXIMUM_HEIGHT);
+        }
+    }
+
+    private void initGraphics() {
+        clip = new Rectangle();
+
+        cellPane = new Pane();
+        cellPane.setManaged(false);
+        cellPane.setClip(clip);
+
+        scrollBar = new ScrollBar();
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.setMin(0);
+
+        getChildren().setAll(cellPane, scrollBar);
+    }
+
+    private void registerListeners() {
+        gauges.addListener(new ListChangeListener<Gauge>() {
+            @Override public void onChanged(final Change<? extends Gauge> CHANGE) {
+                while (CHANGE.next()) {
+                    cellPane.getChildren().removeAll(CHANGE.getRemoved());
+                    for (Gauge gauge : CHANGE.getRemoved()) { skinCache.remove(gauge); }
+                }
+                cellsDirty = true;
+                requestLayout();
+            }
+        });
+        scrollBar.valueProperty().addListener(o -> requestLayout());
+        addEventHandler(ScrollEvent.SCROLL, e -> {
+            setScrollOffset(scrollBar.getValue() - e.getDeltaY());
+            e.consume();
+        });
+    }
+
+
+    // ******************** Methods *******************************************
+    public ObservableList<Gauge> getGauges() { return gauges; }
+
+    public double getCellWidth() { return cellWidth; }
+    public void setCellWidth(final double WIDTH) {
+        cellWidth = Helper.clamp(1, MAXIMUM_WIDTH, WIDTH);
+        cellsDirty = true;
+        requestLayout();
+    }
+
+    public double getCellHeight() { return cellHeight; }
+    public void setCellHeight(final double HEIGHT) {
+        cellHeight = Helper.clamp(1, MAXIMUM_HEIGHT, HEIGHT);
+        cellsDirty = true;
+        requestLayout();
+    }
+
+    public double getSpacing() { return spacing; }
+    public void setSpacing(final double SPACING) {
+        spacing    = Helper.clamp(0, MAXIMUM_WIDTH, SPACING);
+        cellsDirty = true;
+        requestLayout();
+    }
+
+    /**
+     * Defines the number of gauges outside of the viewport that will keep
+     * their skin. Setting it to 0 releases the skin of each gauge as soon as
+     * it leaves the viewport.
+     */
+    public int getCacheSize() { return cacheSize; }
+    public void setCacheSize(final int SIZE) {
+        cacheSize = Math.max(0, SIZE);
+        trimCache();
+    }
+
+    public int getNoOfColumns() { return noOfColumns; }
+
+    /**
+     * Returns the index of the first gauge that is attached to the scene graph.
+     * @return the index of the first gauge that is attached to the scene graph
+     */
+    public int getFirstVisibleIndex() { return firstIndex; }
+
+    /**
+     * Returns the index after the last gauge that is attached to the scene graph.
+     * @return the index after the last gauge that is attached to the scene graph
+     */
+    public int getLastVisibleIndex() { return lastIndex; }
+
+    public double getScrollOffset() { return scrollBar.getValue(); }
+    public void setScrollOffset(final double OFFSET) { scrollBar.setValue(Helper.clamp(scrollBar.getMin(), scrollBar.getMax(), OFFSET)); }
+
+    /**
+     * Scrolls the grid so that the gauge with the given index is in the viewport.
+     * @param INDEX
+     */
+    public void scrollTo(final int INDEX) {
+        if (INDEX < 0 || INDEX >= gauges.size() || noOfColumns == 0) return;
+        double rowHeight = cellHeight + spacing;
+        double rowY      = (INDEX / noOfColumns) * rowHeight;
+        double height    = cellPane.getHeight();
+        double offset    = scrollBar.getValue();
+        if (rowY < offset) {
+            setScrollOffset(rowY);
+        } else if (rowY + cellHeight > offset + height) {
+            setScrollOffset(rowY + cellHeight - height);
+        }
+    }
+    public void scrollTo(final Gauge GAUGE) { scrollTo(gauges.indexOf(GAUGE)); }
+
+    /**
+     * Releases the skins of all gauges outside of the viewport.
+     */
+    public void clearCache() {
+        List<Gauge> cachedGauges = new ArrayList<>(skinCache.keySet());
+        skinCache.clear();
+        for (Gauge gauge : cachedGauges) { gauge.releaseSkin(); }
+    }
+
+    private void trimCache() {
+        if (skinCache.size() <= cacheSize) return;
+        List<Gauge> cachedGauges = new ArrayList<>(skinCache.keySet());
+        for (int i = 0, n = cachedGauges.size() - cacheSize ; i < n ; i++) {
+            Gauge gauge = cachedGauges.get(i);
+            skinCache.remove(gauge);
+            gauge.releaseSkin();
+        }
+    }
+
+    private void updateCells(final int FROM, final int TO) {
+        if (!cellsDirty && FROM == firstIndex && TO == lastIndex) return;
+        firstIndex = FROM;
+        lastIndex  = TO;
+        cellsDirty = false;
+
+        Set<Gauge> inViewport = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = FROM ; i < TO ; i++) { inViewport.add(gauges.get(i)); }
+
+        // Detach all gauges that left the viewport and keep their skins in the cache
+        List<Node> children = cellPane.getChildren();
+        List<Node> outside  = new ArrayList<>();
+        for (Node node : children) {
+            if (inViewport.remove(node)) continue;
+            outside.add(node);
+        }
+        children.removeAll(outside);
+        for (Node node : outside) { skinCache.put((Gauge) node, Boolean.TRUE); }
+
+        // Attach all gauges that entered the viewport, a cached gauge reuses its skin
+        for (int i = FROM ; i < TO ; i++) {
+            Gauge gauge = gauges.get(i);
+            if (!inViewport.contains(gauge)) continue;
+            skinCache.remove(gauge);
+            children.add(gauge);
+            gauge.applyCss();
+        }
+    }
+
+
+    // ******************** Layout ********************************************
+    @Override protected void layoutChildren() {
+        Insets insets      = getInsets();
+        double width       = getWidth() - insets.getLeft() - insets.getRight();
+        double height      = getHeight() - insets.getTop() - insets.getBottom();
+        double barWidth    = scrollBar.prefWidth(-1);
+        double cellsWidth  = Math.max(0, width - barWidth);
+        double rowHeight   = cellHeight + spacing;
+        int    noOfGauges  = gauges.size();
+
+        noOfColumns        = Math.max(1, (int) ((cellsWidth + spacing) / (cellWidth + spacing)));
+        int    noOfRows    = (noOfGauges + noOfColumns - 1) / noOfColumns;
+        double totalHeight = Math.max(0, noOfRows * rowHeight - spacing);
+        double maxOffset   = Math.max(0, totalHeight - height);
+
+        scrollBar.setMax(maxOffset);
+        scrollBar.setVisibleAmount(Double.compare(totalHeight, 0) > 0 ? maxOffset * height / totalHeight : 0);
+        scrollBar.setBlockIncrement(height);
+        scrollBar.setUnitIncrement(rowHeight);
+        scrollBar.setDisable(Double.compare(maxOffset, 0) == 0);
+        if (scrollBar.getValue() > maxOffset) { scrollBar.setValue(maxOffset); }
+        scrollBar.resizeRelocate(insets.getLeft() + cellsWidth, insets.getTop(), barWidth, height);
+
+        double offset   = scrollBar.getValue();
+        int    firstRow = (int) (offset / rowHeight);
+        int    lastRow  = (int) ((offset + height) / rowHeight);
+        updateCells(Math.min(noOfGauges, firstRow * noOfColumns), Math.min(noOfGauges, (lastRow + 1) * noOfColumns));
+
+        cellPane.resizeRelocate(insets.getLeft(), insets.getTop(), cellsWidth, height);
+        clip.setWidth(cellsWidth);
+        clip.setHeight(height);
+
+        for (int i = firstIndex ; i < lastIndex ; i++) {
+            int column = i % noOfColumns;
+            int row    = i / noOfColumns;
+            gauges.get(i).resizeRelocate(column * (cellWidth + spacing), row * rowHeight - offset, cellWidth, cellHeight);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.events.ModelEvent;
+import eu.hansolo.medusa.events.ModelEvent.EventType;
+import eu.hansolo.medusa.events.ModelEventListener;
+import eu.hansolo.medusa.events.WeakModelEventListener;
+import eu.hansolo.medusa.tools.MovingAverage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * The value logic of a Gauge without any dependency to JavaFX.
+ * It implements the same semantics as the Gauge control (range handling,
+ * clamping, threshold exceeded/underrun detection, min- and max measured
+ * values, averaging and section checks) for a non animated gauge and could
+ * be used on a server, in back end alerting or in tests without
+ * initializing the JavaFX toolkit.
+ * All methods are thread safe, listeners will be called on the thread that
+ * changed the model after the model has been updated.
+ * A Gauge can show a model by calling gauge.setModel(MODEL).
+ */
+public class GaugeModel {
+    private static final int                      VALUE_CHANGED           = 1;
+    private static final int                      RANGE_CHANGED           = 1 << 1;
+    private static final int                      THRESHOLD_CHANGED       = 1 << 2;
+    private static final int                      MEASURED_VALUES_CHANGED = 1 << 3;
+    private static final int                      THRESHOLD_EXCEEDED      = 1 << 4;
+    private static final int                      THRESHOLD_UNDERRUN      = 1 << 5;
+    private final        ModelEvent               VALUE_EVENT             = new ModelEvent(GaugeModel.this, EventType.VALUE);
+    private final        ModelEvent               RANGE_EVENT             = new ModelEvent(GaugeModel.this, EventType.RANGE);
+    private final        ModelEvent               THRESHOLD_EVENT         = new ModelEvent(GaugeModel.this, EventType.THRESHOLD);
+    private final        ModelEvent               MEASURED_VALUES_EVENT   = new ModelEvent(GaugeModel.this, EventType.MEASURED_VALUES);
+    private final        ModelEvent               EXCEEDED_EVENT          = new ModelEvent(GaugeModel.this, EventType.THRESHOLD_EXCEEDED);
+    private final        ModelEvent               UNDERRUN_EVENT          = new ModelEvent(GaugeModel.this, EventType.THRESHOLD_UNDERRUN);
+    private              List<ModelEventListener> listenerList            = new CopyOnWriteArrayList<>();
+    private              double                   minValue;
+    private              double                   maxValue;
+    private              double                   range;
+    private              double                   value;
+    private              double                   oldValue;
+    private              double                   formerValue;
+    private              double                   threshold;
+    private              double                   originalMinValue;
+    private              double                   originalMaxValue;
+    private              double                   originalThreshold;
+    private              double                   minMeasuredValue;
+    private              double                   maxMeasuredValue;
+    private              boolean                  startFromZero;
+    private              boolean                  checkThreshold;
+    private              boolean                  checkSectionsForValue;
+    private              boolean                  averagingEnabled;
+    private              int                      averagingPeriod;
+    private              MovingAverage            movingAverage;
+    private              int                      noOfSections;
+    private              double[]                 sectionStarts;
+    private              double[]                 sectionStops;
+    private              double[]                 sectionCheckedValues;
+
+
+    // ******************** Constructors **************************************
+    public GaugeModel() {
+        this(0, 100);
+    }
+    public GaugeModel(final double MIN_VALUE, final double MAX_VALUE) {
+        minValue             = 0;
+        maxValue             = 100;
+        range                = 100;
+        threshold            = maxValue;
+        originalMinValue     = -Double.MAX_VALUE;
+        originalMaxValue     = Double.MAX_VALUE;
+        originalThreshold    = Double.MAX_VALUE;
+        minMeasuredValue     = maxValue;
+        maxMeasuredValue     = minValue;
+        averagingPeriod      = 10;
+        movingAverage        = new MovingAverage(averagingPeriod);
+        sectionStarts        = new double[0];
+        sectionStops         = new double[0];
+        sectionCheckedValues = new double[0];
+        setMinValue(MIN_VALUE);
+        setMaxValue(MAX_VALUE);
+    }
+
+
+    // ******************** Methods *******************************************
+    public synchronized double getValue() { return value; }
+    /**
+     * Sets the value of the model. Like in a non animated Gauge the
+     * threshold, the measured values, the moving average and the sections
+     * will be checked with the new value.
+     *
+     * @param VALUE
+     */
+    public void setValue(final double VALUE) {
+        int changes;
+        List<ModelEvent> sectionEvents;
+        synchronized (this) {
+            if (Double.compare(VALUE, value) == 0) return;
+            changes       = applyValue(VALUE);
+            sectionEvents = checkSections(VALUE);
+        }
+        fireModelEvents(changes, sectionEvents);
+    }
+
+    /**
+     * Returns the value of the model before the last change.
+     * @return the value of the model before the last change
+     */
+    public synchronized double getOldValue() { return oldValue; }
+
+    public synchronized double getMinValue() { return minValue; }
+    /**
+     * Sets the minimum value of the range. If the value is bigger than
+     * maxValue the maxValue will be set to the same value. The threshold
+     * and the value will be clamped to the new range.
+     *
+     * @param VALUE
+     */
+    public void setMinValue(final double VALUE) {
+        int changes;
+        synchronized (this) {
+            changes = RANGE_CHANGED;
+            if (VALUE > maxValue) { maxValue = VALUE; }
+            minValue = clamp(-Double.MAX_VALUE, maxValue, VALUE);
+            range    = maxValue - minValue;
+            if (Double.compare(originalMinValue, -Double.MAX_VALUE) == 0) { originalMinValue = minValue; }
+            if (startFromZero && minValue < 0) { changes |= applyValue(0); }
+            if (Double.compare(originalThreshold, threshold) < 0) {
+                threshold = clamp(minValue, maxValue, originalThreshold);
+                changes  |= THRESHOLD_CHANGED;
+            }
+            changes |= applyValue(clamp(minValue, maxValue, value));
+        }
+        fireModelEvents(changes, null);
+    }
+
+    public synchronized double getMaxValue() { return maxValue; }
+    /**
+     * Sets the maximum value of the range. If the value is smaller than
+     * minValue the minValue will be set to the same value. The threshold
+     * and the value will be clamped to the new range.
+     *
+     * @param VALUE
+     */
+    public void setMaxValue(final double VALUE) {
+        int changes;
+        synchronized (this) {
+            changes = RANGE_CHANGED;
+            if (VALUE < minValue) { minValue = VALUE; }
+            maxValue = clamp(minValue, Double.MAX_VALUE, VALUE);
+            range    = maxValue - minValue;
+            if (Double.compare(originalMaxValue, Double.MAX_VALUE) == 0) { originalMaxValue = maxValue; }
+            if (Double.compare(originalThreshold, threshold) > 0) {
+                threshold = clamp(minValue, maxValue, originalThreshold);
+                changes  |= THRESHOLD_CHANGED;
+            }
+            changes |= applyValue(clamp(minValue, maxValue, value));
+        }
+        fireModelEvents(changes, null);
+    }
+
+    /**
+     * Returns the range of the model (maxValue - minValue).
+     * @return the range of the model
+     */
+    public synchronized double getRange() { return range; }
+
+    public synchronized double getThreshold() { return threshold; }
+    /**
+     * Sets the threshold to the given value, the value will be clamped
+     * to the range of the model.
+     *
+     * @param THRESHOLD
+     */
+    public void setThreshold(final double THRESHOLD) {
+        synchronized (this) {
+            originalThreshold = THRESHOLD;
+            threshold         = clamp(minValue, maxValue, THRESHOLD);
+        }
+        fireModelEvents(THRESHOLD_CHANGED, null);
+    }
+
+    public synchronized boolean isCheckThreshold() { return checkThreshold; }
+    /**
+     * Defines if THRESHOLD_EXCEEDED and THRESHOLD_UNDERRUN events will be
+     * fired when the value crosses the threshold.
+     *
+     * @param CHECK
+     */
+    public synchronized void setCheckThreshold(final boolean CHECK) { checkThreshold = CHECK; }
+
+    public synchronized boolean isStartFromZero() { return startFromZero; }
+    public synchronized void setStartFromZero(final boolean START) { startFromZero = START; }
+
+    public synchronized double getMinMeasuredValue() { return minMeasuredValue; }
+    public synchronized double getMaxMeasuredValue() { return maxMeasuredValue; }
+    /**
+     * Resets the min- and maxMeasuredValue to the value of the model.
+     */
+    public void resetMeasuredValues() {
+        synchronized (this) {
+            minMeasuredValue = value;
+            maxMeasuredValue = value;
+        }
+        fireModelEvents(MEASURED_VALUES_CHANGED, null);
+    }
+
+    public synchronized boolean isAveragingEnabled() { return averagingEnabled; }
+    public synchronized void setAveragingEnabled(final boolean ENABLED) { averagingEnabled = ENABLED; }
+
+    public synchronized int getAveragingPeriod() { return averagingPeriod; }
+    /**
+     * Defines the number of values that will be used to calculate
+     * the moving average (1 - 1000). Setting the period resets the average.
+     *
+     * @param PERIOD
+     */
+    public synchronized void setAveragingPeriod(final int PERIOD) {
+        averagingPeriod = PERIOD;
+        movingAverage   = new MovingAverage(PERIOD);
+    }
+
+    /**
+     * Returns the moving average over the number of values defined by
+     * averagingPeriod.
+     * @return the moving average over the last values
+     */
+    public synchronized double getAverage() { return movingAverage.getAverage(); }
+
+    public synchronized boolean getCheckSectionsForValue() { return checkSectionsForValue; }
+    /**
+     * Defines if SECTION_ENTERED and SECTION_LEFT events will be fired when
+     * the value enters or leaves one of the sections.
+     *
+     * @param CHECK
+     */
+    public synchronized void setCheckSectionsForValue(final boolean CHECK) { checkSectionsForValue = CHECK; }
+
+    /**
+     * Adds a section with the given start and stop value and returns
+     * its index which will be used in the section events.
+     *
+     * @param START
+     * @param STOP
+     * @return the index of the new section
+     */
+    public synchronized int addSection(final double START, final double STOP) {
+        if (noOfSections == sectionStarts.length) {
+            int capacity         = Math.max(4, noOfSections * 2);
+            sectionStarts        = Arrays.copyOf(sectionStarts, capacity);
+            sectionStops         = Arrays.copyOf(sectionStops, capacity);
+            sectionCheckedValues = Arrays.copyOf(sectionCheckedValues, capacity);
+        }
+        sectionStarts[noOfSections]        = START;
+        sectionStops[noOfSections]         = STOP;
+        sectionCheckedValues[noOfSections] = -Double.MAX_VALUE;
+        return noOfSections++;
+    }
+    public synchronized void clearSections() { noOfSections = 0; }
+    public synchronized int getNoOfSections() { return noOfSections; }
+    public synchronized double getSectionStart(final int INDEX) { return sectionStarts[checkSectionIndex(INDEX)]; }
+    public synchronized double getSectionStop(final int INDEX) { return sectionStops[checkSectionIndex(INDEX)]; }
+    public synchronized boolean isValueInSection(final int INDEX) {
+        int index = checkSectionIndex(INDEX);
+        return sectionContains(index, value);
+    }
+
+    public void addModelEventListener(final ModelEventListener LISTENER) {
+        listenerList.removeIf(listener -> listener instanceof WeakModelEventListener && ((WeakModelEventListener) listener).wasGarbageCollected());
+        if (null != LISTENER && !listenerList.contains(LISTENER)) listenerList.add(LISTENER);
+    }
+    public void removeModelEventListener(final ModelEventListener LISTENER) { listenerList.remove(LISTENER); }
+    public void removeAllModelEventListeners() { listenerList.clear(); }
+
+    private int applyValue(final double VALUE) {
+        if (Double.compare(VALUE, value) == 0) return 0;
+        int changes = VALUE_CHANGED;
+        oldValue = value;
+        value    = VALUE;
+        if (checkThreshold) {
+            if (formerValue < threshold && VALUE > threshold) {
+                changes |= THRESHOLD_EXCEEDED;
+            } else if (formerValue > threshold && VALUE < threshold) {
+                changes |= THRESHOLD_UNDERRUN;
+            }
+        }
+        if (VALUE < minMeasuredValue) {
+            minMeasuredValue = VALUE;
+            changes |= MEASURED_VALUES_CHANGED;
+        } else if (VALUE > maxMeasuredValue) {
+            maxMeasuredValue = VALUE;
+            changes |= MEASURED_VALUES_CHANGED;
+        }
+        formerValue = VALUE;
+        if (averagingEnabled) { movingAverage.addValue(VALUE); }
+        return changes;
+    }
+
+    private List<ModelEvent> checkSections(final double VALUE) {
+        if (!checkSectionsForValue) return null;
+        List<ModelEvent> sectionEvents = null;
+        for (int i = 0 ; i < noOfSections ; i++) {
+            boolean wasInSection = sectionContains(i, sectionCheckedValues[i]);
+            boolean isInSection  = sectionContains(i, VALUE);
+            if (wasInSection != isInSection) {
+                if (null == sectionEvents) { sectionEvents = new ArrayList<>(2); }
+                sectionEvents.add(new ModelEvent(GaugeModel.this, isInSection ? EventType.SECTION_ENTERED : EventType.SECTION_LEFT, i));
+            }
+            sectionCheckedValues[i] = VALUE;
+        }
+        return sectionEvents;
+    }
+
+    private static double clamp(final double MIN, final double MAX, final double VALUE) {
+        if (VALUE < MIN) return MIN;
+        if (VALUE > MAX) return MAX;
+        return VALUE;
+    }
+
+    private boolean sectionContains(final int INDEX, final double VALUE) {
+        return Double.compare(VALUE, sectionStarts[INDEX]) >= 0 && Double.compare(VALUE, sectionStops[INDEX]) <= 0;
+    }
+
+    private int checkSectionIndex(final int INDEX) {
+        if (INDEX < 0 || INDEX >= noOfSections) throw new IndexOutOfBoundsException("Section index: " + INDEX + ", sections: " + noOfSections);
+        return INDEX;
+    }
+
+    private void fireModelEvents(final int CHANGES, final List<ModelEvent> SECTION_EVENTS) {
+        if (listenerList.isEmpty()) return;
+        if ((CHANGES & RANGE_CHANGED) != 0)           { fireModelEvent(RANGE_EVENT); }
+        if ((CHANGES & THRESHOLD_CHANGED) != 0)       { fireModelEvent(THRESHOLD_EVENT); }
+        if ((CHANGES & VALUE_CHANGED) != 0)           { fireModelEvent(VALUE_EVENT); }
+        if ((CHANGES & MEASURED_VALUES_CHANGED) != 0) { fireModelEvent(MEASURED_VALUES_EVENT); }
+        if ((CHANGES & THRESHOLD_EXCEEDED) != 0)      { fireModelEvent(EXCEEDED_EVENT); }
+        if ((CHANGES & THRESHOLD_UNDERRUN) != 0)      { fireModelEvent(UNDERRUN_EVENT); }
+        if (null != SECTION_EVENTS) { for (ModelEvent event : SECTION_EVENTS) { fireModelEvent(event); } }
+    }
+
+    public void fireModelEvent(final ModelEvent EVENT) {
+        for (ModelEventListener listener : listenerList) { listener.onModelEvent(EVENT); }
+    }
+}
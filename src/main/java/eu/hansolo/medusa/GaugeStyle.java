@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Gauge.KnobType;
+import eu.hansolo.medusa.Gauge.LedType;
+import eu.hansolo.medusa.Gauge.NeedleShape;
+import eu.hansolo.medusa.Gauge.NeedleSize;
+import eu.hansolo.medusa.Gauge.NeedleType;
+import javafx.geometry.Pos;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+
+/**
+ * Holds the styling values of a Gauge (colors, paints, tick mark factors
+ * and types, needle, knob, lcd and led styles and the custom font).
+ * A GaugeStyle will never change once it is shared which makes it
+ * possible that all gauges with the same styling reference the same
+ * instance instead of keeping their own copies of all values. A gauge
+ * that changes one of these values gets its own copy of the style
+ * (copy on write) and can share it again after calling compactStyle().
+ */
+public final class GaugeStyle {
+    public  static final GaugeStyle                                 DEFAULT  = new GaugeStyle();
+    private static final Map<GaugeStyle, WeakReference<GaugeStyle>> INTERNED = new WeakHashMap<>();
+
+    Color                zeroColor;
+    Paint                backgroundPaint;
+    Paint                borderPaint;
+    double               borderWidth;
+    Paint                foregroundPaint;
+    Color                knobColor;
+    KnobType             knobType;
+    Pos                  knobPosition;
+    TickLabelLocation    tickLabelLocation;
+    TickLabelOrientation tickLabelOrientation;
+    Color                tickLabelColor;
+    Color                tickMarkColor;
+    Color                majorTickMarkColor;
+    double               majorTickMarkLengthFactor;
+    double               majorTickMarkWidthFactor;
+    Color                mediumTickMarkColor;
+    double               mediumTickMarkLengthFactor;
+    double               mediumTickMarkWidthFactor;
+    Color                minorTickMarkColor;
+    double               minorTickMarkLengthFactor;
+    double               minorTickMarkWidthFactor;
+    TickMarkType         majorTickMarkType;
+    TickMarkType         mediumTickMarkType;
+    TickMarkType         minorTickMarkType;
+    NeedleType           needleType;
+    NeedleShape          needleShape;
+    NeedleSize           needleSize;
+    Color                needleColor;
+    Color                needleBorderColor;
+    Color                barColor;
+    Color                barBorderColor;
+    Color                barBackgroundColor;
+    LcdDesign            lcdDesign;
+    LcdFont              lcdFont;
+    Color                ledColor;
+    LedType              ledType;
+    Color                titleColor;
+    Color                subTitleColor;
+    Color                unitColor;
+    Color                valueColor;
+    Color                thresholdColor;
+    Color                averageColor;
+    double               customTickLabelFontSize;
+    Font                 customFont;
+
+
+    // ******************** Constructors **************************************
+    private GaugeStyle() {
+        zeroColor                  = Gauge.DARK_COLOR;
+        backgroundPaint            = Color.TRANSPARENT;
+        borderPaint                = Color.TRANSPARENT;
+        borderWidth                = 1;
+        foregroundPaint            = Color.TRANSPARENT;
+        knobColor                  = Color.rgb(204, 204, 204);
+        knobType                   = KnobType.STANDARD;
+        knobPosition               = Pos.CENTER;
+        tickLabelLocation          = TickLabelLocation.INSIDE;
+        tickLabelOrientation       = TickLabelOrientation.HORIZONTAL;
+        tickLabelColor             = Gauge.DARK_COLOR;
+        tickMarkColor              = Gauge.DARK_COLOR;
+        majorTickMarkColor         = Gauge.DARK_COLOR;
+        majorTickMarkLengthFactor  = 0.42;
+        majorTickMarkWidthFactor   = 0.275;
+        mediumTickMarkColor        = Gauge.DARK_COLOR;
+        mediumTickMarkLengthFactor = 0.41;
+        mediumTickMarkWidthFactor  = 0.175;
+        minorTickMarkColor         = Gauge.DARK_COLOR;
+        minorTickMarkLengthFactor  = 0.40;
+        minorTickMarkWidthFactor   = 0.1125;
+        majorTickMarkType          = TickMarkType.LINE;
+        mediumTickMarkType         = TickMarkType.LINE;
+        minorTickMarkType          = TickMarkType.LINE;
+        needleType                 = NeedleType.STANDARD;
+        needleShape                = NeedleShape.ANGLED;
+        needleSize                 = NeedleSize.STANDARD;
+        needleColor                = Color.rgb(200, 0, 0);
+        needleBorderColor          = Color.TRANSPARENT;
+        barColor                   = Gauge.BRIGHT_COLOR;
+        barBorderColor             = Color.TRANSPARENT;
+        barBackgroundColor         = Gauge.DARK_COLOR;
+        lcdDesign                  = LcdDesign.STANDARD;
+        lcdFont                    = LcdFont.DIGITAL_BOLD;
+        ledColor                   = Color.RED;
+        ledType                    = LedType.STANDARD;
+        titleColor                 = Gauge.DARK_COLOR;
+        subTitleColor              = Gauge.DARK_COLOR;
+        unitColor                  = Gauge.DARK_COLOR;
+        valueColor                 = Gauge.DARK_COLOR;
+        thresholdColor             = Color.CRIMSON;
+        averageColor               = Color.MAGENTA;
+        customTickLabelFontSize    = 18;
+        customFont                 = Fonts.robotoRegular(12);
+    }
+    GaugeStyle(final GaugeStyle STYLE) {
+        zeroColor                  = STYLE.zeroColor;
+        backgroundPaint            = STYLE.backgroundPaint;
+        borderPaint                = STYLE.borderPaint;
+        borderWidth                = STYLE.borderWidth;
+        foregroundPaint            = STYLE.foregroundPaint;
+        knobColor                  = STYLE.knobColor;
+        knobType                   = STYLE.knobType;
+        knobPosition               = STYLE.knobPosition;
+        tickLabelLocation          = STYLE.tickLabelLocation;
+        tickLabelOrientation       = STYLE.tickLabelOrientation;
+        tickLabelColor             = STYLE.tickLabelColor;
+        tickMarkColor              = STYLE.tickMarkColor;
+        majorTickMarkColor         = STYLE.majorTickMarkColor;
+        majorTickMarkLengthFactor  = STYLE.majorTickMarkLengthFactor;
+        majorTickMarkWidthFactor   = STYLE.majorTickMarkWidthFactor;
+        mediumTickMarkColor        = STYLE.mediumTickMarkColor;
+        mediumTickMarkLengthFactor = STYLE.mediumTickMarkLengthFactor;
+        mediumTickMarkWidthFactor  = STYLE.mediumTickMarkWidthFactor;
+        minorTickMarkColor         = STYLE.minorTickMarkColor;
+        minorTickMarkLengthFactor  = STYLE.minorTickMarkLengthFactor;
+        minorTickMarkWidthFactor   = STYLE.minorTickMarkWidthFactor;
+        majorTickMarkType          = STYLE.majorTickMarkType;
+        mediumTickMarkType         = STYLE.mediumTickMarkType;
+        minorTickMarkType          = STYLE.minorTickMarkType;
+        needleType                 = STYLE.needleType;
+        needleShape                = STYLE.needleShape;
+        needleSize                 = STYLE.needleSize;
+        needleColor                = STYLE.needleColor;
+        needleBorderColor          = STYLE.needleBorderColor;
+        barColor                   = STYLE.barColor;
+        barBorderColor             = STYLE.barBorderColor;
+        barBackgroundColor         = STYLE.barBackgroundColor;
+        lcdDesign                  = STYLE.lcdDesign;
+        lcdFont                    = STYLE.lcdFont;
+        ledColor                   = STYLE.ledColor;
+        ledType                    = STYLE.ledType;
+        titleColor                 = STYLE.titleColor;
+        subTitleColor              = STYLE.subTitleColor;
+        unitColor                  = STYLE.unitColor;
+        valueColor                 = STYLE.valueColor;
+        thresholdColor             = STYLE.thresholdColor;
+        averageColor               = STYLE.averageColor;
+        customTickLabelFontSize    = STYLE.customTickLabelFontSize;
+        customFont                 = STYLE.customFont;
+    }
+    GaugeStyle(final Gauge GAUGE) {
+        zeroColor                  = GAUGE.getZeroColor();
+        backgroundPaint            = GAUGE.getBackgroundPaint();
+        borderPaint                = GAUGE.getBorderPaint();
+        borderWidth                = GAUGE.getBorderWidth();
+        foregroundPaint            = GAUGE.getForegroundPaint();
+        knobColor                  = GAUGE.getKnobColor();
+        knobType                   = GAUGE.getKnobType();
+        knobPosition               = GAUGE.getKnobPosition();
+        tickLabelLocation          = GAUGE.getTickLabelLocation();
+        tickLabelOrientation       = GAUGE.getTickLabelOrientation();
+        tickLabelColor             = GAUGE.getTickLabelColor();
+        tickMarkColor              = GAUGE.getTickMarkColor();
+        majorTickMarkColor         = GAUGE.getMajorTickMarkColor();
+        majorTickMarkLengthFactor  = GAUGE.getMajorTickMarkLengthFactor();
+        majorTickMarkWidthFactor   = GAUGE.getMajorTickMarkWidthFactor();
+        mediumTickMarkColor        = GAUGE.getMediumTickMarkColor();
+        mediumTickMarkLengthFactor = GAUGE.getMediumTickMarkLengthFactor();
+        mediumTickMarkWidthFactor  = GAUGE.getMediumTickMarkWidthFactor();
+        minorTickMarkColor         = GAUGE.getMinorTickMarkColor();
+        minorTickMarkLengthFactor  = GAUGE.getMinorTickMarkLengthFactor();
+        minorTickMarkWidthFactor   = GAUGE.getMinorTickMarkWidthFactor();
+        majorTickMarkType          = GAUGE.getMajorTickMarkType();
+        mediumTickMarkType         = GAUGE.getMediumTickMarkType();
+        minorTickMarkType          = GAUGE.getMinorTickMarkType();
+        needleType                 = GAUGE.getNeedleType();
+        needleShape                = GAUGE.getNeedleShape();
+        needleSize                 = GAUGE.getNeedleSize();
+        needleColor                = GAUGE.getNeedleColor();
+        needleBorderColor          = GAUGE.getNeedleBorderColor();
+        barColor                   = GAUGE.getBarColor();
+        barBorderColor             = GAUGE.getBarBorderColor();
+        barBackgroundColor         = GAUGE.getBarBackgroundColor();
+        lcdDesign                  = GAUGE.getLcdDesign();
+        lcdFont                    = GAUGE.getLcdFont();
+        ledColor                   = GAUGE.getLedColor();
+        ledType                    = GAUGE.getLedType();
+        titleColor                 = GAUGE.getTitleColor();
+        subTitleColor              = GAUGE.getSubTitleColor();
+        unitColor                  = GAUGE.getUnitColor();
+        valueColor                 = GAUGE.getValueColor();
+        thresholdColor             = GAUGE.getThresholdColor();
+        averageColor               = GAUGE.getAverageColor();
+        customTickLabelFontSize    = GAUGE.getCustomTickLabelFontSize();
+        customFont                 = GAUGE.getCustomFont();
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the shared instance that is equal to the given style. If no
+     * equal style has been shared so far the given style will be shared
+     * and must not be changed anymore.
+     *
+     * @param STYLE
+     * @return the shared instance that is equal to the given style
+     */
+    static GaugeStyle intern(final GaugeStyle STYLE) {
+        synchronized (INTERNED) {
+            WeakReference<GaugeStyle> ref    = INTERNED.get(STYLE);
+            GaugeStyle                shared = null == ref ? null : ref.get();
+            if (null != shared) { return shared; }
+            INTERNED.put(STYLE, new WeakReference<>(STYLE));
+            return STYLE;
+        }
+    }
+
+    public Color getZeroColor() { return zeroColor; }
+
+    public Paint getBackgroundPaint() { return backgroundPaint; }
+
+    public Paint getBorderPaint() { return borderPaint; }
+
+    public double getBorderWidth() { return borderWidth; }
+
+    public Paint getForegroundPaint() { return foregroundPaint; }
+
+    public Color getKnobColor() { return knobColor; }
+
+    public KnobType getKnobType() { return knobType; }
+
+    public Pos getKnobPosition() { return knobPosition; }
+
+    public TickLabelLocation getTickLabelLocation() { return tickLabelLocation; }
+
+    public TickLabelOrientation getTickLabelOrientation() { return tickLabelOrientation; }
+
+    public Color getTickLabelColor() { return tickLabelColor; }
+
+    public Color getTickMarkColor() { return tickMarkColor; }
+
+    public Color getMajorTickMarkColor() { return majorTickMarkColor; }
+
+    public double getMajorTickMarkLengthFactor() { return majorTickMarkLengthFactor; }
+
+    public double getMajorTickMarkWidthFactor() { return majorTickMarkWidthFactor; }
+
+    public Color getMediumTickMarkColor() { return mediumTickMarkColor; }
+
+    public double getMediumTickMarkLengthFactor() { return mediumTickMarkLengthFactor; }
+
+    public double getMediumTickMarkWidthFactor() { return mediumTickMarkWidthFactor; }
+
+    public Color getMinorTickMarkColor() { return minorTickMarkColor; }
+
+    public double getMinorTickMarkLengthFactor() { return minorTickMarkLengthFactor; }
+
+    public double getMinorTickMarkWidthFactor() { return minorTickMarkWidthFactor; }
+
+    public TickMarkType getMajorTickMarkType() { return majorTickMarkType; }
+
+    public TickMarkType getMediumTickMarkType() { return mediumTickMarkType; }
+
+    public TickMarkType getMinorTickMarkType() { return minorTickMarkType; }
+
+    public NeedleType getNeedleType() { return needleType; }
+
+    public NeedleShape getNeedleShape() { return needleShape; }
+
+    public NeedleSize getNeedleSize() { return needleSize; }
+
+    public Color getNeedleColor() { return needleColor; }
+
+    public Color getNeedleBorderColor() { return needleBorderColor; }
+
+    public Color getBarColor() { return barColor; }
+
+    public Color getBarBorderColor() { return barBorderColor; }
+
+    public Color getBarBackgroundColor() { return barBackgroundColor; }
+
+    public LcdDesign getLcdDesign() { return lcdDesign; }
+
+    public LcdFont getLcdFont() { return lcdFont; }
+
+    public Color getLedColor() { return ledColor; }
+
+    public LedType getLedType() { return ledType; }
+
+    public Color getTitleColor() { return titleColor; }
+
+    public Color getSubTitleColor() { return subTitleColor; }
+
+    public Color getUnitColor() { return unitColor; }
+
+    public Color getValueColor() { return valueColor; }
+
+    public Color getThresholdColor() { return thresholdColor; }
+
+    public Color getAverageColor() { return averageColor; }
+
+    public double getCustomTickLabelFontSize() { return customTickLabelFontSize; }
+
+    public Font getCustomFont() { return customFont; }
+
+    @Override public boolean equals(final Object OBJECT) {
+        if (this == OBJECT) return true;
+        if (!(OBJECT instanceof GaugeStyle)) return false;
+        GaugeStyle style = (GaugeStyle) OBJECT;
+        return Objects.equals(zeroColor, style.zeroColor) &&
+               Objects.equals(backgroundPaint, style.backgroundPaint) &&
+               Objects.equals(borderPaint, style.borderPaint) &&
+               Double.compare(borderWidth, style.borderWidth) == 0 &&
+               Objects.equals(foregroundPaint, style.foregroundPaint) &&
+               Objects.equals(knobColor, style.knobColor) &&
+               knobType == style.knobType &&
+               knobPosition == style.knobPosition &&
+               tickLabelLocation == style.tickLabelLocation &&
+               tickLabelOrientation == style.tickLabelOrientation &&
+               Objects.equals(tickLabelColor, style.tickLabelColor) &&
+               Objects.equals(tickMarkColor, style.tickMarkColor) &&
+               Objects.equals(majorTickMarkColor, style.majorTickMarkColor) &&
+               Double.compare(majorTickMarkLengthFactor, style.majorTickMarkLengthFactor) == 0 &&
+               Double.compare(majorTickMarkWidthFactor, style.majorTickMarkWidthFactor) == 0 &&
+               Objects.equals(mediumTickMarkColor, style.mediumTickMarkColor) &&
+               Double.compare(mediumTickMarkLengthFactor, style.mediumTickMarkLengthFactor) == 0 &&
+               Double.compare(mediumTickMarkWidthFactor, style.mediumTickMarkWidthFactor) == 0 &&
+               Objects.equals(minorTickMarkColor, style.minorTickMarkColor) &&
+               Double.compare(minorTickMarkLengthFactor, style.minorTickMarkLengthFactor) == 0 &&
+               Double.compare(minorTickMarkWidthFactor, style.minorTickMarkWidthFactor) == 0 &&
+               majorTickMarkType == style.majorTickMarkType &&
+               mediumTickMarkType == style.mediumTickMarkType &&
+               minorTickMarkType == style.minorTickMarkType &&
+               needleType == style.needleType &&
+               needleShape == style.needleShape &&
+               needleSize == style.needleSize &&
+               Objects.equals(needleColor, style.needleColor) &&
+               Objects.equals(needleBorderColor, style.needleBorderColor) &&
+               Objects.equals(barColor, style.barColor) &&
+               Objects.equals(barBorderColor, style.barBorderColor) &&
+               Objects.equals(barBackgroundColor, style.barBackgroundColor) &&
+               lcdDesign == style.lcdDesign &&
+               lcdFont == style.lcdFont &&
+               Objects.equals(ledColor, style.ledColor) &&
+               ledType == style.ledType &&
+               Objects.equals(titleColor, style.titleColor) &&
+               Objects.equals(subTitleColor, style.subTitleColor) &&
+               Objects.equals(unitColor, style.unitColor) &&
+               Objects.equals(valueColor, style.valueColor) &&
+               Objects.equals(thresholdColor, style.thresholdColor) &&
+               Objects.equals(averageColor, style.averageColor) &&
+               Double.compare(customTickLabelFontSize, style.customTickLabelFontSize) == 0 &&
+               Objects.equals(customFont, style.customFont);
+    }
+
+    @Override public int hashCode() {
+        int hash = 1;
+        hash = 31 * hash + Objects.hashCode(zeroColor);
+        hash = 31 * hash + Objects.hashCode(backgroundPaint);
+        hash = 31 * hash + Objects.hashCode(borderPaint);
+        hash = 31 * hash + Double.hashCode(borderWidth);
+        hash = 31 * hash + Objects.hashCode(foregroundPaint);
+        hash = 31 * hash + Objects.hashCode(knobColor);
+        hash = 31 * hash + Objects.hashCode(knobType);
+        hash = 31 * hash + Objects.hashCode(knobPosition);
+        hash = 31 * hash + Objects.hashCode(tickLabelLocation);
+        hash = 31 * hash + Objects.hashCode(tickLabelOrientation);
+        hash = 31 * hash + Objects.hashCode(tickLabelColor);
+        hash = 31 * hash + Objects.hashCode(tickMarkColor);
+        hash = 31 * hash + Objects.hashCode(majorTickMarkColor);
+        hash = 31 * hash + Double.hashCode(majorTickMarkLengthFactor);
+        hash = 31 * hash + Double.hashCode(majorTickMarkWidthFactor);
+        hash = 31 * hash + Objects.hashCode(mediumTickMarkColor);
+        hash = 31 * hash + Double.hashCode(mediumTickMarkLengthFactor);
+        hash = 31 * hash + Double.hashCode(mediumTickMarkWidthFactor);
+        hash = 31 * hash + Objects.hashCode(minorTickMarkColor);
+        hash = 31 * hash + Double.hashCode(minorTickMarkLengthFactor);
+        hash = 31 * hash + Double.hashCode(minorTickMarkWidthFactor);
+        hash = 31 * hash + Objects.hashCode(majorTickMarkType);
+        hash = 31 * hash + Objects.hashCode(mediumTickMarkType);
+        hash = 31 * hash + Objects.hashCode(minorTickMarkType);
+        hash = 31 * hash + Objects.hashCode(needleType);
+        hash = 31 * hash + Objects.hashCode(needleShape);
+        hash = 31 * hash + Objects.hashCode(needleSize);
+        hash = 31 * hash + Objects.hashCode(needleColor);
+        hash = 31 * hash + Objects.hashCode(needleBorderColor);
+        hash = 31 * hash + Objects.hashCode(barColor);
+        hash = 31 * hash + Objects.hashCode(barBorderColor);
+        hash = 31 * hash + Objects.hashCode(barBackgroundColor);
+        hash = 31 * hash + Objects.hashCode(lcdDesign);
+        hash = 31 * hash + Objects.hashCode(lcdFont);
+        hash = 31 * hash + Objects.hashCode(ledColor);
+        hash = 31 * hash + Objects.hashCode(ledType);
+        hash = 31 * hash + Objects.hashCode(titleColor);
+        hash = 31 * hash + Objects.hashCode(subTitleColor);
+        hash = 31 * hash + Objects.hashCode(unitColor);
+        hash = 31 * hash + Objects.hashCode(valueColor);
+        hash = 31 * hash + Objects.hashCode(thresholdColor);
+        hash = 31 * hash + Objects.hashCode(averageColor);
+        hash = 31 * hash + Double.hashCode(customTickLabelFontSize);
+        hash = 31 * hash + Objects.hashCode(customFont);
+        return hash;
+    }
+}
@@ -17,24 +17,31 @@
 package eu.hansolo.medusa;
 
 import eu.hansolo.medusa.Marker.MarkerType;
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.Property;
-import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
 import javafx.event.EventHandler;
 import javafx.scene.paint.Color;
 
-import java.util.HashMap;
+import java.util.EnumSet;
 
 
 /**
  * Created by hansolo on 05.01.16.
  */
-public class MarkerBuilder<B extends MarkerBuilder<B>> {
-    private HashMap<String, Property> properties = new HashMap<>();
+public class MarkerBuilder<B extends MarkerBuilder<B>> implements Cloneable {
+    private enum Option {
+        VALUE, TEXT, COLOR, MARKER_TYPE, STYLE_CLASS, ON_MARKER_PRESSED, ON_MARKER_RELEASED, ON_MARKER_EXCEEDED,
+        ON_MARKER_UNDERRUN
+    }
+
+    private EnumSet<Option>                  options = EnumSet.noneOf(Option.class);
+    private double                           value;
+    private String                           text;
+    private Color                            color;
+    private MarkerType                       markerType;
+    private String                           styleClass;
+    private EventHandler<Marker.MarkerEvent> onMarkerPressed;
+    private EventHandler<Marker.MarkerEvent> onMarkerReleased;
+    private EventHandler<Marker.MarkerEvent> onMarkerExceeded;
+    private EventHandler<Marker.MarkerEvent> onMarkerUnderrun;
 
 
     // ******************** Constructors **************************************
@@ -46,72 +53,123 @@ public class MarkerBuilder<B extends MarkerBuilder<B>> {
         return new MarkerBuilder();
     }
 
+    /**
+     * Returns a new builder that is initialized with the settings of the
+     * given marker. Could be used to create a template once and derive
+     * any number of markers from it. Listeners are not copied.
+     * @param PROTOTYPE
+     * @return a new builder initialized with the settings of the given marker
+     */
+    public static final MarkerBuilder from(final Marker PROTOTYPE) {
+        return create().value(PROTOTYPE.getValue())
+                       .text(PROTOTYPE.getText())
+                       .color(PROTOTYPE.getColor())
+                       .markerType(PROTOTYPE.getMarkerType())
+                       .styleClass(PROTOTYPE.getStyleClass());
+    }
+
+    /**
+     * Returns a new builder with the same settings as this builder.
+     * Changing the copy won't affect this builder.
+     * @return a new builder with the same settings as this builder
+     */
+    public final B copy() {
+        try {
+            MarkerBuilder copy = (MarkerBuilder) super.clone();
+            copy.options = options.clone();
+            return (B) copy;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
     public final B value(final double VALUE) {
-        properties.put("value", new SimpleDoubleProperty(VALUE));
+        value = VALUE;
+        options.add(Option.VALUE);
         return (B)this;
     }
 
     public final B text(final String TEXT) {
-        properties.put("text", new SimpleStringProperty(TEXT));
+        text = TEXT;
+        options.add(Option.TEXT);
         return (B)this;
     }
 
     public final B color(final Color COLOR) {
-        properties.put("color", new SimpleObjectProperty<>(COLOR));
+        color = COLOR;
+        options.add(Option.COLOR);
         return (B)this;
     }
 
     public final B markerType(final MarkerType TYPE) {
-        properties.put("markerType", new SimpleObjectProperty<>(TYPE));
+        markerType = TYPE;
+        options.add(Option.MARKER_TYPE);
         return (B)this;
     }
 
     public final B styleClass(final String STYLE_CLASS) {
-        properties.put("styleClass", new SimpleStringProperty(STYLE_CLASS));
+        styleClass = STYLE_CLASS;
+        options.add(Option.STYLE_CLASS);
         return (B)this;
     }
 
     public final B onMarkerPressed(final EventHandler<Marker.MarkerEvent> HANDLER) {
-        properties.put("onMarkerPressed", new SimpleObjectProperty<>(HANDLER));
+        onMarkerPressed = HANDLER;
+        options.add(Option.ON_MARKER_PRESSED);
         return (B)this;
     }
 
     public final B onMarkerReleased(final EventHandler<Marker.MarkerEvent> HANDLER) {
-        properties.put("onMarkerReleased", new SimpleObjectProperty<>(HANDLER));
+        onMarkerReleased = HANDLER;
+        options.add(Option.ON_MARKER_RELEASED);
         return (B)this;
     }
 
     public final B onMarkerExceeded(final EventHandler<Marker.MarkerEvent> HANDLER) {
-        properties.put("onMarkerExceeded", new SimpleObjectProperty<>(HANDLER));
+        onMarkerExceeded = HANDLER;
+        options.add(Option.ON_MARKER_EXCEEDED);
         return (B)this;
     }
 
     public final B onMarkerUnderrun(final EventHandler<Marker.MarkerEvent> HANDLER) {
-        properties.put("onMarkerUnderrun", new SimpleObjectProperty<>(HANDLER));
+        onMarkerUnderrun = HANDLER;
+        options.add(Option.ON_MARKER_UNDERRUN);
         return (B)this;
     }
 
     public final Marker build() {
         final Marker MARKER = new Marker();
-        for (String key : properties.keySet()) {
-            if ("value".equals(key)) {
-                MARKER.setValue(((DoubleProperty) properties.get(key)).get());
-            } else if("text".equals(key)) {
-                MARKER.setText(((StringProperty) properties.get(key)).get());
-            } else if ("color".equals(key)) {
-                MARKER.setColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("markerType".equals(key)) {
-                MARKER.setMarkerType(((ObjectProperty<MarkerType>) properties.get(key)).get());
-            } else if ("onMarkerPressed".equals(key)) {
-                MARKER.setOnMarkerPressed(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("onMarkerReleased".equals(key)) {
-                MARKER.setOnMarkerReleased(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("onMarkerExceeded".equals(key)) {
-                MARKER.setOnMarkerExceeded(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("onMarkerUnderrun".equals(key)) {
-                MARKER.setOnMarkerUnderrun(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("styleClass".equals(key)) {
-                MARKER.setStyleClass(((StringProperty) properties.get(key)).get());
+        for (Option option : options) {
+            switch (option) {
+                case VALUE:
+                    MARKER.setValue(value);
+                    break;
+                case TEXT:
+                    MARKER.setText(text);
+                    break;
+                case COLOR:
+                    MARKER.setColor(color);
+                    break;
+                case MARKER_TYPE:
+                    MARKER.setMarkerType(markerType);
+                    break;
+                case ON_MARKER_PRESSED:
+                    MARKER.setOnMarkerPressed(onMarkerPressed);
+                    break;
+                case ON_MARKER_RELEASED:
+                    MARKER.setOnMarkerReleased(onMarkerReleased);
+                    break;
+                case ON_MARKER_EXCEEDED:
+                    MARKER.setOnMarkerExceeded(onMarkerExceeded);
+                    break;
+                case ON_MARKER_UNDERRUN:
+                    MARKER.setOnMarkerUnderrun(onMarkerUnderrun);
+                    break;
+                case STYLE_CLASS:
+                    MARKER.setStyleClass(styleClass);
+                    break;
+                default:
+                    break;
             }
         }
         return MARKER;
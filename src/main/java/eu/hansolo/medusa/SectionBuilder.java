@@ -17,25 +17,32 @@
 package eu.hansolo.medusa;
 
 import eu.hansolo.medusa.Section.SectionEvent;
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.Property;
-import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.beans.property.StringProperty;
 import javafx.event.EventHandler;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 
-import java.util.HashMap;
+import java.util.EnumSet;
 
 
 /**
  * Created by hansolo on 20.12.15.
  */
-public class SectionBuilder<B extends SectionBuilder<B>> {
-    private HashMap<String, Property> properties = new HashMap<>();
+public class SectionBuilder<B extends SectionBuilder<B>> implements Cloneable {
+    private enum Option {
+        START, STOP, TEXT, ICON, COLOR, HIGHLIGHT_COLOR, TEXT_COLOR, STYLE_CLASS, ON_SECTION_ENTERED, ON_SECTION_LEFT
+    }
+
+    private EnumSet<Option>            options = EnumSet.noneOf(Option.class);
+    private double                     start;
+    private double                     stop;
+    private String                     text;
+    private Image                      icon;
+    private Color                      color;
+    private Color                      highlightColor;
+    private Color                      textColor;
+    private String                     styleClass;
+    private EventHandler<SectionEvent> onSectionEntered;
+    private EventHandler<SectionEvent> onSectionLeft;
 
 
     // ******************** Constructors **************************************
@@ -47,79 +54,135 @@ public class SectionBuilder<B extends SectionBuilder<B>> {
         return new SectionBuilder();
     }
 
+    /**
+     * Returns a new builder that is initialized with the settings of the
+     * given section. Could be used to create a template once and derive
+     * any number of sections from it. Listeners are not copied.
+     * @param PROTOTYPE
+     * @return a new builder initialized with the settings of the given section
+     */
+    public static final SectionBuilder from(final Section PROTOTYPE) {
+        return create().start(PROTOTYPE.getStart())
+                       .stop(PROTOTYPE.getStop())
+                       .text(PROTOTYPE.getText())
+                       .icon(PROTOTYPE.getImage())
+                       .color(PROTOTYPE.getColor())
+                       .highlightColor(PROTOTYPE.getHighlightColor())
+                       .textColor(PROTOTYPE.getTextColor())
+                       .styleClass(PROTOTYPE.getStyleClass());
+    }
+
+    /**
+     * Returns a new builder with the same settings as this builder.
+     * Changing the copy won't affect this builder.
+     * @return a new builder with the same settings as this builder
+     */
+    public final B copy() {
+        try {
+            SectionBuilder copy = (SectionBuilder) super.clone();
+            copy.options = options.clone();
+            return (B) copy;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
     public final B start(final double VALUE) {
-        properties.put("start", new SimpleDoubleProperty(VALUE));
+        start = VALUE;
+        options.add(Option.START);
         return (B)this;
     }
 
     public final B stop(final double VALUE) {
-        properties.put("stop", new SimpleDoubleProperty(VALUE));
+        stop = VALUE;
+        options.add(Option.STOP);
         return (B)this;
     }
 
     public final B text(final String TEXT) {
-        properties.put("text", new SimpleStringProperty(TEXT));
+        text = TEXT;
+        options.add(Option.TEXT);
         return (B)this;
     }
 
     public final B icon(final Image IMAGE) {
-        properties.put("icon", new SimpleObjectProperty<>(IMAGE));
+        icon = IMAGE;
+        options.add(Option.ICON);
         return (B)this;
     }
 
     public final B color(final Color COLOR) {
-        properties.put("color", new SimpleObjectProperty<>(COLOR));
+        color = COLOR;
+        options.add(Option.COLOR);
         return (B)this;
     }
 
     public final B highlightColor(final Color COLOR) {
-        properties.put("highlightColor", new SimpleObjectProperty<>(COLOR));
+        highlightColor = COLOR;
+        options.add(Option.HIGHLIGHT_COLOR);
         return (B)this;
     }
 
     public final B textColor(final Color COLOR) {
-        properties.put("textColor", new SimpleObjectProperty<>(COLOR));
+        textColor = COLOR;
+        options.add(Option.TEXT_COLOR);
         return (B)this;
     }
 
     public final B styleClass(final String STYLE_CLASS) {
-        properties.put("styleClass", new SimpleStringProperty(STYLE_CLASS));
+        styleClass = STYLE_CLASS;
+        options.add(Option.STYLE_CLASS);
         return (B)this;
     }
 
     public final B onSectionEntered(final EventHandler<SectionEvent> HANDLER) {
-        properties.put("onSectionEntered", new SimpleObjectProperty<>(HANDLER));
+        onSectionEntered = HANDLER;
+        options.add(Option.ON_SECTION_ENTERED);
         return (B)this;
     }
 
     public final B onSectionLeft(final EventHandler<SectionEvent> HANDLER) {
-        properties.put("onSectionLeft", new SimpleObjectProperty<>(HANDLER));
+        onSectionLeft = HANDLER;
+        options.add(Option.ON_SECTION_LEFT);
         return (B)this;
     }
 
     public final Section build() {
         final Section SECTION = new Section();
-        for (String key : properties.keySet()) {
-            if ("start".equals(key)) {
-                SECTION.setStart(((DoubleProperty) properties.get(key)).get());
-            } else if("stop".equals(key)) {
-                SECTION.setStop(((DoubleProperty) properties.get(key)).get());
-            } else if("text".equals(key)) {
-                SECTION.setText(((StringProperty) properties.get(key)).get());
-            } else if("icon".equals(key)) {
-                SECTION.setIcon(((ObjectProperty<Image>) properties.get(key)).get());
-            } else if ("color".equals(key)) {
-                SECTION.setColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("highlightColor".equals(key)) {
-                SECTION.setHighlightColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("textColor".equals(key)) {
-                SECTION.setTextColor(((ObjectProperty<Color>) properties.get(key)).get());
-            } else if ("onSectionEntered".equals(key)) {
-                SECTION.setOnSectionEntered(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("onSectionLeft".equals(key)) {
-                SECTION.setOnSectionLeft(((ObjectProperty<EventHandler>) properties.get(key)).get());
-            } else if ("styleClass".equals(key)) {
-                SECTION.setStyleClass(((StringProperty) properties.get(key)).get());
+        for (Option option : options) {
+            switch (option) {
+                case START:
+                    SECTION.setStart(start);
+                    break;
+                case STOP:
+                    SECTION.setStop(stop);
+                    break;
+                case TEXT:
+                    SECTION.setText(text);
+                    break;
+                case ICON:
+                    SECTION.setIcon(icon);
+                    break;
+                case COLOR:
+                    SECTION.setColor(color);
+                    break;
+                case HIGHLIGHT_COLOR:
+                    SECTION.setHighlightColor(highlightColor);
+                    break;
+                case TEXT_COLOR:
+                    SECTION.setTextColor(textColor);
+                    break;
+                case ON_SECTION_ENTERED:
+                    SECTION.setOnSectionEntered(onSectionEntered);
+                    break;
+                case ON_SECTION_LEFT:
+                    SECTION.setOnSectionLeft(onSectionLeft);
+                    break;
+                case STYLE_CLASS:
+                    SECTION.setStyleClass(styleClass);
+                    break;
+                default:
+                    break;
             }
         }
         return SECTION;
@@ -16,99 +16,341 @@
 
 package eu.hansolo.medusa;
 
+import com.sun.javafx.tk.TKPulseListener;
+import com.sun.javafx.tk.Toolkit;
+import eu.hansolo.medusa.Clock.ClockSkinType;
 import eu.hansolo.medusa.Gauge.SkinType;
-import eu.hansolo.medusa.events.UpdateEvent;
-import eu.hansolo.medusa.events.UpdateEventListener;
 import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
-import javafx.geometry.Orientation;
-import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.layout.StackPane;
-import javafx.scene.paint.Color;
+import javafx.scene.control.Control;
+import javafx.scene.layout.FlowPane;
 import javafx.stage.Stage;
 
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import static eu.hansolo.medusa.tools.Helper.getThreadFactory;
 
+
+/**
+ * Rendering stress harness.
+ * Creates N gauges (or clocks) of each given skin type, drives the gauges
+ * with a synthetic feed of M updates per second per gauge and measures
+ * the pulses on the FX application thread. One JSON object per skin will
+ * be written (JSON lines) to stdout or to the given output file so that
+ * CI can compare skins and releases.
+ *
+ * Parameters (all optional):
+ *   --skins=LCD,GAUGE,...     gauge skin types or ALL (default LCD)
+ *   --clockSkins=CLOCK,...    clock skin types or ALL (default none)
+ *   --gauges=N                number of controls per skin (default 100)
+ *   --rate=M                  updates per second per gauge (default 20)
+ *   --warmup=S                warmup in seconds per skin (default 3)
+ *   --duration=S              measurement in seconds per skin (default 10)
+ *   --size=PX                 width and height of each control (default 100)
+ *   --animated=true|false     animate the gauges (default false)
+ *   --output=FILE             append results to FILE instead of stdout
+ *   --headless                run with Monocle headless (needs openjfx-monocle)
+ */
 public class Test extends Application {
-    private static final Random         RND       = new Random();
-    private static       int            noOfNodes = 0;
-    private              Gauge          gauge;
-    private              long           lastTimerCall;
-    private              AnimationTimer timer;
+    private static final Random                   RND                = new Random();
+    private static final double                   FRAME_NANOS        = 1_000_000_000.0 / 60.0;
+    private static       int                      noOfNodes          = 0;
+    private              Queue<Object>            skinQueue;
+    private              int                      noOfGauges;
+    private              double                   rate;
+    private              double                   warmupSeconds;
+    private              double                   durationSeconds;
+    private              double                   controlSize;
+    private              boolean                  animated;
+    private              String                   output;
+    private              FlowPane                 pane;
+    private              List<Control>            controls;
+    private              ScheduledExecutorService feedService;
+    private              ScheduledFuture<?>       feedTask;
+    private              List<Gauge>              feedGauges;
+    private              AnimationTimer           timer;
+    private              TKPulseListener          postPulseListener;
+    private              ThreadMXBean             threadBean;
+    private              MemoryMXBean             memoryBean;
+    private              long                     fxThreadId;
+    private              Object                   currentSkin;
+    private              boolean                  measuring;
+    private              long                     phaseStart;
+    private              long                     pulseStart;
+    private              long                     lastFrame;
+    private              long[]                   pulseDurations;
+    private              long[]                   frameIntervals;
+    private              int                      noOfPulses;
+    private              int                      noOfFrames;
+    private              long                     droppedFrames;
+    private              long                     updatesPosted;
+    private              long                     cpuTimeStart;
+    private              long                     allocatedBytesStart;
 
 
     @Override public void init() {
-        gauge = GaugeBuilder.create()
-                            .skinType(SkinType.LCD)
-                            .title("Input")
-                            .returnToZero(false)
-                            .animated(true)
-                            .animationDuration(25)
-                            .smoothing(true)
-                            .decimals(0)
-                            .needleBehavior(Gauge.NeedleBehavior.STANDARD)
-                            .prefHeight(200)
-                            .barColor(Color.CORNFLOWERBLUE)
-                            .build();
-
-        gauge = new Gauge(SkinType.LCD);
-
-        /*
-        gauge.currentValueProperty().addListener(o -> {
-            double currentValue = gauge.getCurrentValue();
-            if (currentValue > 3) {
-                gauge.setBarColor(Color.rgb(200, 80, 0));
-            } else if (currentValue < -3) {
-                gauge.setBarColor(Color.rgb(0, 80, 200));
-            } else {
-                gauge.setBarColor(Color.rgb(0, 200, 0));
-            }
-        });
-        */
+        Map<String, String> named = getParameters().getNamed();
+        noOfGauges      = Integer.parseInt(named.getOrDefault("gauges", "100"));
+        rate            = Double.parseDouble(named.getOrDefault("rate", "20"));
+        warmupSeconds   = Double.parseDouble(named.getOrDefault("warmup", "3"));
+        durationSeconds = Double.parseDouble(named.getOrDefault("duration", "10"));
+        controlSize     = Double.parseDouble(named.getOrDefault("size", "100"));
+        animated        = Boolean.parseBoolean(named.getOrDefault("animated", "false"));
+        output          = named.get("output");
+
+        skinQueue = new LinkedList<>();
+        String skins = named.getOrDefault("skins", named.containsKey("clockSkins") ? "" : "LCD");
+        if ("ALL".equalsIgnoreCase(skins)) {
+            skinQueue.addAll(Arrays.asList(SkinType.values()));
+        } else {
+            for (String skin : skins.split(",")) { if (!skin.trim().isEmpty()) skinQueue.add(SkinType.valueOf(skin.trim().toUpperCase())); }
+        }
+        String clockSkins = named.getOrDefault("clockSkins", "");
+        if ("ALL".equalsIgnoreCase(clockSkins)) {
+            skinQueue.addAll(Arrays.asList(ClockSkinType.values()));
+        } else {
+            for (String skin : clockSkins.split(",")) { if (!skin.trim().isEmpty()) skinQueue.add(ClockSkinType.valueOf(skin.trim().toUpperCase())); }
+        }
 
-        lastTimerCall = System.nanoTime();
-        timer         = new AnimationTimer() {
+        threadBean  = ManagementFactory.getThreadMXBean();
+        memoryBean  = ManagementFactory.getMemoryMXBean();
+        feedService = Executors.newSingleThreadScheduledExecutor(getThreadFactory("StressFeed", true));
+        controls    = new ArrayList<>();
+
+        // Pulse starts with the animation timers and ends after css, layout and scene sync
+        timer = new AnimationTimer() {
             @Override public void handle(final long now) {
-                if (now > lastTimerCall + 1_000_000_000l) {
-                    double value = RND.nextDouble() * 100;
-                    //System.out.println(value);
-                    gauge.setValue(value);
-                    lastTimerCall = now;
+                pulseStart = System.nanoTime();
+                if (!measuring) return;
+                if (lastFrame > 0) {
+                    long interval = now - lastFrame;
+                    if (noOfFrames < frameIntervals.length) { frameIntervals[noOfFrames++] = interval; }
+                    droppedFrames += Math.max(0, Math.round(interval / FRAME_NANOS) - 1);
                 }
+                lastFrame = now;
             }
         };
+        postPulseListener = () -> {
+            if (!measuring || pulseStart == 0) return;
+            if (noOfPulses < pulseDurations.length) { pulseDurations[noOfPulses++] = System.nanoTime() - pulseStart; }
+        };
     }
 
     @Override public void start(Stage stage) {
-        StackPane pane = new StackPane(gauge);
+        fxThreadId = Thread.currentThread().getId();
+        if (threadBean.isThreadCpuTimeSupported()) { threadBean.setThreadCpuTimeEnabled(true); }
+
+        pane = new FlowPane();
         pane.setPadding(new Insets(10));
+        pane.setHgap(5);
+        pane.setVgap(5);
 
-        Scene scene = new Scene(pane);
+        Scene scene = new Scene(pane, 1280, 800);
 
-        stage.setTitle("Test");
+        stage.setTitle("Medusa Stress Test");
         stage.setScene(scene);
         stage.show();
 
-        // Calculate number of nodes
-        calcNoOfNodes(pane);
-        System.out.println(noOfNodes + " Nodes in SceneGraph");
-
+        Toolkit.getToolkit().addPostSceneTkPulseListener(postPulseListener);
         timer.start();
+        nextSkin();
     }
 
     @Override public void stop() {
+        timer.stop();
+        feedService.shutdownNow();
         System.exit(0);
     }
 
 
+    // ******************** Phases ********************************************
+    private void nextSkin() {
+        stopFeed();
+        for (Control control : controls) {
+            if (control instanceof Clock) { ((Clock) control).setRunning(false); }
+        }
+        controls.clear();
+        pane.getChildren().clear();
+
+        if (skinQueue.isEmpty()) {
+            Toolkit.getToolkit().removePostSceneTkPulseListener(postPulseListener);
+            Platform.exit();
+            return;
+        }
+
+        currentSkin = skinQueue.poll();
+        for (int i = 0 ; i < noOfGauges ; i++) { controls.add(createControl(currentSkin)); }
+        pane.getChildren().setAll(controls);
+        startFeed();
+
+        measuring = false;
+        runAfter(warmupSeconds, this::startMeasurement);
+    }
+
+    private void startMeasurement() {
+        // Skins are created lazily, so count the nodes once all of them exist
+        pane.applyCss();
+        pane.layout();
+        noOfNodes = 0;
+        calcNoOfNodes(pane);
+
+        int capacity        = (int) Math.ceil(durationSeconds * 240) + 16;
+        pulseDurations      = new long[capacity];
+        frameIntervals      = new long[capacity];
+        noOfPulses          = 0;
+        noOfFrames          = 0;
+        droppedFrames       = 0;
+        updatesPosted       = 0;
+        lastFrame           = 0;
+        pulseStart          = 0;
+        cpuTimeStart        = getFxThreadCpuTime();
+        allocatedBytesStart = getFxThreadAllocatedBytes();
+        phaseStart          = System.nanoTime();
+        measuring           = true;
+        runAfter(durationSeconds, this::finishMeasurement);
+    }
+
+    private void finishMeasurement() {
+        measuring = false;
+        long   elapsed        = System.nanoTime() - phaseStart;
+        long   cpuTime        = getFxThreadCpuTime() - cpuTimeStart;
+        long   allocatedBytes = getFxThreadAllocatedBytes() - allocatedBytesStart;
+        long[] pulses         = Arrays.copyOf(pulseDurations, noOfPulses);
+        long[] frames         = Arrays.copyOf(frameIntervals, noOfFrames);
+        Arrays.sort(pulses);
+        Arrays.sort(frames);
+
+        StringBuilder json = new StringBuilder();
+        json.append("{")
+            .append("\"skin\":\"").append(currentSkin).append("\",")
+            .append("\"type\":\"").append(currentSkin instanceof SkinType ? "gauge" : "clock").append("\",")
+            .append("\"gauges\":").append(noOfGauges).append(",")
+            .append("\"nodes\":").append(noOfNodes).append(",")
+            .append("\"rate\":").append(format(rate)).append(",")
+            .append("\"durationS\":").append(format(elapsed / 1e9)).append(",")
+            .append("\"updatesPosted\":").append(updatesPosted).append(",")
+            .append("\"pulses\":").append(pulses.length).append(",")
+            .append("\"pulseP50Ms\":").append(format(percentile(pulses, 0.5) / 1e6)).append(",")
+            .append("\"pulseP90Ms\":").append(format(percentile(pulses, 0.9) / 1e6)).append(",")
+            .append("\"pulseP99Ms\":").append(format(percentile(pulses, 0.99) / 1e6)).append(",")
+            .append("\"pulseMaxMs\":").append(format(percentile(pulses, 1.0) / 1e6)).append(",")
+            .append("\"frameIntervalP50Ms\":").append(format(percentile(frames, 0.5) / 1e6)).append(",")
+            .append("\"frameIntervalP99Ms\":").append(format(percentile(frames, 0.99) / 1e6)).append(",")
+            .append("\"droppedFrames\":").append(droppedFrames).append(",")
+            .append("\"fxThreadUtilization\":").append(cpuTime < 0 ? "null" : format((double) cpuTime / elapsed)).append(",")
+            .append("\"allocationRateMBs\":").append(allocatedBytes < 0 ? "null" : format(allocatedBytes / 1048576.0 / (elapsed / 1e9))).append(",")
+            .append("\"heapUsedMB\":").append(format(memoryBean.getHeapMemoryUsage().getUsed() / 1048576.0))
+            .append("}");
+        report(json.toString());
+
+        nextSkin();
+    }
+
+
+    // ******************** Feed **********************************************
+    private void startFeed() {
+        if (!(currentSkin instanceof SkinType) || rate <= 0) return;
+        long period = Math.max(1, Math.round(1_000_000_000.0 / rate));
+        // Runnables of a stopped feed might still be queued, they must not touch the controls of the next skin
+        final List<Gauge> GAUGES = new ArrayList<>(controls.size());
+        for (Control control : controls) { if (control instanceof Gauge) { GAUGES.add((Gauge) control); } }
+        feedGauges = GAUGES;
+        feedTask   = feedService.scheduleAtFixedRate(() -> {
+            final double[] VALUES = new double[noOfGauges];
+            for (int i = 0 ; i < VALUES.length ; i++) { VALUES[i] = RND.nextDouble() * 100; }
+            Platform.runLater(() -> {
+                if (GAUGES != feedGauges) return;
+                int size = Math.min(GAUGES.size(), VALUES.length);
+                for (int i = 0 ; i < size ; i++) { GAUGES.get(i).setValue(VALUES[i]); }
+                if (measuring) { updatesPosted += size; }
+            });
+        }, 0, period, TimeUnit.NANOSECONDS);
+    }
+
+    private void stopFeed() {
+        if (null == feedTask) return;
+        feedTask.cancel(false);
+        feedTask   = null;
+        feedGauges = null;
+    }
+
 
     // ******************** Misc **********************************************
+    private Control createControl(final Object SKIN) {
+        Control control;
+        if (SKIN instanceof SkinType) {
+            Gauge gauge = new Gauge((SkinType) SKIN);
+            gauge.setAnimated(animated);
+            control = gauge;
+        } else {
+            Clock clock = new Clock((ClockSkinType) SKIN, ZonedDateTime.now());
+            clock.setRunning(true);
+            control = clock;
+        }
+        control.setPrefSize(controlSize, controlSize);
+        return control;
+    }
+
+    private void runAfter(final double SECONDS, final Runnable RUNNABLE) {
+        feedService.schedule(() -> Platform.runLater(RUNNABLE), Math.round(SECONDS * 1000), TimeUnit.MILLISECONDS);
+    }
+
+    private long getFxThreadCpuTime() {
+        return threadBean.isThreadCpuTimeSupported() ? threadBean.getThreadCpuTime(fxThreadId) : -1;
+    }
+
+    private long getFxThreadAllocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(fxThreadId);
+        }
+        return -1;
+    }
+
+    private void report(final String JSON) {
+        if (null == output) {
+            System.out.println(JSON);
+            return;
+        }
+        try (PrintWriter writer = new PrintWriter(new FileWriter(output, true))) {
+            writer.println(JSON);
+        } catch (IOException e) {
+            System.err.println("Error writing to " + output + ": " + e.getMessage());
+            System.out.println(JSON);
+        }
+    }
+
+    private static double percentile(final long[] SORTED, final double PERCENTILE) {
+        if (SORTED.length == 0) return 0;
+        int index = (int) Math.ceil(PERCENTILE * SORTED.length) - 1;
+        return SORTED[Math.max(0, Math.min(SORTED.length - 1, index))];
+    }
+
+    private static String format(final double VALUE) { return String.format(Locale.US, "%.3f", VALUE); }
+
     private static void calcNoOfNodes(Node node) {
         if (node instanceof Parent) {
             if (((Parent) node).getChildrenUnmodifiable().size() != 0) {
@@ -120,6 +362,11 @@ public class Test extends Application {
     }
 
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains("--headless")) {
+            System.setProperty("glass.platform", "Monocle");
+            System.setProperty("monocle.platform", "Headless");
+            System.setProperty("prism.order", "sw");
+        }
         launch(args);
     }
 }
@@ -46,6 +46,23 @@ public class TimeSectionBuilder<B extends TimeSectionBuilder<B>> {
         return new TimeSectionBuilder();
     }
 
+    /**
+     * Returns a new builder that is initialized with the settings of the
+     * given time section. Could be used to create a template once and
+     * derive any number of time sections from it. Listeners are not copied.
+     * @param PROTOTYPE
+     * @return a new builder initialized with the settings of the given time section
+     */
+    public static final TimeSectionBuilder from(final TimeSection PROTOTYPE) {
+        return create().start(PROTOTYPE.getStart())
+                       .stop(PROTOTYPE.getStop())
+                       .text(PROTOTYPE.getText())
+                       .icon(PROTOTYPE.getImage())
+                       .color(PROTOTYPE.getColor())
+                       .highlightColor(PROTOTYPE.getHighlightColor())
+                       .textColor(PROTOTYPE.getTextColor());
+    }
+
     public final B start(final LocalTime VALUE) {
         properties.put("start", new SimpleObjectProperty<>(VALUE));
         return (B)this;
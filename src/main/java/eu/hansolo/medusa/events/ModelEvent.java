@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.events;
+
+import java.util.EventObject;
+
+
+/**
+ * Event that will be fired by a GaugeModel. The index is the index of the
+ * section for SECTION_ENTERED and SECTION_LEFT events and -1 otherwise.
+ */
+public class ModelEvent extends EventObject {
+    public enum EventType { VALUE, RANGE, THRESHOLD, MEASURED_VALUES, THRESHOLD_EXCEEDED, THRESHOLD_UNDERRUN, SECTION_ENTERED, SECTION_LEFT };
+    public final EventType eventType;
+    public final int       index;
+
+
+    // ******************** Constructors **************************************
+    public ModelEvent(final Object SRC, final EventType EVENT_TYPE) {
+        this(SRC, EVENT_TYPE, -1);
+    }
+    public ModelEvent(final Object SRC, final EventType EVENT_TYPE, final int INDEX) {
+        super(SRC);
+        eventType = EVENT_TYPE;
+        index     = INDEX;
+    }
+}
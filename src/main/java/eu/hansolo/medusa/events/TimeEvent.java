@@ -24,7 +24,7 @@ import java.util.EventObject;
  * Created by hansolo on 24.02.16.
  */
 public class TimeEvent extends EventObject {
-    public enum TimeEventType { HOUR, MINUTE, SECOND };
+    public enum TimeEventType { HOUR, MINUTE, SECOND, DAY };
     public final ZonedDateTime TIME;
     public final TimeEventType TYPE;
 
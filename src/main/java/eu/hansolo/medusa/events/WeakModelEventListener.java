@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.events;
+
+import eu.hansolo.medusa.GaugeModel;
+
+import java.lang.ref.WeakReference;
+
+
+/**
+ * ModelEventListener that only holds a weak reference to the wrapped listener.
+ * The wrapped listener has to be kept strongly reachable by its owner
+ * (e.g. a gauge). Once the owner has been garbage collected this wrapper
+ * removes itself from the model on the next event. It does not depend
+ * on JavaFX, like the GaugeModel itself.
+ */
+public class WeakModelEventListener implements ModelEventListener {
+    private final WeakReference<ModelEventListener> reference;
+
+
+    // ******************** Constructors **************************************
+    public WeakModelEventListener(final ModelEventListener LISTENER) {
+        if (null == LISTENER) { throw new NullPointerException("Listener must not be null"); }
+        reference = new WeakReference<>(LISTENER);
+    }
+
+
+    // ******************** Methods *******************************************
+    public boolean wasGarbageCollected() { return null == reference.get(); }
+
+    @Override public void onModelEvent(final ModelEvent EVENT) {
+        ModelEventListener listener = reference.get();
+        if (null != listener) {
+            listener.onModelEvent(EVENT);
+        } else if (EVENT.getSource() instanceof GaugeModel) {
+            ((GaugeModel) EVENT.getSource()).removeModelEventListener(this);
+        }
+    }
+}
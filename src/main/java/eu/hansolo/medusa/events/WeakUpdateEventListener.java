@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.events;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Gauge;
+import javafx.beans.WeakListener;
+
+import java.lang.ref.WeakReference;
+
+
+/**
+ * UpdateEventListener that only holds a weak reference to the wrapped listener.
+ * The wrapped listener has to be kept strongly reachable by its owner
+ * (e.g. a skin). Once the owner has been garbage collected this wrapper
+ * removes itself from the control on the next event.
+ */
+public class WeakUpdateEventListener implements UpdateEventListener, WeakListener {
+    private final WeakReference<UpdateEventListener> reference;
+
+
+    // ******************** Constructors **************************************
+    public WeakUpdateEventListener(final UpdateEventListener LISTENER) {
+        if (null == LISTENER) { throw new NullPointerException("Listener must not be null"); }
+        reference = new WeakReference<>(LISTENER);
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override public boolean wasGarbageCollected() { return null == reference.get(); }
+
+    @Override public void onUpdateEvent(final UpdateEvent EVENT) {
+        UpdateEventListener listener = reference.get();
+        if (null != listener) {
+            listener.onUpdateEvent(EVENT);
+        } else {
+            Object source = EVENT.getSource();
+            if (source instanceof Gauge) {
+                ((Gauge) source).removeUpdateEventListener(this);
+            } else if (source instanceof Clock) {
+                ((Clock) source).removeUpdateEventListener(this);
+            }
+        }
+    }
+}
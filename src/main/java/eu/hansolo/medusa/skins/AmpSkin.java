@@ -139,7 +139,7 @@ public class AmpSkin extends GaugeSkinBase {
         locale               = gauge.getLocale();
         sectionListener      = c -> redraw();
         currentValueListener = o -> rotateNeedle();
-        needleRotateListener = o -> handleEvents("ANGLE");
+        needleRotateListener = o -> dispatchEvent("ANGLE");
         markerListener       = c -> {
             updateMarkers();
             redraw();
@@ -90,7 +90,7 @@ public class BulletChartSkin extends GaugeSkinBase {
         sectionListener          = c -> redraw();
         markerListener           = c -> redraw();
         currentValueListener     = o -> updateBar();
-        paneSizeListener         = o -> handleEvents("RESIZE");
+        paneSizeListener         = o -> dispatchEvent("RESIZE");
 
         if (Orientation.VERTICAL == orientation) {
             preferredWidth  = 64;
@@ -19,13 +19,14 @@ package eu.hansolo.medusa.skins;
 import eu.hansolo.medusa.Alarm;
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.events.WeakUpdateEventListener;
+import eu.hansolo.medusa.tools.MedusaMetrics;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
 import javafx.scene.control.Skin;
 import javafx.scene.control.SkinBase;
 
 import java.time.Instant;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 
@@ -39,6 +40,11 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     protected static final double       MINIMUM_HEIGHT      = 50;
     protected static final double       MAXIMUM_WIDTH       = 1024;
     protected static final double       MAXIMUM_HEIGHT      = 1024;
+    protected static final int          SECOND_CHANGED      = 1;
+    protected static final int          MINUTE_CHANGED      = 1 << 1;
+    protected static final int          HOUR_CHANGED        = 1 << 2;
+    protected static final int          DAY_CHANGED         = 1 << 3;
+    protected static final int          ALL_CHANGED         = SECOND_CHANGED | MINUTE_CHANGED | HOUR_CHANGED | DAY_CHANGED;
 
     protected Clock                     clock;
     protected InvalidationListener      sizeListener;
@@ -46,21 +52,28 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     protected InvalidationListener      currentTimeListener;
     protected InvalidationListener      timeListener;
     protected ListChangeListener<Alarm> alarmListener;
+    private   WeakUpdateEventListener   weakUpdateEventListener;
+    private   int                       lastSecond;
+    private   int                       lastMinute;
+    private   int                       lastHour;
+    private   int                       lastDay;
 
 
     // ******************** Constructors **************************************
     public ClockSkinBase(final Clock CLOCK) {
         super(CLOCK);
 
-        clock               = CLOCK;
-        sizeListener        = o -> handleEvents("RESIZE");
-        updateEventListener = e -> handleEvents(e.eventType.name());
-        currentTimeListener = o -> updateTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(clock.getCurrentTime()), ZoneId.of(ZoneId.systemDefault().getId())));
-        timeListener        = o -> updateTime(clock.getTime());
-        alarmListener       = c -> {
+        clock                   = CLOCK;
+        sizeListener            = o -> dispatchEvent("RESIZE");
+        updateEventListener     = e -> dispatchEvent(e.eventType.name());
+        weakUpdateEventListener = new WeakUpdateEventListener(updateEventListener);
+        currentTimeListener     = o -> updateTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(clock.getCurrentTime()), clock.getZoneId()));
+        timeListener            = o -> updateTime(clock.getTime());
+        alarmListener           = c -> {
             updateAlarms();
             redraw();
         };
+        invalidateTimeFields();
     }
 
 
@@ -70,7 +83,7 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     protected void registerListeners() {
         clock.widthProperty().addListener(sizeListener);
         clock.heightProperty().addListener(sizeListener);
-        clock.setOnUpdate(updateEventListener);
+        clock.setOnUpdate(weakUpdateEventListener);
         if (clock.isAnimated()) {
             clock.currentTimeProperty().addListener(currentTimeListener);
         } else {
@@ -97,15 +110,70 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
         }
     }
 
+    /**
+     * Calls handleEvents() and records the time it took in MedusaMetrics
+     * if the collection of metrics is enabled.
+     */
+    protected final void dispatchEvent(final String EVENT_TYPE) {
+        if (null == clock) return;
+        if (!MedusaMetrics.isActive()) {
+            handleEvents(EVENT_TYPE);
+            return;
+        }
+        Clock.ClockSkinType skinType = clock.getSkinType();
+        long                start    = System.nanoTime();
+        handleEvents(EVENT_TYPE);
+        long                nanos    = System.nanoTime() - start;
+        if ("RESIZE".equals(EVENT_TYPE)) {
+            MedusaMetrics.resized(skinType, nanos);
+        } else if ("REDRAW".equals(EVENT_TYPE)) {
+            MedusaMetrics.redrawn(skinType, nanos);
+        } else {
+            MedusaMetrics.eventHandled(skinType, nanos);
+        }
+    }
+
+    /**
+     * Compares the fields of the given time with the ones of the time that
+     * was passed in the last call and returns a bit mask of the fields that
+     * rolled over (SECOND_CHANGED, MINUTE_CHANGED, HOUR_CHANGED, DAY_CHANGED).
+     * Skins use it to only re-format and re-fit texts that really changed.
+     */
+    protected int getChangedTimeFields(final ZonedDateTime TIME) {
+        int second  = TIME.getSecond();
+        int minute  = TIME.getMinute();
+        int hour    = TIME.getHour();
+        int day     = TIME.getYear() * 1000 + TIME.getDayOfYear();
+        int changed = 0;
+        if (second != lastSecond) { changed |= SECOND_CHANGED; }
+        if (minute != lastMinute) { changed |= MINUTE_CHANGED; }
+        if (hour != lastHour)     { changed |= HOUR_CHANGED; }
+        if (day != lastDay)       { changed |= DAY_CHANGED; }
+        lastSecond = second;
+        lastMinute = minute;
+        lastHour   = hour;
+        lastDay    = day;
+        return changed;
+    }
+
+    /**
+     * Forces the next call of getChangedTimeFields() to report all fields as
+     * changed, e.g. after a resize or if texts became visible again.
+     */
+    protected void invalidateTimeFields() {
+        lastSecond = -1;
+        lastMinute = -1;
+        lastHour   = -1;
+        lastDay    = -1;
+    }
+
     @Override public void dispose() {
         clock.widthProperty().removeListener(sizeListener);
         clock.heightProperty().removeListener(sizeListener);
-        clock.removeUpdateEventListener(updateEventListener);
-        if (clock.isAnimated()) {
-            clock.currentTimeProperty().removeListener(currentTimeListener);
-        } else {
-            clock.timeProperty().removeListener(timeListener);
-        }
+        clock.removeUpdateEventListener(weakUpdateEventListener);
+        // animated might have changed since registerListeners() was called
+        clock.currentTimeProperty().removeListener(currentTimeListener);
+        clock.timeProperty().removeListener(timeListener);
         clock.getAlarms().removeListener(alarmListener);
         clock = null;
     }
@@ -20,6 +20,7 @@ import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelOrientation;
+import eu.hansolo.medusa.tools.GlyphReadout;
 import eu.hansolo.medusa.tools.Helper;
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -43,7 +44,6 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.ArcType;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.text.Font;
-import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
 import static eu.hansolo.medusa.tools.Helper.formatNumber;
@@ -55,6 +55,9 @@ import static eu.hansolo.medusa.tools.Helper.formatNumber;
 public class DigitalSkin extends GaugeSkinBase {
     private static final double  START_ANGLE = -30;
     private static final double  ANGLE_RANGE = 300;
+    private static final int     NO_OF_BARS  = 50;
+    private static final double  BAR_STEP    = 6;
+    private static final double  BAR_EXTENT  = 4.6;
     private double               size;
     private double               center;
     private Pane                 pane;
@@ -62,8 +65,12 @@ public class DigitalSkin extends GaugeSkinBase {
     private GraphicsContext      backgroundCtx;
     private Canvas               barCanvas;
     private GraphicsContext      barCtx;
-    private Text                 valueBkgText;
-    private Text                 valueText;
+    private double               barXY;
+    private double               barSize;
+    private int                  litFrom;
+    private int                  litTo;
+    private Color                litColor;
+    private GlyphReadout         valueText;
     private Color                barColor;
     private Color                valueColor;
     private Color                titleColor;
@@ -129,16 +136,12 @@ public class DigitalSkin extends GaugeSkinBase {
         barCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         barCtx    = barCanvas.getGraphicsContext2D();
 
-        valueBkgText = new Text();
-        valueBkgText.setStroke(null);
-        valueBkgText.setFill(Helper.getTranslucentColorFrom(valueColor, 0.1));
-
-        valueText = new Text();
-        valueText.setStroke(null);
+        valueText = new GlyphReadout();
+        valueText.setGhostFill(Helper.getTranslucentColorFrom(valueColor, 0.1));
         valueText.setFill(valueColor);
         Helper.enableNode(valueText, gauge.isValueVisible());
 
-        pane = new Pane(backgroundCanvas, barCanvas, valueBkgText, valueText);
+        pane = new Pane(backgroundCanvas, barCanvas, valueText);
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(gauge.getBorderWidth()))));
 
@@ -178,53 +181,83 @@ public class DigitalSkin extends GaugeSkinBase {
 
     // ******************** Canvas ********************************************
     private void setBar(final double VALUE) {
-        barCtx.clearRect(0, 0, size, size);
-        barCtx.setLineCap(StrokeLineCap.BUTT);
-        barCtx.setStroke(barColor);
-        barCtx.setLineWidth(barWidth);
-
+        Color color = barColor;
         if (sectionsVisible) {
             int listSize = sections.size();
             for (int i = 0 ; i < listSize ;i++) {
                 Section section = sections.get(i);
                 if (section.contains(VALUE)) {
-                    barCtx.setStroke(section.getColor());
+                    color = section.getColor();
                     break;
                 }
             }
         }
 
         if (thresholdVisible && VALUE > gauge.getThreshold()) {
-            barCtx.setStroke(thresholdColor);
+            color = thresholdColor;
         }
 
+        // Range of lit bars [from, to)
         double v             = (VALUE - minValue) * angleStep;
         int    minValueAngle = (int) (-minValue * angleStep);
+        int    from          = 0;
+        int    to            = 0;
         if (!isStartFromZero) {
-            for (int i = 0; i < 300; i++) {
-                if (i % 6 == 0 && i < v) {
-                    barCtx.strokeArc(barWidth * 0.5 + barWidth * 0.3, barWidth * 0.5 + barWidth * 0.3, size - barWidth - barWidth * 0.6, size - barWidth - barWidth * 0.6, (-i - 125), 4.6, ArcType.OPEN);
-                }
+            to = getNoOfBarsBelow(v);
+        } else if (Double.compare(VALUE, 0) != 0) {
+            if (VALUE < 0) {
+                from = Math.max(0, (int) Math.floor((v - BAR_STEP) / BAR_STEP) + 1);
+                to   = Math.floorDiv(Math.min(minValueAngle, 300) - 1, (int) BAR_STEP) + 1;
+            } else {
+                from = Math.max(0, -Math.floorDiv(3 - Math.max(minValueAngle, 0), (int) BAR_STEP));
+                to   = getNoOfBarsBelow(v);
             }
+        }
+        if (to < from) { to = from; }
+
+        // Only touch the bars that changed
+        if (!color.equals(litColor)) {
+            barCtx.clearRect(0, 0, size, size);
+            strokeBars(from, to, color);
         } else {
-            if (Double.compare(VALUE, 0) != 0) {
-                if (VALUE < 0) {
-                    for (int i = Math.min(minValueAngle, 300) - 1; i >= 0; i--) {
-                        if (i % 6 == 0 && i > v - 6) {
-                            barCtx.strokeArc(barWidth * 0.5 + barWidth * 0.3, barWidth * 0.5 + barWidth * 0.3, size - barWidth - barWidth * 0.6, size - barWidth - barWidth * 0.6, (-i - 125), 4.6, ArcType.OPEN);
-                        }
-                    }
-                } else {
-                    for (int i = Math.max(minValueAngle, 0) - 3; i < 300; i++) {
-                        if (i % 6 == 0 && i < v) {
-                            barCtx.strokeArc(barWidth * 0.5 + barWidth * 0.3, barWidth * 0.5 + barWidth * 0.3, size - barWidth - barWidth * 0.6, size - barWidth - barWidth * 0.6, (-i - 125), 4.6, ArcType.OPEN);
-                        }
-                    }
-                }
-            }
+            if (litFrom < from) { clearBars(litFrom, Math.min(litTo, from)); }
+            if (litTo > to)     { clearBars(Math.max(litFrom, to), litTo); }
+            if (from < litFrom) { strokeBars(from, Math.min(to, litFrom), color); }
+            if (to > litTo)     { strokeBars(Math.max(from, litTo), to, color); }
         }
+        litFrom  = from;
+        litTo    = to;
+        litColor = color;
+
         valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
-        valueText.setLayoutX(valueBkgText.getLayoutBounds().getMaxX() - valueText.getLayoutBounds().getWidth());
+    }
+
+    private int getNoOfBarsBelow(final double ANGLE) {
+        return ANGLE > 0 ? (int) Math.min(NO_OF_BARS, Math.ceil(ANGLE / BAR_STEP)) : 0;
+    }
+
+    private void strokeBars(final int FROM, final int TO, final Color COLOR) {
+        if (FROM >= TO) return;
+        barCtx.setLineCap(StrokeLineCap.BUTT);
+        barCtx.setStroke(COLOR);
+        barCtx.setLineWidth(barWidth);
+        for (int i = FROM ; i < TO ; i++) {
+            barCtx.strokeArc(barXY, barXY, barSize, barSize, -i * BAR_STEP - 125, BAR_EXTENT, ArcType.OPEN);
+        }
+    }
+
+    private void clearBars(final int FROM, final int TO) {
+        if (FROM >= TO) return;
+        // Clear a wedge that ends in the middle of the gaps next to the outer bars
+        double gap = (BAR_STEP - BAR_EXTENT) * 0.5;
+        barCtx.save();
+        barCtx.beginPath();
+        barCtx.moveTo(center, center);
+        barCtx.arc(center, center, center, center, -TO * BAR_STEP - 125 + BAR_STEP - gap, (TO - FROM) * BAR_STEP);
+        barCtx.closePath();
+        barCtx.clip();
+        barCtx.clearRect(0, 0, size, size);
+        barCtx.restore();
     }
 
     private void drawBackground() {
@@ -309,8 +342,8 @@ public class DigitalSkin extends GaugeSkinBase {
                 len = gauge.getDecimals();
                 for (int i = 0 ; i < len ; i++) { valueBkg.append("8"); }
             }
-            valueBkgText.setText(valueBkg.toString());
-            valueBkgText.setX((size - valueBkgText.getLayoutBounds().getWidth()) * 0.5);
+            valueText.setGhostText(valueBkg.toString());
+            valueText.relocateText((size + valueText.getGhostTextWidth()) * 0.5, center + valueText.getLineHeight() * 0.5);
         }
     }
     
@@ -457,12 +490,11 @@ public class DigitalSkin extends GaugeSkinBase {
 
             barCanvas.setWidth(size);
             barCanvas.setHeight(size);
-
-            valueBkgText.setFont(Fonts.digital(0.18 * size));
-            valueBkgText.setY(center + (valueBkgText.getLayoutBounds().getHeight() * 0.5));
+            barXY    = barWidth * 0.8;
+            barSize  = size - barWidth * 1.6;
+            litColor = null;
 
             valueText.setFont(Fonts.digital(0.18 * size));
-            valueText.setY(center + (valueText.getLayoutBounds().getHeight() * 0.5));
 
             drawBackground();
             setBar(gauge.getCurrentValue());
@@ -484,8 +516,7 @@ public class DigitalSkin extends GaugeSkinBase {
 
         setBar(gauge.getCurrentValue());
 
-        valueBkgText.setFill(gauge.isShadowsEnabled() ? Helper.getTranslucentColorFrom(valueColor, 0.1) : Color.TRANSPARENT);
-
+        valueText.setGhostFill(gauge.isShadowsEnabled() ? Helper.getTranslucentColorFrom(valueColor, 0.1) : Color.TRANSPARENT);
         valueText.setFill(valueColor);
     }
 }
@@ -29,6 +29,7 @@ import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TickMarkGeometry;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -92,6 +93,7 @@ public class GaugeSkin extends GaugeSkinBase {
     private InnerShadow                backgroundInnerShadow;
     private Canvas                     tickMarkCanvas;
     private GraphicsContext            tickMarkCtx;
+    private TickMarkGeometry           tickMarkGeometry;
     private Canvas                     sectionsAndAreasCanvas;
     private GraphicsContext            sectionsAndAreasCtx;
     private double                     ledSize;
@@ -194,6 +196,7 @@ public class GaugeSkin extends GaugeSkinBase {
 
         tickMarkCanvas = new Canvas();
         tickMarkCtx    = tickMarkCanvas.getGraphicsContext2D();
+        tickMarkGeometry = new TickMarkGeometry();
 
         ledCanvas = new Canvas();
         ledCtx    = ledCanvas.getGraphicsContext2D();
@@ -1091,7 +1094,7 @@ public class GaugeSkin extends GaugeSkinBase {
         if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
             drawGradientBar();
         }
-        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, size * 0.5, size * 0.5, size);
+        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, size * 0.5, size * 0.5, size, tickMarkGeometry);
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
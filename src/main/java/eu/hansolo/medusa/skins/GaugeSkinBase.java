@@ -18,6 +18,8 @@ package eu.hansolo.medusa.skins;
 
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.events.WeakUpdateEventListener;
+import eu.hansolo.medusa.tools.MedusaMetrics;
 import javafx.beans.InvalidationListener;
 import javafx.scene.control.Skin;
 import javafx.scene.control.SkinBase;
@@ -33,24 +35,33 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
     protected static final double             MINIMUM_HEIGHT   = 50;
     protected static final double             MAXIMUM_WIDTH    = 1024;
     protected static final double             MAXIMUM_HEIGHT   = 1024;
-    protected Gauge                gauge;
-    protected InvalidationListener sizeListener;
-    protected UpdateEventListener  updateEventListener;
+    protected Gauge                   gauge;
+    protected InvalidationListener    sizeListener;
+    protected UpdateEventListener     updateEventListener;
+    private   WeakUpdateEventListener weakUpdateEventListener;
 
 
     protected GaugeSkinBase(final Gauge GAUGE) {
         super(GAUGE);
-        gauge               = GAUGE;
-        sizeListener        = o -> handleEvents("RESIZE");
-        updateEventListener = e -> handleEvents(e.eventType.name());
+        gauge                   = GAUGE;
+        sizeListener            = o -> dispatchEvent("RESIZE");
+        updateEventListener     = e -> dispatchEvent(e.eventType.name());
+        weakUpdateEventListener = new WeakUpdateEventListener(updateEventListener);
     }
 
     protected void registerListeners() {
         getSkinnable().widthProperty().addListener(sizeListener);
         getSkinnable().heightProperty().addListener(sizeListener);
-        getSkinnable().setOnUpdate(e -> handleEvents(e.eventType.name()));
+        getSkinnable().setOnUpdate(weakUpdateEventListener);
     }
 
+    /**
+     * Returns the listener that this skin has registered on its gauge.
+     * The gauge uses it to coalesce the events that are queued for the
+     * skin while the gauge is not showing.
+     */
+    public UpdateEventListener getRegisteredUpdateEventListener() { return weakUpdateEventListener; }
+
     protected void handleEvents(final String EVENT_TYPE) {
         if ("RESIZE".equals(EVENT_TYPE)) {
             resize();
@@ -60,6 +71,27 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
         }
     }
 
+    /**
+     * Calls handleEvents() and records the time it took in MedusaMetrics
+     * if the collection of metrics is enabled.
+     */
+    protected final void dispatchEvent(final String EVENT_TYPE) {
+        if (!MedusaMetrics.isActive()) {
+            handleEvents(EVENT_TYPE);
+            return;
+        }
+        long start = System.nanoTime();
+        handleEvents(EVENT_TYPE);
+        long nanos = System.nanoTime() - start;
+        if ("RESIZE".equals(EVENT_TYPE)) {
+            MedusaMetrics.resized(gauge.getSkinType(), nanos);
+        } else if ("REDRAW".equals(EVENT_TYPE)) {
+            MedusaMetrics.redrawn(gauge.getSkinType(), nanos);
+        } else {
+            MedusaMetrics.eventHandled(gauge.getSkinType(), nanos);
+        }
+    }
+
 
     // ******************** Methods *******************************************
     @Override protected double computeMinWidth(final double HEIGHT, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MINIMUM_WIDTH; }
@@ -72,7 +104,7 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
     @Override public void dispose() {
         gauge.widthProperty().removeListener(sizeListener);
         gauge.heightProperty().removeListener(sizeListener);
-        gauge.removeUpdateEventListener(updateEventListener);
+        gauge.removeUpdateEventListener(weakUpdateEventListener);
     }
 
     protected void resize() {}
@@ -28,6 +28,7 @@ import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TickMarkGeometry;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -102,6 +103,7 @@ public class HSkin extends GaugeSkinBase {
     private GraphicsContext            sectionsAndAreasCtx;
     private Canvas                     tickMarkCanvas;
     private GraphicsContext            tickMarkCtx;
+    private TickMarkGeometry           tickMarkGeometry;
     private double                     ledSize;
     private InnerShadow                ledOnShadow;
     private InnerShadow                ledOffShadow;
@@ -201,6 +203,7 @@ public class HSkin extends GaugeSkinBase {
 
         tickMarkCanvas = new Canvas();
         tickMarkCtx    = tickMarkCanvas.getGraphicsContext2D();
+        tickMarkGeometry = new TickMarkGeometry();
 
         ledCanvas = new Canvas();
         ledCtx    = ledCanvas.getGraphicsContext2D();
@@ -1103,7 +1106,7 @@ public class HSkin extends GaugeSkinBase {
         if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
             drawGradientBar();
         }
-        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.5, height * 0.9, width * 0.9);
+        Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.5, height * 0.9, width * 0.9, tickMarkGeometry);
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
 
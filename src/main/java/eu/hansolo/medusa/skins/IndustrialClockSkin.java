@@ -207,6 +207,7 @@ public class IndustrialClockSkin extends ClockSkinBase {
     @Override protected void handleEvents(final String EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
         if ("VISIBILITY".equals(EVENT_TYPE)) {
+            invalidateTimeFields();
             title.setVisible(clock.isTitleVisible());
             title.setManaged(clock.isTitleVisible());
             text.setVisible(clock.isTextVisible());
@@ -415,6 +416,8 @@ public class IndustrialClockSkin extends ClockSkinBase {
     }
 
     @Override public void updateTime(final ZonedDateTime TIME) {
+        int changedFields = getChangedTimeFields(TIME);
+
         if (clock.isDiscreteMinutes()) {
             minuteRotate.setAngle(TIME.getMinute() * 6);
         } else {
@@ -435,19 +438,19 @@ public class IndustrialClockSkin extends ClockSkinBase {
             hourRotate.setAngle(0.5 * (60 * TIME.getHour() + TIME.getMinute()));
         }
 
-        if (text.isVisible()) {
+        if (text.isVisible() && (changedFields & (MINUTE_CHANGED | HOUR_CHANGED | DAY_CHANGED)) != 0) {
             text.setText(TIME_FORMATTER.format(TIME));
             Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
-        if (dateText.isVisible()) {
+        if (dateText.isVisible() && (changedFields & DAY_CHANGED) != 0) {
             dateText.setText(DATE_TEXT_FORMATTER.format(TIME).toUpperCase());
             Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
             dateText.relocate(((size * 0.5) - dateText.getLayoutBounds().getWidth()) * 0.5 + (size * 0.4), (size - dateText.getLayoutBounds().getHeight()) * 0.5);
         }
 
-        if (dateNumber.isVisible()) {
+        if (dateNumber.isVisible() && (changedFields & DAY_CHANGED) != 0) {
             dateNumber.setText(DATE_NUMBER_FORMATTER.format(TIME).toUpperCase());
             Helper.adjustTextSize(dateNumber, 0.3 * size, size * 0.05);
             dateNumber.relocate(((size * 0.5) - dateNumber.getLayoutBounds().getWidth()) * 0.5 + (size * 0.51), (size - dateNumber.getLayoutBounds().getHeight()) * 0.5);
@@ -563,6 +566,7 @@ public class IndustrialClockSkin extends ClockSkinBase {
 
         ZonedDateTime time = clock.getTime();
 
+        invalidateTimeFields();
         updateTime(time);
 
         title.setText(clock.getTitle());
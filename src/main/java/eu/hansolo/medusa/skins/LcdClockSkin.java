@@ -20,6 +20,7 @@ import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.LcdDesign;
 import eu.hansolo.medusa.LcdFont;
+import eu.hansolo.medusa.tools.GlyphReadout;
 import eu.hansolo.medusa.tools.Helper;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -64,8 +65,6 @@ import javafx.scene.text.TextAlignment;
 public class LcdClockSkin extends ClockSkinBase {
     private static final double     PREFERRED_WIDTH    = 220;//190;
     private static final double     PREFERRED_HEIGHT   = 100;
-    private static final Color      DARK_NOISE_COLOR   = Color.rgb(100, 100, 100, 0.10);
-    private static final Color      BRIGHT_NOISE_COLOR = Color.rgb(200, 200, 200, 0.05);
     private static final DropShadow FOREGROUND_SHADOW  = new DropShadow();
     private static final double     ASPECT_RATIO       = 0.52631579;
     private double                  width;
@@ -78,9 +77,9 @@ public class LcdClockSkin extends ClockSkinBase {
     private Rectangle               crystalClip;
     private InnerShadow             mainInnerShadow0;
     private InnerShadow             mainInnerShadow1;
-    private Text                    timeText;
+    private GlyphReadout            timeText;
     private Text                    backgroundTimeText;
-    private Text                    secondText;
+    private GlyphReadout            secondText;
     private Text                    backgroundSecondText;
     private Text                    title;
     private Text                    dateText;
@@ -143,7 +142,7 @@ public class LcdClockSkin extends ClockSkinBase {
         crystalClip.setArcWidth(5);
         crystalClip.setArcHeight(5);
 
-        crystalImage   = Helper.createNoiseImage(PREFERRED_WIDTH, PREFERRED_HEIGHT, DARK_NOISE_COLOR, BRIGHT_NOISE_COLOR, 8);
+        crystalImage   = Helper.getCrystalImage(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         crystalOverlay = new ImageView(crystalImage);
         crystalOverlay.setClip(crystalClip);
         boolean crystalEnabled = clock.isLcdCrystalEnabled();
@@ -162,10 +161,10 @@ public class LcdClockSkin extends ClockSkinBase {
         backgroundSecondText.setManaged(secondsVisible);
         backgroundSecondText.setVisible(secondsVisible);
 
-        timeText = new Text("");
+        timeText = new GlyphReadout();
         timeText.setFill(clock.getLcdDesign().lcdForegroundColor);
 
-        secondText = new Text("");
+        secondText = new GlyphReadout();
         secondText.setFill(clock.getLcdDesign().lcdForegroundColor);
         secondText.setManaged(secondsVisible);
         secondText.setVisible(secondsVisible);
@@ -374,6 +373,7 @@ public class LcdClockSkin extends ClockSkinBase {
                                          LcdFont.ELEKTRA == clock.getLcdFont()) ? 1 : 0);
 
         timeText.setFont(timeFont);
+        secondText.setFont(secondFont);
         titleFont = Fonts.latoBold(0.16 * height);
         smallFont = Fonts.latoBold(0.12 * height);
     }
@@ -409,13 +409,13 @@ public class LcdClockSkin extends ClockSkinBase {
 
     private void updateTimePosition() {
 
-        double secondsWidth = secondText.getLayoutBounds().getWidth();
+        double secondsWidth = secondText.getTextWidth();
         double secodsOffset = height * 0.03;
-        double timeWidth    = timeText.getLayoutBounds().getWidth();
+        double timeWidth    = timeText.getTextWidth();
         double timeX        = ( clock.isSecondsVisible() )
                             ? ( width - 2 - timeWidth - secodsOffset - secondsWidth ) * 0.5
                             : ( width - 2 - timeWidth ) * 0.5;
-        double timeY        = height - timeText.getLayoutBounds().getHeight() * digitalFontSizeFactor * 0.5;
+        double timeY        = height - timeText.getLineHeight() * digitalFontSizeFactor * 0.5;
         double secondsX     = timeX + 1 + timeWidth + secodsOffset;
 
         backgroundTimeText.setX(timeX);
@@ -423,10 +423,8 @@ public class LcdClockSkin extends ClockSkinBase {
         backgroundSecondText.setX(secondsX);
         backgroundSecondText.setY(timeY);
 
-        timeText.setX(timeX);
-        timeText.setY(timeY);
-        secondText.setX(secondsX);
-        secondText.setY(timeY);
+        timeText.relocateText(timeX + timeWidth, timeY);
+        secondText.relocateText(secondsX + secondsWidth, timeY);
 
     }
 
@@ -592,7 +590,7 @@ public class LcdClockSkin extends ClockSkinBase {
             if (crystalOverlay.isVisible()) {
                 crystalClip.setWidth(width);
                 crystalClip.setHeight(height);
-                crystalOverlay.setImage(Helper.createNoiseImage(width, height, DARK_NOISE_COLOR, BRIGHT_NOISE_COLOR, 8));
+                crystalOverlay.setImage(Helper.getCrystalImage(width, height));
                 crystalOverlay.setCache(true);
             }
 
@@ -601,10 +599,6 @@ public class LcdClockSkin extends ClockSkinBase {
             updateBackgroundText();
             updateTimePosition();
 
-            secondText.setFont(secondFont);
-            secondText.setTextOrigin(VPos.BASELINE);
-            secondText.setTextAlignment(TextAlignment.RIGHT);
-
             // Setup the font for the lcd title, number system, min measured, max measure and former value
             // Title
             title.setFont(titleFont);
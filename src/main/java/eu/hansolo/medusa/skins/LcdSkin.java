@@ -21,6 +21,7 @@ import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.LcdDesign;
 import eu.hansolo.medusa.LcdFont;
 import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.tools.GlyphReadout;
 import eu.hansolo.medusa.tools.Helper;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.Insets;
@@ -73,8 +74,6 @@ public class LcdSkin extends GaugeSkinBase {
     protected static final double              MINIMUM_HEIGHT     = 5;
     protected static final double              MAXIMUM_WIDTH      = 1024;
     protected static final double              MAXIMUM_HEIGHT     = 1024;
-    private static final Color                 DARK_NOISE_COLOR   = Color.rgb(100, 100, 100, 0.10);
-    private static final Color                 BRIGHT_NOISE_COLOR = Color.rgb(200, 200, 200, 0.05);
     private static final DropShadow            FOREGROUND_SHADOW  = new DropShadow();
     private static       double                aspectRatio        = 0.45454545;
     private static       Text                  oneSegment         = new Text("8");
@@ -91,7 +90,7 @@ public class LcdSkin extends GaugeSkinBase {
     private              InnerShadow           mainInnerShadow1;
     private              Path                  threshold;
     private              Path                  average;
-    private              Text                  valueText;
+    private              GlyphReadout          valueText;
     private              Text                  backgroundText;
     private              Text                  unitText;
     private              Text                  title;
@@ -102,6 +101,7 @@ public class LcdSkin extends GaugeSkinBase {
     private              double                valueOffsetLeft;
     private              double                valueOffsetRight;
     private              double                digitalFontSizeFactor;
+    private              double                valueBaseline;
     private              Font                  valueFont;
     private              Font                  unitFont;
     private              Font                  titleFont;
@@ -119,6 +119,10 @@ public class LcdSkin extends GaugeSkinBase {
     private              List<Section>         sections;
     private              Map<Section, Color[]> sectionColorMap;
     private              InvalidationListener  currentValueListener;
+    private              Section               lcdSection;
+    private              double                minMeasuredValue;
+    private              double                maxMeasuredValue;
+    private              double                lowerCenterValue;
 
 
     // ******************** Constructors **************************************
@@ -135,7 +139,7 @@ public class LcdSkin extends GaugeSkinBase {
         locale                = gauge.getLocale();
         sections              = gauge.getSections();
         sectionColorMap       = new HashMap<>(sections.size());
-        currentValueListener  = o -> handleEvents("REDRAW");
+        currentValueListener  = o -> dispatchEvent("CURRENT_VALUE");
         updateSectionColors();
         FOREGROUND_SHADOW.setOffsetX(0);
         FOREGROUND_SHADOW.setOffsetY(1);
@@ -179,7 +183,7 @@ public class LcdSkin extends GaugeSkinBase {
         crystalClip.setArcWidth(5);
         crystalClip.setArcHeight(5);
 
-        crystalImage   = Helper.createNoiseImage(PREFERRED_WIDTH, PREFERRED_HEIGHT, DARK_NOISE_COLOR, BRIGHT_NOISE_COLOR, 8);
+        crystalImage   = Helper.getCrystalImage(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         crystalOverlay = new ImageView(crystalImage);
         crystalOverlay.setClip(crystalClip);
         boolean crystalEnabled = gauge.isLcdCrystalEnabled();
@@ -197,7 +201,8 @@ public class LcdSkin extends GaugeSkinBase {
         backgroundText.setFill(gauge.getLcdDesign().lcdBackgroundColor);
         backgroundText.setOpacity((LcdFont.LCD == gauge.getLcdFont() || LcdFont.ELEKTRA == gauge.getLcdFont()) ? 1 : 0);
 
-        valueText = new Text(String.format(locale, valueFormatString, gauge.getCurrentValue()));
+        valueText = new GlyphReadout();
+        valueText.setText(String.format(locale, valueFormatString, gauge.getCurrentValue()));
         valueText.setFill(gauge.getLcdDesign().lcdForegroundColor);
 
         unitText = new Text(gauge.getUnit());
@@ -249,7 +254,9 @@ public class LcdSkin extends GaugeSkinBase {
 
     // ******************** Methods *******************************************
     @Override protected void handleEvents(final String EVENT_TYPE) {
-        if ("REDRAW".equals(EVENT_TYPE)) {
+        if ("CURRENT_VALUE".equals(EVENT_TYPE)) {
+            redrawValue();
+        } else if ("REDRAW".equals(EVENT_TYPE)) {
             pane.setEffect(gauge.isShadowsEnabled() ? mainInnerShadow1 : null);
             shadowGroup.setEffect(gauge.isShadowsEnabled() ? FOREGROUND_SHADOW : null);
             updateLcdDesign(height);
@@ -288,7 +295,7 @@ public class LcdSkin extends GaugeSkinBase {
     // ******************** Private Methods ***********************************
     private boolean isNoOfDigitsInvalid() {
         final double AVAILABLE_WIDTH = width - 2 - valueOffsetLeft - valueOffsetRight;
-        final double NEEDED_WIDTH    = valueText.getLayoutBounds().getWidth();
+        final double NEEDED_WIDTH    = valueText.getTextWidth();
         return Double.compare(AVAILABLE_WIDTH, NEEDED_WIDTH) < 0;
     }
 
@@ -296,16 +303,10 @@ public class LcdSkin extends GaugeSkinBase {
         LcdDesign lcdDesign = gauge.getLcdDesign();
         Color[]   lcdColors = lcdDesign.getColors();
 
+        lcdSection = null;
         if (LcdDesign.SECTIONS == lcdDesign) {
-            double currentValue = gauge.getCurrentValue();
-            int listSize = sections.size();
-            for (int i = 0 ; i < listSize ; i++) {
-                Section section = sections.get(i);
-                if (section.contains(currentValue)) {
-                    lcdColors = sectionColorMap.get(section);
-                    break;
-                }
-            }
+            lcdSection = getSection(gauge.getCurrentValue());
+            if (null != lcdSection) { lcdColors = sectionColorMap.get(lcdSection); }
         }
 
         lcdPaint = new LinearGradient(0, 1, 0, HEIGHT - 1,
@@ -442,6 +443,15 @@ public class LcdSkin extends GaugeSkinBase {
         smallFont = Fonts.latoBold(0.1666666667 * height);
     }
 
+    private Section getSection(final double VALUE) {
+        int listSize = sections.size();
+        for (int i = 0 ; i < listSize ; i++) {
+            Section section = sections.get(i);
+            if (section.contains(VALUE)) { return section; }
+        }
+        return null;
+    }
+
     private void updateBackgroundText() {
         // Setup the semitransparent background text
         backgroundText.setCache(false);
@@ -518,7 +528,7 @@ public class LcdSkin extends GaugeSkinBase {
 
                 crystalClip.setWidth(imgWidth);
                 crystalClip.setHeight(imgHeight);
-                crystalOverlay.setImage(Helper.createNoiseImage(width, height, DARK_NOISE_COLOR, BRIGHT_NOISE_COLOR, 8));
+                crystalOverlay.setImage(Helper.getCrystalImage(width, height));
                 crystalOverlay.setCache(true);
                 crystalOverlay.relocate(frameWidth, frameWidth);
             }
@@ -624,16 +634,15 @@ public class LcdSkin extends GaugeSkinBase {
 
             valueOffsetLeft = height * 0.04;
 
+            valueBaseline = height - (valueText.getLineHeight() * digitalFontSizeFactor) * 0.5;
             if (gauge.getUnit().isEmpty()) {
                 valueOffsetRight = height * 0.0833333333;
-                valueText.setX((width - valueText.getLayoutBounds().getWidth()) - valueOffsetRight);
             } else {
                 unitText.setX((width - unitText.getLayoutBounds().getWidth()) - height * 0.04);
-                unitText.setY(height - (valueText.getLayoutBounds().getHeight() * digitalFontSizeFactor) * 0.5);
+                unitText.setY(valueBaseline);
                 valueOffsetRight = (unitText.getLayoutBounds().getWidth() + height * 0.0833333333); // distance between value and unit
-                valueText.setX(width - 2 - valueText.getLayoutBounds().getWidth() - valueOffsetRight);
             }
-            valueText.setY(height - (valueText.getLayoutBounds().getHeight() * digitalFontSizeFactor) * 0.5);
+            relocateValueText();
 
             // Visualize the lcd semitransparent background text
             updateBackgroundText();
@@ -703,36 +712,63 @@ public class LcdSkin extends GaugeSkinBase {
         }
         backgroundText.setY(height - (backgroundText.getLayoutBounds().getHeight() * digitalFontSizeFactor) * 0.5);
 
-        if (gauge.getUnit().isEmpty()) {
-            valueText.setX((width - valueText.getLayoutBounds().getWidth()) - valueOffsetRight);
-        } else {
-            valueText.setX((width - 2 - valueText.getLayoutBounds().getWidth()) - valueOffsetRight);
-        }
+        relocateValueText();
 
         // Update the title
         title.setText(gauge.getTitle());
         title.setX((width - title.getLayoutBounds().getWidth()) * 0.5);
 
-        // Update the upper left text
-        upperLeftText.setText(String.format(locale, otherFormatString, gauge.getMinMeasuredValue()));
+        updateUpperLeftText();
+        updateUpperRightText();
+        updateLowerTexts();
+    }
+
+    /**
+     * Only updates the nodes that depend on the current value. The texts
+     * that show the min/max measured and the old/average value will only
+     * be updated if the underlying numbers have changed.
+     */
+    private void redrawValue() {
+        if (null != lcdSection || LcdDesign.SECTIONS == gauge.getLcdDesign()) {
+            if (getSection(gauge.getCurrentValue()) != lcdSection) { updateLcdDesign(height); }
+        }
+
+        if (gauge.isThresholdVisible()) { threshold.setVisible(Double.compare(gauge.getCurrentValue(), gauge.getThreshold()) >= 0); }
+
+        // The readout is right aligned and only redraws the digits that have changed
+        valueText.setText(isNoOfDigitsInvalid() ? "-E-" : formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), gauge.getCurrentValue()));
+
+        if (Double.compare(gauge.getMinMeasuredValue(), minMeasuredValue) != 0) { updateUpperLeftText(); }
+        if (Double.compare(gauge.getMaxMeasuredValue(), maxMeasuredValue) != 0) { updateUpperRightText(); }
+        if (Double.compare(gauge.isAverageVisible() ? gauge.getAverage() : gauge.getOldValue(), lowerCenterValue) != 0) { updateLowerTexts(); }
+    }
+
+    private void relocateValueText() {
+        valueText.relocateText(gauge.getUnit().isEmpty() ? width - valueOffsetRight : width - 2 - valueOffsetRight, valueBaseline);
+    }
+
+    private void updateUpperLeftText() {
+        minMeasuredValue = gauge.getMinMeasuredValue();
+        upperLeftText.setText(String.format(locale, otherFormatString, minMeasuredValue));
         if (upperLeftText.getX() + upperLeftText.getLayoutBounds().getWidth() > title.getX()) {
             upperLeftText.setText("...");
         }
+    }
 
-        // Update the upper right text
-        upperRightText.setText(String.format(locale, otherFormatString, gauge.getMaxMeasuredValue()));
+    private void updateUpperRightText() {
+        maxMeasuredValue = gauge.getMaxMeasuredValue();
+        upperRightText.setText(String.format(locale, otherFormatString, maxMeasuredValue));
         upperRightText.setX(width - upperRightText.getLayoutBounds().getWidth() - 0.0416666667 * height);
         if (upperRightText.getX() < title.getX() + title.getLayoutBounds().getWidth()) {
             upperRightText.setText("...");
             upperRightText.setX(width - upperRightText.getLayoutBounds().getWidth() - 0.0416666667 * height);
         }
+    }
 
-        // Update the lower center text
-        if (gauge.isAverageVisible()) {
-            lowerCenterText.setText(String.format(locale, otherFormatString, gauge.getAverage()));
-        } else {
-            lowerCenterText.setText(String.format(locale, otherFormatString, gauge.getOldValue()));
-        }
+    // The lower right text will be shortened if it overlaps the lower center text
+    private void updateLowerTexts() {
+        lowerCenterValue = gauge.isAverageVisible() ? gauge.getAverage() : gauge.getOldValue();
+        lowerCenterText.setText(String.format(locale, otherFormatString, lowerCenterValue));
         lowerCenterText.setX((width - lowerCenterText.getLayoutBounds().getWidth()) * 0.5);
         lowerCenterText.setY(0.94 * height);
 
@@ -116,7 +116,7 @@ public class LinearSkin extends GaugeSkinBase {
         sections              = gauge.getSections();
         areas                 = gauge.getAreas();
         currentValueListener  = o -> setBar(gauge.getCurrentValue());
-        paneSizeListener      = o -> handleEvents("RESIZE");
+        paneSizeListener      = o -> dispatchEvent("RESIZE");
 
         if (Orientation.VERTICAL == orientation) {
             preferredWidth  = 140;
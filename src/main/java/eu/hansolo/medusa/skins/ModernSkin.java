@@ -128,8 +128,8 @@ public class ModernSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         barColor             = gauge.getBarColor();
         thresholdColor       = gauge.getThresholdColor();
-        animatedListener     = o -> handleEvents("ANIMATED");
-        sectionListener      = c -> handleEvents("RESIZE");
+        animatedListener     = o -> dispatchEvent("ANIMATED");
+        sectionListener      = c -> dispatchEvent("RESIZE");
         currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
         titleLength          = 0;
         subTitleLength       = 0;
@@ -204,6 +204,7 @@ public class PlainClockSkin extends ClockSkinBase {
     @Override protected void handleEvents(final String EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
         if ("VISIBILITY".equals(EVENT_TYPE)) {
+            invalidateTimeFields();
             title.setVisible(clock.isTitleVisible());
             title.setManaged(clock.isTitleVisible());
             text.setVisible(clock.isTextVisible());
@@ -403,6 +404,8 @@ public class PlainClockSkin extends ClockSkinBase {
     }
 
     @Override public void updateTime(final ZonedDateTime TIME) {
+        int changedFields = getChangedTimeFields(TIME);
+
         if (clock.isDiscreteMinutes()) {
             minuteRotate.setAngle(TIME.getMinute() * 6);
         } else {
@@ -423,13 +426,13 @@ public class PlainClockSkin extends ClockSkinBase {
             hourRotate.setAngle(0.5 * (60 * TIME.getHour() + TIME.getMinute()));
         }
 
-        if (text.isVisible()) {
+        if (text.isVisible() && (changedFields & (MINUTE_CHANGED | HOUR_CHANGED | DAY_CHANGED)) != 0) {
             text.setText(TIME_FORMATTER.format(TIME));
             Helper.adjustTextSize(text, 0.6 * size, size * 0.12);
             text.relocate((size - text.getLayoutBounds().getWidth()) * 0.5, size * 0.6);
         }
 
-        if (dateNumber.isVisible()) {
+        if (dateNumber.isVisible() && (changedFields & DAY_CHANGED) != 0) {
             dateNumber.setText(DATE_NUMBER_FORMATER.format(TIME).toUpperCase());
             Helper.adjustTextSize(dateNumber, 0.3 * size, size * 0.05);
             dateNumber.relocate(((size * 0.5) - dateNumber.getLayoutBounds().getWidth()) * 0.5 + (size * 0.6), (size - dateNumber.getLayoutBounds().getHeight()) * 0.5);
@@ -535,6 +538,7 @@ public class PlainClockSkin extends ClockSkinBase {
 
         ZonedDateTime time = clock.getTime();
 
+        invalidateTimeFields();
         updateTime(time);
 
         title.setText(clock.getTitle());
@@ -18,6 +18,7 @@ package eu.hansolo.medusa.skins;
 
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
+import eu.hansolo.medusa.tools.GlyphAtlas;
 import eu.hansolo.medusa.tools.Helper;
 import javafx.geometry.Insets;
 import javafx.geometry.VPos;
@@ -148,25 +149,18 @@ public class RoundLcdClockSkin extends ClockSkinBase {
 
         Locale locale = clock.getLocale();
 
-        // draw the time
+        // draw the time (the glyphs will be blitted from a pre-rendered atlas)
         if (clock.isTextVisible()) {
-            foregroundCtx.setFill(textColor);
-            foregroundCtx.setTextBaseline(VPos.CENTER);
-            foregroundCtx.setTextAlign(TextAlignment.CENTER);
             if (Locale.US == locale) {
-                foregroundCtx.setFont(Fonts.digital(0.17 * size));
-                foregroundCtx.fillText(AMPM_TIME_FORMATTER.format(TIME), center, center);
+                GlyphAtlas.get(Fonts.digital(0.17 * size), textColor).fillText(foregroundCtx, AMPM_TIME_FORMATTER.format(TIME), center, center, TextAlignment.CENTER, VPos.CENTER);
             } else {
-                foregroundCtx.setFont(Fonts.digital(0.2 * size));
-                foregroundCtx.fillText(TIME_FORMATTER.format(TIME), center, center);
+                GlyphAtlas.get(Fonts.digital(0.2 * size), textColor).fillText(foregroundCtx, TIME_FORMATTER.format(TIME), center, center, TextAlignment.CENTER, VPos.CENTER);
             }
         }
 
         // draw the date
         if (clock.isDateVisible()) {
-            foregroundCtx.setFill(dateColor);
-            foregroundCtx.setFont(Fonts.digital(0.09 * size));
-            foregroundCtx.fillText(dateFormat.format(TIME), center, size * 0.65);
+            GlyphAtlas.get(Fonts.digital(0.09 * size), dateColor).fillText(foregroundCtx, dateFormat.format(TIME), center, size * 0.65, TextAlignment.CENTER, VPos.CENTER);
         }
 
         // draw the alarmOn icon
@@ -90,7 +90,7 @@ public class SectionSkin extends GaugeSkinBase {
         sectionsVisible      = gauge.getSectionsVisible();
         minValue             = gauge.getMinValue();
         maxValue             = gauge.getMaxValue();
-        sectionListener      = c -> handleEvents("RESIZE");
+        sectionListener      = c -> dispatchEvent("RESIZE");
         currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
 
         initGraphics();
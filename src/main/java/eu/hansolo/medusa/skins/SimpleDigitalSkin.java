@@ -19,6 +19,7 @@ package eu.hansolo.medusa.skins;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.tools.GlyphReadout;
 import eu.hansolo.medusa.tools.Helper;
 import java.util.List;
 import java.util.Locale;
@@ -57,8 +58,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
     private Canvas               barCanvas;
     private GraphicsContext      barCtx;
     private Text                 titleText;
-    private Text                 valueBkgText;
-    private Text                 valueText;
+    private GlyphReadout         valueText;
     private Color                barColor;
     private Color                valueColor;
     private Color                unitColor;
@@ -92,7 +92,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         thresholdVisible     = gauge.isThresholdVisible();
         thresholdColor       = gauge.getThresholdColor();
-        decimalListener      = o -> handleEvents("DECIMALS");
+        decimalListener      = o -> dispatchEvent("DECIMALS");
         currentValueListener = o -> setBar(gauge.getCurrentValue());
 
         initGraphics();
@@ -124,17 +124,12 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
         titleText.setFill(gauge.getTitleColor());
         Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
 
-        valueBkgText = new Text();
-        valueBkgText.setStroke(null);
-        valueBkgText.setFill(Helper.getTranslucentColorFrom(valueColor, 0.1));
-        Helper.enableNode(valueBkgText, gauge.isValueVisible());
-
-        valueText = new Text();
-        valueText.setStroke(null);
+        valueText = new GlyphReadout();
+        valueText.setGhostFill(Helper.getTranslucentColorFrom(valueColor, 0.1));
         valueText.setFill(valueColor);
         Helper.enableNode(valueText, gauge.isValueVisible());
 
-        pane = new Pane(backgroundCanvas, barCanvas, titleText, valueBkgText, valueText);
+        pane = new Pane(backgroundCanvas, barCanvas, titleText, valueText);
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, new CornerRadii(1024), new BorderWidths(gauge.getBorderWidth()))));
         pane.setBackground(new Background(new BackgroundFill(gauge.getBackgroundPaint(), new CornerRadii(1024), Insets.EMPTY)));
 
@@ -161,7 +156,6 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
         } else if ("SECTIONS".equals(EVENT_TYPE)) {
             sections = gauge.getSections();
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
-            Helper.enableNode(valueBkgText, gauge.isValueVisible());
             Helper.enableNode(valueText, gauge.isValueVisible());
             Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
             sectionsVisible  = gauge.getSectionsVisible();
@@ -226,7 +220,6 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
             }
         }
         valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
-        valueText.setLayoutX(valueBkgText.getLayoutBounds().getMaxX() - valueText.getLayoutBounds().getWidth());
     }
 
     private void drawBackground() {
@@ -270,8 +263,8 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
                 len = gauge.getDecimals();
                 for (int i = 0 ; i < len ; i++) { valueBkg.append("8"); }
             }
-            valueBkgText.setText(valueBkg.toString());
-            valueBkgText.setX((size - valueBkgText.getLayoutBounds().getWidth()) * 0.5);
+            valueText.setGhostText(valueBkg.toString());
+            valueText.relocateText((size + valueText.getGhostTextWidth()) * 0.5, center + valueText.getLineHeight() * 0.325);
         }
     }
 
@@ -303,11 +296,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
             barCanvas.setWidth(size);
             barCanvas.setHeight(size);
 
-            valueBkgText.setFont(Fonts.digitalReadoutBold(0.215 * size));
-            valueBkgText.setY(center + (valueBkgText.getLayoutBounds().getHeight() * 0.325));
-
             valueText.setFont(Fonts.digitalReadoutBold(0.215 * size));
-            valueText.setY(center + (valueText.getLayoutBounds().getHeight() * 0.325));
 
             titleText.setText(gauge.getTitle());
             titleText.setFill(gauge.getTitleColor());
@@ -334,7 +323,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
         titleText.setFill(gauge.getTitleColor());
         titleText.relocate((size - titleText.getLayoutBounds().getWidth()) * 0.5, size * 0.22180451);
 
-        valueBkgText.setFill(Helper.getTranslucentColorFrom(valueColor, 0.1));
+        valueText.setGhostFill(Helper.getTranslucentColorFrom(valueColor, 0.1));
         valueText.setFill(valueColor);
     }
 }
@@ -60,7 +60,7 @@ public class SimpleSectionSkin extends GaugeSkinBase {
         super(gauge);
         if (gauge.isAutoScale()) gauge.calcAutoScale();
         sections             = gauge.getSections();
-        decimalListener      = o -> handleEvents("DECIMALS");
+        decimalListener      = o -> dispatchEvent("DECIMALS");
         currentValueListener = o -> setBar(gauge.getCurrentValue());
 
         initGraphics();
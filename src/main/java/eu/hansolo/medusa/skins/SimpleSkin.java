@@ -92,7 +92,7 @@ public class SimpleSkin extends GaugeSkinBase {
         highlightSections    = gauge.isHighlightSections();
         minValue             = gauge.getMinValue();
         maxValue             = gauge.getMaxValue();
-        sectionListener      = c -> handleEvents("RESIZE");
+        sectionListener      = c -> dispatchEvent("RESIZE");
         currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
 
         initGraphics();
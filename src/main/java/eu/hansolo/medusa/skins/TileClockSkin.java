@@ -179,6 +179,7 @@ public class TileClockSkin extends ClockSkinBase {
     @Override protected void handleEvents(final String EVENT_TYPE) {
         super.handleEvents(EVENT_TYPE);
         if ("VISIBILITY".equals(EVENT_TYPE)) {
+            invalidateTimeFields();
             Helper.enableNode(title, clock.isTitleVisible());
             Helper.enableNode(text, clock.isTextVisible());
             Helper.enableNode(dateText, clock.isDateVisible());
@@ -233,6 +234,8 @@ public class TileClockSkin extends ClockSkinBase {
     }
 
     @Override public void updateTime(final ZonedDateTime TIME) {
+        int changedFields = getChangedTimeFields(TIME);
+
         if (clock.isDiscreteHours()) {
             hourRotate.setAngle(TIME.getHour() * 30);
         } else {
@@ -253,15 +256,19 @@ public class TileClockSkin extends ClockSkinBase {
             }
         }
 
-        amPmText.setText(clock.getTime().get(ChronoField.AMPM_OF_DAY) == 0 ? "AM" : "PM");
-        Helper.adjustTextSize(amPmText, 0.2 * size, size * 0.05);
-        amPmText.setX((size - amPmText.getLayoutBounds().getWidth()) * 0.5);
-        amPmText.setY(size * 0.4);
+        if ((changedFields & (HOUR_CHANGED | DAY_CHANGED)) != 0) {
+            amPmText.setText(TIME.get(ChronoField.AMPM_OF_DAY) == 0 ? "AM" : "PM");
+            Helper.adjustTextSize(amPmText, 0.2 * size, size * 0.05);
+            amPmText.setX((size - amPmText.getLayoutBounds().getWidth()) * 0.5);
+            amPmText.setY(size * 0.4);
+        }
 
-        dateText.setText(DATE_FORMATER.format(TIME).toUpperCase());
-        Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
-        dateText.setX((size - dateText.getLayoutBounds().getWidth()) * 0.5);
-        dateText.setY(size * 0.65);
+        if ((changedFields & DAY_CHANGED) != 0) {
+            dateText.setText(DATE_FORMATER.format(TIME).toUpperCase());
+            Helper.adjustTextSize(dateText, 0.3 * size, size * 0.05);
+            dateText.setX((size - dateText.getLayoutBounds().getWidth()) * 0.5);
+            dateText.setY(size * 0.65);
+        }
     }
 
     @Override public void updateAlarms() {}
@@ -380,6 +387,7 @@ public class TileClockSkin extends ClockSkinBase {
 
         ZonedDateTime time = clock.getTime();
 
+        invalidateTimeFields();
         updateTime(time);
 
         resizeText();
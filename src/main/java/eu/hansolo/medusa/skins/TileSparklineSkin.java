@@ -19,7 +19,7 @@ package eu.hansolo.medusa.skins;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.tools.Helper;
-import eu.hansolo.medusa.tools.Statistics;
+import eu.hansolo.medusa.tools.ValueHistory;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.Insets;
 import javafx.geometry.VPos;
@@ -45,8 +45,6 @@ import javafx.scene.text.Text;
 import javafx.util.Pair;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 
@@ -82,7 +80,7 @@ public class TileSparklineSkin extends GaugeSkinBase {
     private              String               formatString;
     private              Locale               locale;
     private              int                  noOfDatapoints;
-    private              List<Double>         dataList;
+    private              double[]             dataPoints;
     private              InvalidationListener currentValueListener;
     private              InvalidationListener averagingListener;
 
@@ -100,13 +98,13 @@ public class TileSparklineSkin extends GaugeSkinBase {
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale               = gauge.getLocale();
         noOfDatapoints       = gauge.getAveragingPeriod();
-        dataList             = new LinkedList<>();
-        currentValueListener = o -> handleEvents("VALUE");
-        averagingListener    = o -> handleEvents("AVERAGING_PERIOD");
-        for (int i = 0; i < noOfDatapoints; i++) { dataList.add(minValue); }
+        currentValueListener = o -> dispatchEvent("VALUE");
+        averagingListener    = o -> dispatchEvent("AVERAGING_PERIOD");
 
         // To get smooth lines in the chart we need at least 4 values
         if (noOfDatapoints < 4) throw new IllegalArgumentException("Please increase the averaging period to a value larger than 3.");
+        // The data points will be read from the history of the gauge
+        gauge.setHistoryCapacity(Math.max(gauge.getHistoryCapacity(), noOfDatapoints));
 
         initGraphics();
         registerListeners();
@@ -217,13 +215,12 @@ public class TileSparklineSkin extends GaugeSkinBase {
             if(gauge.isAnimated()) { gauge.setAnimated(false); }
             if (!gauge.isAveragingEnabled()) { gauge.setAveragingEnabled(true); }
             double value = clamp(minValue, maxValue, gauge.getValue());
-            addData(value);
             drawChart(value);
         } else if ("AVERAGING_PERIOD".equals(EVENT_TYPE)) {
             noOfDatapoints = gauge.getAveragingPeriod();
             // To get smooth lines in the chart we need at least 4 values
             if (noOfDatapoints < 4) throw new IllegalArgumentException("Please increase the averaging period to a value larger than 3.");
-            for (int i = 0; i < noOfDatapoints; i++) { dataList.add(minValue); }
+            gauge.setHistoryCapacity(Math.max(gauge.getHistoryCapacity(), noOfDatapoints));
             pathElements.clear();
             pathElements.add(0, new MoveTo());
             for (int i = 1 ; i < noOfDatapoints ; i++) { pathElements.add(i, new LineTo()); }
@@ -232,24 +229,52 @@ public class TileSparklineSkin extends GaugeSkinBase {
         }
     }
 
-    private void addData(final double VALUE) {
-        if (dataList.size() <= noOfDatapoints) {
-            Collections.rotate(dataList, -1);
-            dataList.set((noOfDatapoints - 1), VALUE);
-        } else {
-            dataList.add(VALUE);
-        }
-        stdDeviation = Statistics.getStdDev(dataList);
+    private ValueHistory getHistory() {
+        if (null == gauge.getHistory()) { gauge.setHistoryCapacity(noOfDatapoints); }
+        return gauge.getHistory();
     }
 
-    private void drawChart(final double VALUE) {
-        low  = Statistics.getMin(dataList);
-        high = Statistics.getMax(dataList);
+    /**
+     * Returns the value of the data point at the given index where the
+     * latest value is at noOfDatapoints - 1. Data points that are not
+     * available in the history yet will be at minValue.
+     */
+    private double getDataPoint(final ValueHistory HISTORY, final int INDEX) {
+        final int COUNT  = Math.min(HISTORY.getSize(), noOfDatapoints);
+        final int OFFSET = noOfDatapoints - COUNT;
+        return INDEX < OFFSET ? minValue : clamp(minValue, maxValue, HISTORY.getValue(HISTORY.getSize() - COUNT + INDEX - OFFSET));
+    }
+
+    /**
+     * Reads the data points from the history into a buffer that will be
+     * reused for every update and only reallocated if the averaging
+     * period changes.
+     */
+    private double[] getDataPoints(final ValueHistory HISTORY) {
+        if (null == dataPoints || dataPoints.length != noOfDatapoints) { dataPoints = new double[noOfDatapoints]; }
+        for (int i = 0 ; i < noOfDatapoints ; i++) { dataPoints[i] = getDataPoint(HISTORY, i); }
+        return dataPoints;
+    }
+
+    private void updateLowAndHigh(final double[] DATA) {
+        low  = Double.MAX_VALUE;
+        high = -Double.MAX_VALUE;
+        for (double value : DATA) {
+            if (value < low)  { low  = value; }
+            if (value > high) { high = value; }
+        }
         if (Double.compare(low, high) == 0) {
             low  = minValue;
             high = maxValue;
         }
         range = high - low;
+    }
+
+    private void drawChart(final double VALUE) {
+        final ValueHistory HISTORY = getHistory();
+        final double[]     DATA    = getDataPoints(HISTORY);
+        stdDeviation = HISTORY.getStdDev(noOfDatapoints);
+        updateLowAndHigh(DATA);
 
         double minX  = graphBounds.getX();
         double maxX  = minX + graphBounds.getWidth();
@@ -259,19 +284,19 @@ public class TileSparklineSkin extends GaugeSkinBase {
         double stepY = graphBounds.getHeight() / range;
 
         if (gauge.isSmoothing()) {
-            smooth(dataList);
+            smooth(DATA);
         } else {
             MoveTo begin = (MoveTo) pathElements.get(0);
             begin.setX(minX);
-            begin.setY(maxY - Math.abs(low - dataList.get(0)) * stepY);
+            begin.setY(maxY - Math.abs(low - DATA[0]) * stepY);
             for (int i = 1; i < (noOfDatapoints - 1); i++) {
                 LineTo lineTo = (LineTo) pathElements.get(i);
                 lineTo.setX(minX + i * stepX);
-                lineTo.setY(maxY - Math.abs(low - dataList.get(i)) * stepY);
+                lineTo.setY(maxY - Math.abs(low - DATA[i]) * stepY);
             }
             LineTo end = (LineTo) pathElements.get(noOfDatapoints - 1);
             end.setX(maxX);
-            end.setY(maxY - Math.abs(low - dataList.get(noOfDatapoints - 1)) * stepY);
+            end.setY(maxY - Math.abs(low - DATA[noOfDatapoints - 1]) * stepY);
 
             dot.setCenterX(maxX);
             dot.setCenterY(end.getY());
@@ -306,16 +331,17 @@ public class TileSparklineSkin extends GaugeSkinBase {
     // ******************** Smoothing *****************************************
     public void smooth(final List<Double> DATA_LIST) {
         int      size = DATA_LIST.size();
+        double[] data = new double[size];
+        for (int i = 0 ; i < size ; i++) { data[i] = DATA_LIST.get(i); }
+        smooth(data);
+    }
+    public void smooth(final ValueHistory HISTORY) { smooth(getDataPoints(HISTORY)); }
+    private void smooth(final double[] DATA) {
+        int      size = DATA.length;
         double[] x    = new double[size];
         double[] y    = new double[size];
 
-        low  = Statistics.getMin(DATA_LIST);
-        high = Statistics.getMax(DATA_LIST);
-        if (Double.compare(low, high) == 0) {
-            low  = minValue;
-            high = maxValue;
-        }
-        range = high - low;
+        updateLowAndHigh(DATA);
 
         double minX  = graphBounds.getX();
         double maxX  = minX + graphBounds.getWidth();
@@ -326,7 +352,7 @@ public class TileSparklineSkin extends GaugeSkinBase {
 
         for (int i = 0 ; i < size ; i++) {
             x[i] = minX + i * stepX;
-            y[i] = maxY - Math.abs(low - DATA_LIST.get(i)) * stepY;
+            y[i] = maxY - Math.abs(low - DATA[i]) * stepY;
         }
 
         Pair<Double[], Double[]> px = computeControlPoints(x);
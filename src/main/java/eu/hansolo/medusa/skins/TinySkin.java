@@ -178,7 +178,7 @@ public class TinySkin extends GaugeSkinBase {
 
     @Override protected void registerListeners() {
         super.registerListeners();
-        gauge.currentValueProperty().addListener(o -> rotateNeedle(gauge.getCurrentValue()));
+        gauge.currentValueProperty().addListener(currentValueListener);
     }
 
 
@@ -206,7 +206,7 @@ public class TinySkin extends GaugeSkinBase {
     }
 
     @Override public void dispose() {
-        gauge.currentValueProperty().removeListener(o -> rotateNeedle(gauge.getCurrentValue()));
+        gauge.currentValueProperty().removeListener(currentValueListener);
         super.dispose();
     }
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Lets the LEDs of all registered gauges blink in phase.
+ * One AnimationTimer toggles the LEDs on the FX application thread so
+ * that no Platform.runLater() calls are needed. The LED state only
+ * changes once per blink interval, so all other pulses cost nothing
+ * but a comparison. The timer is stopped if no gauge is registered.
+ * Gauges can be registered from any thread, the timer itself is only
+ * started and stopped on the FX application thread. Gauges are only
+ * weakly referenced.
+ */
+public final class BlinkManager {
+    public  static final long                       BLINK_INTERVAL = 500_000_000L;
+    private static final BlinkManager               INSTANCE       = new BlinkManager();
+    private        final List<WeakReference<Gauge>> gauges;
+    private        final List<Gauge>                toggled;
+    private        final AnimationTimer             timer;
+    private              boolean                    running;
+    private              long                       lastPhase;
+    private              boolean                    ledOn;
+
+
+    // ******************** Constructors **************************************
+    private BlinkManager() {
+        gauges    = new ArrayList<>();
+        toggled   = new ArrayList<>();
+        lastPhase = -1;
+        timer     = new AnimationTimer() {
+            @Override public void handle(final long NOW) { toggle(NOW); }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    public static BlinkManager getInstance() { return INSTANCE; }
+
+    public void register(final Gauge GAUGE) {
+        final boolean LED_ON;
+        synchronized (this) {
+            if (contains(GAUGE)) return;
+            gauges.add(new WeakReference<>(GAUGE));
+            LED_ON = ledOn;
+            if (!running) {
+                running   = true;
+                lastPhase = -1;
+                updateTimer();
+            }
+        }
+        GAUGE.setLedOn(LED_ON);
+    }
+
+    public synchronized void unregister(final Gauge GAUGE) {
+        for (int i = gauges.size() - 1 ; i >= 0 ; i--) {
+            Gauge gauge = gauges.get(i).get();
+            if (null == gauge || gauge == GAUGE) { gauges.remove(i); }
+        }
+        if (gauges.isEmpty()) { stop(); }
+    }
+
+    public synchronized boolean contains(final Gauge GAUGE) {
+        for (WeakReference<Gauge> reference : gauges) {
+            if (reference.get() == GAUGE) return true;
+        }
+        return false;
+    }
+
+    public synchronized int getNoOfGauges() { return gauges.size(); }
+
+    private void toggle(final long NOW) {
+        final boolean LED_ON;
+        synchronized (this) {
+            long phase = NOW / BLINK_INTERVAL;
+            if (phase == lastPhase) return;
+            lastPhase = phase;
+            ledOn     = (phase & 1) == 0;
+            LED_ON    = ledOn;
+            for (int i = gauges.size() - 1 ; i >= 0 ; i--) {
+                Gauge gauge = gauges.get(i).get();
+                if (null == gauge) {
+                    gauges.remove(i);
+                } else {
+                    toggled.add(gauge);
+                }
+            }
+            if (gauges.isEmpty()) { stop(); }
+        }
+        // The gauges are updated without holding the monitor, toggle() only runs on the FX application thread
+        for (Gauge gauge : toggled) { gauge.setLedOn(LED_ON); }
+        toggled.clear();
+    }
+
+    private void stop() {
+        if (!running) return;
+        running = false;
+        updateTimer();
+    }
+
+    /**
+     * Starts or stops the timer on the FX application thread depending on
+     * the running state at the time it is executed there.
+     */
+    private void updateTimer() {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(this::updateTimer);
+            return;
+        }
+        synchronized (this) {
+            if (running) {
+                timer.start();
+            } else {
+                timer.stop();
+            }
+        }
+    }
+}
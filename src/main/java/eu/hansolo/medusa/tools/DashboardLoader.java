@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeBuilder;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+
+/**
+ * Loads big dashboards without freezing the JavaFX application thread.
+ * The definitions of a dashboard are split into sources, e.g. one snapshot
+ * file per panel or chunks of gauge builders. All sources will be parsed
+ * and built in parallel on a pool of background threads, which also
+ * pre-computes the tick mark geometry incl. the formatted tick labels
+ * that the skins would otherwise calculate on the JavaFX application
+ * thread. Artifacts that depend on the final layout size (e.g. the crystal
+ * textures of the lcd skins) are still created by the skins.
+ * The finished controls will be handed to the attach consumer on the JavaFX
+ * application thread in the order of their sources, but only as many per
+ * pulse as fit into the frame budget. Because a skin will be created when
+ * its control gets css applied for the first time, css will be applied
+ * right after attaching a control so that creating the skin is part of
+ * the budget too.
+ * Objects of a source that are no nodes (e.g. sections) will be skipped.
+ */
+public class DashboardLoader {
+    public  static final Duration DEFAULT_FRAME_BUDGET = Duration.ofMillis(8);
+    private static final int      BUILDERS_PER_SOURCE  = 64;
+
+    private final Consumer<Node>                          attach;
+    private final int                                     noOfThreads;
+    private final List<Callable<? extends Collection<?>>> sources;
+    private final List<Future<List<Node>>>                futures;
+    private final AnimationTimer                          timer;
+    private       ExecutorService                         executor;
+    private       long                                    frameBudget;
+    private       List<Node>                              nodes;
+    private       int                                     source;
+    private       int                                     index;
+    private       int                                     noOfAttached;
+    private       boolean                                 running;
+    private       Exception                               lastError;
+    private       Consumer<Exception>                     onError;
+    private       Runnable                                onFinished;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param ATTACH will be called on the JavaFX application thread for every
+     *               loaded node, e.g. pane.getChildren()::add
+     */
+    public DashboardLoader(final Consumer<Node> ATTACH) {
+        this(ATTACH, Runtime.getRuntime().availableProcessors());
+    }
+    public DashboardLoader(final Consumer<Node> ATTACH, final int NO_OF_THREADS) {
+        if (null == ATTACH) { throw new IllegalArgumentException("Attach consumer must not be null"); }
+        attach      = ATTACH;
+        noOfThreads = Math.max(1, NO_OF_THREADS);
+        sources     = new ArrayList<>();
+        futures     = new ArrayList<>();
+        frameBudget = DEFAULT_FRAME_BUDGET.toNanos();
+        timer       = new AnimationTimer() {
+            @Override public void handle(final long NOW) { pulse(); }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Adds a source that will be called on a background thread and returns
+     * the objects of a part of the dashboard in the order they should be attached.
+     * @param SOURCE
+     */
+    public void add(final Callable<? extends Collection<?>> SOURCE) {
+        if (running) { throw new IllegalStateException("Sources cannot be added while loading"); }
+        if (null == SOURCE) return;
+        sources.add(SOURCE);
+    }
+
+    /**
+     * Adds all gauges and clocks of the given snapshot file.
+     * @param FILE a file that was written by a SnapshotWriter
+     */
+    public void addSnapshot(final Path FILE) { add(() -> SnapshotReader.load(FILE)); }
+
+    /**
+     * Adds the gauges of the given builders. The builders will be split into
+     * chunks that will be built in parallel.
+     * @param BUILDERS
+     */
+    public void addBuilders(final List<? extends GaugeBuilder<?>> BUILDERS) {
+        final int SIZE = BUILDERS.size();
+        for (int i = 0 ; i < SIZE ; i += BUILDERS_PER_SOURCE) {
+            final List<? extends GaugeBuilder<?>> CHUNK = new ArrayList<>(BUILDERS.subList(i, Math.min(SIZE, i + BUILDERS_PER_SOURCE)));
+            add(() -> {
+                List<Gauge> gauges = new ArrayList<>(CHUNK.size());
+                for (GaugeBuilder<?> builder : CHUNK) { gauges.add(builder.build()); }
+                return gauges;
+            });
+        }
+    }
+
+    /**
+     * Starts loading all sources that have been added so far. Has to be
+     * called on the JavaFX application thread.
+     */
+    public void start() {
+        if (running) return;
+        running      = true;
+        source       = 0;
+        index        = 0;
+        nodes        = null;
+        noOfAttached = 0;
+        lastError    = null;
+        futures.clear();
+        executor = Executors.newFixedThreadPool(Math.min(noOfThreads, Math.max(1, sources.size())), Helper.getThreadFactory("DashboardLoader", true));
+        for (Callable<? extends Collection<?>> callable : sources) { futures.add(executor.submit(() -> load(callable))); }
+        sources.clear();
+        executor.shutdown();
+        timer.start();
+    }
+
+    /**
+     * Stops loading, nodes that have been attached so far stay attached.
+     */
+    public void cancel() {
+        if (!running) return;
+        timer.stop();
+        executor.shutdownNow();
+        futures.clear();
+        nodes   = null;
+        running = false;
+    }
+
+    public boolean isRunning() { return running; }
+
+    public int getNoOfAttached() { return noOfAttached; }
+
+    public Duration getFrameBudget() { return Duration.ofNanos(frameBudget); }
+    /**
+     * Defines the time per pulse that may be spent on attaching nodes.
+     * At least one node will be attached per pulse.
+     * @param BUDGET
+     */
+    public void setFrameBudget(final Duration BUDGET) { frameBudget = Math.max(0, BUDGET.toNanos()); }
+
+    /**
+     * Returns the last exception that was thrown by a source. The nodes of
+     * that source will be skipped.
+     * @return the last exception that was thrown by a source
+     */
+    public Exception getLastError() { return lastError; }
+
+    public void setOnError(final Consumer<Exception> ON_ERROR) { onError = ON_ERROR; }
+
+    public void setOnFinished(final Runnable ON_FINISHED) { onFinished = ON_FINISHED; }
+
+    private void pulse() {
+        final long DEADLINE = System.nanoTime() + frameBudget;
+        while (source < futures.size()) {
+            if (null == nodes) {
+                Future<List<Node>> future = futures.get(source);
+                if (!future.isDone()) return;
+                nodes = getNodes(future);
+                index = 0;
+            }
+            while (index < nodes.size()) {
+                Node node = nodes.get(index++);
+                attach.accept(node);
+                if (null != node.getScene()) { node.applyCss(); }
+                noOfAttached++;
+                if (System.nanoTime() >= DEADLINE) return;
+            }
+            nodes = null;
+            source++;
+        }
+        timer.stop();
+        futures.clear();
+        running = false;
+        if (null != onFinished) { onFinished.run(); }
+    }
+
+    private List<Node> getNodes(final Future<List<Node>> FUTURE) {
+        try {
+            return FUTURE.get();
+        } catch (InterruptedException | ExecutionException e) {
+            lastError = e instanceof ExecutionException && e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            if (null != onError) { onError.accept(lastError); }
+            return new ArrayList<>();
+        }
+    }
+
+    // Runs on a background thread
+    private static List<Node> load(final Callable<? extends Collection<?>> SOURCE) throws Exception {
+        Collection<?> objects = SOURCE.call();
+        List<Node>    nodes   = new ArrayList<>(null == objects ? 0 : objects.size());
+        if (null == objects) return nodes;
+        for (Object object : objects) {
+            if (!(object instanceof Node)) continue;
+            prepare(object);
+            nodes.add((Node) object);
+        }
+        return nodes;
+    }
+
+    private static void prepare(final Object OBJECT) {
+        if (!(OBJECT instanceof Gauge)) return;
+        Gauge gauge = (Gauge) OBJECT;
+        if (SkinType.GAUGE == gauge.getSkinType()) {
+            TickMarkGeometry.prepare(gauge.getMinValue(), gauge.getMaxValue(), gauge.getMinorTickSpace(), gauge.getMajorTickSpace(),
+                                     gauge.getStartAngle(), gauge.getAngleRange(), gauge.getAngleStep(), gauge.getScaleDirection(),
+                                     gauge.getLocale(), gauge.getTickLabelDecimals());
+        }
+    }
+}
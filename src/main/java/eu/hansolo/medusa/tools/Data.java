@@ -32,6 +32,10 @@ public class Data {
         value     = VALUE;
         timestamp = Instant.now();
     }
+    public Data(final double VALUE, final Instant TIMESTAMP) {
+        value     = VALUE;
+        timestamp = TIMESTAMP;
+    }
 
 
     // ******************** Methods *******************************************
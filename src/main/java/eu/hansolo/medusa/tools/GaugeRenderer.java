@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import com.sun.javafx.application.PlatformImpl;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.control.Control;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+
+/**
+ * Renders Gauges and Clocks (or any other Control) offscreen into images
+ * without showing a window.
+ * The control will be placed in a temporary Scene, styled, laid out and
+ * snapshotted. Keep in mind that the skins limit the size of a control to
+ * 1024 x 1024 px, use the scale parameter to render bigger images.
+ * Animated gauges will be rendered with their current value, so switch
+ * off the animation before rendering.
+ *
+ * For headless usage (CI, server) call initHeadless() before any other
+ * JavaFX class is used, this will start the toolkit with Monocle and the
+ * software pipeline (needs openjfx-monocle on the classpath).
+ */
+public class GaugeRenderer {
+    public  static final int             DEFAULT_BATCH_SIZE = 32;
+    private static final byte[]          PNG_SIGNATURE      = { (byte) 137, 80, 78, 71, 13, 10, 26, 10 };
+    private static       ExecutorService encoderService;
+
+
+    // ******************** Toolkit *******************************************
+    /**
+     * Configures the JavaFX toolkit to run headless using Monocle and the
+     * software renderer and starts it. System properties that have been
+     * set before will not be overridden.
+     */
+    public static void initHeadless() {
+        setPropertyIfAbsent("glass.platform", "Monocle");
+        setPropertyIfAbsent("monocle.platform", "Headless");
+        setPropertyIfAbsent("prism.order", "sw");
+        setPropertyIfAbsent("prism.text", "t2k");
+        setPropertyIfAbsent("java.awt.headless", "true");
+        startToolkit();
+    }
+
+    /**
+     * Starts the JavaFX toolkit if it is not already running and waits
+     * until it is ready.
+     */
+    public static void startToolkit() {
+        final CountDownLatch LATCH = new CountDownLatch(1);
+        PlatformImpl.startup(() -> LATCH.countDown());
+        try {
+            LATCH.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Platform.setImplicitExit(false);
+    }
+
+    private static void setPropertyIfAbsent(final String KEY, final String VALUE) {
+        if (null == System.getProperty(KEY)) { System.setProperty(KEY, VALUE); }
+    }
+
+
+    // ******************** Rendering *****************************************
+    /**
+     * Renders the given control with the given size into an image.
+     * Can be called from any thread, if called from outside of the FX
+     * application thread the call blocks until the image is rendered.
+     * The control must not be part of another scene graph.
+     *
+     * @param CONTROL the Gauge, Clock or any other control to render
+     * @param WIDTH   the width of the control in px
+     * @param HEIGHT  the height of the control in px
+     * @param SCALE   the scale factor of the resulting image (e.g. 2 for hidpi)
+     * @return an image of size (WIDTH * SCALE) x (HEIGHT * SCALE)
+     */
+    public static WritableImage render(final Control CONTROL, final double WIDTH, final double HEIGHT, final double SCALE) {
+        return runAndWait(() -> renderBatch(Collections.singletonList(CONTROL), WIDTH, HEIGHT, SCALE).get(0));
+    }
+
+    /**
+     * Renders the given control and returns the pixels as int[] in the
+     * ARGB format (non premultiplied) with a row length of (WIDTH * SCALE).
+     */
+    public static int[] renderToPixels(final Control CONTROL, final double WIDTH, final double HEIGHT, final double SCALE) {
+        return getPixels(render(CONTROL, WIDTH, HEIGHT, SCALE));
+    }
+
+    /**
+     * Renders the given control and returns it as PNG encoded byte[].
+     */
+    public static byte[] renderToPng(final Control CONTROL, final double WIDTH, final double HEIGHT, final double SCALE) {
+        return toPng(render(CONTROL, WIDTH, HEIGHT, SCALE));
+    }
+
+    /**
+     * Renders all given controls in batches of BATCH_SIZE controls per
+     * pulse. All controls of one batch share one scene and will be styled
+     * and laid out in one pass. The FX application thread will be released
+     * between the batches so that the UI stays responsive.
+     *
+     * @return a future that will be completed with the images in the order of the given controls
+     */
+    public static CompletableFuture<List<WritableImage>> renderAll(final List<? extends Control> CONTROLS, final double WIDTH, final double HEIGHT, final double SCALE, final int BATCH_SIZE) {
+        final List<WritableImage>                    IMAGES = new ArrayList<>(CONTROLS.size());
+        final CompletableFuture<List<WritableImage>> RESULT = new CompletableFuture<>();
+        renderBatches(CONTROLS, WIDTH, HEIGHT, SCALE, BATCH_SIZE, 0, (index, image) -> IMAGES.add(image), () -> RESULT.complete(IMAGES), RESULT);
+        return RESULT;
+    }
+
+    /**
+     * Renders all given controls in batches like renderAll() and encodes the
+     * images to PNG on a background pool while the next batch is rendered
+     * on the FX application thread. The consumer will be called with the index
+     * of the control in the given list and the PNG data from one of the
+     * encoder threads.
+     *
+     * @return a future that will be completed when all images have been encoded and consumed
+     */
+    public static CompletableFuture<Void> renderAllToPng(final List<? extends Control> CONTROLS, final double WIDTH, final double HEIGHT, final double SCALE, final int BATCH_SIZE,
+                                                         final BiConsumer<Integer, byte[]> CONSUMER) {
+        final CompletableFuture<Void> RESULT    = new CompletableFuture<>();
+        final AtomicInteger           REMAINING = new AtomicInteger(CONTROLS.size());
+        if (CONTROLS.isEmpty()) {
+            RESULT.complete(null);
+            return RESULT;
+        }
+        renderBatches(CONTROLS, WIDTH, HEIGHT, SCALE, BATCH_SIZE, 0, (index, image) -> {
+            final int    WIDTH_PX  = (int) image.getWidth();
+            final int    HEIGHT_PX = (int) image.getHeight();
+            final int[]  PIXELS    = getPixels(image);
+            getEncoderService().execute(() -> {
+                try {
+                    CONSUMER.accept(index, encodePng(PIXELS, WIDTH_PX, HEIGHT_PX));
+                    if (REMAINING.decrementAndGet() == 0) { RESULT.complete(null); }
+                } catch (Throwable t) {
+                    RESULT.completeExceptionally(t);
+                }
+            });
+        }, () -> {}, RESULT);
+        return RESULT;
+    }
+
+    private static void renderBatches(final List<? extends Control> CONTROLS, final double WIDTH, final double HEIGHT, final double SCALE, final int BATCH_SIZE, final int START_INDEX,
+                                      final BiConsumer<Integer, WritableImage> IMAGE_CONSUMER, final Runnable ON_FINISHED, final CompletableFuture<?> RESULT) {
+        Platform.runLater(() -> {
+            try {
+                final int                 END_INDEX = Math.min(CONTROLS.size(), START_INDEX + Math.max(1, BATCH_SIZE));
+                final List<WritableImage> IMAGES    = renderBatch(CONTROLS.subList(START_INDEX, END_INDEX), WIDTH, HEIGHT, SCALE);
+                for (int i = 0 ; i < IMAGES.size() ; i++) { IMAGE_CONSUMER.accept(START_INDEX + i, IMAGES.get(i)); }
+                if (END_INDEX < CONTROLS.size()) {
+                    renderBatches(CONTROLS, WIDTH, HEIGHT, SCALE, BATCH_SIZE, END_INDEX, IMAGE_CONSUMER, ON_FINISHED, RESULT);
+                } else {
+                    ON_FINISHED.run();
+                }
+            } catch (Throwable t) {
+                RESULT.completeExceptionally(t);
+            }
+        });
+    }
+
+    private static List<WritableImage> renderBatch(final List<? extends Control> CONTROLS, final double WIDTH, final double HEIGHT, final double SCALE) {
+        for (Control control : CONTROLS) {
+            if (null != control.getParent()) { throw new IllegalArgumentException("Control is already part of a scene graph"); }
+        }
+        final Pane            ROOT  = new Pane();
+        final List<StackPane> CELLS = new ArrayList<>(CONTROLS.size());
+        try {
+            for (Control control : CONTROLS) {
+                StackPane cell = new StackPane(control);
+                cell.setBackground(null);
+                CELLS.add(cell);
+            }
+            ROOT.getChildren().setAll(CELLS);
+            new Scene(ROOT, WIDTH, HEIGHT, Color.TRANSPARENT);
+
+            ROOT.applyCss();
+            for (StackPane cell : CELLS) {
+                cell.resizeRelocate(0, 0, WIDTH, HEIGHT);
+                cell.layout();
+            }
+
+            final SnapshotParameters PARAMETERS = new SnapshotParameters();
+            PARAMETERS.setFill(Color.TRANSPARENT);
+            PARAMETERS.setTransform(Transform.scale(SCALE, SCALE));
+
+            final List<WritableImage> IMAGES = new ArrayList<>(CONTROLS.size());
+            for (StackPane cell : CELLS) {
+                WritableImage image = new WritableImage((int) Math.ceil(WIDTH * SCALE), (int) Math.ceil(HEIGHT * SCALE));
+                IMAGES.add(cell.snapshot(PARAMETERS, image));
+                cell.getChildren().clear();
+            }
+            return IMAGES;
+        } finally {
+            // Detach the controls from the temporary scene even if a snapshot failed, so they can be used again
+            for (StackPane cell : CELLS) { cell.getChildren().clear(); }
+            ROOT.getChildren().clear();
+        }
+    }
+
+
+    // ******************** PNG encoding **************************************
+    /**
+     * Returns the pixels of the given image as int[] in the ARGB format
+     * (non premultiplied).
+     */
+    public static int[] getPixels(final Image IMAGE) {
+        final int   WIDTH  = (int) IMAGE.getWidth();
+        final int   HEIGHT = (int) IMAGE.getHeight();
+        final int[] PIXELS = new int[WIDTH * HEIGHT];
+        IMAGE.getPixelReader().getPixels(0, 0, WIDTH, HEIGHT, PixelFormat.getIntArgbInstance(), PIXELS, 0, WIDTH);
+        return PIXELS;
+    }
+
+    public static byte[] toPng(final Image IMAGE) {
+        return encodePng(getPixels(IMAGE), (int) IMAGE.getWidth(), (int) IMAGE.getHeight());
+    }
+
+    public static void writePng(final Image IMAGE, final OutputStream OUTPUT_STREAM) throws IOException {
+        writePng(getPixels(IMAGE), (int) IMAGE.getWidth(), (int) IMAGE.getHeight(), OUTPUT_STREAM);
+    }
+
+    /**
+     * Encodes the given ARGB pixels (non premultiplied) as 8 bit RGBA PNG.
+     * Does not need any JavaFX or AWT classes and can be called from any thread.
+     */
+    public static byte[] encodePng(final int[] PIXELS, final int WIDTH, final int HEIGHT) {
+        final ByteArrayOutputStream OUTPUT_STREAM = new ByteArrayOutputStream(WIDTH * HEIGHT + 1024);
+        try {
+            writePng(PIXELS, WIDTH, HEIGHT, OUTPUT_STREAM);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return OUTPUT_STREAM.toByteArray();
+    }
+
+    public static void writePng(final int[] PIXELS, final int WIDTH, final int HEIGHT, final OutputStream OUTPUT_STREAM) throws IOException {
+        final DataOutputStream OUTPUT = new DataOutputStream(OUTPUT_STREAM);
+        OUTPUT.write(PNG_SIGNATURE);
+
+        final ByteArrayOutputStream HEADER = new ByteArrayOutputStream(13);
+        final DataOutputStream      IHDR   = new DataOutputStream(HEADER);
+        IHDR.writeInt(WIDTH);
+        IHDR.writeInt(HEIGHT);
+        IHDR.writeByte(8); // bit depth
+        IHDR.writeByte(6); // color type RGBA
+        IHDR.writeByte(0); // compression
+        IHDR.writeByte(0); // filter
+        IHDR.writeByte(0); // interlace
+        writeChunk(OUTPUT, "IHDR", HEADER.toByteArray());
+
+        final ByteArrayOutputStream DATA     = new ByteArrayOutputStream(WIDTH * HEIGHT);
+        final Deflater              DEFLATER = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream DEFLATER_STREAM = new DeflaterOutputStream(DATA, DEFLATER, 8192)) {
+            final byte[] ROW = new byte[1 + WIDTH * 4];
+            for (int y = 0 ; y < HEIGHT ; y++) {
+                ROW[0] = 0; // filter type none
+                int offset = y * WIDTH;
+                for (int x = 0 ; x < WIDTH ; x++) {
+                    int argb       = PIXELS[offset + x];
+                    int index      = 1 + x * 4;
+                    ROW[index]     = (byte) (argb >> 16);
+                    ROW[index + 1] = (byte) (argb >> 8);
+                    ROW[index + 2] = (byte) argb;
+                    ROW[index + 3] = (byte) (argb >>> 24);
+                }
+                DEFLATER_STREAM.write(ROW);
+            }
+        } finally {
+            DEFLATER.end();
+        }
+        writeChunk(OUTPUT, "IDAT", DATA.toByteArray());
+        writeChunk(OUTPUT, "IEND", new byte[0]);
+        OUTPUT.flush();
+    }
+
+    private static void writeChunk(final DataOutputStream OUTPUT, final String TYPE, final byte[] DATA) throws IOException {
+        final byte[] TYPE_BYTES = TYPE.getBytes("US-ASCII");
+        final CRC32  CRC        = new CRC32();
+        CRC.update(TYPE_BYTES);
+        CRC.update(DATA);
+        OUTPUT.writeInt(DATA.length);
+        OUTPUT.write(TYPE_BYTES);
+        OUTPUT.write(DATA);
+        OUTPUT.writeInt((int) CRC.getValue());
+    }
+
+
+    // ******************** Misc **********************************************
+    private static synchronized ExecutorService getEncoderService() {
+        if (null == encoderService) {
+            encoderService = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), Helper.getThreadFactory("GaugeRendererEncoder", true));
+        }
+        return encoderService;
+    }
+
+    private static <T> T runAndWait(final Callable<T> CALLABLE) {
+        if (Platform.isFxApplicationThread()) {
+            try {
+                return CALLABLE.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        final FutureTask<T> TASK = new FutureTask<>(CALLABLE);
+        Platform.runLater(TASK);
+        try {
+            return TASK.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) { throw (RuntimeException) e.getCause(); }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
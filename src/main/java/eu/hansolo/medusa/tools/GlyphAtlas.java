@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Pre-rendered glyphs of the characters that are shown in segment readouts
+ * (digits, separators, sign, "-E-" etc.) for one font, size and color.
+ * The glyphs will be rasterized once into a single image and readouts will
+ * be composed by blitting the glyphs with drawImage() instead of laying
+ * out text. Each glyph is rendered into a slot that has a padding on each
+ * side so that slanted segment fonts will not be cut off.
+ * Characters that are not part of the atlas will be drawn with fillText().
+ * Atlases are shared by all skins and must be used on the JavaFX
+ * application thread.
+ */
+public class GlyphAtlas {
+    public  static final String CHARS       = " 0123456789.,:;-+/%E_";
+    private static final int    MAX_ATLASES = 64;
+
+    private static final Map<String, GlyphAtlas> ATLASES = new LinkedHashMap<String, GlyphAtlas>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<String, GlyphAtlas> ELDEST) { return size() > MAX_ATLASES; }
+    };
+    private static final Text                    MEASURE = new Text();
+
+    private final Font                   font;
+    private final Color                  color;
+    private final double                 padding;
+    private final double                 height;
+    private final double                 baseline;
+    private final double                 slotHeight;
+    private final double[]               advances;
+    private final double[]               offsets;
+    private final Map<Character, Double> otherAdvances;
+    private final Image                  image;
+
+
+    // ******************** Constructors **************************************
+    private GlyphAtlas(final Font FONT, final Color COLOR) {
+        font          = FONT;
+        color         = COLOR;
+        padding       = Math.ceil(FONT.getSize() * 0.15);
+        advances      = new double[CHARS.length()];
+        offsets       = new double[CHARS.length()];
+        otherAdvances = new HashMap<>();
+
+        MEASURE.setFont(FONT);
+        MEASURE.setText(CHARS);
+        height   = MEASURE.getLayoutBounds().getHeight();
+        baseline = MEASURE.getBaselineOffset();
+
+        double x = 0;
+        for (int i = 0 ; i < CHARS.length() ; i++) {
+            MEASURE.setText(CHARS.substring(i, i + 1));
+            advances[i] = MEASURE.getLayoutBounds().getWidth();
+            offsets[i]  = x;
+            x += Math.ceil(advances[i] + 2 * padding);
+        }
+        slotHeight = Math.ceil(height + 2 * padding);
+
+        Canvas          canvas = new Canvas(Math.max(1, x), Math.max(1, slotHeight));
+        GraphicsContext ctx    = canvas.getGraphicsContext2D();
+        ctx.setFont(FONT);
+        ctx.setFill(COLOR);
+        ctx.setTextAlign(TextAlignment.LEFT);
+        ctx.setTextBaseline(VPos.BASELINE);
+        for (int i = 0 ; i < CHARS.length() ; i++) {
+            ctx.fillText(CHARS.substring(i, i + 1), offsets[i] + padding, padding + baseline);
+        }
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        image = canvas.snapshot(parameters, null);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the shared atlas for the given font and color and creates it
+     * if needed.
+     * @param FONT
+     * @param COLOR
+     * @return the shared atlas for the given font and color
+     */
+    public static GlyphAtlas get(final Font FONT, final Color COLOR) {
+        final String KEY   = FONT.getName() + '\u0000' + FONT.getSize() + '\u0000' + COLOR;
+        GlyphAtlas   atlas = ATLASES.get(KEY);
+        if (null == atlas) {
+            atlas = new GlyphAtlas(FONT, COLOR);
+            ATLASES.put(KEY, atlas);
+        }
+        return atlas;
+    }
+
+    public static void clearCache() { ATLASES.clear(); }
+
+    public Font getFont() { return font; }
+
+    public Color getColor() { return color; }
+
+    /**
+     * Returns the space that a glyph may use on each side of its advance.
+     * @return the space that a glyph may use on each side of its advance
+     */
+    public double getPadding() { return padding; }
+
+    /**
+     * Returns the height of a line of text (same as the layout height of a Text).
+     * @return the height of a line of text
+     */
+    public double getHeight() { return height; }
+
+    /**
+     * Returns the distance between the top of a line and its baseline.
+     * @return the distance between the top of a line and its baseline
+     */
+    public double getBaseline() { return baseline; }
+
+    public double getAdvance(final char CHAR) {
+        final int INDEX = CHARS.indexOf(CHAR);
+        if (INDEX >= 0) return advances[INDEX];
+        Double advance = otherAdvances.get(CHAR);
+        if (null == advance) {
+            MEASURE.setFont(font);
+            MEASURE.setText(String.valueOf(CHAR));
+            advance = MEASURE.getLayoutBounds().getWidth();
+            otherAdvances.put(CHAR, advance);
+        }
+        return advance;
+    }
+
+    public double getTextWidth(final String TEXT) {
+        double width = 0;
+        for (int i = 0 ; i < TEXT.length() ; i++) { width += getAdvance(TEXT.charAt(i)); }
+        return width;
+    }
+
+    /**
+     * Draws the glyph of the given character where X is the start of its
+     * advance and TOP is the top of the line.
+     * @param CTX
+     * @param CHAR
+     * @param X
+     * @param TOP
+     */
+    public void drawGlyph(final GraphicsContext CTX, final char CHAR, final double X, final double TOP) {
+        final int INDEX = CHARS.indexOf(CHAR);
+        if (INDEX >= 0) {
+            final double WIDTH = Math.ceil(advances[INDEX] + 2 * padding);
+            CTX.drawImage(image, offsets[INDEX], 0, WIDTH, slotHeight, X - padding, TOP - padding, WIDTH, slotHeight);
+        } else {
+            CTX.save();
+            CTX.setFont(font);
+            CTX.setFill(color);
+            CTX.setTextAlign(TextAlignment.LEFT);
+            CTX.setTextBaseline(VPos.BASELINE);
+            CTX.fillText(String.valueOf(CHAR), X, TOP + baseline);
+            CTX.restore();
+        }
+    }
+
+    /**
+     * Draws the given text like GraphicsContext.fillText() with the given
+     * alignment and baseline but by blitting the glyphs.
+     * @param CTX
+     * @param TEXT
+     * @param X
+     * @param Y
+     * @param ALIGNMENT
+     * @param BASELINE
+     */
+    public void fillText(final GraphicsContext CTX, final String TEXT, final double X, final double Y, final TextAlignment ALIGNMENT, final VPos BASELINE) {
+        final double WIDTH = getTextWidth(TEXT);
+        double x;
+        switch (ALIGNMENT) {
+            case CENTER: x = X - WIDTH * 0.5; break;
+            case RIGHT : x = X - WIDTH; break;
+            default    : x = X; break;
+        }
+        double top;
+        switch (BASELINE) {
+            case TOP   : top = Y; break;
+            case CENTER: top = Y - height * 0.5; break;
+            case BOTTOM: top = Y - height; break;
+            default    : top = Y - baseline; break;
+        }
+        for (int i = 0 ; i < TEXT.length() ; i++) {
+            char c = TEXT.charAt(i);
+            drawGlyph(CTX, c, x, top);
+            x += getAdvance(c);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.util.Arrays;
+
+
+/**
+ * A right aligned segment readout that composes its text from the glyphs
+ * of a GlyphAtlas on a canvas. An optional ghost text (e.g. "88.88") will
+ * be drawn behind the text to visualize the unlit segments.
+ * When the text changes only the glyphs that differ from the ones on the
+ * canvas will be erased and drawn again.
+ */
+public class GlyphReadout extends Canvas {
+    private final GraphicsContext ctx;
+    private       Font            font;
+    private       Color           fill;
+    private       Color           ghostFill;
+    private       GlyphAtlas      atlas;
+    private       GlyphAtlas      ghostAtlas;
+    private       String          text;
+    private       String          ghostText;
+    private       char[]          chars;
+    private       double[]        xs;
+    private       int             length;
+    private       double[]        ghostXs;
+    private       boolean         valid;
+
+
+    // ******************** Constructors **************************************
+    public GlyphReadout() {
+        super(1, 1);
+        ctx       = getGraphicsContext2D();
+        font      = Font.getDefault();
+        fill      = Color.BLACK;
+        ghostFill = Color.TRANSPARENT;
+        text      = "";
+        ghostText = "";
+        chars     = new char[16];
+        xs        = new double[16];
+        ghostXs   = new double[0];
+    }
+
+
+    // ******************** Methods *******************************************
+    public Font getFont() { return font; }
+    public void setFont(final Font FONT) {
+        if (null == FONT || FONT.equals(font)) return;
+        font = FONT;
+        invalidate();
+    }
+
+    public Color getFill() { return fill; }
+    public void setFill(final Color FILL) {
+        if (null == FILL || FILL.equals(fill)) return;
+        fill = FILL;
+        invalidate();
+    }
+
+    public Color getGhostFill() { return ghostFill; }
+    /**
+     * Defines the color of the ghost text, a transparent color hides the ghost text.
+     * @param FILL
+     */
+    public void setGhostFill(final Color FILL) {
+        Color ghostFill = null == FILL ? Color.TRANSPARENT : FILL;
+        if (ghostFill.equals(this.ghostFill)) return;
+        this.ghostFill = ghostFill;
+        invalidate();
+    }
+
+    public String getGhostText() { return ghostText; }
+    public void setGhostText(final String TEXT) {
+        String ghostText = null == TEXT ? "" : TEXT;
+        if (ghostText.equals(this.ghostText)) return;
+        this.ghostText = ghostText;
+        invalidate();
+    }
+
+    public String getText() { return text; }
+    public void setText(final String TEXT) {
+        String text = null == TEXT ? "" : TEXT;
+        if (text.equals(this.text) && valid) return;
+        this.text = text;
+        if (!valid || getTextWidth() > getWidth() - 2 * getAtlas().getPadding()) {
+            invalidate();
+        } else {
+            update();
+        }
+    }
+
+    public double getTextWidth() { return getAtlas().getTextWidth(text); }
+
+    public double getGhostTextWidth() { return getAtlas().getTextWidth(ghostText); }
+
+    /**
+     * Returns the height of a line of text (same as the layout height of a Text).
+     * @return the height of a line of text
+     */
+    public double getLineHeight() { return getAtlas().getHeight(); }
+
+    /**
+     * Positions the readout so that its text ends at the given x and sits on the given baseline.
+     * @param X_RIGHT
+     * @param BASELINE
+     */
+    public void relocateText(final double X_RIGHT, final double BASELINE) {
+        if (!valid) { draw(); }
+        final GlyphAtlas ATLAS = getAtlas();
+        relocate(X_RIGHT - getWidth() + ATLAS.getPadding(), BASELINE - ATLAS.getBaseline() - ATLAS.getPadding());
+    }
+
+    private GlyphAtlas getAtlas() {
+        if (null == atlas) { atlas = GlyphAtlas.get(font, fill); }
+        return atlas;
+    }
+
+    private void invalidate() {
+        atlas      = null;
+        ghostAtlas = null;
+        valid      = false;
+        draw();
+    }
+
+    // Resizes the canvas to the wider of text and ghost text and draws everything
+    private void draw() {
+        final GlyphAtlas ATLAS   = getAtlas();
+        final double     PADDING = ATLAS.getPadding();
+        final double     WIDTH   = Math.ceil(Math.max(getTextWidth(), getGhostTextWidth()) + 2 * PADDING);
+        final double     HEIGHT  = Math.ceil(ATLAS.getHeight() + 2 * PADDING);
+        // Keep the right edge of the text in place if the canvas has to change its width
+        if (Double.compare(WIDTH, getWidth()) != 0) {
+            setLayoutX(getLayoutX() - (WIDTH - getWidth()));
+            setWidth(WIDTH);
+        }
+        if (Double.compare(HEIGHT, getHeight()) != 0) { setHeight(HEIGHT); }
+        ctx.clearRect(0, 0, getWidth(), getHeight());
+
+        final double RIGHT = getWidth() - PADDING;
+        ghostAtlas = ghostFill.getOpacity() > 0 ? GlyphAtlas.get(font, ghostFill) : null;
+        ghostXs    = layout(ghostText, RIGHT, ghostXs);
+        if (null != ghostAtlas) {
+            for (int i = 0 ; i < ghostText.length() ; i++) { ghostAtlas.drawGlyph(ctx, ghostText.charAt(i), ghostXs[i], PADDING); }
+        }
+
+        length = text.length();
+        if (chars.length < length) {
+            chars = new char[length];
+            xs    = new double[length];
+        }
+        text.getChars(0, length, chars, 0);
+        xs = layout(text, RIGHT, xs);
+        for (int i = 0 ; i < length ; i++) { ATLAS.drawGlyph(ctx, chars[i], xs[i], PADDING); }
+        valid = true;
+    }
+
+    // Only redraws the range of the canvas that contains glyphs which have changed
+    private void update() {
+        final GlyphAtlas ATLAS      = getAtlas();
+        final double     PADDING    = ATLAS.getPadding();
+        final double     RIGHT      = getWidth() - PADDING;
+        final int        NEW_LENGTH = text.length();
+        double           minX       = Double.MAX_VALUE;
+        double           maxX       = -Double.MAX_VALUE;
+
+        // Compare the glyphs from right to left
+        double x = RIGHT;
+        for (int i = 1 ; i <= Math.max(length, NEW_LENGTH) ; i++) {
+            boolean hasOld = i <= length;
+            boolean hasNew = i <= NEW_LENGTH;
+            char    c      = hasNew ? text.charAt(NEW_LENGTH - i) : 0;
+            if (hasNew) { x -= ATLAS.getAdvance(c); }
+            if (hasOld && hasNew && chars[length - i] == c && Double.compare(xs[length - i], x) == 0) continue;
+            if (hasOld) {
+                minX = Math.min(minX, xs[length - i]);
+                maxX = Math.max(maxX, xs[length - i] + ATLAS.getAdvance(chars[length - i]));
+            }
+            if (hasNew) {
+                minX = Math.min(minX, x);
+                maxX = Math.max(maxX, x + ATLAS.getAdvance(c));
+            }
+        }
+
+        if (chars.length < NEW_LENGTH) {
+            chars = Arrays.copyOf(chars, NEW_LENGTH);
+            xs    = Arrays.copyOf(xs, NEW_LENGTH);
+        }
+        length = NEW_LENGTH;
+        text.getChars(0, length, chars, 0);
+        xs = layout(text, RIGHT, xs);
+        if (minX > maxX) return;
+
+        // Erase the changed range incl. the overhang of its glyphs and redraw all glyphs that reach into it
+        final double FROM = Math.max(0, minX - PADDING);
+        final double TO   = Math.min(getWidth(), maxX + PADDING);
+        ctx.save();
+        ctx.beginPath();
+        ctx.rect(FROM, 0, TO - FROM, getHeight());
+        ctx.clip();
+        ctx.clearRect(FROM, 0, TO - FROM, getHeight());
+        if (null != ghostAtlas) {
+            for (int i = 0 ; i < ghostText.length() ; i++) {
+                char c = ghostText.charAt(i);
+                if (intersects(ghostXs[i], ghostAtlas.getAdvance(c), PADDING, FROM, TO)) { ghostAtlas.drawGlyph(ctx, c, ghostXs[i], PADDING); }
+            }
+        }
+        for (int i = 0 ; i < length ; i++) {
+            if (intersects(xs[i], ATLAS.getAdvance(chars[i]), PADDING, FROM, TO)) { ATLAS.drawGlyph(ctx, chars[i], xs[i], PADDING); }
+        }
+        ctx.restore();
+    }
+
+    private double[] layout(final String TEXT, final double RIGHT, final double[] XS) {
+        final GlyphAtlas ATLAS = getAtlas();
+        final double[]   X     = XS.length < TEXT.length() ? new double[TEXT.length()] : XS;
+        double           x     = RIGHT;
+        for (int i = TEXT.length() - 1 ; i >= 0 ; i--) {
+            x -= ATLAS.getAdvance(TEXT.charAt(i));
+            X[i] = x;
+        }
+        return X;
+    }
+
+    private static boolean intersects(final double X, final double ADVANCE, final double PADDING, final double FROM, final double TO) {
+        return X + ADVANCE + PADDING > FROM && X - PADDING < TO;
+    }
+}
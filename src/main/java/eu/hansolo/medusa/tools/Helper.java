@@ -27,12 +27,13 @@ import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.TickMarkType;
 import eu.hansolo.medusa.TimeSection;
-import java.math.BigDecimal;
+import eu.hansolo.medusa.tools.TickMarkGeometry.TickKind;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.time.temporal.ChronoField;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -70,6 +71,13 @@ public class Helper {
     public static final double MAX_TICK_MARK_WIDTH  = 0.02;
     public static final Color  INACTIVE_ALARM_COLOR = Color.rgb(90, 90, 90, 0.5);
 
+    private static final Color              DARK_NOISE_COLOR   = Color.rgb(100, 100, 100, 0.10);
+    private static final Color              BRIGHT_NOISE_COLOR = Color.rgb(200, 200, 200, 0.05);
+    private static final int                MAX_NOISE_IMAGES   = 32;
+    private static final Map<String, Image> NOISE_IMAGES       = new LinkedHashMap<String, Image>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<String, Image> ELDEST) { return size() > MAX_NOISE_IMAGES; }
+    };
+
 
     public static final <T extends Number> T clamp(final T MIN, final T MAX, final T VALUE) {
         if (VALUE.doubleValue() < MIN.doubleValue()) return MIN;
@@ -177,22 +185,10 @@ public class Helper {
     }
 
     public static final void adjustTextSize(final Text TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
-        final String FONT_NAME          = TEXT.getFont().getName();
-        double       adjustableFontSize = FONT_SIZE;
-
-        while (TEXT.getBoundsInLocal().getWidth() > MAX_WIDTH && adjustableFontSize > 0) {
-            adjustableFontSize -= 0.05;
-            TEXT.setFont(new Font(FONT_NAME, adjustableFontSize));
-        }
+        TextFitter.fit(TEXT, MAX_WIDTH, FONT_SIZE);
     }
     public static final void adjustTextSize(final Label TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
-        final String FONT_NAME          = TEXT.getFont().getName();
-        double       adjustableFontSize = FONT_SIZE;
-
-        while (TEXT.getBoundsInLocal().getWidth() > MAX_WIDTH && adjustableFontSize > 0) {
-            adjustableFontSize -= 0.05;
-            TEXT.setFont(new Font(FONT_NAME, adjustableFontSize));
-        }
+        TextFitter.fit(TEXT, MAX_WIDTH, FONT_SIZE);
     }
 
     public static DateTimeFormatter getDateFormat(final Locale LOCALE) {
@@ -344,22 +340,21 @@ public class Helper {
                                            final double MIN_VALUE, final double MAX_VALUE,
                                            final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP,
                                            final double CENTER_X, final double CENTER_Y, final double SIZE) {
+        drawRadialTickMarks(GAUGE, CTX, MIN_VALUE, MAX_VALUE, START_ANGLE, ANGLE_RANGE, ANGLE_STEP, CENTER_X, CENTER_Y, SIZE, new TickMarkGeometry());
+    }
+    public static void drawRadialTickMarks(final Gauge GAUGE, final GraphicsContext CTX,
+                                           final double MIN_VALUE, final double MAX_VALUE,
+                                           final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP,
+                                           final double CENTER_X, final double CENTER_Y, final double SIZE,
+                                           final TickMarkGeometry GEOMETRY) {
         double               sinValue;
         double               cosValue;
         double               centerX               = CENTER_X;
         double               centerY               = CENTER_Y;
         int                  tickLabelDecimals     = GAUGE.getTickLabelDecimals();
-        String               tickLabelFormatString = "%." + tickLabelDecimals + "f";
-        double               minorTickSpace        = GAUGE.getMinorTickSpace();
-        double               tmpAngleStep          = ANGLE_STEP * minorTickSpace;
         TickLabelOrientation tickLabelOrientation  = GAUGE.getTickLabelOrientation();
         TickLabelLocation    tickLabelLocation     = GAUGE.getTickLabelLocation();
-        BigDecimal           minorTickSpaceBD      = BigDecimal.valueOf(minorTickSpace);
-        BigDecimal           majorTickSpaceBD      = BigDecimal.valueOf(GAUGE.getMajorTickSpace());
-        BigDecimal           mediumCheck2          = BigDecimal.valueOf(2 * minorTickSpace);
-        BigDecimal           mediumCheck5          = BigDecimal.valueOf(5 * minorTickSpace);
-        BigDecimal           counterBD             = BigDecimal.valueOf(MIN_VALUE);
-        double               counter               = MIN_VALUE;
+        double               counter;
 
         List<Section> tickMarkSections             = GAUGE.getTickMarkSections();
         List<Section> tickLabelSections            = GAUGE.getTickLabelSections();
@@ -387,7 +382,6 @@ public class Helper {
         boolean       tickLabelsVisible            = GAUGE.getTickLabelsVisible();
         boolean       onlyFirstAndLastLabelVisible = GAUGE.isOnlyFirstAndLastTickLabelVisible();
         boolean       customTickLabelsEnabled      = GAUGE.getCustomTickLabelsEnabled();
-        Locale        locale                       = GAUGE.getLocale();
         List<String>  customTickLabels             = customTickLabelsEnabled ? GAUGE.getCustomTickLabels() : null;
         double        textDisplacementFactor       = majorTickMarkType == TickMarkType.DOT ? (TickLabelLocation.OUTSIDE == tickLabelLocation ? 0.95 : 1.05) : 1.0;
         double        majorDotSize;
@@ -397,6 +391,11 @@ public class Helper {
         double        minorDotSize;
         double        minorHalfDotSize;
 
+        ScaleDirection scaleDirection = GAUGE.getScaleDirection();
+
+        GEOMETRY.update(MIN_VALUE, MAX_VALUE, GAUGE.getMinorTickSpace(), GAUGE.getMajorTickSpace(), START_ANGLE, ANGLE_RANGE, ANGLE_STEP, scaleDirection);
+        GEOMETRY.updateLabels(GAUGE.getLocale(), tickLabelDecimals);
+
         double orthTextFactor;
         if (TickLabelLocation.OUTSIDE == tickLabelLocation) {
             orthTextFactor    = 0.45 * textDisplacementFactor;//TickLabelOrientation.ORTHOGONAL == tickLabelOrientation ? 0.45 * textDisplacementFactor : 0.45 * textDisplacementFactor;
@@ -428,6 +427,114 @@ public class Helper {
         Font tickLabelZeroFont = fullRange ? Fonts.robotoCondensedBold(tickLabelFontSize * tickLabelOrientationFactor) : tickLabelFont;
         Font tickMarkZeroFont  = fullRange ? Fonts.robotoCondensedBold(tickMarkFontSize * tickLabelOrientationFactor) : tickMarkFont;
 
+        // Radii (relative to SIZE) and angle offsets (in degrees) of the tick mark shapes
+        double innerRadius;
+        double innerMediumRadius;
+        double innerMinorRadius;
+        double outerRadius;
+        double outerMediumRadius;
+        double outerMinorRadius;
+        double dotRadius;
+        double dotMediumRadius;
+        double dotMinorRadius;
+        double tickLabelTickMarkRadius;
+        double trapezoidMajorInnerRadius;
+        double trapezoidMajorOuterRadius;
+        double trapezoidMediumInnerRadius;
+        double trapezoidMediumOuterRadius;
+        double trapezoidMinorInnerRadius;
+        double trapezoidMinorOuterRadius;
+        double triangleMajorInnerRadius;
+        double triangleMajorOuterRadius;
+        double triangleMediumInnerRadius;
+        double triangleMediumOuterRadius;
+        double triangleMinorInnerRadius;
+        double triangleMinorOuterRadius;
+        double trapezoidMajorInnerOffset;
+        double trapezoidMajorOuterOffset;
+        double trapezoidMediumInnerOffset;
+        double trapezoidMediumOuterOffset;
+        double trapezoidMinorInnerOffset;
+        double trapezoidMinorOuterOffset;
+        switch(tickLabelLocation) {
+            case OUTSIDE:
+                innerRadius                = 0.3585;
+                innerMediumRadius          = innerRadius;
+                innerMinorRadius           = innerRadius;
+                outerRadius                = 0.3585 + MAX_TICK_MARK_LENGTH * majorTickMarkLengthFactor;
+                outerMediumRadius          = 0.3585 + MAX_TICK_MARK_LENGTH * mediumTickMarkLengthFactor;
+                outerMinorRadius           = 0.3585 + MAX_TICK_MARK_LENGTH * minorTickMarkLengthFactor;
+                dotRadius                  = 0.3685;
+                dotMediumRadius            = 0.365375;
+                dotMinorRadius             = 0.36225;
+                tickLabelTickMarkRadius    = 0.3805;
+                trapezoidMajorInnerRadius  = 0.3585;
+                trapezoidMajorOuterRadius  = 0.4105;
+                trapezoidMediumInnerRadius = 0.3585;
+                trapezoidMediumOuterRadius = 0.3985;
+                trapezoidMinorInnerRadius  = 0.3585;
+                trapezoidMinorOuterRadius  = 0.3975;
+                triangleMajorInnerRadius   = 0.3585;
+                triangleMajorOuterRadius   = 0.4105;
+                triangleMediumInnerRadius  = triangleMajorInnerRadius;
+                triangleMediumOuterRadius  = 0.4045;
+                triangleMinorInnerRadius   = triangleMajorInnerRadius;
+                triangleMinorOuterRadius   = 0.3975;
+                trapezoidMajorInnerOffset  = 1.2;
+                trapezoidMajorOuterOffset  = 0.8;
+                trapezoidMediumInnerOffset = 1.0;
+                trapezoidMediumOuterOffset = 0.7;
+                trapezoidMinorInnerOffset  = 0.8;
+                trapezoidMinorOuterOffset  = 0.6;
+                break;
+            case INSIDE:
+            default:
+                innerRadius                = 0.475 - MAX_TICK_MARK_LENGTH * majorTickMarkLengthFactor;
+                innerMediumRadius          = 0.475 - MAX_TICK_MARK_LENGTH * mediumTickMarkLengthFactor;
+                innerMinorRadius           = 0.475 - MAX_TICK_MARK_LENGTH * minorTickMarkLengthFactor;
+                outerRadius                = 0.475;
+                outerMediumRadius          = outerRadius;
+                outerMinorRadius           = outerRadius;
+                dotRadius                  = 0.4625;
+                dotMediumRadius            = 0.465625;
+                dotMinorRadius             = 0.46875;
+                tickLabelTickMarkRadius    = 0.445;
+                trapezoidMajorInnerRadius  = 0.423;
+                trapezoidMajorOuterRadius  = 0.475;
+                trapezoidMediumInnerRadius = 0.435;
+                trapezoidMediumOuterRadius = 0.475;
+                trapezoidMinorInnerRadius  = 0.440;
+                trapezoidMinorOuterRadius  = 0.475;
+                triangleMajorInnerRadius   = 0.423;
+                triangleMajorOuterRadius   = 0.475;
+                triangleMediumInnerRadius  = 0.43;
+                triangleMediumOuterRadius  = triangleMajorOuterRadius;
+                triangleMinorInnerRadius   = 0.436;
+                triangleMinorOuterRadius   = triangleMajorOuterRadius;
+                trapezoidMajorInnerOffset  = 0.8;
+                trapezoidMajorOuterOffset  = 1.2;
+                trapezoidMediumInnerOffset = 0.7;
+                trapezoidMediumOuterOffset = 1.0;
+                trapezoidMinorInnerOffset  = 0.6;
+                trapezoidMinorOuterOffset  = 0.8;
+                break;
+        }
+
+        // The trapezoid corners are rotated by a constant offset which can be applied
+        // to the precomputed sin/cos of each tick with the angle addition theorem
+        final double MAJOR_INNER_SIN  = Math.sin(Math.toRadians(trapezoidMajorInnerOffset));
+        final double MAJOR_INNER_COS  = Math.cos(Math.toRadians(trapezoidMajorInnerOffset));
+        final double MAJOR_OUTER_SIN  = Math.sin(Math.toRadians(trapezoidMajorOuterOffset));
+        final double MAJOR_OUTER_COS  = Math.cos(Math.toRadians(trapezoidMajorOuterOffset));
+        final double MEDIUM_INNER_SIN = Math.sin(Math.toRadians(trapezoidMediumInnerOffset));
+        final double MEDIUM_INNER_COS = Math.cos(Math.toRadians(trapezoidMediumInnerOffset));
+        final double MEDIUM_OUTER_SIN = Math.sin(Math.toRadians(trapezoidMediumOuterOffset));
+        final double MEDIUM_OUTER_COS = Math.cos(Math.toRadians(trapezoidMediumOuterOffset));
+        final double MINOR_INNER_SIN  = Math.sin(Math.toRadians(trapezoidMinorInnerOffset));
+        final double MINOR_INNER_COS  = Math.cos(Math.toRadians(trapezoidMinorInnerOffset));
+        final double MINOR_OUTER_SIN  = Math.sin(Math.toRadians(trapezoidMinorOuterOffset));
+        final double MINOR_OUTER_COS  = Math.cos(Math.toRadians(trapezoidMinorOuterOffset));
+
         // Variables needed for tickmarks
         double innerPointX;
         double innerPointY;
@@ -452,10 +559,6 @@ public class Helper {
         double tickLabelTickMarkX;
         double tickLabelTickMarkY;
 
-        double trapezoidMajorInnerAngle1;
-        double trapezoidMajorInnerAngle2;
-        double trapezoidMajorOuterAngle1;
-        double trapezoidMajorOuterAngle2;
         double trapezoidMajorInnerPoint1X;
         double trapezoidMajorInnerPoint1Y;
         double trapezoidMajorInnerPoint2X;
@@ -465,10 +568,6 @@ public class Helper {
         double trapezoidMajorOuterPoint2X;
         double trapezoidMajorOuterPoint2Y;
 
-        double trapezoidMediumInnerAngle1;
-        double trapezoidMediumInnerAngle2;
-        double trapezoidMediumOuterAngle1;
-        double trapezoidMediumOuterAngle2;
         double trapezoidMediumInnerPoint1X;
         double trapezoidMediumInnerPoint1Y;
         double trapezoidMediumInnerPoint2X;
@@ -478,10 +577,6 @@ public class Helper {
         double trapezoidMediumOuterPoint2X;
         double trapezoidMediumOuterPoint2Y;
 
-        double trapezoidMinorInnerAngle1;
-        double trapezoidMinorInnerAngle2;
-        double trapezoidMinorOuterAngle1;
-        double trapezoidMinorOuterAngle2;
         double trapezoidMinorInnerPoint1X;
         double trapezoidMinorInnerPoint1Y;
         double trapezoidMinorInnerPoint2X;
@@ -506,8 +601,6 @@ public class Helper {
         double triangleMinorOuterPointX;
         double triangleMinorOuterPointY;
 
-        ScaleDirection scaleDirection = GAUGE.getScaleDirection();
-
         // Draw tickmark ring
         if (GAUGE.isTickMarkRingVisible()) {
             SkinType skinType     = GAUGE.getSkinType();
@@ -555,181 +648,87 @@ public class Helper {
         }
 
         // Main loop
-        BigDecimal     tmpStepBD      = new BigDecimal(tmpAngleStep);
-        tmpStepBD                     = tmpStepBD.setScale(3, BigDecimal.ROUND_HALF_UP);
-        double tmpStep                = tmpStepBD.doubleValue();
-        double angle                  = 0;
-        int    customTickLabelCounter = 0;
-        for (double i = 0 ; Double.compare(-ANGLE_RANGE - tmpStep, i) <= 0 ; i -= tmpStep) {
-            sinValue = Math.sin(Math.toRadians(angle + START_ANGLE));
-            cosValue = Math.cos(Math.toRadians(angle + START_ANGLE));
-
-            switch(tickLabelLocation) {
-                case OUTSIDE:
-                    innerPointX                 = centerX + SIZE * 0.3585 * sinValue;
-                    innerPointY                 = centerY + SIZE * 0.3585 * cosValue;
-                    innerMediumPointX           = innerPointX;
-                    innerMediumPointY           = innerPointY;
-                    innerMinorPointX            = innerPointX;
-                    innerMinorPointY            = innerPointY;
-                    outerPointX                 = centerX + SIZE * (0.3585 + MAX_TICK_MARK_LENGTH * majorTickMarkLengthFactor) * sinValue;
-                    outerPointY                 = centerY + SIZE * (0.3585 + MAX_TICK_MARK_LENGTH * majorTickMarkLengthFactor) * cosValue;
-                    outerMediumPointX           = centerX + SIZE * (0.3585 + MAX_TICK_MARK_LENGTH * mediumTickMarkLengthFactor) * sinValue;
-                    outerMediumPointY           = centerY + SIZE * (0.3585 + MAX_TICK_MARK_LENGTH * mediumTickMarkLengthFactor) * cosValue;
-                    outerMinorPointX            = centerX + SIZE * (0.3585 + MAX_TICK_MARK_LENGTH * minorTickMarkLengthFactor) * sinValue;
-                    outerMinorPointY            = centerY + SIZE * (0.3585 + MAX_TICK_MARK_LENGTH * minorTickMarkLengthFactor) * cosValue;
-                    textPointX                  = centerX + SIZE * orthTextFactor * sinValue;
-                    textPointY                  = centerY + SIZE * orthTextFactor * cosValue;
-                    dotCenterX                  = centerX + SIZE * 0.3685 * sinValue;
-                    dotCenterY                  = centerY + SIZE * 0.3685 * cosValue;
-                    dotMediumCenterX            = centerX + SIZE * 0.365375 * sinValue;
-                    dotMediumCenterY            = centerY + SIZE * 0.365375 * cosValue;
-                    dotMinorCenterX             = centerX + SIZE * 0.36225 * sinValue;
-                    dotMinorCenterY             = centerY + SIZE * 0.36225 * cosValue;
-                    tickLabelTickMarkX          = centerX + SIZE * 0.3805 * sinValue;
-                    tickLabelTickMarkY          = centerY + SIZE * 0.3805 * cosValue;
-
-                    trapezoidMajorInnerAngle1   = Math.toRadians(angle - 1.2 + START_ANGLE);
-                    trapezoidMajorInnerAngle2   = Math.toRadians(angle + 1.2 + START_ANGLE);
-                    trapezoidMajorOuterAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
-                    trapezoidMajorOuterAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
-                    trapezoidMajorInnerPoint1X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint1Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint2X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMajorInnerAngle2);
-                    trapezoidMajorInnerPoint2Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMajorInnerAngle2);
-                    trapezoidMajorOuterPoint1X  = centerX + SIZE * 0.4105 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint1Y  = centerY + SIZE * 0.4105 * Math.cos(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint2X  = centerX + SIZE * 0.4105 * Math.sin(trapezoidMajorOuterAngle2);
-                    trapezoidMajorOuterPoint2Y  = centerY + SIZE * 0.4105 * Math.cos(trapezoidMajorOuterAngle2);
-
-                    trapezoidMediumInnerAngle1  = Math.toRadians(angle - 1.0 + START_ANGLE);
-                    trapezoidMediumInnerAngle2  = Math.toRadians(angle + 1.0 + START_ANGLE);
-                    trapezoidMediumOuterAngle1  = Math.toRadians(angle - 0.7 + START_ANGLE);
-                    trapezoidMediumOuterAngle2  = Math.toRadians(angle + 0.7 + START_ANGLE);
-                    trapezoidMediumInnerPoint1X = centerX + SIZE * 0.3585 * Math.sin(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint1Y = centerY + SIZE * 0.3585 * Math.cos(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint2X = centerX + SIZE * 0.3585 * Math.sin(trapezoidMediumInnerAngle2);
-                    trapezoidMediumInnerPoint2Y = centerY + SIZE * 0.3585 * Math.cos(trapezoidMediumInnerAngle2);
-                    trapezoidMediumOuterPoint1X = centerX + SIZE * 0.3985 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMediumOuterPoint1Y = centerY + SIZE * 0.3985 * Math.cos(trapezoidMediumOuterAngle1);
-                    trapezoidMediumOuterPoint2X = centerX + SIZE * 0.3985 * Math.sin(trapezoidMediumOuterAngle2);
-                    trapezoidMediumOuterPoint2Y = centerY + SIZE * 0.3985 * Math.cos(trapezoidMediumOuterAngle2);
-
-                    trapezoidMinorInnerAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
-                    trapezoidMinorInnerAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
-                    trapezoidMinorOuterAngle1   = Math.toRadians(angle - 0.6 + START_ANGLE);
-                    trapezoidMinorOuterAngle2   = Math.toRadians(angle + 0.6 + START_ANGLE);
-                    trapezoidMinorInnerPoint1X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint1Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint2X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMinorInnerAngle2);
-                    trapezoidMinorInnerPoint2Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMinorInnerAngle2);
-                    trapezoidMinorOuterPoint1X  = centerX + SIZE * 0.3975 * Math.sin(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint1Y  = centerY + SIZE * 0.3975 * Math.cos(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint2X  = centerX + SIZE * 0.3975 * Math.sin(trapezoidMinorOuterAngle2);
-                    trapezoidMinorOuterPoint2Y  = centerY + SIZE * 0.3975 * Math.cos(trapezoidMinorOuterAngle2);
-
-                    triangleMajorInnerPointX    = centerX + SIZE * 0.3585 * sinValue;
-                    triangleMajorInnerPointY    = centerY + SIZE * 0.3585 * cosValue;
-                    triangleMajorOuterPointX    = centerX + SIZE * 0.4105 * sinValue;
-                    triangleMajorOuterPointY    = centerY + SIZE * 0.4105 * cosValue;
-
-                    triangleMediumInnerPointX   = triangleMajorInnerPointX;
-                    triangleMediumInnerPointY   = triangleMajorInnerPointY;
-                    triangleMediumOuterPointX   = centerX + SIZE * 0.4045 * sinValue;
-                    triangleMediumOuterPointY   = centerY + SIZE * 0.4045 * cosValue;
-
-                    triangleMinorInnerPointX    = triangleMajorInnerPointX;
-                    triangleMinorInnerPointY    = triangleMajorInnerPointY;
-                    triangleMinorOuterPointX    = centerX + SIZE * 0.3975 * sinValue;
-                    triangleMinorOuterPointY    = centerY + SIZE * 0.3975 * cosValue;
-                    break;
-                case INSIDE:
-                default:
-                    innerPointX                 = centerX + SIZE * (0.475 - MAX_TICK_MARK_LENGTH * majorTickMarkLengthFactor) * sinValue;
-                    innerPointY                 = centerY + SIZE * (0.475 - MAX_TICK_MARK_LENGTH * majorTickMarkLengthFactor) * cosValue;
-                    innerMediumPointX           = centerX + SIZE * (0.475 - MAX_TICK_MARK_LENGTH * mediumTickMarkLengthFactor) * sinValue;
-                    innerMediumPointY           = centerY + SIZE * (0.475 - MAX_TICK_MARK_LENGTH * mediumTickMarkLengthFactor) * cosValue;
-                    innerMinorPointX            = centerX + SIZE * (0.475 - MAX_TICK_MARK_LENGTH * minorTickMarkLengthFactor) * sinValue;
-                    innerMinorPointY            = centerY + SIZE * (0.475 - MAX_TICK_MARK_LENGTH * minorTickMarkLengthFactor) * cosValue;
-                    outerPointX                 = centerX + SIZE * 0.475 * sinValue;
-                    outerPointY                 = centerY + SIZE * 0.475 * cosValue;
-                    outerMediumPointX           = outerPointX;
-                    outerMediumPointY           = outerPointY;
-                    outerMinorPointX            = outerPointX;
-                    outerMinorPointY            = outerPointY;
-                    textPointX                  = centerX + SIZE * orthTextFactor * sinValue;
-                    textPointY                  = centerY + SIZE * orthTextFactor * cosValue;
-                    dotCenterX                  = centerX + SIZE * 0.4625 * sinValue;
-                    dotCenterY                  = centerY + SIZE * 0.4625 * cosValue;
-                    dotMediumCenterX            = centerX + SIZE * 0.465625 * sinValue;
-                    dotMediumCenterY            = centerY + SIZE * 0.465625 * cosValue;
-                    dotMinorCenterX             = centerX + SIZE * 0.46875 * sinValue;
-                    dotMinorCenterY             = centerY + SIZE * 0.46875 * cosValue;
-                    tickLabelTickMarkX          = centerX + SIZE * 0.445 * sinValue;
-                    tickLabelTickMarkY          = centerY + SIZE * 0.445 * cosValue;
-
-                    trapezoidMajorInnerAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
-                    trapezoidMajorInnerAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
-                    trapezoidMajorOuterAngle1   = Math.toRadians(angle - 1.2 + START_ANGLE);
-                    trapezoidMajorOuterAngle2   = Math.toRadians(angle + 1.2 + START_ANGLE);
-                    trapezoidMajorInnerPoint1X  = centerX + SIZE * 0.423 * Math.sin(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint1Y  = centerY + SIZE * 0.423 * Math.cos(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint2X  = centerX + SIZE * 0.423 * Math.sin(trapezoidMajorInnerAngle2);
-                    trapezoidMajorInnerPoint2Y  = centerY + SIZE * 0.423 * Math.cos(trapezoidMajorInnerAngle2);
-                    trapezoidMajorOuterPoint1X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint1Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint2X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMajorOuterAngle2);
-                    trapezoidMajorOuterPoint2Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMajorOuterAngle2);
-
-                    trapezoidMediumInnerAngle1  = Math.toRadians(angle - 0.7 + START_ANGLE);
-                    trapezoidMediumInnerAngle2  = Math.toRadians(angle + 0.7 + START_ANGLE);
-                    trapezoidMediumOuterAngle1  = Math.toRadians(angle - 1.0 + START_ANGLE);
-                    trapezoidMediumOuterAngle2  = Math.toRadians(angle + 1.0 + START_ANGLE);
-                    trapezoidMediumInnerPoint1X = centerX + SIZE * 0.435 * Math.sin(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint1Y = centerY + SIZE * 0.435 * Math.cos(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint2X = centerX + SIZE * 0.435 * Math.sin(trapezoidMediumInnerAngle2);
-                    trapezoidMediumInnerPoint2Y = centerY + SIZE * 0.435 * Math.cos(trapezoidMediumInnerAngle2);
-                    trapezoidMediumOuterPoint1X = centerX + SIZE * 0.475 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMediumOuterPoint1Y = centerY + SIZE * 0.475 * Math.cos(trapezoidMediumOuterAngle1);
-                    trapezoidMediumOuterPoint2X = centerX + SIZE * 0.475 * Math.sin(trapezoidMediumOuterAngle2);
-                    trapezoidMediumOuterPoint2Y = centerY + SIZE * 0.475 * Math.cos(trapezoidMediumOuterAngle2);
-
-                    trapezoidMinorInnerAngle1   = Math.toRadians(angle - 0.6 + START_ANGLE);
-                    trapezoidMinorInnerAngle2   = Math.toRadians(angle + 0.6 + START_ANGLE);
-                    trapezoidMinorOuterAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
-                    trapezoidMinorOuterAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
-                    trapezoidMinorInnerPoint1X  = centerX + SIZE * 0.440 * Math.sin(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint1Y  = centerY + SIZE * 0.440 * Math.cos(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint2X  = centerX + SIZE * 0.440 * Math.sin(trapezoidMinorInnerAngle2);
-                    trapezoidMinorInnerPoint2Y  = centerY + SIZE * 0.440 * Math.cos(trapezoidMinorInnerAngle2);
-                    trapezoidMinorOuterPoint1X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint1Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint2X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMinorOuterAngle2);
-                    trapezoidMinorOuterPoint2Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMinorOuterAngle2);
-
-                    triangleMajorInnerPointX    = centerX + SIZE * 0.423 * sinValue;
-                    triangleMajorInnerPointY    = centerY + SIZE * 0.423 * cosValue;
-                    triangleMajorOuterPointX    = centerX + SIZE * 0.475 * sinValue;
-                    triangleMajorOuterPointY    = centerY + SIZE * 0.475 * cosValue;
-
-                    triangleMediumInnerPointX   = centerX + SIZE * 0.43 * sinValue;
-                    triangleMediumInnerPointY   = centerY + SIZE * 0.43 * cosValue;
-                    triangleMediumOuterPointX   = triangleMajorOuterPointX;
-                    triangleMediumOuterPointY   = triangleMajorOuterPointY;
-
-                    triangleMinorInnerPointX    = centerX + SIZE * 0.436 * sinValue;
-                    triangleMinorInnerPointY    = centerY + SIZE * 0.436 * cosValue;
-                    triangleMinorOuterPointX    = triangleMajorOuterPointX;
-                    triangleMinorOuterPointY    = triangleMajorOuterPointY;
-                    break;
-            }
+        final int NO_OF_TICKS            = GEOMETRY.getNoOfTicks();
+        int       customTickLabelCounter = 0;
+        for (int tick = 0 ; tick < NO_OF_TICKS ; tick++) {
+            TickKind tickKind = GEOMETRY.getKind(tick);
+            double   angle    = GEOMETRY.getAngle(tick);
+            counter           = GEOMETRY.getValue(tick);
+            sinValue          = GEOMETRY.getSin(tick);
+            cosValue          = GEOMETRY.getCos(tick);
+
+            innerPointX                 = centerX + SIZE * innerRadius * sinValue;
+            innerPointY                 = centerY + SIZE * innerRadius * cosValue;
+            innerMediumPointX           = centerX + SIZE * innerMediumRadius * sinValue;
+            innerMediumPointY           = centerY + SIZE * innerMediumRadius * cosValue;
+            innerMinorPointX            = centerX + SIZE * innerMinorRadius * sinValue;
+            innerMinorPointY            = centerY + SIZE * innerMinorRadius * cosValue;
+            outerPointX                 = centerX + SIZE * outerRadius * sinValue;
+            outerPointY                 = centerY + SIZE * outerRadius * cosValue;
+            outerMediumPointX           = centerX + SIZE * outerMediumRadius * sinValue;
+            outerMediumPointY           = centerY + SIZE * outerMediumRadius * cosValue;
+            outerMinorPointX            = centerX + SIZE * outerMinorRadius * sinValue;
+            outerMinorPointY            = centerY + SIZE * outerMinorRadius * cosValue;
+            textPointX                  = centerX + SIZE * orthTextFactor * sinValue;
+            textPointY                  = centerY + SIZE * orthTextFactor * cosValue;
+            dotCenterX                  = centerX + SIZE * dotRadius * sinValue;
+            dotCenterY                  = centerY + SIZE * dotRadius * cosValue;
+            dotMediumCenterX            = centerX + SIZE * dotMediumRadius * sinValue;
+            dotMediumCenterY            = centerY + SIZE * dotMediumRadius * cosValue;
+            dotMinorCenterX             = centerX + SIZE * dotMinorRadius * sinValue;
+            dotMinorCenterY             = centerY + SIZE * dotMinorRadius * cosValue;
+            tickLabelTickMarkX          = centerX + SIZE * tickLabelTickMarkRadius * sinValue;
+            tickLabelTickMarkY          = centerY + SIZE * tickLabelTickMarkRadius * cosValue;
+
+            // sin(a -/+ b) = sin(a)cos(b) -/+ cos(a)sin(b), cos(a -/+ b) = cos(a)cos(b) +/- sin(a)sin(b)
+            trapezoidMajorInnerPoint1X  = centerX + SIZE * trapezoidMajorInnerRadius * (sinValue * MAJOR_INNER_COS - cosValue * MAJOR_INNER_SIN);
+            trapezoidMajorInnerPoint1Y  = centerY + SIZE * trapezoidMajorInnerRadius * (cosValue * MAJOR_INNER_COS + sinValue * MAJOR_INNER_SIN);
+            trapezoidMajorInnerPoint2X  = centerX + SIZE * trapezoidMajorInnerRadius * (sinValue * MAJOR_INNER_COS + cosValue * MAJOR_INNER_SIN);
+            trapezoidMajorInnerPoint2Y  = centerY + SIZE * trapezoidMajorInnerRadius * (cosValue * MAJOR_INNER_COS - sinValue * MAJOR_INNER_SIN);
+            trapezoidMajorOuterPoint1X  = centerX + SIZE * trapezoidMajorOuterRadius * (sinValue * MAJOR_OUTER_COS - cosValue * MAJOR_OUTER_SIN);
+            trapezoidMajorOuterPoint1Y  = centerY + SIZE * trapezoidMajorOuterRadius * (cosValue * MAJOR_OUTER_COS + sinValue * MAJOR_OUTER_SIN);
+            trapezoidMajorOuterPoint2X  = centerX + SIZE * trapezoidMajorOuterRadius * (sinValue * MAJOR_OUTER_COS + cosValue * MAJOR_OUTER_SIN);
+            trapezoidMajorOuterPoint2Y  = centerY + SIZE * trapezoidMajorOuterRadius * (cosValue * MAJOR_OUTER_COS - sinValue * MAJOR_OUTER_SIN);
+
+            trapezoidMediumInnerPoint1X = centerX + SIZE * trapezoidMediumInnerRadius * (sinValue * MEDIUM_INNER_COS - cosValue * MEDIUM_INNER_SIN);
+            trapezoidMediumInnerPoint1Y = centerY + SIZE * trapezoidMediumInnerRadius * (cosValue * MEDIUM_INNER_COS + sinValue * MEDIUM_INNER_SIN);
+            trapezoidMediumInnerPoint2X = centerX + SIZE * trapezoidMediumInnerRadius * (sinValue * MEDIUM_INNER_COS + cosValue * MEDIUM_INNER_SIN);
+            trapezoidMediumInnerPoint2Y = centerY + SIZE * trapezoidMediumInnerRadius * (cosValue * MEDIUM_INNER_COS - sinValue * MEDIUM_INNER_SIN);
+            trapezoidMediumOuterPoint1X = centerX + SIZE * trapezoidMediumOuterRadius * (sinValue * MEDIUM_OUTER_COS - cosValue * MEDIUM_OUTER_SIN);
+            trapezoidMediumOuterPoint1Y = centerY + SIZE * trapezoidMediumOuterRadius * (cosValue * MEDIUM_OUTER_COS + sinValue * MEDIUM_OUTER_SIN);
+            trapezoidMediumOuterPoint2X = centerX + SIZE * trapezoidMediumOuterRadius * (sinValue * MEDIUM_OUTER_COS + cosValue * MEDIUM_OUTER_SIN);
+            trapezoidMediumOuterPoint2Y = centerY + SIZE * trapezoidMediumOuterRadius * (cosValue * MEDIUM_OUTER_COS - sinValue * MEDIUM_OUTER_SIN);
+
+            trapezoidMinorInnerPoint1X  = centerX + SIZE * trapezoidMinorInnerRadius * (sinValue * MINOR_INNER_COS - cosValue * MINOR_INNER_SIN);
+            trapezoidMinorInnerPoint1Y  = centerY + SIZE * trapezoidMinorInnerRadius * (cosValue * MINOR_INNER_COS + sinValue * MINOR_INNER_SIN);
+            trapezoidMinorInnerPoint2X  = centerX + SIZE * trapezoidMinorInnerRadius * (sinValue * MINOR_INNER_COS + cosValue * MINOR_INNER_SIN);
+            trapezoidMinorInnerPoint2Y  = centerY + SIZE * trapezoidMinorInnerRadius * (cosValue * MINOR_INNER_COS - sinValue * MINOR_INNER_SIN);
+            trapezoidMinorOuterPoint1X  = centerX + SIZE * trapezoidMinorOuterRadius * (sinValue * MINOR_OUTER_COS - cosValue * MINOR_OUTER_SIN);
+            trapezoidMinorOuterPoint1Y  = centerY + SIZE * trapezoidMinorOuterRadius * (cosValue * MINOR_OUTER_COS + sinValue * MINOR_OUTER_SIN);
+            trapezoidMinorOuterPoint2X  = centerX + SIZE * trapezoidMinorOuterRadius * (sinValue * MINOR_OUTER_COS + cosValue * MINOR_OUTER_SIN);
+            trapezoidMinorOuterPoint2Y  = centerY + SIZE * trapezoidMinorOuterRadius * (cosValue * MINOR_OUTER_COS - sinValue * MINOR_OUTER_SIN);
+
+            triangleMajorInnerPointX    = centerX + SIZE * triangleMajorInnerRadius * sinValue;
+            triangleMajorInnerPointY    = centerY + SIZE * triangleMajorInnerRadius * cosValue;
+            triangleMajorOuterPointX    = centerX + SIZE * triangleMajorOuterRadius * sinValue;
+            triangleMajorOuterPointY    = centerY + SIZE * triangleMajorOuterRadius * cosValue;
+
+            triangleMediumInnerPointX   = centerX + SIZE * triangleMediumInnerRadius * sinValue;
+            triangleMediumInnerPointY   = centerY + SIZE * triangleMediumInnerRadius * cosValue;
+            triangleMediumOuterPointX   = centerX + SIZE * triangleMediumOuterRadius * sinValue;
+            triangleMediumOuterPointY   = centerY + SIZE * triangleMediumOuterRadius * cosValue;
+
+            triangleMinorInnerPointX    = centerX + SIZE * triangleMinorInnerRadius * sinValue;
+            triangleMinorInnerPointY    = centerY + SIZE * triangleMinorInnerRadius * cosValue;
+            triangleMinorOuterPointX    = centerX + SIZE * triangleMinorOuterRadius * sinValue;
+            triangleMinorOuterPointY    = centerY + SIZE * triangleMinorOuterRadius * cosValue;
 
             // Set the general tickmark color
             CTX.setStroke(tickMarkColor);
             CTX.setFill(tickMarkColor);
             CTX.setLineCap(StrokeLineCap.BUTT);
 
-            if (Double.compare(counterBD.remainder(majorTickSpaceBD).doubleValue(), 0.0) == 0) {
+            if (TickKind.MAJOR == tickKind) {
                 // Draw major tick mark
                 isNotZero = Double.compare(0.0, counter) != 0;
                 TickMarkType tickMarkType = null;
@@ -793,7 +792,7 @@ public class Helper {
                                 CTX.setFont(isNotZero ? tickMarkFont : tickMarkZeroFont);
                                 CTX.setTextAlign(TextAlignment.CENTER);
                                 CTX.setTextBaseline(VPos.CENTER);
-                                CTX.fillText(String.format(locale, tickLabelFormatString, counter), 0, 0);
+                                CTX.fillText(GEOMETRY.getLabel(tick), 0, 0);
                                 CTX.restore();
                             }
                             break;
@@ -847,13 +846,11 @@ public class Helper {
                         }
                         if (customTickLabelCounter > customTickLabels.size() - 1) customTickLabelCounter = -1;
                     } else {
-                        CTX.fillText(String.format(locale, tickLabelFormatString, counter), 0, 0);
+                        CTX.fillText(GEOMETRY.getLabel(tick), 0, 0);
                     }
                     CTX.restore();
                 }
-            } else if (mediumTickMarksVisible &&
-                       Double.compare(minorTickSpaceBD.remainder(mediumCheck2).doubleValue(), 0.0) != 0.0 &&
-                       Double.compare(counterBD.remainder(mediumCheck5).doubleValue(), 0.0) == 0.0) {
+            } else if (mediumTickMarksVisible && TickKind.MEDIUM == tickKind) {
                 // Draw medium tick mark
                 CTX.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, mediumTickMarkColor) : mediumTickMarkColor);
                 CTX.setStroke(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, mediumTickMarkColor) : mediumTickMarkColor);
@@ -899,7 +896,7 @@ public class Helper {
                         }
                         break;
                 }
-            } else if (minorTickMarksVisible && Double.compare(counterBD.remainder(minorTickSpaceBD).doubleValue(), 0.0) == 0) {
+            } else if (minorTickMarksVisible && (TickKind.MINOR == tickKind || TickKind.MEDIUM == tickKind)) {
                 // Draw minor tick mark
                 if (TickMarkType.TICK_LABEL != majorTickMarkType) {
                     CTX.setFill(tickMarkSectionsVisible ? Helper.getColorOfSection(tickMarkSections, counter, minorTickMarkColor) : minorTickMarkColor);
@@ -948,13 +945,37 @@ public class Helper {
                     }
                 }
             }
-            counterBD = counterBD.add(minorTickSpaceBD);
-            counter   = counterBD.doubleValue();
-            if (counter > MAX_VALUE) break;
-            angle     = ScaleDirection.CLOCKWISE == scaleDirection ? (angle - tmpAngleStep) : (angle + tmpAngleStep);
         }
     }
 
+    /**
+     * Returns a noise image of the given size and colors from a small
+     * shared cache. Because the noise is random anyway all skins of the same
+     * size can show the same image which saves creating it pixel by pixel
+     * for every single instance. The image will be created on the calling
+     * thread which might also be a background thread.
+     */
+    public static Image getNoiseImage(final double WIDTH, final double HEIGHT, final Color DARK_COLOR, final Color BRIGHT_COLOR, final double ALPHA_VARIATION_IN_PERCENT) {
+        if (Double.compare(WIDTH, 0) <= 0 || Double.compare(HEIGHT, 0) <= 0) return null;
+        final String KEY = (int) WIDTH + "x" + (int) HEIGHT + DARK_COLOR + BRIGHT_COLOR + ALPHA_VARIATION_IN_PERCENT;
+        synchronized (NOISE_IMAGES) {
+            Image image = NOISE_IMAGES.get(KEY);
+            if (null != image) return image;
+        }
+        final Image IMAGE = createNoiseImage(WIDTH, HEIGHT, DARK_COLOR, BRIGHT_COLOR, ALPHA_VARIATION_IN_PERCENT);
+        synchronized (NOISE_IMAGES) {
+            Image image = NOISE_IMAGES.putIfAbsent(KEY, IMAGE);
+            return null == image ? IMAGE : image;
+        }
+    }
+
+    /**
+     * Returns the noise image that is used as crystal overlay in the lcd skins.
+     */
+    public static Image getCrystalImage(final double WIDTH, final double HEIGHT) {
+        return getNoiseImage(WIDTH, HEIGHT, DARK_NOISE_COLOR, BRIGHT_NOISE_COLOR, 8);
+    }
+
     public static Image createNoiseImage(final double WIDTH, final double HEIGHT, final Color DARK_COLOR, final Color BRIGHT_COLOR, final double ALPHA_VARIATION_IN_PERCENT) {
         if (Double.compare(WIDTH, 0) <= 0 || Double.compare(HEIGHT, 0) <= 0) return null;
         int                 width                   = (int) WIDTH;
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.events.UpdateEvent.EventType;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Collects per skin type counters and timings of the Medusa controls
+ * (update events, resize/redraw durations, animations, clock ticks and
+ * Platform.runLater() posts) and exposes them via JMX and a plain Java API.
+ * Collection is disabled by default and can be switched on with the
+ * system property medusa.metrics=true, with setEnabled(true) or by
+ * calling registerMBean(). If disabled every hook returns immediately.
+ */
+public class MedusaMetrics implements MedusaMetricsMXBean {
+    public  static final String                      OBJECT_NAME = "eu.hansolo.medusa:type=MedusaMetrics";
+    private static final MedusaMetrics               INSTANCE    = new MedusaMetrics();
+    private static volatile boolean                  enabled     = Boolean.getBoolean("medusa.metrics");
+    private final ConcurrentHashMap<Enum<?>, Record> records;
+
+
+    // ******************** Constructors **************************************
+    private MedusaMetrics() {
+        records = new ConcurrentHashMap<>();
+    }
+
+
+    // ******************** Static Methods ************************************
+    public static MedusaMetrics getInstance() { return INSTANCE; }
+
+    public static boolean isActive() { return enabled; }
+
+    /**
+     * Enables the collection of metrics and registers the MBean at the
+     * platform MBeanServer (if not already registered).
+     */
+    public static void registerMBean() {
+        enabled = true;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName  name   = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) { server.registerMBean(INSTANCE, name); }
+        } catch (InstanceAlreadyExistsException e) {
+            // registered concurrently by another thread
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+        }
+    }
+
+    public static void unregisterMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName  name   = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) { server.unregisterMBean(name); }
+        } catch (InstanceNotFoundException e) {
+            // unregistered concurrently by another thread
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not unregister " + OBJECT_NAME, e);
+        }
+    }
+
+    public static void updateEventFired(final Enum<?> SKIN_TYPE, final EventType EVENT_TYPE) {
+        if (!enabled || null == SKIN_TYPE) return;
+        INSTANCE.getRecord(SKIN_TYPE).updateEvents[EVENT_TYPE.ordinal()].increment();
+    }
+
+    public static void updateEventQueued(final Enum<?> SKIN_TYPE, final EventType EVENT_TYPE) {
+        if (!enabled || null == SKIN_TYPE) return;
+        INSTANCE.getRecord(SKIN_TYPE).queuedEvents[EVENT_TYPE.ordinal()].increment();
+    }
+
+    public static void resized(final Enum<?> SKIN_TYPE, final long NANOS) {
+        if (!enabled || null == SKIN_TYPE) return;
+        INSTANCE.getRecord(SKIN_TYPE).resize.add(NANOS);
+    }
+
+    public static void redrawn(final Enum<?> SKIN_TYPE, final long NANOS) {
+        if (!enabled || null == SKIN_TYPE) return;
+        INSTANCE.getRecord(SKIN_TYPE).redraw.add(NANOS);
+    }
+
+    public static void eventHandled(final Enum<?> SKIN_TYPE, final long NANOS) {
+        if (!enabled || null == SKIN_TYPE) return;
+        INSTANCE.getRecord(SKIN_TYPE).other.add(NANOS);
+    }
+
+    public static void animationStarted(final Enum<?> SKIN_TYPE) {
+        if (!enabled || null == SKIN_TYPE) return;
+        INSTANCE.getRecord(SKIN_TYPE).animationStarts.increment();
+    }
+
+    public static void clockTicked(final Enum<?> SKIN_TYPE) {
+        if (!enabled || null == SKIN_TYPE) return;
+        INSTANCE.getRecord(SKIN_TYPE).clockTicks.increment();
+    }
+
+    public static void runLaterPosted(final Enum<?> SKIN_TYPE) {
+        if (!enabled || null == SKIN_TYPE) return;
+        INSTANCE.getRecord(SKIN_TYPE).runLaterPosts.increment();
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override public boolean isEnabled() { return enabled; }
+    @Override public void setEnabled(final boolean ENABLED) { enabled = ENABLED; }
+
+    @Override public List<SkinStatistics> getSkinStatistics() {
+        List<SkinStatistics> statistics = new ArrayList<>(records.size());
+        records.values().forEach(record -> statistics.add(record.toStatistics()));
+        statistics.sort((s1, s2) -> s1.getSkinType().compareTo(s2.getSkinType()));
+        return statistics;
+    }
+
+    /**
+     * @param SKIN_TYPE name of the skin type e.g. "Gauge.LCD" or "Clock.PEAR"
+     * @return the statistics of the given skin type or null if nothing has been recorded
+     */
+    @Override public SkinStatistics getStatisticsOf(final String SKIN_TYPE) {
+        for (Record record : records.values()) {
+            if (record.name.equals(SKIN_TYPE)) return record.toStatistics();
+        }
+        return null;
+    }
+
+    @Override public long getTotalUpdateEvents() {
+        long total = 0;
+        for (Record record : records.values()) {
+            for (LongAdder adder : record.updateEvents) { total += adder.sum(); }
+        }
+        return total;
+    }
+
+    @Override public long getTotalClockTicks() {
+        long total = 0;
+        for (Record record : records.values()) { total += record.clockTicks.sum(); }
+        return total;
+    }
+
+    @Override public void reset() { records.clear(); }
+
+    private Record getRecord(final Enum<?> SKIN_TYPE) {
+        Record record = records.get(SKIN_TYPE);
+        return null == record ? records.computeIfAbsent(SKIN_TYPE, Record::new) : record;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class Record {
+        private final String      name;
+        private final LongAdder[] updateEvents;
+        private final LongAdder[] queuedEvents;
+        private final Timing      resize;
+        private final Timing      redraw;
+        private final Timing      other;
+        private final LongAdder   animationStarts;
+        private final LongAdder   clockTicks;
+        private final LongAdder   runLaterPosts;
+
+
+        // ******************** Constructors **********************************
+        Record(final Enum<?> SKIN_TYPE) {
+            Class<?> enclosingClass = SKIN_TYPE.getDeclaringClass().getEnclosingClass();
+            name            = null == enclosingClass ? SKIN_TYPE.name() : enclosingClass.getSimpleName() + "." + SKIN_TYPE.name();
+            updateEvents    = createAdders(EventType.values().length);
+            queuedEvents    = createAdders(EventType.values().length);
+            resize          = new Timing();
+            redraw          = new Timing();
+            other           = new Timing();
+            animationStarts = new LongAdder();
+            clockTicks      = new LongAdder();
+            runLaterPosts   = new LongAdder();
+        }
+
+
+        // ******************** Methods ***************************************
+        SkinStatistics toStatistics() {
+            return new SkinStatistics(name, toMap(updateEvents), toMap(queuedEvents),
+                                      resize.count(), resize.meanMillis(), resize.percentileMillis(0.99), resize.maxMillis(),
+                                      redraw.count(), redraw.meanMillis(), redraw.percentileMillis(0.99), redraw.maxMillis(),
+                                      other.count(), other.meanMillis(), other.percentileMillis(0.99), other.maxMillis(),
+                                      animationStarts.sum(), clockTicks.sum(), runLaterPosts.sum());
+        }
+
+        private static LongAdder[] createAdders(final int SIZE) {
+            LongAdder[] adders = new LongAdder[SIZE];
+            for (int i = 0 ; i < SIZE ; i++) { adders[i] = new LongAdder(); }
+            return adders;
+        }
+
+        private static Map<String, Long> toMap(final LongAdder[] ADDERS) {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (EventType type : EventType.values()) {
+                long count = ADDERS[type.ordinal()].sum();
+                if (count > 0) { map.put(type.name(), count); }
+            }
+            return Collections.unmodifiableMap(map);
+        }
+    }
+
+    /**
+     * Lock free timing histogram with one bucket per power of two nanoseconds.
+     */
+    private static class Timing {
+        private static final int       NO_OF_BUCKETS = 64;
+        private final LongAdder        count         = new LongAdder();
+        private final LongAdder        sum           = new LongAdder();
+        private final LongAccumulator  max           = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray  buckets       = new AtomicLongArray(NO_OF_BUCKETS);
+
+
+        // ******************** Methods ***************************************
+        void add(final long NANOS) {
+            long nanos = Math.max(0, NANOS);
+            count.increment();
+            sum.add(nanos);
+            max.accumulate(nanos);
+            buckets.incrementAndGet(63 - Long.numberOfLeadingZeros(nanos | 1));
+        }
+
+        long count() { return count.sum(); }
+
+        double meanMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : sum.sum() / (double) n / 1_000_000.0;
+        }
+
+        double maxMillis() { return max.get() / 1_000_000.0; }
+
+        /**
+         * @return upper bound of the bucket that contains the given percentile
+         */
+        double percentileMillis(final double PERCENTILE) {
+            long n = count.sum();
+            if (n == 0) return 0;
+            long threshold  = (long) Math.ceil(n * PERCENTILE);
+            long cumulative = 0;
+            for (int i = 0 ; i < NO_OF_BUCKETS ; i++) {
+                cumulative += buckets.get(i);
+                if (cumulative >= threshold) {
+                    return Math.min(i >= 62 ? Long.MAX_VALUE : (2L << i), max.get()) / 1_000_000.0;
+                }
+            }
+            return maxMillis();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * Owns the background threads of all Medusa controls.
+ * There is only one scheduler thread that will be started when the first
+ * periodic task is scheduled and shut down again when the last task has
+ * been cancelled. Tasks only keep a weak reference to their owner, so a
+ * control that was not stopped explicitly can still be garbage collected
+ * and its tasks will cancel themselves on the next run.
+ * Controls register themselves to be tracked via weak references and one
+ * single JVM shutdown hook stops everything on exit.
+ * An exception thrown by a task will be logged and the task keeps running
+ * on its next period, so one failing control cannot stop the others. A task
+ * that throws an Error will be logged and cancelled.
+ */
+public final class MedusaRuntime {
+    private static final Logger                      LOGGER          = Logger.getLogger(MedusaRuntime.class.getName());
+    private static final String                      THREAD_NAME     = "MedusaScheduler";
+    private static final Set<WeakReference<Object>>  LIVE_CONTROLS   = new HashSet<>();
+    private static final ReferenceQueue<Object>      REFERENCE_QUEUE = new ReferenceQueue<>();
+    private static final Set<Task>                   TASKS           = new HashSet<>();
+    private static       ScheduledThreadPoolExecutor scheduler;
+    private static       boolean                     shutdownHookRegistered;
+
+
+    // ******************** Constructors **************************************
+    private MedusaRuntime() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Starts tracking the given control via a weak reference and makes sure
+     * that the shutdown hook is registered.
+     */
+    public static synchronized void register(final Object CONTROL) {
+        purge();
+        LIVE_CONTROLS.add(new WeakReference<>(CONTROL, REFERENCE_QUEUE));
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(MedusaRuntime::shutdown, "MedusaShutdownHook"));
+            shutdownHookRegistered = true;
+        }
+    }
+
+    /**
+     * Periodically calls the given action with the given owner. The action
+     * should not capture the owner itself (use e.g. a method reference like
+     * Clock::tick) because the task only holds a weak reference to it.
+     *
+     * @return a task that has to be cancelled if it's not needed any longer
+     */
+    public static synchronized <T> Task scheduleAtFixedRate(final T OWNER, final Consumer<? super T> ACTION, final long INITIAL_DELAY, final long PERIOD, final TimeUnit UNIT) {
+        Task task = new Task(OWNER, ACTION);
+        TASKS.add(task);
+        task.future = getScheduler().scheduleAtFixedRate(task::run, INITIAL_DELAY, PERIOD, UNIT);
+        if (task.cancelled) { task.future.cancel(false); }
+        return task;
+    }
+
+    public static synchronized int getNoOfLiveControls() {
+        purge();
+        return LIVE_CONTROLS.size();
+    }
+
+    public static synchronized List<Object> getLiveControls() {
+        purge();
+        List<Object> controls = new ArrayList<>(LIVE_CONTROLS.size());
+        for (WeakReference<Object> reference : LIVE_CONTROLS) {
+            Object control = reference.get();
+            if (null != control) { controls.add(control); }
+        }
+        return controls;
+    }
+
+    public static synchronized int getNoOfTasks() { return TASKS.size(); }
+
+    public static synchronized boolean isSchedulerRunning() { return null != scheduler; }
+
+    /**
+     * Cancels all tasks and stops the scheduler thread. Will be called by
+     * the shutdown hook but can also be called e.g. when a mobile device
+     * goes to sleep mode. Scheduling a new task will start the scheduler again.
+     */
+    public static synchronized void shutdown() {
+        for (Task task : TASKS) {
+            task.cancelled = true;
+            task.future.cancel(false);
+        }
+        TASKS.clear();
+        stopScheduler();
+    }
+
+    private static ScheduledThreadPoolExecutor getScheduler() {
+        if (null == scheduler) {
+            scheduler = new ScheduledThreadPoolExecutor(1, Helper.getThreadFactory(THREAD_NAME, true));
+            scheduler.setRemoveOnCancelPolicy(true);
+        }
+        return scheduler;
+    }
+
+    private static void stopScheduler() {
+        if (null == scheduler) return;
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    private static synchronized void remove(final Task TASK) {
+        if (TASKS.remove(TASK) && TASKS.isEmpty()) { stopScheduler(); }
+    }
+
+    private static void purge() {
+        Reference<?> reference;
+        while (null != (reference = REFERENCE_QUEUE.poll())) { LIVE_CONTROLS.remove(reference); }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    public static final class Task {
+        private final    WeakReference<Object> owner;
+        private final    Consumer<Object>      action;
+        private volatile ScheduledFuture<?>    future;
+        private volatile boolean               cancelled;
+
+
+        // ******************** Constructors **********************************
+        @SuppressWarnings("unchecked")
+        private <T> Task(final T OWNER, final Consumer<? super T> ACTION) {
+            owner  = new WeakReference<>(OWNER);
+            action = (Consumer<Object>) ACTION;
+        }
+
+
+        // ******************** Methods ***************************************
+        public boolean isCancelled() { return cancelled; }
+
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            if (null != future) { future.cancel(false); }
+            remove(this);
+        }
+
+        private void run() {
+            Object o = owner.get();
+            if (null == o) {
+                // Owner has been garbage collected without being stopped
+                cancel();
+            } else if (!cancelled) {
+                try {
+                    action.accept(o);
+                } catch (RuntimeException e) {
+                    // An exception would silently suppress all further runs of the task
+                    LOGGER.log(Level.WARNING, "Scheduled task of " + o.getClass().getName() + " failed", e);
+                } catch (Error e) {
+                    LOGGER.log(Level.SEVERE, "Scheduled task of " + o.getClass().getName() + " failed and will be cancelled", e);
+                    cancel();
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -20,18 +20,23 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.LinkedList;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 
 /**
  * Created by hansolo on 01.11.16.
+ * All methods are synchronized, values could be added on any thread as
+ * long as the MovingAverage owns its window. A shared ValueHistory is
+ * not thread safe and has to be written on one thread only.
  */
 public class MovingAverage {
-    public  static final int         MAX_PERIOD     = 1000;
-    private static final int         DEFAULT_PERIOD = 10;
-    private        final Queue<Data> window;
-    private              int         numberPeriod;
-    private              double      sum;
+    public  static final int          MAX_PERIOD     = 1000;
+    private static final int          DEFAULT_PERIOD = 10;
+    private        final int          numberPeriod;
+    private              ValueHistory window;
+    private              boolean      ownsWindow;
+    private              int          noOfValues;
+    private              double       sum;
+    private              long         modificationCount;
 
 
     // ******************** Constructors **************************************
@@ -39,40 +44,91 @@ public class MovingAverage {
         this(DEFAULT_PERIOD);
     }
     public MovingAverage(final int NUMBER_PERIOD) {
+        this(null, NUMBER_PERIOD);
+    }
+    /**
+     * Creates a MovingAverage that uses the given history as its window.
+     * The history can be shared with other readers. The window contains the
+     * latest values of the history but never more values than have been
+     * added through this MovingAverage since it was created or reset. A new
+     * MovingAverage on an existing history therefore starts with an empty
+     * window, as if it had its own one.
+     * If HISTORY is null the MovingAverage will create its own history
+     * when the first value is added.
+     * @param HISTORY
+     * @param NUMBER_PERIOD
+     */
+    public MovingAverage(final ValueHistory HISTORY, final int NUMBER_PERIOD) {
         numberPeriod = Helper.clamp(0, MAX_PERIOD, NUMBER_PERIOD);
-        window       = new ConcurrentLinkedQueue<>();
+        window       = HISTORY;
+        if (null != window) {
+            window.ensureCapacity(numberPeriod);
+            modificationCount = window.getModificationCount();
+        }
     }
 
 
     // ******************** Methods *******************************************
-    public void addData(final Data DATA) {
-        sum += DATA.getValue();
-        window.add(DATA);
-        if (window.size() > numberPeriod) {
-            sum -= window.remove().getValue();
-        }
+    public synchronized void addData(final Data DATA) {
+        add(DATA.getTimestamp().toEpochMilli(), DATA.getValue());
     }
-    public void addValue(final double VALUE) {
-        addData(new Data(VALUE));
+    public synchronized void addValue(final double VALUE) {
+        add(System.currentTimeMillis(), VALUE);
     }
 
-    public Queue<Data> getWindow() { return new LinkedList<>(window); }
+    public synchronized Queue<Data> getWindow() {
+        Queue<Data> data = new LinkedList<>();
+        if (null != window) { window.forEachLast(getCount(), (timestamp, value) -> data.add(new Data(value, Instant.ofEpochMilli(timestamp)))); }
+        return data;
+    }
+
+    public synchronized ValueHistory getHistory() { return window; }
 
-    public double getAverage() {
-        if (window.isEmpty()) return 0; // technically the average is undefined
-        return (sum / window.size());
+    public synchronized double getAverage() {
+        final int COUNT = getCount();
+        if (0 == COUNT) return 0; // technically the average is undefined
+        if (window.getModificationCount() != modificationCount) { recalculateSum(); }
+        return (sum / COUNT);
     }
 
-    public double getTimeBasedAverageOf(final Duration DURATION) {
+    public synchronized double getTimeBasedAverageOf(final Duration DURATION) {
         assert !DURATION.isNegative() : "Time period must be positive";
-        Instant now     = Instant.now();
-        double  average = window.stream()
-                                .filter(v -> v.getTimestamp().isAfter(now.minus(DURATION)))
-                                .mapToDouble(Data::getValue)
-                                .average()
-                                .getAsDouble();
-        return average;
+        if (null == window) return 0;
+        final int COUNT = Math.min(getCount(), window.countSince(System.currentTimeMillis() - DURATION.toMillis()));
+        return window.getAverage(COUNT);
+    }
+
+    /**
+     * Empties the window. A history that is shared with others won't be
+     * cleared, only its values won't be part of the average any longer.
+     */
+    public synchronized void reset() {
+        noOfValues = 0;
+        sum        = 0;
+        if (null == window) return;
+        if (ownsWindow) { window.clear(); }
+        modificationCount = window.getModificationCount();
+    }
+
+    private int getCount() { return null == window ? 0 : Math.min(noOfValues, window.getSize()); }
+
+    private void add(final long TIMESTAMP, final double VALUE) {
+        if (0 == numberPeriod) return;
+        if (null == window) {
+            window     = new ValueHistory(numberPeriod);
+            ownsWindow = true;
+        }
+        if (window.getModificationCount() != modificationCount) { recalculateSum(); }
+        final int COUNT = getCount();
+        if (COUNT >= numberPeriod) { sum -= window.getValue(window.getSize() - numberPeriod); }
+        sum += VALUE;
+        window.add(TIMESTAMP, VALUE);
+        noOfValues        = Math.min(numberPeriod, COUNT + 1);
+        modificationCount = window.getModificationCount();
     }
 
-    public void reset() { window.clear(); }
+    private void recalculateSum() {
+        sum               = window.getSum(getCount());
+        modificationCount = window.getModificationCount();
+    }
 }
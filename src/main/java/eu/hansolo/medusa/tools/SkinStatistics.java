@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import java.util.Map;
+
+
+/**
+ * Immutable snapshot of the metrics of one skin type (e.g. Gauge.LCD or
+ * Clock.PEAR) as returned by MedusaMetrics.
+ * All durations are in milliseconds.
+ */
+public class SkinStatistics {
+    private final String            skinType;
+    private final Map<String, Long> updateEvents;
+    private final Map<String, Long> queuedEvents;
+    private final long              resizeCount;
+    private final double            resizeMeanMillis;
+    private final double            resizeP99Millis;
+    private final double            resizeMaxMillis;
+    private final long              redrawCount;
+    private final double            redrawMeanMillis;
+    private final double            redrawP99Millis;
+    private final double            redrawMaxMillis;
+    private final long              otherEventCount;
+    private final double            otherEventMeanMillis;
+    private final double            otherEventP99Millis;
+    private final double            otherEventMaxMillis;
+    private final long              animationStarts;
+    private final long              clockTicks;
+    private final long              runLaterPosts;
+
+
+    // ******************** Constructors **************************************
+    public SkinStatistics(final String SKIN_TYPE, final Map<String, Long> UPDATE_EVENTS, final Map<String, Long> QUEUED_EVENTS,
+                          final long RESIZE_COUNT, final double RESIZE_MEAN_MILLIS, final double RESIZE_P99_MILLIS, final double RESIZE_MAX_MILLIS,
+                          final long REDRAW_COUNT, final double REDRAW_MEAN_MILLIS, final double REDRAW_P99_MILLIS, final double REDRAW_MAX_MILLIS,
+                          final long OTHER_EVENT_COUNT, final double OTHER_EVENT_MEAN_MILLIS, final double OTHER_EVENT_P99_MILLIS, final double OTHER_EVENT_MAX_MILLIS,
+                          final long ANIMATION_STARTS, final long CLOCK_TICKS, final long RUN_LATER_POSTS) {
+        skinType             = SKIN_TYPE;
+        updateEvents         = UPDATE_EVENTS;
+        queuedEvents         = QUEUED_EVENTS;
+        resizeCount          = RESIZE_COUNT;
+        resizeMeanMillis     = RESIZE_MEAN_MILLIS;
+        resizeP99Millis      = RESIZE_P99_MILLIS;
+        resizeMaxMillis      = RESIZE_MAX_MILLIS;
+        redrawCount          = REDRAW_COUNT;
+        redrawMeanMillis     = REDRAW_MEAN_MILLIS;
+        redrawP99Millis      = REDRAW_P99_MILLIS;
+        redrawMaxMillis      = REDRAW_MAX_MILLIS;
+        otherEventCount      = OTHER_EVENT_COUNT;
+        otherEventMeanMillis = OTHER_EVENT_MEAN_MILLIS;
+        otherEventP99Millis  = OTHER_EVENT_P99_MILLIS;
+        otherEventMaxMillis  = OTHER_EVENT_MAX_MILLIS;
+        animationStarts      = ANIMATION_STARTS;
+        clockTicks           = CLOCK_TICKS;
+        runLaterPosts        = RUN_LATER_POSTS;
+    }
+
+
+    // ******************** Methods *******************************************
+    public String getSkinType() { return skinType; }
+
+    /**
+     * @return number of fired update events per event type
+     */
+    public Map<String, Long> getUpdateEvents() { return updateEvents; }
+
+    /**
+     * @return number of update events per event type that have been queued
+     * because the control was not showing
+     */
+    public Map<String, Long> getQueuedEvents() { return queuedEvents; }
+
+    public long getResizeCount() { return resizeCount; }
+    public double getResizeMeanMillis() { return resizeMeanMillis; }
+    public double getResizeP99Millis() { return resizeP99Millis; }
+    public double getResizeMaxMillis() { return resizeMaxMillis; }
+
+    public long getRedrawCount() { return redrawCount; }
+    public double getRedrawMeanMillis() { return redrawMeanMillis; }
+    public double getRedrawP99Millis() { return redrawP99Millis; }
+    public double getRedrawMaxMillis() { return redrawMaxMillis; }
+
+    public long getOtherEventCount() { return otherEventCount; }
+    public double getOtherEventMeanMillis() { return otherEventMeanMillis; }
+    public double getOtherEventP99Millis() { return otherEventP99Millis; }
+    public double getOtherEventMaxMillis() { return otherEventMaxMillis; }
+
+    public long getAnimationStarts() { return animationStarts; }
+
+    public long getClockTicks() { return clockTicks; }
+
+    public long getRunLaterPosts() { return runLaterPosts; }
+
+    @Override public String toString() {
+        return new StringBuilder().append("{")
+                                  .append("\"skinType\":\"").append(skinType).append("\",")
+                                  .append("\"updateEvents\":").append(updateEvents.values().stream().mapToLong(Long::longValue).sum()).append(",")
+                                  .append("\"queuedEvents\":").append(queuedEvents.values().stream().mapToLong(Long::longValue).sum()).append(",")
+                                  .append("\"resizeCount\":").append(resizeCount).append(",")
+                                  .append("\"resizeMeanMillis\":").append(resizeMeanMillis).append(",")
+                                  .append("\"redrawCount\":").append(redrawCount).append(",")
+                                  .append("\"redrawMeanMillis\":").append(redrawMeanMillis).append(",")
+                                  .append("\"otherEventCount\":").append(otherEventCount).append(",")
+                                  .append("\"animationStarts\":").append(animationStarts).append(",")
+                                  .append("\"clockTicks\":").append(clockTicks).append(",")
+                                  .append("\"runLaterPosts\":").append(runLaterPosts)
+                                  .append("}")
+                                  .toString();
+    }
+}
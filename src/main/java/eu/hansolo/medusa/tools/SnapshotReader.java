@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.tools.SnapshotSchema.Kind;
+import eu.hansolo.medusa.tools.SnapshotSchema.Property;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+import javafx.scene.text.Font;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static eu.hansolo.medusa.tools.SnapshotSchema.*;
+
+
+/**
+ * Restores the objects of a snapshot that has been written by a
+ * SnapshotWriter. Gauges and Clocks will be created by their builders,
+ * so the properties will be applied in the same order as if the control
+ * was built in code. Properties with unknown tags (e.g. written by a newer
+ * version) will be skipped.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class SnapshotReader implements Closeable {
+    private static final int                       BUFFER_SIZE = 8192;
+    private        final InputStream               in;
+    private        final byte[]                    buffer;
+    private              int                       position;
+    private              int                       limit;
+    private        final List<String>              strings;
+    private        final Map<Kind<?, ?>, Object[]> previous;
+    private        final int                       version;
+    private              boolean                   finished;
+
+
+    // ******************** Constructors **************************************
+    public SnapshotReader(final InputStream INPUT_STREAM) throws IOException {
+        in       = INPUT_STREAM;
+        buffer   = new byte[BUFFER_SIZE];
+        strings  = new ArrayList<>();
+        previous = new HashMap<>();
+        if (readRawInt() != MAGIC) { throw new IOException("Not a Medusa snapshot"); }
+        version = readByte();
+        if (version > VERSION) { throw new IOException("Unsupported snapshot version " + version); }
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the next object of the snapshot or null if the end of the
+     * snapshot has been reached.
+     * @return the next object of the snapshot or null
+     * @throws IOException
+     */
+    public Object read() throws IOException {
+        while (!finished) {
+            if (position == limit && !fill()) {
+                finished = true;
+                break;
+            }
+            final int ID = readByte();
+            if (END == ID) {
+                finished = true;
+                break;
+            }
+            Object object = readObject(ID, true);
+            if (null != object) return object;
+        }
+        return null;
+    }
+    public List<Object> readAll() throws IOException {
+        List<Object> objects = new ArrayList<>();
+        for (Object object = read() ; null != object ; object = read()) { objects.add(object); }
+        return objects;
+    }
+
+    public int getVersion() { return version; }
+
+    @Override public void close() throws IOException { in.close(); }
+
+    /**
+     * Returns all objects of the snapshot in the given file.
+     * @param FILE
+     * @return all objects of the snapshot in the given file
+     * @throws IOException
+     */
+    public static List<Object> load(final Path FILE) throws IOException {
+        try (SnapshotReader reader = new SnapshotReader(new BufferedInputStream(Files.newInputStream(FILE)))) {
+            return reader.readAll();
+        }
+    }
+
+    private Object readObject(final int ID, final boolean DELTA) throws IOException {
+        final Kind KIND = getKind(ID);
+        Object[] values = null;
+        if (null != KIND) {
+            if (DELTA) {
+                values = previous.get(KIND);
+                if (null == values) {
+                    values = new Object[KIND.properties.length];
+                    previous.put(KIND, values);
+                }
+                // Lists of objects are not delta encoded
+                for (Property property : KIND.properties) {
+                    if (null != property && !property.type.isDeltaEncoded()) { values[property.tag] = null; }
+                }
+            } else {
+                values = new Object[KIND.properties.length];
+            }
+        }
+        for (int tag = readVarInt() ; END != tag ; tag = readVarInt()) {
+            final Object VALUE = readValue();
+            if (null == values || tag >= values.length || null == KIND.properties[tag]) continue;
+            values[tag] = convert(KIND.properties[tag], VALUE);
+        }
+        if (null == KIND) return null;
+
+        Object target = KIND.target.get();
+        for (Property property : KIND.properties) {
+            if (null == property || null == values[property.tag]) continue;
+            property.setter.accept(target, values[property.tag]);
+        }
+        return KIND.finish.apply(target);
+    }
+
+    private Object readValue() throws IOException {
+        final int TYPE = readByte();
+        switch(TYPE) {
+            case NULL       : return null;
+            case FALSE      : return Boolean.FALSE;
+            case TRUE       : return Boolean.TRUE;
+            case INT        :
+            case LONG       : return readVarLong();
+            case DOUBLE     : return Double.longBitsToDouble((readRawInt() & 0xFFFFFFFFL) | ((long) readRawInt() << 32));
+            case STRING     : return readString();
+            case COLOR      : return Color.rgb(readByte(), readByte(), readByte(), readByte() / 255.0);
+            case COLOR_FLOAT: return new Color(Float.intBitsToFloat(readRawInt()), Float.intBitsToFloat(readRawInt()), Float.intBitsToFloat(readRawInt()), Float.intBitsToFloat(readRawInt()));
+            case LIST       :
+                final int    SIZE = readVarInt();
+                List<Object> list = new ArrayList<>(SIZE);
+                for (int i = 0 ; i < SIZE ; i++) { list.add(readValue()); }
+                return list;
+            case OBJECT     : return readObject(readByte(), false);
+            default         : throw new IOException("Unknown wire type " + TYPE);
+        }
+    }
+
+    private static Object convert(final Property PROPERTY, final Object VALUE) {
+        if (null == VALUE) return null;
+        switch(PROPERTY.type) {
+            case INT            : return ((Long) VALUE).intValue();
+            case ENUM           :
+                try {
+                    return Enum.valueOf(PROPERTY.enumClass, (String) VALUE);
+                } catch (IllegalArgumentException e) {
+                    return null; // constant has been removed
+                }
+            case LOCALE         : return Locale.forLanguageTag((String) VALUE);
+            case ZONED_DATE_TIME: return ZonedDateTime.parse((String) VALUE);
+            case LOCAL_TIME     : return LocalTime.ofNanoOfDay((Long) VALUE);
+            case FONT           :
+                List<Object> font = (List<Object>) VALUE;
+                return new Font((String) font.get(0), (Double) font.get(1));
+            case STOPS          :
+                List<Object> items = (List<Object>) VALUE;
+                List<Stop>   stops = new ArrayList<>(items.size());
+                for (Object item : items) {
+                    List<Object> stop = (List<Object>) item;
+                    stops.add(new Stop((Double) stop.get(0), (Color) stop.get(1)));
+                }
+                return stops;
+            case OBJECTS        :
+                List<Object> objects = (List<Object>) VALUE;
+                objects.removeIf(object -> null == object);
+                return objects;
+            default             : return VALUE;
+        }
+    }
+
+    private String readString() throws IOException {
+        final int INDEX = readVarInt();
+        if (INDEX > 0) return strings.get(INDEX - 1);
+        final int LENGTH = readVarInt();
+        String text;
+        if (limit - position >= LENGTH) {
+            text = new String(buffer, position, LENGTH, StandardCharsets.UTF_8);
+            position += LENGTH;
+        } else {
+            byte[] bytes = new byte[LENGTH];
+            for (int i = 0 ; i < LENGTH ; i++) { bytes[i] = (byte) readByte(); }
+            text = new String(bytes, StandardCharsets.UTF_8);
+        }
+        strings.add(text);
+        return text;
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0 ; shift < 32 ; shift += 7) {
+            final int BYTE = readByte();
+            value |= (BYTE & 0x7F) << shift;
+            if ((BYTE & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed var int");
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0 ; shift < 64 ; shift += 7) {
+            final int BYTE = readByte();
+            value |= (long) (BYTE & 0x7F) << shift;
+            if ((BYTE & 0x80) == 0) return (value >>> 1) ^ -(value & 1); // zig zag
+        }
+        throw new IOException("Malformed var long");
+    }
+
+    private int readRawInt() throws IOException {
+        return readByte() | (readByte() << 8) | (readByte() << 16) | (readByte() << 24);
+    }
+
+    private int readByte() throws IOException {
+        if (position == limit && !fill()) { throw new EOFException(); }
+        return buffer[position++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        final int READ = in.read(buffer, 0, buffer.length);
+        if (READ <= 0) return false;
+        position = 0;
+        limit    = READ;
+        return true;
+    }
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Alarm;
+import eu.hansolo.medusa.Alarm.Repetition;
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Clock.ClockSkinType;
+import eu.hansolo.medusa.ClockBuilder;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.KnobType;
+import eu.hansolo.medusa.Gauge.LedType;
+import eu.hansolo.medusa.Gauge.NeedleBehavior;
+import eu.hansolo.medusa.Gauge.NeedleShape;
+import eu.hansolo.medusa.Gauge.NeedleSize;
+import eu.hansolo.medusa.Gauge.NeedleType;
+import eu.hansolo.medusa.Gauge.ScaleDirection;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeBuilder;
+import eu.hansolo.medusa.LcdDesign;
+import eu.hansolo.medusa.LcdFont;
+import eu.hansolo.medusa.Marker;
+import eu.hansolo.medusa.Marker.MarkerType;
+import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.TickLabelLocation;
+import eu.hansolo.medusa.TickLabelOrientation;
+import eu.hansolo.medusa.TickMarkType;
+import eu.hansolo.medusa.TimeSection;
+import javafx.geometry.Orientation;
+import javafx.geometry.Pos;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.Stop;
+import javafx.scene.text.Font;
+
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+
+/**
+ * Describes which properties of the Medusa controls will be stored in a
+ * snapshot. Every property has a tag that identifies it in the stream.
+ * Tags must never be changed or reused: new properties have to be added
+ * with a new tag at the end of a table and removed properties just leave
+ * a gap. Readers skip tags they don't know, so snapshots that have been
+ * written by another version of the schema can still be read.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+final class SnapshotSchema {
+    static final int MAGIC       = 0x4D44534E; // MDSN
+    static final int VERSION     = 1;
+    static final int END         = 0;
+    // Wire types, every value in the stream starts with one of them
+    static final int NULL        = 0;
+    static final int FALSE       = 1;
+    static final int TRUE        = 2;
+    static final int INT         = 3;
+    static final int LONG        = 4;
+    static final int DOUBLE      = 5;
+    static final int STRING      = 6;
+    static final int COLOR       = 7;
+    static final int COLOR_FLOAT = 8;
+    static final int LIST        = 9;
+    static final int OBJECT      = 10;
+
+    enum Type {
+        BOOLEAN, INT, LONG, DOUBLE, STRING, ENUM, COLOR, PAINT, LOCALE, FONT, LOCAL_TIME, ZONED_DATE_TIME, STOPS, STRINGS, OBJECTS;
+
+        /**
+         * Returns true if a value of this type can be compared to the value
+         * of the previous object. Lists of mutable objects will always be
+         * written because every control needs its own instances.
+         */
+        boolean isDeltaEncoded() { return STRINGS != this && OBJECTS != this; }
+    }
+
+
+    // ******************** Section, Marker, TimeSection, Alarm ***************
+    static final Kind<Section, Section>         SECTION      = new Kind<>(3, "Section", Section.class, Section::new, Function.identity(), Arrays.asList(
+        section(1, "start",          Type.DOUBLE, Section::getStart,          (s, v) -> s.setStart((double) v)),
+        section(2, "stop",           Type.DOUBLE, Section::getStop,           (s, v) -> s.setStop((double) v)),
+        section(3, "text",           Type.STRING, Section::getText,           (s, v) -> s.setText((String) v)),
+        section(4, "color",          Type.COLOR,  Section::getColor,          (s, v) -> s.setColor((Color) v)),
+        section(5, "highlightColor", Type.COLOR,  Section::getHighlightColor, (s, v) -> s.setHighlightColor((Color) v)),
+        section(6, "textColor",      Type.COLOR,  Section::getTextColor,      (s, v) -> s.setTextColor((Color) v)),
+        section(7, "styleClass",     Type.STRING, Section::getStyleClass,     (s, v) -> s.setStyleClass((String) v))));
+
+    static final Kind<Marker, Marker>           MARKER       = new Kind<>(4, "Marker", Marker.class, Marker::new, Function.identity(), Arrays.asList(
+        marker(1, "value",      Type.DOUBLE,      Marker::getValue,      (m, v) -> m.setValue((double) v)),
+        marker(2, "text",       Type.STRING,      Marker::getText,       (m, v) -> m.setText((String) v)),
+        marker(3, "color",      Type.COLOR,       Marker::getColor,      (m, v) -> m.setColor((Color) v)),
+        marker(4, "markerType", MarkerType.class, Marker::getMarkerType, (m, v) -> m.setMarkerType((MarkerType) v)),
+        marker(5, "styleClass", Type.STRING,      Marker::getStyleClass, (m, v) -> m.setStyleClass((String) v))));
+
+    static final Kind<TimeSection, TimeSection> TIME_SECTION = new Kind<>(5, "TimeSection", TimeSection.class, TimeSection::new, Function.identity(), Arrays.asList(
+        timeSection(1, "start",          Type.LOCAL_TIME, TimeSection::getStart,          (s, v) -> s.setStart((LocalTime) v)),
+        timeSection(2, "stop",           Type.LOCAL_TIME, TimeSection::getStop,           (s, v) -> s.setStop((LocalTime) v)),
+        timeSection(3, "text",           Type.STRING,     TimeSection::getText,           (s, v) -> s.setText((String) v)),
+        timeSection(4, "color",          Type.COLOR,      TimeSection::getColor,          (s, v) -> s.setColor((Color) v)),
+        timeSection(5, "highlightColor", Type.COLOR,      TimeSection::getHighlightColor, (s, v) -> s.setHighlightColor((Color) v)),
+        timeSection(6, "textColor",      Type.COLOR,      TimeSection::getTextColor,      (s, v) -> s.setTextColor((Color) v))));
+
+    static final Kind<Alarm, Alarm>             ALARM        = new Kind<>(6, "Alarm", Alarm.class, Alarm::new, Function.identity(), Arrays.asList(
+        alarm(1, "repetition", Repetition.class,     Alarm::getRepetition, (a, v) -> a.setRepetition((Repetition) v)),
+        alarm(2, "time",       Type.ZONED_DATE_TIME, Alarm::getTime,       (a, v) -> a.setTime((ZonedDateTime) v)),
+        alarm(3, "armed",      Type.BOOLEAN,         Alarm::isArmed,       (a, v) -> a.setArmed((boolean) v)),
+        alarm(4, "text",       Type.STRING,          Alarm::getText,       (a, v) -> a.setText((String) v)),
+        alarm(5, "color",      Type.COLOR,           Alarm::getColor,      (a, v) -> a.setColor((Color) v))));
+
+
+    // ******************** Gauge *********************************************
+    static final Kind<Gauge, GaugeBuilder>      GAUGE        = new Kind<>(1, "Gauge", Gauge.class, GaugeBuilder::create, GaugeBuilder::build, Arrays.asList(
+        gauge(1,   "skinType",                         SkinType.class,             Gauge::getSkinType,                        (b, v) -> b.skinType((SkinType) v)),
+        gauge(2,   "value",                            Type.DOUBLE,                Gauge::getValue,                           (b, v) -> b.value((double) v)),
+        gauge(3,   "minValue",                         Type.DOUBLE,                Gauge::getMinValue,                        (b, v) -> b.minValue((double) v)),
+        gauge(4,   "maxValue",                         Type.DOUBLE,                Gauge::getMaxValue,                        (b, v) -> b.maxValue((double) v)),
+        gauge(5,   "threshold",                        Type.DOUBLE,                Gauge::getThreshold,                       (b, v) -> b.threshold((double) v)),
+        gauge(6,   "decimals",                         Type.INT,                   Gauge::getDecimals,                        (b, v) -> b.decimals((int) v)),
+        gauge(7,   "tickLabelDecimals",                Type.INT,                   Gauge::getTickLabelDecimals,               (b, v) -> b.tickLabelDecimals((int) v)),
+        gauge(8,   "title",                            Type.STRING,                Gauge::getTitle,                           (b, v) -> b.title((String) v)),
+        gauge(9,   "subTitle",                         Type.STRING,                Gauge::getSubTitle,                        (b, v) -> b.subTitle((String) v)),
+        gauge(10,  "unit",                             Type.STRING,                Gauge::getUnit,                            (b, v) -> b.unit((String) v)),
+        gauge(11,  "averagingEnabled",                 Type.BOOLEAN,               Gauge::isAveragingEnabled,                 (b, v) -> b.averagingEnabled((boolean) v)),
+        gauge(12,  "averagingPeriod",                  Type.INT,                   Gauge::getAveragingPeriod,                 (b, v) -> b.averagingPeriod((int) v)),
+        gauge(13,  "startFromZero",                    Type.BOOLEAN,               Gauge::isStartFromZero,                    (b, v) -> b.startFromZero((boolean) v)),
+        gauge(14,  "returnToZero",                     Type.BOOLEAN,               Gauge::isReturnToZero,                     (b, v) -> b.returnToZero((boolean) v)),
+        gauge(15,  "zeroColor",                        Type.COLOR,                 Gauge::getZeroColor,                       (b, v) -> b.zeroColor((Color) v)),
+        gauge(16,  "minMeasuredValueVisible",          Type.BOOLEAN,               Gauge::isMinMeasuredValueVisible,          (b, v) -> b.minMeasuredValueVisible((boolean) v)),
+        gauge(17,  "maxMeasuredValueVisible",          Type.BOOLEAN,               Gauge::isMaxMeasuredValueVisible,          (b, v) -> b.maxMeasuredValueVisible((boolean) v)),
+        gauge(18,  "oldValueVisible",                  Type.BOOLEAN,               Gauge::isOldValueVisible,                  (b, v) -> b.oldValueVisible((boolean) v)),
+        gauge(19,  "valueVisible",                     Type.BOOLEAN,               Gauge::isValueVisible,                     (b, v) -> b.valueVisible((boolean) v)),
+        gauge(20,  "backgroundPaint",                  Type.PAINT,                 Gauge::getBackgroundPaint,                 (b, v) -> b.backgroundPaint((Paint) v)),
+        gauge(21,  "borderPaint",                      Type.PAINT,                 Gauge::getBorderPaint,                     (b, v) -> b.borderPaint((Paint) v)),
+        gauge(22,  "borderWidth",                      Type.DOUBLE,                Gauge::getBorderWidth,                     (b, v) -> b.borderWidth((double) v)),
+        gauge(23,  "foregroundPaint",                  Type.PAINT,                 Gauge::getForegroundPaint,                 (b, v) -> b.foregroundPaint((Paint) v)),
+        gauge(24,  "knobColor",                        Type.COLOR,                 Gauge::getKnobColor,                       (b, v) -> b.knobColor((Color) v)),
+        gauge(25,  "knobType",                         KnobType.class,             Gauge::getKnobType,                        (b, v) -> b.knobType((KnobType) v)),
+        gauge(26,  "knobVisible",                      Type.BOOLEAN,               Gauge::isKnobVisible,                      (b, v) -> b.knobVisible((boolean) v)),
+        gauge(27,  "knobPosition",                     Pos.class,                  Gauge::getKnobPosition,                    (b, v) -> b.knobPosition((Pos) v)),
+        gauge(28,  "animated",                         Type.BOOLEAN,               Gauge::isAnimated,                         (b, v) -> b.animated((boolean) v)),
+        gauge(29,  "animationDuration",                Type.LONG,                  Gauge::getAnimationDuration,               (b, v) -> b.animationDuration((long) v)),
+        gauge(30,  "startAngle",                       Type.DOUBLE,                Gauge::getStartAngle,                      (b, v) -> b.startAngle((double) v)),
+        gauge(31,  "angleRange",                       Type.DOUBLE,                Gauge::getAngleRange,                      (b, v) -> b.angleRange((double) v)),
+        gauge(32,  "autoScale",                        Type.BOOLEAN,               Gauge::isAutoScale,                        (b, v) -> b.autoScale((boolean) v)),
+        gauge(33,  "needleType",                       NeedleType.class,           Gauge::getNeedleType,                      (b, v) -> b.needleType((NeedleType) v)),
+        gauge(34,  "needleShape",                      NeedleShape.class,          Gauge::getNeedleShape,                     (b, v) -> b.needleShape((NeedleShape) v)),
+        gauge(35,  "needleSize",                       NeedleSize.class,           Gauge::getNeedleSize,                      (b, v) -> b.needleSize((NeedleSize) v)),
+        gauge(36,  "needleBehavior",                   NeedleBehavior.class,       Gauge::getNeedleBehavior,                  (b, v) -> b.needleBehavior((NeedleBehavior) v)),
+        gauge(37,  "needleColor",                      Type.COLOR,                 Gauge::getNeedleColor,                     (b, v) -> b.needleColor((Color) v)),
+        gauge(38,  "needleBorderColor",                Type.COLOR,                 Gauge::getNeedleBorderColor,               (b, v) -> b.needleBorderColor((Color) v)),
+        gauge(39,  "barColor",                         Type.COLOR,                 Gauge::getBarColor,                        (b, v) -> b.barColor((Color) v)),
+        gauge(40,  "barBorderColor",                   Type.COLOR,                 Gauge::getBarBorderColor,                  (b, v) -> b.barBorderColor((Color) v)),
+        gauge(41,  "barBackgroundColor",               Type.COLOR,                 Gauge::getBarBackgroundColor,              (b, v) -> b.barBackgroundColor((Color) v)),
+        gauge(42,  "tickLabelOrientation",             TickLabelOrientation.class, Gauge::getTickLabelOrientation,            (b, v) -> b.tickLabelOrientation((TickLabelOrientation) v)),
+        gauge(43,  "tickLabelLocation",                TickLabelLocation.class,    Gauge::getTickLabelLocation,               (b, v) -> b.tickLabelLocation((TickLabelLocation) v)),
+        gauge(44,  "locale",                           Type.LOCALE,                Gauge::getLocale,                          (b, v) -> b.locale((Locale) v)),
+        gauge(45,  "majorTickSpace",                   Type.DOUBLE,                Gauge::getMajorTickSpace,                  (b, v) -> b.majorTickSpace((double) v)),
+        gauge(46,  "minorTickSpace",                   Type.DOUBLE,                Gauge::getMinorTickSpace,                  (b, v) -> b.minorTickSpace((double) v)),
+        gauge(47,  "shadowsEnabled",                   Type.BOOLEAN,               Gauge::isShadowsEnabled,                   (b, v) -> b.shadowsEnabled((boolean) v)),
+        gauge(48,  "barEffectEnabled",                 Type.BOOLEAN,               Gauge::isBarEffectEnabled,                 (b, v) -> b.barEffectEnabled((boolean) v)),
+        gauge(49,  "scaleDirection",                   ScaleDirection.class,       Gauge::getScaleDirection,                  (b, v) -> b.scaleDirection((ScaleDirection) v)),
+        gauge(50,  "tickLabelColor",                   Type.COLOR,                 Gauge::getTickLabelColor,                  (b, v) -> b.tickLabelColor((Color) v)),
+        gauge(51,  "majorTickMarkColor",               Type.COLOR,                 Gauge::getMajorTickMarkColor,              (b, v) -> b.majorTickMarkColor((Color) v)),
+        gauge(52,  "majorTickMarkLengthFactor",        Type.DOUBLE,                Gauge::getMajorTickMarkLengthFactor,       (b, v) -> b.majorTickMarkLengthFactor((double) v)),
+        gauge(53,  "majorTickMarkWidthFactor",         Type.DOUBLE,                Gauge::getMajorTickMarkWidthFactor,        (b, v) -> b.majorTickMarkWidthFactor((double) v)),
+        gauge(54,  "mediumTickMarkColor",              Type.COLOR,                 Gauge::getMediumTickMarkColor,             (b, v) -> b.mediumTickMarkColor((Color) v)),
+        gauge(55,  "mediumTickMarkLengthFactor",       Type.DOUBLE,                Gauge::getMediumTickMarkLengthFactor,      (b, v) -> b.mediumTickMarkLengthFactor((double) v)),
+        gauge(56,  "mediumTickMarkWidthFactor",        Type.DOUBLE,                Gauge::getMediumTickMarkWidthFactor,       (b, v) -> b.mediumTickMarkWidthFactor((double) v)),
+        gauge(57,  "minorTickMarkColor",               Type.COLOR,                 Gauge::getMinorTickMarkColor,              (b, v) -> b.minorTickMarkColor((Color) v)),
+        gauge(58,  "minorTickMarkLengthFactor",        Type.DOUBLE,                Gauge::getMinorTickMarkLengthFactor,       (b, v) -> b.minorTickMarkLengthFactor((double) v)),
+        gauge(59,  "minorTickMarkWidthFactor",         Type.DOUBLE,                Gauge::getMinorTickMarkWidthFactor,        (b, v) -> b.minorTickMarkWidthFactor((double) v)),
+        gauge(60,  "majorTickMarkType",                TickMarkType.class,         Gauge::getMajorTickMarkType,               (b, v) -> b.majorTickMarkType((TickMarkType) v)),
+        gauge(61,  "mediumTickMarkType",               TickMarkType.class,         Gauge::getMediumTickMarkType,              (b, v) -> b.mediumTickMarkType((TickMarkType) v)),
+        gauge(62,  "minorTickMarkType",                TickMarkType.class,         Gauge::getMinorTickMarkType,               (b, v) -> b.minorTickMarkType((TickMarkType) v)),
+        gauge(63,  "ledColor",                         Type.COLOR,                 Gauge::getLedColor,                        (b, v) -> b.ledColor((Color) v)),
+        gauge(64,  "ledType",                          LedType.class,              Gauge::getLedType,                         (b, v) -> b.ledType((LedType) v)),
+        gauge(65,  "ledVisible",                       Type.BOOLEAN,               Gauge::isLedVisible,                       (b, v) -> b.ledVisible((boolean) v)),
+        gauge(66,  "lcdVisible",                       Type.BOOLEAN,               Gauge::isLcdVisible,                       (b, v) -> b.lcdVisible((boolean) v)),
+        gauge(67,  "lcdCrystalEnabled",                Type.BOOLEAN,               Gauge::isLcdCrystalEnabled,                (b, v) -> b.lcdCrystalEnabled((boolean) v)),
+        gauge(68,  "lcdDesign",                        LcdDesign.class,            Gauge::getLcdDesign,                       (b, v) -> b.lcdDesign((LcdDesign) v)),
+        gauge(69,  "lcdFont",                          LcdFont.class,              Gauge::getLcdFont,                         (b, v) -> b.lcdFont((LcdFont) v)),
+        gauge(70,  "sections",                         SECTION,                    Gauge::getSections,                        (b, v) -> b.sections((List<Section>) v)),
+        gauge(71,  "areas",                            SECTION,                    Gauge::getAreas,                           (b, v) -> b.areas((List<Section>) v)),
+        gauge(72,  "tickMarkSections",                 SECTION,                    Gauge::getTickMarkSections,                (b, v) -> b.tickMarkSections((List<Section>) v)),
+        gauge(73,  "tickLabelSections",                SECTION,                    Gauge::getTickLabelSections,               (b, v) -> b.tickLabelSections((List<Section>) v)),
+        gauge(74,  "markers",                          MARKER,                     Gauge::getMarkers,                         (b, v) -> b.markers((List<Marker>) v)),
+        gauge(75,  "titleColor",                       Type.COLOR,                 Gauge::getTitleColor,                      (b, v) -> b.titleColor((Color) v)),
+        gauge(76,  "subTitleColor",                    Type.COLOR,                 Gauge::getSubTitleColor,                   (b, v) -> b.subTitleColor((Color) v)),
+        gauge(77,  "unitColor",                        Type.COLOR,                 Gauge::getUnitColor,                       (b, v) -> b.unitColor((Color) v)),
+        gauge(78,  "valueColor",                       Type.COLOR,                 Gauge::getValueColor,                      (b, v) -> b.valueColor((Color) v)),
+        gauge(79,  "thresholdColor",                   Type.COLOR,                 Gauge::getThresholdColor,                  (b, v) -> b.thresholdColor((Color) v)),
+        gauge(80,  "averageColor",                     Type.COLOR,                 Gauge::getAverageColor,                    (b, v) -> b.averageColor((Color) v)),
+        gauge(81,  "checkSectionsForValue",            Type.BOOLEAN,               Gauge::getCheckSectionsForValue,           (b, v) -> b.checkSectionsForValue((boolean) v)),
+        gauge(82,  "checkAreasForValue",               Type.BOOLEAN,               Gauge::getCheckAreasForValue,              (b, v) -> b.checkAreasForValue((boolean) v)),
+        gauge(83,  "checkThreshold",                   Type.BOOLEAN,               Gauge::isCheckThreshold,                   (b, v) -> b.checkThreshold((boolean) v)),
+        gauge(84,  "innerShadowEnabled",               Type.BOOLEAN,               Gauge::isInnerShadowEnabled,               (b, v) -> b.innerShadowEnabled((boolean) v)),
+        gauge(85,  "thresholdVisible",                 Type.BOOLEAN,               Gauge::isThresholdVisible,                 (b, v) -> b.thresholdVisible((boolean) v)),
+        gauge(86,  "averageVisible",                   Type.BOOLEAN,               Gauge::isAverageVisible,                   (b, v) -> b.averageVisible((boolean) v)),
+        gauge(87,  "sectionsVisible",                  Type.BOOLEAN,               Gauge::getSectionsVisible,                 (b, v) -> b.sectionsVisible((boolean) v)),
+        gauge(88,  "sectionsAlwaysVisible",            Type.BOOLEAN,               Gauge::getSectionsAlwaysVisible,           (b, v) -> b.sectionsAlwaysVisible((boolean) v)),
+        gauge(89,  "sectionTextVisible",               Type.BOOLEAN,               Gauge::isSectionTextVisible,               (b, v) -> b.sectionTextVisible((boolean) v)),
+        gauge(90,  "sectionIconsVisible",              Type.BOOLEAN,               Gauge::getSectionIconsVisible,             (b, v) -> b.sectionIconsVisible((boolean) v)),
+        gauge(91,  "highlightSections",                Type.BOOLEAN,               Gauge::isHighlightSections,                (b, v) -> b.highlightSections((boolean) v)),
+        gauge(92,  "areasVisible",                     Type.BOOLEAN,               Gauge::getAreasVisible,                    (b, v) -> b.areasVisible((boolean) v)),
+        gauge(93,  "areaTextVisible",                  Type.BOOLEAN,               Gauge::isAreaTextVisible,                  (b, v) -> b.areaTextVisible((boolean) v)),
+        gauge(94,  "areaIconsVisible",                 Type.BOOLEAN,               Gauge::getAreaIconsVisible,                (b, v) -> b.areaIconsVisible((boolean) v)),
+        gauge(95,  "highlightAreas",                   Type.BOOLEAN,               Gauge::isHighlightAreas,                   (b, v) -> b.highlightAreas((boolean) v)),
+        gauge(96,  "tickMarkSectionsVisible",          Type.BOOLEAN,               Gauge::getTickMarkSectionsVisible,         (b, v) -> b.tickMarkSectionsVisible((boolean) v)),
+        gauge(97,  "tickLabelSectionsVisible",         Type.BOOLEAN,               Gauge::getTickLabelSectionsVisible,        (b, v) -> b.tickLabelSectionsVisible((boolean) v)),
+        gauge(98,  "markersVisible",                   Type.BOOLEAN,               Gauge::getMarkersVisible,                  (b, v) -> b.markersVisible((boolean) v)),
+        gauge(99,  "tickLabelsVisible",                Type.BOOLEAN,               Gauge::getTickLabelsVisible,               (b, v) -> b.tickLabelsVisible((boolean) v)),
+        gauge(100, "onlyFirstAndLastTickLabelVisible", Type.BOOLEAN,               Gauge::isOnlyFirstAndLastTickLabelVisible, (b, v) -> b.onlyFirstAndLastTickLabelVisible((boolean) v)),
+        gauge(101, "majorTickMarksVisible",            Type.BOOLEAN,               Gauge::getMajorTickMarksVisible,           (b, v) -> b.majorTickMarksVisible((boolean) v)),
+        gauge(102, "mediumTickMarksVisible",           Type.BOOLEAN,               Gauge::getMediumTickMarksVisible,          (b, v) -> b.mediumTickMarksVisible((boolean) v)),
+        gauge(103, "minorTickMarksVisible",            Type.BOOLEAN,               Gauge::getMinorTickMarksVisible,           (b, v) -> b.minorTickMarksVisible((boolean) v)),
+        gauge(104, "tickMarkRingVisible",              Type.BOOLEAN,               Gauge::isTickMarkRingVisible,              (b, v) -> b.tickMarkRingVisible((boolean) v)),
+        gauge(105, "ledOn",                            Type.BOOLEAN,               Gauge::isLedOn,                            (b, v) -> b.ledOn((boolean) v)),
+        gauge(106, "ledBlinking",                      Type.BOOLEAN,               Gauge::isLedBlinking,                      (b, v) -> b.ledBlinking((boolean) v)),
+        gauge(107, "orientation",                      Orientation.class,          Gauge::getOrientation,                     (b, v) -> b.orientation((Orientation) v)),
+        gauge(108, "gradientBarEnabled",               Type.BOOLEAN,               Gauge::isGradientBarEnabled,               (b, v) -> b.gradientBarEnabled((boolean) v)),
+        gauge(109, "gradientBarStops",                 Type.STOPS,                 Gauge::getGradientBarStops,                (b, v) -> b.gradientBarStops((List<Stop>) v)),
+        gauge(110, "customTickLabelsEnabled",          Type.BOOLEAN,               Gauge::getCustomTickLabelsEnabled,         (b, v) -> b.customTickLabelsEnabled((boolean) v)),
+        gauge(111, "customTickLabels",                 Type.STRINGS,               Gauge::getCustomTickLabels,                (b, v) -> b.customTickLabels((List<String>) v)),
+        gauge(112, "customTickLabelFontSize",          Type.DOUBLE,                Gauge::getCustomTickLabelFontSize,         (b, v) -> b.customTickLabelFontSize((double) v)),
+        gauge(113, "interactive",                      Type.BOOLEAN,               Gauge::isInteractive,                      (b, v) -> b.interactive((boolean) v)),
+        gauge(114, "buttonTooltipText",                Type.STRING,                Gauge::getButtonTooltipText,               (b, v) -> b.buttonTooltipText((String) v)),
+        gauge(115, "keepAspect",                       Type.BOOLEAN,               Gauge::isKeepAspect,                       (b, v) -> b.keepAspect((boolean) v)),
+        gauge(116, "customFontEnabled",                Type.BOOLEAN,               Gauge::isCustomFontEnabled,                (b, v) -> b.customFontEnabled((boolean) v)),
+        gauge(117, "customFont",                       Type.FONT,                  Gauge::getCustomFont,                      (b, v) -> b.customFont((Font) v)),
+        gauge(118, "alertMessage",                     Type.STRING,                Gauge::getAlertMessage,                    (b, v) -> b.alertMessage((String) v)),
+        gauge(119, "smoothing",                        Type.BOOLEAN,               Gauge::isSmoothing,                        (b, v) -> b.smoothing((boolean) v)),
+        gauge(120, "prefWidth",                        Type.DOUBLE,                Gauge::getPrefWidth,                       (b, v) -> b.prefWidth((double) v)),
+        gauge(121, "prefHeight",                       Type.DOUBLE,                Gauge::getPrefHeight,                      (b, v) -> b.prefHeight((double) v)),
+        gauge(122, "layoutX",                          Type.DOUBLE,                Gauge::getLayoutX,                         (b, v) -> b.layoutX((double) v)),
+        gauge(123, "layoutY",                          Type.DOUBLE,                Gauge::getLayoutY,                         (b, v) -> b.layoutY((double) v))));
+
+
+    // ******************** Clock *********************************************
+    static final Kind<Clock, ClockBuilder>      CLOCK        = new Kind<>(2, "Clock", Clock.class, ClockBuilder::create, ClockBuilder::build, Arrays.asList(
+        clock(1,  "skinType",               ClockSkinType.class, Clock::getSkinType,              (b, v) -> b.skinType((ClockSkinType) v)),
+        clock(2,  "title",                  Type.STRING,         Clock::getTitle,                 (b, v) -> b.title((String) v)),
+        clock(3,  "text",                   Type.STRING,         Clock::getText,                  (b, v) -> b.text((String) v)),
+        clock(4,  "checkSectionsForValue",  Type.BOOLEAN,        Clock::getCheckSectionsForValue, (b, v) -> b.checkSectionsForValue((boolean) v)),
+        clock(5,  "checkAreasForValue",     Type.BOOLEAN,        Clock::getCheckAreasForValue,    (b, v) -> b.checkAreasForValue((boolean) v)),
+        clock(6,  "sections",               TIME_SECTION,        Clock::getSections,              (b, v) -> b.sections((List<TimeSection>) v)),
+        clock(7,  "sectionsVisible",        Type.BOOLEAN,        Clock::getSectionsVisible,       (b, v) -> b.sectionsVisible((boolean) v)),
+        clock(8,  "highlightSections",      Type.BOOLEAN,        Clock::isHighlightSections,      (b, v) -> b.highlightSections((boolean) v)),
+        clock(9,  "areas",                  TIME_SECTION,        Clock::getAreas,                 (b, v) -> b.areas((List<TimeSection>) v)),
+        clock(10, "areasVisible",           Type.BOOLEAN,        Clock::getAreasVisible,          (b, v) -> b.areasVisible((boolean) v)),
+        clock(11, "highlightAreas",         Type.BOOLEAN,        Clock::isHighlightAreas,         (b, v) -> b.highlightAreas((boolean) v)),
+        clock(12, "discreteSeconds",        Type.BOOLEAN,        Clock::isDiscreteSeconds,        (b, v) -> b.discreteSeconds((boolean) v)),
+        clock(13, "discreteMinutes",        Type.BOOLEAN,        Clock::isDiscreteMinutes,        (b, v) -> b.discreteMinutes((boolean) v)),
+        clock(14, "discreteHours",          Type.BOOLEAN,        Clock::isDiscreteHours,          (b, v) -> b.discreteHours((boolean) v)),
+        clock(15, "secondsVisible",         Type.BOOLEAN,        Clock::isSecondsVisible,         (b, v) -> b.secondsVisible((boolean) v)),
+        clock(16, "titleVisible",           Type.BOOLEAN,        Clock::isTitleVisible,           (b, v) -> b.titleVisible((boolean) v)),
+        clock(17, "textVisible",            Type.BOOLEAN,        Clock::isTextVisible,            (b, v) -> b.textVisible((boolean) v)),
+        clock(18, "dateVisible",            Type.BOOLEAN,        Clock::isDateVisible,            (b, v) -> b.dateVisible((boolean) v)),
+        clock(19, "dayVisible",             Type.BOOLEAN,        Clock::isDayVisible,             (b, v) -> b.dayVisible((boolean) v)),
+        clock(20, "nightMode",              Type.BOOLEAN,        Clock::isNightMode,              (b, v) -> b.nightMode((boolean) v)),
+        clock(21, "autoNightMode",          Type.BOOLEAN,        Clock::isAutoNightMode,          (b, v) -> b.autoNightMode((boolean) v)),
+        clock(22, "running",                Type.BOOLEAN,        Clock::isRunning,                (b, v) -> b.running((boolean) v)),
+        clock(23, "backgroundPaint",        Type.PAINT,          Clock::getBackgroundPaint,       (b, v) -> b.backgroundPaint((Paint) v)),
+        clock(24, "borderPaint",            Type.PAINT,          Clock::getBorderPaint,           (b, v) -> b.borderPaint((Paint) v)),
+        clock(25, "borderWidth",            Type.DOUBLE,         Clock::getBorderWidth,           (b, v) -> b.borderWidth((double) v)),
+        clock(26, "foregroundPaint",        Type.PAINT,          Clock::getForegroundPaint,       (b, v) -> b.foregroundPaint((Paint) v)),
+        clock(27, "titleColor",             Type.COLOR,          Clock::getTitleColor,            (b, v) -> b.titleColor((Color) v)),
+        clock(28, "textColor",              Type.COLOR,          Clock::getTextColor,             (b, v) -> b.textColor((Color) v)),
+        clock(29, "dateColor",              Type.COLOR,          Clock::getDateColor,             (b, v) -> b.dateColor((Color) v)),
+        clock(30, "hourTickMarkColor",      Type.COLOR,          Clock::getHourTickMarkColor,     (b, v) -> b.hourTickMarkColor((Color) v)),
+        clock(31, "minuteTickMarkColor",    Type.COLOR,          Clock::getMinuteTickMarkColor,   (b, v) -> b.minuteTickMarkColor((Color) v)),
+        clock(32, "tickLabelColor",         Type.COLOR,          Clock::getTickLabelColor,        (b, v) -> b.tickLabelColor((Color) v)),
+        clock(33, "alarmColor",             Type.COLOR,          Clock::getAlarmColor,            (b, v) -> b.alarmColor((Color) v)),
+        clock(34, "hourTickMarksVisible",   Type.BOOLEAN,        Clock::isHourTickMarksVisible,   (b, v) -> b.hourTickMarksVisible((boolean) v)),
+        clock(35, "minuteTickMarksVisible", Type.BOOLEAN,        Clock::isMinuteTickMarksVisible, (b, v) -> b.minuteTickMarksVisible((boolean) v)),
+        clock(36, "tickLabelsVisible",      Type.BOOLEAN,        Clock::isTickLabelsVisible,      (b, v) -> b.tickLabelsVisible((boolean) v)),
+        clock(37, "hourColor",              Type.COLOR,          Clock::getHourColor,             (b, v) -> b.hourColor((Color) v)),
+        clock(38, "minuteColor",            Type.COLOR,          Clock::getMinuteColor,           (b, v) -> b.minuteColor((Color) v)),
+        clock(39, "secondColor",            Type.COLOR,          Clock::getSecondColor,           (b, v) -> b.secondColor((Color) v)),
+        clock(40, "knobColor",              Type.COLOR,          Clock::getKnobColor,             (b, v) -> b.knobColor((Color) v)),
+        clock(41, "lcdDesign",              LcdDesign.class,     Clock::getLcdDesign,             (b, v) -> b.lcdDesign((LcdDesign) v)),
+        clock(42, "alarmsEnabled",          Type.BOOLEAN,        Clock::isAlarmsEnabled,          (b, v) -> b.alarmsEnabled((boolean) v)),
+        clock(43, "alarmsVisible",          Type.BOOLEAN,        Clock::isAlarmsVisible,          (b, v) -> b.alarmsVisible((boolean) v)),
+        clock(44, "alarms",                 ALARM,               Clock::getAlarms,                (b, v) -> b.alarms((List<Alarm>) v)),
+        clock(45, "lcdCrystalEnabled",      Type.BOOLEAN,        Clock::isLcdCrystalEnabled,      (b, v) -> b.lcdCrystalEnabled((boolean) v)),
+        clock(46, "shadowsEnabled",         Type.BOOLEAN,        Clock::getShadowsEnabled,        (b, v) -> b.shadowsEnabled((boolean) v)),
+        clock(47, "lcdFont",                LcdFont.class,       Clock::getLcdFont,               (b, v) -> b.lcdFont((LcdFont) v)),
+        clock(48, "locale",                 Type.LOCALE,         Clock::getLocale,                (b, v) -> b.locale((Locale) v)),
+        clock(49, "animated",               Type.BOOLEAN,        Clock::isAnimated,               (b, v) -> b.animated((boolean) v)),
+        clock(50, "pulseDriven",            Type.BOOLEAN,        Clock::isPulseDriven,            (b, v) -> b.pulseDriven((boolean) v)),
+        clock(51, "animationDuration",      Type.LONG,           Clock::getAnimationDuration,     (b, v) -> b.animationDuration((long) v)),
+        clock(52, "customFontEnabled",      Type.BOOLEAN,        Clock::isCustomFontEnabled,      (b, v) -> b.customFontEnabled((boolean) v)),
+        clock(53, "customFont",             Type.FONT,           Clock::getCustomFont,            (b, v) -> b.customFont((Font) v)),
+        clock(54, "prefWidth",              Type.DOUBLE,         Clock::getPrefWidth,             (b, v) -> b.prefWidth((double) v)),
+        clock(55, "prefHeight",             Type.DOUBLE,         Clock::getPrefHeight,            (b, v) -> b.prefHeight((double) v)),
+        clock(56, "layoutX",                Type.DOUBLE,         Clock::getLayoutX,               (b, v) -> b.layoutX((double) v)),
+        clock(57, "layoutY",                Type.DOUBLE,         Clock::getLayoutY,               (b, v) -> b.layoutY((double) v))));
+
+    static final List<Kind<?, ?>>               KINDS        = Arrays.asList(GAUGE, CLOCK, SECTION, MARKER, TIME_SECTION, ALARM);
+
+
+    // ******************** Constructors **************************************
+    private SnapshotSchema() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the kind with the given id or null if the id is unknown.
+     */
+    static Kind<?, ?> getKind(final int ID) {
+        for (Kind<?, ?> kind : KINDS) { if (kind.id == ID) return kind; }
+        return null;
+    }
+
+    /**
+     * Returns the kind for the given object or null if objects of its
+     * class can not be stored in a snapshot.
+     */
+    static Kind<?, ?> getKind(final Object OBJECT) {
+        for (Kind<?, ?> kind : KINDS) { if (kind.type.isInstance(OBJECT)) return kind; }
+        return null;
+    }
+
+    private static Property<Gauge, GaugeBuilder> gauge(final int TAG, final String NAME, final Type TYPE, final Function<Gauge, Object> GETTER, final BiConsumer<GaugeBuilder, Object> SETTER) {
+        return new Property<>(TAG, NAME, TYPE, null, null, GETTER, SETTER);
+    }
+    private static Property<Gauge, GaugeBuilder> gauge(final int TAG, final String NAME, final Class<? extends Enum> ENUM_CLASS, final Function<Gauge, Object> GETTER, final BiConsumer<GaugeBuilder, Object> SETTER) {
+        return new Property<>(TAG, NAME, Type.ENUM, ENUM_CLASS, null, GETTER, SETTER);
+    }
+    private static Property<Gauge, GaugeBuilder> gauge(final int TAG, final String NAME, final Kind<?, ?> KIND, final Function<Gauge, Object> GETTER, final BiConsumer<GaugeBuilder, Object> SETTER) {
+        return new Property<>(TAG, NAME, Type.OBJECTS, null, KIND, GETTER, SETTER);
+    }
+
+    private static Property<Clock, ClockBuilder> clock(final int TAG, final String NAME, final Type TYPE, final Function<Clock, Object> GETTER, final BiConsumer<ClockBuilder, Object> SETTER) {
+        return new Property<>(TAG, NAME, TYPE, null, null, GETTER, SETTER);
+    }
+    private static Property<Clock, ClockBuilder> clock(final int TAG, final String NAME, final Class<? extends Enum> ENUM_CLASS, final Function<Clock, Object> GETTER, final BiConsumer<ClockBuilder, Object> SETTER) {
+        return new Property<>(TAG, NAME, Type.ENUM, ENUM_CLASS, null, GETTER, SETTER);
+    }
+    private static Property<Clock, ClockBuilder> clock(final int TAG, final String NAME, final Kind<?, ?> KIND, final Function<Clock, Object> GETTER, final BiConsumer<ClockBuilder, Object> SETTER) {
+        return new Property<>(TAG, NAME, Type.OBJECTS, null, KIND, GETTER, SETTER);
+    }
+
+    private static Property<Section, Section> section(final int TAG, final String NAME, final Type TYPE, final Function<Section, Object> GETTER, final BiConsumer<Section, Object> SETTER) {
+        return new Property<>(TAG, NAME, TYPE, null, null, GETTER, SETTER);
+    }
+
+    private static Property<Marker, Marker> marker(final int TAG, final String NAME, final Type TYPE, final Function<Marker, Object> GETTER, final BiConsumer<Marker, Object> SETTER) {
+        return new Property<>(TAG, NAME, TYPE, null, null, GETTER, SETTER);
+    }
+    private static Property<Marker, Marker> marker(final int TAG, final String NAME, final Class<? extends Enum> ENUM_CLASS, final Function<Marker, Object> GETTER, final BiConsumer<Marker, Object> SETTER) {
+        return new Property<>(TAG, NAME, Type.ENUM, ENUM_CLASS, null, GETTER, SETTER);
+    }
+
+    private static Property<TimeSection, TimeSection> timeSection(final int TAG, final String NAME, final Type TYPE, final Function<TimeSection, Object> GETTER, final BiConsumer<TimeSection, Object> SETTER) {
+        return new Property<>(TAG, NAME, TYPE, null, null, GETTER, SETTER);
+    }
+
+    private static Property<Alarm, Alarm> alarm(final int TAG, final String NAME, final Type TYPE, final Function<Alarm, Object> GETTER, final BiConsumer<Alarm, Object> SETTER) {
+        return new Property<>(TAG, NAME, TYPE, null, null, GETTER, SETTER);
+    }
+    private static Property<Alarm, Alarm> alarm(final int TAG, final String NAME, final Class<? extends Enum> ENUM_CLASS, final Function<Alarm, Object> GETTER, final BiConsumer<Alarm, Object> SETTER) {
+        return new Property<>(TAG, NAME, Type.ENUM, ENUM_CLASS, null, GETTER, SETTER);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    static final class Property<T, B> {
+        final int                     tag;
+        final String                  name;
+        final Type                    type;
+        final Class<? extends Enum>   enumClass;
+        final Kind<?, ?>              kind;
+        final Function<T, Object>     getter;
+        final BiConsumer<B, Object>   setter;
+
+
+        // ******************** Constructors **********************************
+        private Property(final int TAG, final String NAME, final Type TYPE, final Class<? extends Enum> ENUM_CLASS, final Kind<?, ?> KIND,
+                         final Function<T, Object> GETTER, final BiConsumer<B, Object> SETTER) {
+            tag       = TAG;
+            name      = NAME;
+            type      = TYPE;
+            enumClass = ENUM_CLASS;
+            kind      = KIND;
+            getter    = GETTER;
+            setter    = SETTER;
+        }
+    }
+
+    /**
+     * A class that can be stored in a snapshot. Objects will be restored by
+     * applying the properties to a target (the object itself or a builder)
+     * which will then be finished to the restored object.
+     */
+    static final class Kind<T, B> {
+        final int                    id;
+        final String                 name;
+        final Class<T>               type;
+        final Supplier<B>            target;
+        final Function<B, T>         finish;
+        final Property<T, B>[]       properties; // indexed by tag
+
+
+        // ******************** Constructors **********************************
+        private Kind(final int ID, final String NAME, final Class<T> TYPE, final Supplier<B> TARGET, final Function<B, T> FINISH, final List<Property<T, B>> PROPERTIES) {
+            id     = ID;
+            name   = NAME;
+            type   = TYPE;
+            target = TARGET;
+            finish = FINISH;
+            int maxTag = 0;
+            for (Property<T, B> property : PROPERTIES) { maxTag = Math.max(maxTag, property.tag); }
+            properties = new Property[maxTag + 1];
+            for (Property<T, B> property : PROPERTIES) {
+                if (null != properties[property.tag]) { throw new IllegalStateException("Duplicate tag " + property.tag + " in " + NAME); }
+                properties[property.tag] = property;
+            }
+        }
+    }
+}
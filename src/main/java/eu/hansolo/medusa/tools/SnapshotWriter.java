@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.tools.SnapshotSchema.Kind;
+import eu.hansolo.medusa.tools.SnapshotSchema.Property;
+import eu.hansolo.medusa.tools.SnapshotSchema.Type;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+import javafx.scene.text.Font;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import static eu.hansolo.medusa.tools.SnapshotSchema.*;
+
+
+/**
+ * Writes Gauges, Clocks, Sections, Markers, TimeSections and Alarms into
+ * a compact binary snapshot that can be restored with a SnapshotReader.
+ * Every object is written as a list of tagged properties (see
+ * SnapshotSchema). Strings are only written once per stream and referenced
+ * afterwards, and a property of a Gauge or Clock will only be written if
+ * its value differs from the one of the previously written Gauge or Clock.
+ * A dashboard of similar gauges therefore only needs a few bytes per gauge.
+ * Background, border and foreground paints will only be stored if they are
+ * colors, images of sections are not stored.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class SnapshotWriter implements Closeable, Flushable {
+    private static final int                       BUFFER_SIZE = 8192;
+    private static final Object                    UNSET       = new Object();
+    private        final OutputStream              out;
+    private        final byte[]                    buffer;
+    private              int                       position;
+    private        final Map<String, Integer>      strings;
+    private        final Map<Kind<?, ?>, Object[]> previous;
+    private              boolean                   closed;
+
+
+    // ******************** Constructors **************************************
+    public SnapshotWriter(final OutputStream OUTPUT_STREAM) throws IOException {
+        out      = OUTPUT_STREAM;
+        buffer   = new byte[BUFFER_SIZE];
+        strings  = new HashMap<>();
+        previous = new HashMap<>();
+        writeRawInt(MAGIC);
+        writeByte(VERSION);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Writes the given Gauge, Clock, Section, Marker, TimeSection or Alarm.
+     * @param OBJECT
+     * @throws IOException
+     */
+    public void write(final Object OBJECT) throws IOException {
+        if (closed) { throw new IOException("Writer is closed"); }
+        Kind kind = getKind(OBJECT);
+        if (null == kind) { throw new IllegalArgumentException("Objects of type " + OBJECT.getClass().getName() + " can not be stored in a snapshot"); }
+        writeObject(kind, OBJECT, true);
+    }
+    public void writeAll(final Collection<?> OBJECTS) throws IOException {
+        for (Object object : OBJECTS) { write(object); }
+    }
+
+    @Override public void flush() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+        out.flush();
+    }
+
+    /**
+     * Writes the end of the snapshot and closes the underlying stream.
+     * @throws IOException
+     */
+    @Override public void close() throws IOException {
+        if (closed) return;
+        writeByte(END);
+        flush();
+        closed = true;
+        out.close();
+    }
+
+    /**
+     * Writes the given objects into the given file.
+     * @param FILE
+     * @param OBJECTS
+     * @throws IOException
+     */
+    public static void save(final Path FILE, final Collection<?> OBJECTS) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(new BufferedOutputStream(Files.newOutputStream(FILE)))) {
+            writer.writeAll(OBJECTS);
+        }
+    }
+
+    /**
+     * Returns the properties of the given object as JSON. In contrast to
+     * the binary snapshot all properties will be written. Because JSON has
+     * no literals for NaN and infinity these values will be written as the
+     * strings "NaN", "Infinity" and "-Infinity" (Double.parseDouble()
+     * accepts them).
+     * @param OBJECT a Gauge, Clock, Section, Marker, TimeSection or Alarm
+     * @return the properties of the given object as JSON
+     */
+    public static String toJson(final Object OBJECT) {
+        Kind kind = getKind(OBJECT);
+        if (null == kind) { throw new IllegalArgumentException("Objects of type " + OBJECT.getClass().getName() + " can not be stored in a snapshot"); }
+        StringBuilder json = new StringBuilder(4096);
+        appendJson(json, kind, OBJECT);
+        return json.toString();
+    }
+
+    private void writeObject(final Kind KIND, final Object OBJECT, final boolean DELTA) throws IOException {
+        writeByte(KIND.id);
+        Object[] last = DELTA ? previous.get(KIND) : null;
+        if (DELTA && null == last) {
+            last = new Object[KIND.properties.length];
+            Arrays.fill(last, UNSET);
+            previous.put(KIND, last);
+        }
+        for (Property property : KIND.properties) {
+            if (null == property) continue;
+            Object value = getValue(property, OBJECT);
+            if (null != last && property.type.isDeltaEncoded()) {
+                if (Objects.equals(last[property.tag], value)) continue;
+                last[property.tag] = value instanceof List ? new ArrayList<>((List) value) : value;
+            } else if (null == value || (value instanceof List && ((List) value).isEmpty())) {
+                continue;
+            }
+            writeVarInt(property.tag);
+            writeValue(property, value);
+        }
+        writeVarInt(END);
+    }
+
+    private static Object getValue(final Property PROPERTY, final Object OBJECT) {
+        Object value = PROPERTY.getter.apply(OBJECT);
+        // Only colors are supported for paints
+        return Type.PAINT == PROPERTY.type && !(value instanceof Color) ? null : value;
+    }
+
+    private void writeValue(final Property PROPERTY, final Object VALUE) throws IOException {
+        if (null == VALUE) {
+            writeByte(NULL);
+            return;
+        }
+        switch(PROPERTY.type) {
+            case BOOLEAN        : writeByte((Boolean) VALUE ? TRUE : FALSE); break;
+            case INT            : writeByte(INT); writeVarLong((Integer) VALUE); break;
+            case LONG           : writeByte(LONG); writeVarLong((Long) VALUE); break;
+            case DOUBLE         : writeDouble((Double) VALUE); break;
+            case STRING         : writeString((String) VALUE); break;
+            case ENUM           : writeString(((Enum) VALUE).name()); break;
+            case LOCALE         : writeString(((Locale) VALUE).toLanguageTag()); break;
+            case ZONED_DATE_TIME: writeString(VALUE.toString()); break;
+            case LOCAL_TIME     : writeByte(LONG); writeVarLong(((LocalTime) VALUE).toNanoOfDay()); break;
+            case COLOR          :
+            case PAINT          : writeColor((Color) VALUE); break;
+            case FONT           :
+                writeByte(LIST);
+                writeVarInt(2);
+                writeString(((Font) VALUE).getName());
+                writeDouble(((Font) VALUE).getSize());
+                break;
+            case STOPS          :
+                List<Stop> stops = (List<Stop>) VALUE;
+                writeByte(LIST);
+                writeVarInt(stops.size());
+                for (Stop stop : stops) {
+                    writeByte(LIST);
+                    writeVarInt(2);
+                    writeDouble(stop.getOffset());
+                    writeColor(stop.getColor());
+                }
+                break;
+            case STRINGS        :
+                List<String> texts = (List<String>) VALUE;
+                writeByte(LIST);
+                writeVarInt(texts.size());
+                for (String text : texts) { writeString(text); }
+                break;
+            case OBJECTS        :
+                List<?> objects = (List<?>) VALUE;
+                writeByte(LIST);
+                writeVarInt(objects.size());
+                for (Object object : objects) {
+                    writeByte(OBJECT);
+                    writeObject(PROPERTY.kind, object, false);
+                }
+                break;
+            default             : throw new IllegalStateException("Unknown type " + PROPERTY.type);
+        }
+    }
+
+    private void writeString(final String TEXT) throws IOException {
+        if (null == TEXT) {
+            writeByte(NULL);
+            return;
+        }
+        writeByte(STRING);
+        Integer index = strings.get(TEXT);
+        if (null != index) {
+            writeVarInt(index + 1);
+            return;
+        }
+        strings.put(TEXT, strings.size());
+        byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(0);
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    private void writeColor(final Color COLOR) throws IOException {
+        if (null == COLOR) {
+            writeByte(NULL);
+            return;
+        }
+        final double RED     = COLOR.getRed() * 255;
+        final double GREEN   = COLOR.getGreen() * 255;
+        final double BLUE    = COLOR.getBlue() * 255;
+        final double OPACITY = COLOR.getOpacity() * 255;
+        if (isByte(RED) && isByte(GREEN) && isByte(BLUE) && isByte(OPACITY)) {
+            writeByte(SnapshotSchema.COLOR);
+            writeByte((int) Math.round(RED));
+            writeByte((int) Math.round(GREEN));
+            writeByte((int) Math.round(BLUE));
+            writeByte((int) Math.round(OPACITY));
+        } else {
+            writeByte(COLOR_FLOAT);
+            writeRawInt(Float.floatToIntBits((float) COLOR.getRed()));
+            writeRawInt(Float.floatToIntBits((float) COLOR.getGreen()));
+            writeRawInt(Float.floatToIntBits((float) COLOR.getBlue()));
+            writeRawInt(Float.floatToIntBits((float) COLOR.getOpacity()));
+        }
+    }
+
+    private static boolean isByte(final double VALUE) {
+        // Colors are stored as floats, so 8 bit components only need to be close to an integer
+        return Math.abs(VALUE - Math.round(VALUE)) < 1e-4;
+    }
+
+    private void writeDouble(final double VALUE) throws IOException {
+        writeByte(DOUBLE);
+        final long BITS = Double.doubleToRawLongBits(VALUE);
+        writeRawInt((int) BITS);
+        writeRawInt((int) (BITS >>> 32));
+    }
+
+    private void writeVarInt(final int VALUE) throws IOException {
+        int value = VALUE;
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    private void writeVarLong(final long VALUE) throws IOException {
+        long value = (VALUE << 1) ^ (VALUE >> 63); // zig zag
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    private void writeRawInt(final int VALUE) throws IOException {
+        writeByte(VALUE);
+        writeByte(VALUE >>> 8);
+        writeByte(VALUE >>> 16);
+        writeByte(VALUE >>> 24);
+    }
+
+    private void writeBytes(final byte[] BYTES) throws IOException {
+        if (BYTES.length > buffer.length - position) {
+            out.write(buffer, 0, position);
+            position = 0;
+            if (BYTES.length > buffer.length) {
+                out.write(BYTES);
+                return;
+            }
+        }
+        System.arraycopy(BYTES, 0, buffer, position, BYTES.length);
+        position += BYTES.length;
+    }
+
+    private void writeByte(final int VALUE) throws IOException {
+        if (position == buffer.length) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        buffer[position++] = (byte) VALUE;
+    }
+
+    private static void appendJson(final StringBuilder JSON, final Kind KIND, final Object OBJECT) {
+        JSON.append("{\"type\":\"").append(KIND.name).append('"');
+        for (Property property : KIND.properties) {
+            if (null == property) continue;
+            Object value = getValue(property, OBJECT);
+            if (null == value) continue;
+            JSON.append(",\"").append(property.name).append("\":");
+            appendJsonValue(JSON, property, value);
+        }
+        JSON.append('}');
+    }
+
+    private static void appendJsonValue(final StringBuilder JSON, final Property PROPERTY, final Object VALUE) {
+        switch(PROPERTY.type) {
+            case BOOLEAN        :
+            case INT            :
+            case LONG           : JSON.append(VALUE); break;
+            case DOUBLE         : appendJsonDouble(JSON, (Double) VALUE); break;
+            case ENUM           : appendJsonString(JSON, ((Enum) VALUE).name()); break;
+            case LOCALE         : appendJsonString(JSON, ((Locale) VALUE).toLanguageTag()); break;
+            case COLOR          :
+            case PAINT          : appendJsonString(JSON, Helper.colorToCss((Color) VALUE)); break;
+            case FONT           : JSON.append("{\"name\":"); appendJsonString(JSON, ((Font) VALUE).getName()); JSON.append(",\"size\":"); appendJsonDouble(JSON, ((Font) VALUE).getSize()); JSON.append('}'); break;
+            case STOPS          :
+                JSON.append('[');
+                for (Stop stop : (List<Stop>) VALUE) {
+                    if (JSON.charAt(JSON.length() - 1) != '[') { JSON.append(','); }
+                    JSON.append("{\"offset\":");
+                    appendJsonDouble(JSON, stop.getOffset());
+                    JSON.append(",\"color\":");
+                    appendJsonString(JSON, Helper.colorToCss(stop.getColor()));
+                    JSON.append('}');
+                }
+                JSON.append(']');
+                break;
+            case STRINGS        :
+                JSON.append('[');
+                for (String text : (List<String>) VALUE) {
+                    if (JSON.charAt(JSON.length() - 1) != '[') { JSON.append(','); }
+                    appendJsonString(JSON, text);
+                }
+                JSON.append(']');
+                break;
+            case OBJECTS        :
+                JSON.append('[');
+                for (Object object : (List<?>) VALUE) {
+                    if (JSON.charAt(JSON.length() - 1) != '[') { JSON.append(','); }
+                    appendJson(JSON, PROPERTY.kind, object);
+                }
+                JSON.append(']');
+                break;
+            default             : appendJsonString(JSON, VALUE.toString()); break;
+        }
+    }
+
+    private static void appendJsonDouble(final StringBuilder JSON, final double VALUE) {
+        if (Double.isFinite(VALUE)) {
+            JSON.append(VALUE);
+        } else {
+            // Double.toString() returns NaN, Infinity or -Infinity
+            appendJsonString(JSON, Double.toString(VALUE));
+        }
+    }
+
+    private static void appendJsonString(final StringBuilder JSON, final String TEXT) {
+        JSON.append('"');
+        for (int i = 0 ; i < TEXT.length() ; i++) {
+            char c = TEXT.charAt(i);
+            switch(c) {
+                case '"' : JSON.append("\\\""); break;
+                case '\\': JSON.append("\\\\"); break;
+                case '\n': JSON.append("\\n"); break;
+                case '\r': JSON.append("\\r"); break;
+                case '\t': JSON.append("\\t"); break;
+                default  :
+                    if (c < 0x20) {
+                        JSON.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        JSON.append(c);
+                    }
+            }
+        }
+        JSON.append('"');
+    }
+}
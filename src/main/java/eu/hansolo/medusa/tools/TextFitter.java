@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.scene.control.Label;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Fits texts into a given width by reducing the font size.
+ * Instead of shrinking the font step by step and measuring the node after
+ * every step, the width of a text is estimated from a cached measurement
+ * at a reference size (the advance width of a text scales linearly with
+ * the font size) and the largest fitting size will be found by a binary
+ * search over the font size steps. The node will only be measured again
+ * to verify the result.
+ * Numeric texts (e.g. values and times) change all the time, so their width
+ * is estimated from the widths of the single characters where all digits
+ * are assumed to be as wide as the widest digit. This way a changing value
+ * will always hit the cache.
+ */
+public final class TextFitter {
+    public  static final double FONT_SIZE_STEP = 0.05;
+    private static final double REFERENCE_SIZE = 100;
+    private static final int    MAX_TEXTS      = 1024;
+    private static final int    MAX_FONTS      = 64;
+    private static final String NUMERIC_CHARS  = "0123456789.,:;-+/% ";
+    private static final int    NO_OF_DIGITS   = 10;
+
+    private static final Text                  MEASURE     = new Text();
+    private static final Map<String, Double>   TEXT_WIDTHS = new LinkedHashMap<String, Double>(64, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<String, Double> ELDEST) { return size() > MAX_TEXTS; }
+    };
+    private static final Map<String, double[]> CHAR_WIDTHS = new LinkedHashMap<String, double[]>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<String, double[]> ELDEST) { return size() > MAX_FONTS; }
+    };
+
+
+    // ******************** Constructors **************************************
+    private TextFitter() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Reduces the font size of the given text until it fits into the given
+     * width. Nothing will be changed if the text already fits.
+     * @param TEXT
+     * @param MAX_WIDTH
+     * @param FONT_SIZE the font size to start with
+     */
+    public static void fit(final Text TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
+        if (TEXT.getBoundsInLocal().getWidth() <= MAX_WIDTH) return;
+        final String FONT_NAME = TEXT.getFont().getName();
+        double       fontSize  = getFittingFontSize(FONT_NAME, TEXT.getText(), MAX_WIDTH, FONT_SIZE);
+        TEXT.setFont(new Font(FONT_NAME, fontSize));
+        // The estimate does not know about kerning, so step down if it was too optimistic
+        while (TEXT.getBoundsInLocal().getWidth() > MAX_WIDTH && fontSize > 0) {
+            fontSize -= FONT_SIZE_STEP;
+            TEXT.setFont(new Font(FONT_NAME, fontSize));
+        }
+    }
+    public static void fit(final Label LABEL, final double MAX_WIDTH, final double FONT_SIZE) {
+        if (LABEL.getBoundsInLocal().getWidth() <= MAX_WIDTH) return;
+        final String FONT_NAME = LABEL.getFont().getName();
+        double       fontSize  = getFittingFontSize(FONT_NAME, LABEL.getText(), MAX_WIDTH, FONT_SIZE);
+        LABEL.setFont(new Font(FONT_NAME, fontSize));
+        while (LABEL.getBoundsInLocal().getWidth() > MAX_WIDTH && fontSize > 0) {
+            fontSize -= FONT_SIZE_STEP;
+            LABEL.setFont(new Font(FONT_NAME, fontSize));
+        }
+    }
+
+    /**
+     * Returns the largest font size below the given font size (in steps of
+     * FONT_SIZE_STEP) for which the estimated width of the given text fits
+     * into the given width.
+     * @param FONT_NAME
+     * @param TEXT
+     * @param MAX_WIDTH
+     * @param FONT_SIZE
+     * @return the largest font size that fits into the given width
+     */
+    public static double getFittingFontSize(final String FONT_NAME, final String TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
+        final double WIDTH_PER_POINT = getTextWidth(FONT_NAME, TEXT) / REFERENCE_SIZE;
+        int low  = 1;
+        int high = (int) Math.floor(FONT_SIZE / FONT_SIZE_STEP);
+        if (high < low) return FONT_SIZE - FONT_SIZE_STEP;
+        // Find the smallest number of steps for which the text fits
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if ((FONT_SIZE - mid * FONT_SIZE_STEP) * WIDTH_PER_POINT <= MAX_WIDTH) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return FONT_SIZE - low * FONT_SIZE_STEP;
+    }
+
+    /**
+     * Returns the (estimated) width of the given text in the given font.
+     * @param FONT
+     * @param TEXT
+     * @return the (estimated) width of the given text in the given font
+     */
+    public static double getTextWidth(final Font FONT, final String TEXT) {
+        return getTextWidth(FONT.getName(), TEXT) * FONT.getSize() / REFERENCE_SIZE;
+    }
+
+    public static void clearCache() {
+        synchronized (MEASURE) {
+            TEXT_WIDTHS.clear();
+            CHAR_WIDTHS.clear();
+        }
+    }
+
+    // Returns the width of the given text at the reference size
+    private static double getTextWidth(final String FONT_NAME, final String TEXT) {
+        if (null == TEXT || TEXT.isEmpty()) return 0;
+        synchronized (MEASURE) {
+            if (isNumeric(TEXT)) {
+                double[] charWidths = CHAR_WIDTHS.get(FONT_NAME);
+                if (null == charWidths) {
+                    charWidths = measureChars(FONT_NAME);
+                    CHAR_WIDTHS.put(FONT_NAME, charWidths);
+                }
+                double width = 0;
+                for (int i = 0 ; i < TEXT.length() ; i++) {
+                    int index = NUMERIC_CHARS.indexOf(TEXT.charAt(i));
+                    width += index < NO_OF_DIGITS ? charWidths[0] : charWidths[index - NO_OF_DIGITS + 1];
+                }
+                return width;
+            }
+            final String KEY   = FONT_NAME + '\u0000' + TEXT;
+            Double       width = TEXT_WIDTHS.get(KEY);
+            if (null == width) {
+                width = measure(FONT_NAME, TEXT);
+                TEXT_WIDTHS.put(KEY, width);
+            }
+            return width;
+        }
+    }
+
+    private static boolean isNumeric(final String TEXT) {
+        for (int i = 0 ; i < TEXT.length() ; i++) {
+            if (NUMERIC_CHARS.indexOf(TEXT.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+
+    // Index 0 contains the width of the widest digit followed by the widths of the other numeric chars
+    private static double[] measureChars(final String FONT_NAME) {
+        final double[] WIDTHS = new double[NUMERIC_CHARS.length() - NO_OF_DIGITS + 1];
+        for (int i = 0 ; i < NO_OF_DIGITS ; i++) {
+            WIDTHS[0] = Math.max(WIDTHS[0], measure(FONT_NAME, NUMERIC_CHARS.substring(i, i + 1)));
+        }
+        for (int i = NO_OF_DIGITS ; i < NUMERIC_CHARS.length() ; i++) {
+            WIDTHS[i - NO_OF_DIGITS + 1] = measure(FONT_NAME, NUMERIC_CHARS.substring(i, i + 1));
+        }
+        return WIDTHS;
+    }
+
+    private static double measure(final String FONT_NAME, final String TEXT) {
+        MEASURE.setFont(new Font(FONT_NAME, REFERENCE_SIZE));
+        MEASURE.setText(TEXT);
+        return MEASURE.getLayoutBounds().getWidth();
+    }
+}
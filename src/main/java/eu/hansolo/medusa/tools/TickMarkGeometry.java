@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge.ScaleDirection;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Precomputed geometry of a radial scale.
+ * The ticks are generated by an integer index where the kind of a tick
+ * (major, medium, minor) is derived by modulo on the scaled tick value.
+ * The sin/cos of each tick angle and the formatted tick labels are kept
+ * in reusable buffers and will only be recalculated if the range, the
+ * angles or the label format changes. Drawing code can replay the buffers
+ * for every size without doing any trigonometry or BigDecimal arithmetic.
+ * Geometries can be prepared up front (e.g. on a background thread while
+ * loading a dashboard). Instances that are updated with the parameters of a
+ * prepared geometry share its buffers until they have to recalculate.
+ */
+public class TickMarkGeometry {
+    public enum TickKind { MAJOR, MEDIUM, MINOR, NONE }
+
+    private static final int    MAX_SCALE        = 9;
+    private static final double MAX_SCALED_VALUE = 1e15;
+    private static final int    MAX_PREPARED     = 256;
+
+    private static final Map<Key, TickMarkGeometry> PREPARED = new LinkedHashMap<Key, TickMarkGeometry>(16, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<Key, TickMarkGeometry> ELDEST) { return size() > MAX_PREPARED; }
+    };
+
+    private double           minValue;
+    private double           maxValue;
+    private double           minorTickSpace;
+    private double           majorTickSpace;
+    private double           startAngle;
+    private double           angleRange;
+    private double           angleStep;
+    private ScaleDirection   scaleDirection;
+    private Locale           locale;
+    private int              decimals;
+    private boolean          valid;
+    private boolean          labelsValid;
+    private TickMarkGeometry source;
+    private int              noOfTicks;
+    private TickKind[]       kinds;
+    private double[]         values;
+    private double[]         angles;
+    private double[]         sinValues;
+    private double[]         cosValues;
+    private String[]         labels;
+
+
+    // ******************** Constructors **************************************
+    public TickMarkGeometry() {
+        kinds     = new TickKind[0];
+        values    = new double[0];
+        angles    = new double[0];
+        sinValues = new double[0];
+        cosValues = new double[0];
+        labels    = new String[0];
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Recalculates the tick buffers if one of the given parameters differs
+     * from the ones used for the last calculation.
+     *
+     * @return true if the buffers have been recalculated
+     */
+    public boolean update(final double MIN_VALUE, final double MAX_VALUE, final double MINOR_TICK_SPACE, final double MAJOR_TICK_SPACE,
+                          final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP, final ScaleDirection SCALE_DIRECTION) {
+        if (valid &&
+            Double.compare(MIN_VALUE, minValue) == 0 &&
+            Double.compare(MAX_VALUE, maxValue) == 0 &&
+            Double.compare(MINOR_TICK_SPACE, minorTickSpace) == 0 &&
+            Double.compare(MAJOR_TICK_SPACE, majorTickSpace) == 0 &&
+            Double.compare(START_ANGLE, startAngle) == 0 &&
+            Double.compare(ANGLE_RANGE, angleRange) == 0 &&
+            Double.compare(ANGLE_STEP, angleStep) == 0 &&
+            SCALE_DIRECTION == scaleDirection) { return false; }
+
+        minValue       = MIN_VALUE;
+        maxValue       = MAX_VALUE;
+        minorTickSpace = MINOR_TICK_SPACE;
+        majorTickSpace = MAJOR_TICK_SPACE;
+        startAngle     = START_ANGLE;
+        angleRange     = ANGLE_RANGE;
+        angleStep      = ANGLE_STEP;
+        scaleDirection = SCALE_DIRECTION;
+        TickMarkGeometry prepared = getPrepared(new Key(this));
+        if (null == prepared) {
+            calculate();
+        } else {
+            share(prepared);
+        }
+        valid          = true;
+        labelsValid    = false;
+        return true;
+    }
+
+    /**
+     * Formats the labels of all major ticks if the locale or the number of
+     * decimals differs from the ones used for the last call.
+     */
+    public void updateLabels(final Locale LOCALE, final int DECIMALS) {
+        if (labelsValid && DECIMALS == decimals && Objects.equals(LOCALE, locale)) return;
+        locale   = LOCALE;
+        decimals = DECIMALS;
+        if (null != source && labels == source.labels) {
+            if (source.labelsValid && DECIMALS == source.decimals && Objects.equals(LOCALE, source.locale)) {
+                labelsValid = true;
+                return;
+            }
+            labels = new String[kinds.length];
+        }
+        String formatString = "%." + DECIMALS + "f";
+        for (int i = 0 ; i < noOfTicks ; i++) {
+            labels[i] = TickKind.MAJOR == kinds[i] ? String.format(LOCALE, formatString, values[i]) : null;
+        }
+        labelsValid = true;
+    }
+
+    /**
+     * Calculates the tick buffers and labels for the given parameters and
+     * keeps them in a shared cache so that instances which will be updated
+     * with the same parameters later on can simply reuse them. This method
+     * is thread safe and is meant to be called off the FX application thread.
+     */
+    public static void prepare(final double MIN_VALUE, final double MAX_VALUE, final double MINOR_TICK_SPACE, final double MAJOR_TICK_SPACE,
+                               final double START_ANGLE, final double ANGLE_RANGE, final double ANGLE_STEP, final ScaleDirection SCALE_DIRECTION,
+                               final Locale LOCALE, final int DECIMALS) {
+        TickMarkGeometry geometry = new TickMarkGeometry();
+        geometry.minValue       = MIN_VALUE;
+        geometry.maxValue       = MAX_VALUE;
+        geometry.minorTickSpace = MINOR_TICK_SPACE;
+        geometry.majorTickSpace = MAJOR_TICK_SPACE;
+        geometry.startAngle     = START_ANGLE;
+        geometry.angleRange     = ANGLE_RANGE;
+        geometry.angleStep      = ANGLE_STEP;
+        geometry.scaleDirection = SCALE_DIRECTION;
+
+        final Key              KEY      = new Key(geometry);
+        final TickMarkGeometry EXISTING = getPrepared(KEY);
+        if (null != EXISTING && DECIMALS == EXISTING.decimals && Objects.equals(LOCALE, EXISTING.locale)) return;
+
+        geometry.calculate();
+        geometry.valid = true;
+        geometry.updateLabels(LOCALE, DECIMALS);
+        synchronized (PREPARED) { PREPARED.put(KEY, geometry); }
+    }
+
+    public static void clearPrepared() {
+        synchronized (PREPARED) { PREPARED.clear(); }
+    }
+
+    public void invalidate() {
+        valid       = false;
+        labelsValid = false;
+    }
+
+    public int getNoOfTicks() { return noOfTicks; }
+
+    public TickKind getKind(final int INDEX) { return kinds[INDEX]; }
+
+    public double getValue(final int INDEX) { return values[INDEX]; }
+
+    public double getAngle(final int INDEX) { return angles[INDEX]; }
+
+    public double getSin(final int INDEX) { return sinValues[INDEX]; }
+
+    public double getCos(final int INDEX) { return cosValues[INDEX]; }
+
+    public String getLabel(final int INDEX) { return labels[INDEX]; }
+
+    private void calculate() {
+        noOfTicks = 0;
+        if (Double.compare(minorTickSpace, 0) <= 0 || Double.compare(majorTickSpace, 0) <= 0 || Double.compare(maxValue, minValue) < 0) return;
+
+        // Scale all values to longs so that the tick kind can be classified by integer modulo
+        int scale = Math.max(Math.max(decimalsOf(minValue), decimalsOf(maxValue)), Math.max(decimalsOf(minorTickSpace), decimalsOf(majorTickSpace)));
+        scale     = Math.min(scale, MAX_SCALE);
+        double maxAbs = Math.max(Math.max(Math.abs(minValue), Math.abs(maxValue)), majorTickSpace);
+        while (scale > 0 && maxAbs * Math.pow(10, scale) > MAX_SCALED_VALUE) { scale--; }
+
+        final double FACTOR       = Math.pow(10, scale);
+        final long   MIN          = Math.round(minValue * FACTOR);
+        final long   MAX          = Math.round(maxValue * FACTOR);
+        final long   MINOR_SPACE  = Math.max(1, Math.round(minorTickSpace * FACTOR));
+        final long   MAJOR_SPACE  = Math.max(1, Math.round(majorTickSpace * FACTOR));
+        final long   MEDIUM_SPACE = 5 * MINOR_SPACE;
+
+        // The angle step will be rounded to 3 decimals (same as the original drawing loop)
+        final double ANGLE_PER_TICK = angleStep * minorTickSpace;
+        final double ROUNDED_STEP   = Math.round(Math.abs(ANGLE_PER_TICK) * 1000.0) / 1000.0;
+        final long   TICKS_BY_VALUE = (MAX - MIN) / MINOR_SPACE + 1;
+        final long   TICKS_BY_ANGLE = Double.compare(ROUNDED_STEP, 0) > 0 ? (long) Math.floor((angleRange + ROUNDED_STEP) / ROUNDED_STEP) + 1 : 1;
+        final int    NO_OF_TICKS    = (int) Math.min(Integer.MAX_VALUE - 8, Math.min(TICKS_BY_VALUE, TICKS_BY_ANGLE));
+        final double DIRECTION      = ScaleDirection.CLOCKWISE == scaleDirection ? -1 : 1;
+
+        ensureCapacity(NO_OF_TICKS);
+        for (int i = 0 ; i < NO_OF_TICKS ; i++) {
+            long counter = MIN + i * MINOR_SPACE;
+            if (counter % MAJOR_SPACE == 0) {
+                kinds[i] = TickKind.MAJOR;
+            } else if (counter % MEDIUM_SPACE == 0) {
+                kinds[i] = TickKind.MEDIUM;
+            } else if (counter % MINOR_SPACE == 0) {
+                kinds[i] = TickKind.MINOR;
+            } else {
+                kinds[i] = TickKind.NONE;
+            }
+            double angle   = DIRECTION * i * ANGLE_PER_TICK;
+            double radians = Math.toRadians(angle + startAngle);
+            values[i]      = counter / FACTOR;
+            angles[i]      = angle;
+            sinValues[i]   = Math.sin(radians);
+            cosValues[i]   = Math.cos(radians);
+        }
+        noOfTicks = NO_OF_TICKS;
+    }
+
+    private static TickMarkGeometry getPrepared(final Key KEY) {
+        synchronized (PREPARED) { return PREPARED.isEmpty() ? null : PREPARED.get(KEY); }
+    }
+
+    // Prepared geometries are never modified which makes it safe to use their buffers read only
+    private void share(final TickMarkGeometry GEOMETRY) {
+        kinds     = GEOMETRY.kinds;
+        values    = GEOMETRY.values;
+        angles    = GEOMETRY.angles;
+        sinValues = GEOMETRY.sinValues;
+        cosValues = GEOMETRY.cosValues;
+        labels    = GEOMETRY.labels;
+        noOfTicks = GEOMETRY.noOfTicks;
+        source    = GEOMETRY;
+    }
+
+    private void ensureCapacity(final int CAPACITY) {
+        if (null == source && kinds.length >= CAPACITY) return;
+        source    = null;
+        kinds     = new TickKind[CAPACITY];
+        values    = new double[CAPACITY];
+        angles    = new double[CAPACITY];
+        sinValues = new double[CAPACITY];
+        cosValues = new double[CAPACITY];
+        labels    = new String[CAPACITY];
+    }
+
+    private static int decimalsOf(final double VALUE) {
+        if (Double.isNaN(VALUE) || Double.isInfinite(VALUE)) return 0;
+        return Math.max(0, BigDecimal.valueOf(VALUE).stripTrailingZeros().scale());
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Key {
+        private final double         minValue;
+        private final double         maxValue;
+        private final double         minorTickSpace;
+        private final double         majorTickSpace;
+        private final double         startAngle;
+        private final double         angleRange;
+        private final double         angleStep;
+        private final ScaleDirection scaleDirection;
+
+
+        Key(final TickMarkGeometry GEOMETRY) {
+            minValue       = GEOMETRY.minValue;
+            maxValue       = GEOMETRY.maxValue;
+            minorTickSpace = GEOMETRY.minorTickSpace;
+            majorTickSpace = GEOMETRY.majorTickSpace;
+            startAngle     = GEOMETRY.startAngle;
+            angleRange     = GEOMETRY.angleRange;
+            angleStep      = GEOMETRY.angleStep;
+            scaleDirection = GEOMETRY.scaleDirection;
+        }
+
+
+        @Override public boolean equals(final Object OBJECT) {
+            if (this == OBJECT) return true;
+            if (!(OBJECT instanceof Key)) return false;
+            Key key = (Key) OBJECT;
+            return Double.compare(minValue, key.minValue) == 0 &&
+                   Double.compare(maxValue, key.maxValue) == 0 &&
+                   Double.compare(minorTickSpace, key.minorTickSpace) == 0 &&
+                   Double.compare(majorTickSpace, key.majorTickSpace) == 0 &&
+                   Double.compare(startAngle, key.startAngle) == 0 &&
+                   Double.compare(angleRange, key.angleRange) == 0 &&
+                   Double.compare(angleStep, key.angleStep) == 0 &&
+                   scaleDirection == key.scaleDirection;
+        }
+
+        @Override public int hashCode() {
+            int result = Double.hashCode(minValue);
+            result = 31 * result + Double.hashCode(maxValue);
+            result = 31 * result + Double.hashCode(minorTickSpace);
+            result = 31 * result + Double.hashCode(majorTickSpace);
+            result = 31 * result + Double.hashCode(startAngle);
+            result = 31 * result + Double.hashCode(angleRange);
+            result = 31 * result + Double.hashCode(angleStep);
+            result = 31 * result + Objects.hashCode(scaleDirection);
+            return result;
+        }
+    }
+}
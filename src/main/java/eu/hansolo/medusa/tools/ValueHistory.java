@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import java.time.Duration;
+
+
+/**
+ * Time series of values that is stored in two primitive ring buffers,
+ * one for the timestamps (epoch milliseconds) and one for the values.
+ * Appending a value is O(1) and does not allocate, if the capacity is
+ * reached the oldest entry will be overwritten.
+ * Entries are addressed by an index where 0 is the oldest entry that is
+ * still available and getSize() - 1 is the latest one. The forEach
+ * methods and the aggregates read directly from the buffers without
+ * copying them.
+ * The class is not thread safe, it should be written and read on the
+ * same thread (e.g. the JavaFX application thread for a Gauge).
+ */
+public class ValueHistory {
+    public  static final int      MAX_CAPACITY  = 1_000_000;
+    private static final long[]   NO_TIMESTAMPS = new long[0];
+    private static final double[] NO_VALUES     = new double[0];
+
+    @FunctionalInterface public interface Visitor {
+        void visit(long TIMESTAMP, double VALUE);
+    }
+
+    private long[]   timestamps;
+    private double[] values;
+    private int      capacity;
+    private int      head;
+    private int      size;
+    private long     modificationCount;
+
+
+    // ******************** Constructors **************************************
+    public ValueHistory(final int CAPACITY) {
+        capacity   = Helper.clamp(0, MAX_CAPACITY, CAPACITY);
+        timestamps = NO_TIMESTAMPS;
+        values     = NO_VALUES;
+    }
+
+
+    // ******************** Methods *******************************************
+    public void add(final double VALUE) { add(System.currentTimeMillis(), VALUE); }
+    public void add(final long TIMESTAMP, final double VALUE) {
+        if (0 == capacity) return;
+        if (values.length < capacity) { allocate(); }
+        int index = head + size;
+        if (index >= capacity) { index -= capacity; }
+        timestamps[index] = TIMESTAMP;
+        values[index]     = VALUE;
+        if (size < capacity) {
+            size++;
+        } else {
+            head = head + 1 == capacity ? 0 : head + 1;
+        }
+        modificationCount++;
+    }
+
+    public int getCapacity() { return capacity; }
+    /**
+     * Changes the capacity of the history. If the new capacity is smaller
+     * than the current size only the latest entries will be kept.
+     * @param CAPACITY
+     */
+    public void setCapacity(final int CAPACITY) {
+        final int NEW_CAPACITY = Helper.clamp(0, MAX_CAPACITY, CAPACITY);
+        if (NEW_CAPACITY == capacity) return;
+        final int      NEW_SIZE       = Math.min(size, NEW_CAPACITY);
+        final long[]   NEW_TIMESTAMPS = 0 == NEW_SIZE ? NO_TIMESTAMPS : new long[NEW_CAPACITY];
+        final double[] NEW_VALUES     = 0 == NEW_SIZE ? NO_VALUES : new double[NEW_CAPACITY];
+        final int      OFFSET         = size - NEW_SIZE;
+        for (int i = 0 ; i < NEW_SIZE ; i++) {
+            int index = physicalIndex(OFFSET + i);
+            NEW_TIMESTAMPS[i] = timestamps[index];
+            NEW_VALUES[i]     = values[index];
+        }
+        timestamps = NEW_TIMESTAMPS;
+        values     = NEW_VALUES;
+        capacity   = NEW_CAPACITY;
+        head       = 0;
+        size       = NEW_SIZE;
+        modificationCount++;
+    }
+    /**
+     * Increases the capacity of the history to the given capacity
+     * if it is smaller.
+     * @param CAPACITY
+     */
+    public void ensureCapacity(final int CAPACITY) { if (CAPACITY > capacity) { setCapacity(CAPACITY); } }
+
+    public int getSize() { return size; }
+
+    public boolean isEmpty() { return 0 == size; }
+
+    /**
+     * Returns the number of modifications of the history. The number will
+     * change with every append, clear and capacity change and can be used
+     * by readers to find out if the history has changed since their last call.
+     * @return the number of modifications of the history
+     */
+    public long getModificationCount() { return modificationCount; }
+
+    public long getTimestamp(final int INDEX) { return timestamps[physicalIndex(checkIndex(INDEX))]; }
+
+    public double getValue(final int INDEX) { return values[physicalIndex(checkIndex(INDEX))]; }
+
+    public long getLatestTimestamp() { return getTimestamp(size - 1); }
+
+    public double getLatestValue() { return getValue(size - 1); }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        modificationCount++;
+    }
+
+    /**
+     * Calls the given visitor for every entry from the oldest to the latest.
+     * @param VISITOR
+     */
+    public void forEach(final Visitor VISITOR) { forEachLast(size, VISITOR); }
+    /**
+     * Calls the given visitor for the latest COUNT entries from the oldest
+     * to the latest.
+     * @param COUNT
+     * @param VISITOR
+     */
+    public void forEachLast(final int COUNT, final Visitor VISITOR) {
+        final int N = Helper.clamp(0, size, COUNT);
+        int index = physicalIndex(size - N);
+        for (int i = 0 ; i < N ; i++) {
+            VISITOR.visit(timestamps[index], values[index]);
+            if (++index == capacity) { index = 0; }
+        }
+    }
+    /**
+     * Calls the given visitor for all entries with a timestamp that is not
+     * older than the given duration (relative to the current time) from the
+     * oldest to the latest.
+     * @param DURATION
+     * @param VISITOR
+     */
+    public void forEachWithin(final Duration DURATION, final Visitor VISITOR) { forEachLast(countSince(System.currentTimeMillis() - DURATION.toMillis()), VISITOR); }
+
+    /**
+     * Returns the number of entries with a timestamp that is equal or
+     * later than the given epoch millis. Timestamps are expected to be
+     * added in ascending order, so a binary search is used.
+     * @param EPOCH_MILLIS
+     * @return the number of entries since the given epoch millis
+     */
+    public int countSince(final long EPOCH_MILLIS) {
+        int low  = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[physicalIndex(mid)] < EPOCH_MILLIS) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return size - low;
+    }
+
+    public double getSum(final int COUNT) {
+        final int N = Helper.clamp(0, size, COUNT);
+        double sum = 0;
+        int index = physicalIndex(size - N);
+        for (int i = 0 ; i < N ; i++) {
+            sum += values[index];
+            if (++index == capacity) { index = 0; }
+        }
+        return sum;
+    }
+
+    public double getAverage(final int COUNT) {
+        final int N = Helper.clamp(0, size, COUNT);
+        return 0 == N ? 0 : getSum(N) / N;
+    }
+    public double getAverageWithin(final Duration DURATION) {
+        return getAverage(countSince(System.currentTimeMillis() - DURATION.toMillis()));
+    }
+
+    public double getMin(final int COUNT) {
+        final int N = Helper.clamp(0, size, COUNT);
+        if (0 == N) return 0;
+        double min = Double.MAX_VALUE;
+        int index = physicalIndex(size - N);
+        for (int i = 0 ; i < N ; i++) {
+            if (values[index] < min) { min = values[index]; }
+            if (++index == capacity) { index = 0; }
+        }
+        return min;
+    }
+
+    public double getMax(final int COUNT) {
+        final int N = Helper.clamp(0, size, COUNT);
+        if (0 == N) return 0;
+        double max = -Double.MAX_VALUE;
+        int index = physicalIndex(size - N);
+        for (int i = 0 ; i < N ; i++) {
+            if (values[index] > max) { max = values[index]; }
+            if (++index == capacity) { index = 0; }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the population standard deviation of the latest COUNT values.
+     * @param COUNT
+     * @return the standard deviation of the latest COUNT values
+     */
+    public double getStdDev(final int COUNT) {
+        final int N = Helper.clamp(0, size, COUNT);
+        if (0 == N) return 0;
+        final double MEAN = getSum(N) / N;
+        double temp  = 0;
+        int    index = physicalIndex(size - N);
+        for (int i = 0 ; i < N ; i++) {
+            double delta = values[index] - MEAN;
+            temp += delta * delta;
+            if (++index == capacity) { index = 0; }
+        }
+        return Math.sqrt(temp / N);
+    }
+
+    private void allocate() {
+        timestamps = new long[capacity];
+        values     = new double[capacity];
+        head       = 0;
+        size       = 0;
+    }
+
+    private int checkIndex(final int INDEX) {
+        if (INDEX < 0 || INDEX >= size) { throw new IndexOutOfBoundsException("Index: " + INDEX + ", Size: " + size); }
+        return INDEX;
+    }
+
+    private int physicalIndex(final int INDEX) {
+        int index = head + INDEX;
+        return index >= capacity ? index - capacity : index;
+    }
+}
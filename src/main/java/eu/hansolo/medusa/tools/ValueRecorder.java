@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ObservableDoubleValue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Records the values of gauges into an append only binary log.
+ * Every record has a fixed size of 20 bytes (int gauge id, long epoch
+ * millis, double value) and is written to a memory mapped segment file.
+ * If a segment is full a new one will be started, segments that only
+ * contain records older than the retention period will be deleted.
+ * Values are handed over from the calling thread (usually the JavaFX
+ * application thread) to one background writer thread via a bounded
+ * lock free queue, so recording never blocks on I/O. If the queue is full
+ * the record will be dropped and counted.
+ * With the default settings 500 gauges at 10 Hz need ~100 kB/s which
+ * results in ~8.6 GB (~135 segments) for 24 hours.
+ */
+public class ValueRecorder implements Closeable {
+    public  static final int      MAGIC                  = 0x4D445652; // MDVR
+    public  static final int      VERSION                = 1;
+    public  static final int      HEADER_SIZE            = 32;
+    public  static final int      RECORD_SIZE            = 20;
+    public  static final long     DEFAULT_SEGMENT_SIZE   = 64L * 1024 * 1024;
+    public  static final Duration DEFAULT_RETENTION      = Duration.ofHours(24);
+    public  static final int      DEFAULT_QUEUE_CAPACITY = 65_536;
+    private static final String   THREAD_NAME            = "MedusaValueRecorder";
+    private static final String   SEGMENT_PREFIX         = "values-";
+    private static final String   SEGMENT_SUFFIX         = ".rec";
+    private static final int      COUNT_OFFSET           = 16;
+    private static final long     IDLE_PARK_NANOS        = 1_000_000;
+
+    @FunctionalInterface public interface RecordVisitor {
+        void visit(int ID, long TIMESTAMP, double VALUE);
+    }
+
+    private final    Path                             directory;
+    private final    long                             segmentSize;
+    private final    Duration                         retention;
+    private final    RecordQueue                      queue;
+    private final    Map<Gauge, InvalidationListener> listeners;
+    private final    AtomicLong                       noOfDroppedRecords;
+    private volatile long                             noOfWrittenRecords;
+    private volatile boolean                          running;
+    private volatile IOException                      lastError;
+    private          Thread                           writer;
+    private          MappedByteBuffer                 segment;
+    private          long                             segmentRecords;
+
+
+    // ******************** Constructors **************************************
+    public ValueRecorder(final Path DIRECTORY) {
+        this(DIRECTORY, DEFAULT_SEGMENT_SIZE, DEFAULT_RETENTION, DEFAULT_QUEUE_CAPACITY);
+    }
+    public ValueRecorder(final Path DIRECTORY, final long SEGMENT_SIZE, final Duration RETENTION, final int QUEUE_CAPACITY) {
+        if (SEGMENT_SIZE < HEADER_SIZE + RECORD_SIZE || SEGMENT_SIZE > Integer.MAX_VALUE) { throw new IllegalArgumentException("Segment size out of range: " + SEGMENT_SIZE); }
+        directory          = DIRECTORY;
+        segmentSize        = HEADER_SIZE + (SEGMENT_SIZE - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+        retention          = RETENTION;
+        queue              = new RecordQueue(QUEUE_CAPACITY);
+        listeners          = new WeakHashMap<>();
+        noOfDroppedRecords = new AtomicLong();
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Creates the directory if needed and starts the writer thread.
+     * @throws IOException if the directory could not be created
+     */
+    public synchronized void start() throws IOException {
+        if (running) return;
+        Files.createDirectories(directory);
+        running = true;
+        writer  = Helper.getThreadFactory(THREAD_NAME, true).newThread(this::write);
+        writer.start();
+    }
+
+    /**
+     * Stops recording, writes all queued records and waits for the
+     * writer thread to finish.
+     */
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    @Override public void close() {
+        removeAllGauges();
+        stop();
+    }
+
+    public boolean isRunning() { return running; }
+
+    /**
+     * Records every value change of the given gauge with the given id.
+     * The recorder only keeps a weak reference to the gauge, the listener
+     * must not capture the gauge because it is the value of a WeakHashMap
+     * entry whose key is the gauge.
+     * @param GAUGE
+     * @param ID
+     */
+    public synchronized void addGauge(final Gauge GAUGE, final int ID) {
+        removeGauge(GAUGE);
+        InvalidationListener listener = o -> record(ID, ((ObservableDoubleValue) o).get());
+        listeners.put(GAUGE, listener);
+        GAUGE.valueProperty().addListener(listener);
+    }
+    public synchronized void removeGauge(final Gauge GAUGE) {
+        InvalidationListener listener = listeners.remove(GAUGE);
+        if (null != listener) { GAUGE.valueProperty().removeListener(listener); }
+    }
+    public synchronized void removeAllGauges() {
+        for (Gauge gauge : new ArrayList<>(listeners.keySet())) { removeGauge(gauge); }
+    }
+
+    /**
+     * Returns the number of gauges that are recorded and have not been
+     * garbage collected yet.
+     * @return the number of recorded gauges
+     */
+    public synchronized int getNoOfGauges() { return listeners.size(); }
+
+    public boolean record(final int ID, final double VALUE) { return record(ID, System.currentTimeMillis(), VALUE); }
+    /**
+     * Hands the given record over to the writer thread. This method never
+     * blocks and can be called from any thread.
+     * @return false if the recorder is not running or the queue was full and the record has been dropped
+     */
+    public boolean record(final int ID, final long TIMESTAMP, final double VALUE) {
+        if (running && queue.offer(ID, TIMESTAMP, VALUE)) return true;
+        noOfDroppedRecords.incrementAndGet();
+        return false;
+    }
+
+    public long getNoOfWrittenRecords() { return noOfWrittenRecords; }
+
+    public long getNoOfDroppedRecords() { return noOfDroppedRecords.get(); }
+
+    /**
+     * Returns the last I/O error of the writer thread or null.
+     * @return the last I/O error of the writer thread or null
+     */
+    public IOException getLastError() { return lastError; }
+
+    public Path getDirectory() { return directory; }
+
+    /**
+     * Calls the given visitor for all records in all segments of the given
+     * directory in the order they have been written.
+     * @param DIRECTORY
+     * @param VISITOR
+     * @throws IOException
+     */
+    public static void read(final Path DIRECTORY, final RecordVisitor VISITOR) throws IOException {
+        for (Path file : getSegments(DIRECTORY)) { readSegment(file, VISITOR); }
+    }
+    /**
+     * Calls the given visitor for all records in the given segment file.
+     * @param FILE
+     * @param VISITOR
+     * @throws IOException
+     */
+    public static void readSegment(final Path FILE, final RecordVisitor VISITOR) throws IOException {
+        final MappedByteBuffer BUFFER = mapSegment(FILE);
+        final int              COUNT  = getNoOfRecords(BUFFER);
+        int position = HEADER_SIZE;
+        for (int i = 0 ; i < COUNT ; i++) {
+            VISITOR.visit(BUFFER.getInt(position), BUFFER.getLong(position + 4), BUFFER.getDouble(position + 12));
+            position += RECORD_SIZE;
+        }
+    }
+
+    /**
+     * Maps the given segment file read only and checks its header.
+     */
+    static MappedByteBuffer mapSegment(final Path FILE) throws IOException {
+        try (FileChannel channel = FileChannel.open(FILE, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) { throw new IOException("Not a value recorder segment: " + FILE); }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) { throw new IOException("Not a value recorder segment: " + FILE); }
+            return buffer;
+        }
+    }
+
+    /**
+     * Returns the number of valid records in the given mapped segment.
+     */
+    static int getNoOfRecords(final MappedByteBuffer BUFFER) {
+        return (int) Math.max(0, Math.min(BUFFER.getLong(COUNT_OFFSET), (BUFFER.capacity() - HEADER_SIZE) / RECORD_SIZE));
+    }
+
+    /**
+     * Returns the segment files of the given directory sorted from the
+     * oldest to the latest.
+     * @param DIRECTORY
+     * @return the segment files of the given directory
+     * @throws IOException
+     */
+    public static List<Path> getSegments(final Path DIRECTORY) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(DIRECTORY)) return segments;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(DIRECTORY, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : stream) { segments.add(file); }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    private void write() {
+        while (running || !queue.isEmpty()) {
+            long    count = 0;
+            boolean taken = false;
+            try {
+                while (queue.poll()) {
+                    taken = true;
+                    if (null == segment || segmentRecords * RECORD_SIZE + HEADER_SIZE >= segmentSize) { rotate(); }
+                    segment.putInt(queue.id).putLong(queue.timestamp).putDouble(queue.value);
+                    taken = false;
+                    segmentRecords++;
+                    count++;
+                    // Publish the number of records from time to time and whenever the segment is full
+                    if ((count & 0xFFF) == 0 || segmentRecords * RECORD_SIZE + HEADER_SIZE >= segmentSize) { segment.putLong(COUNT_OFFSET, segmentRecords); }
+                }
+            } catch (IOException e) {
+                lastError = e;
+                segment   = null;
+                // The record that has been taken from the queue could not be written
+                if (taken) { noOfDroppedRecords.incrementAndGet(); }
+            }
+            if (count > 0) {
+                if (null != segment) { segment.putLong(COUNT_OFFSET, segmentRecords); }
+                noOfWrittenRecords += count;
+            } else if (running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        if (null != segment) {
+            segment.putLong(COUNT_OFFSET, segmentRecords);
+            segment.force();
+            segment = null;
+        }
+    }
+
+    private void rotate() throws IOException {
+        if (null != segment) {
+            segment.putLong(COUNT_OFFSET, segmentRecords);
+            segment.force();
+        }
+        // Segments are named by their creation time which is used for the retention
+        final long NOW = System.currentTimeMillis();
+        Path file;
+        int  sequence = 0;
+        do {
+            file = directory.resolve(String.format("%s%013d-%04d%s", SEGMENT_PREFIX, NOW, sequence++, SEGMENT_SUFFIX));
+        } while (Files.exists(file));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel has been closed
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        segment.putInt(MAGIC).putInt(VERSION).putLong(NOW).putLong(0).putLong(0);
+        segmentRecords = 0;
+        deleteExpiredSegments();
+    }
+
+    private void deleteExpiredSegments() {
+        final long CUTOFF = System.currentTimeMillis() - retention.toMillis();
+        try {
+            List<Path> segments = getSegments(directory);
+            // A segment expires when the following segment has been started before the cutoff
+            for (int i = 0 ; i < segments.size() - 1 ; i++) {
+                if (getStartMillis(segments.get(i + 1)) >= CUTOFF) break;
+                try {
+                    Files.deleteIfExists(segments.get(i));
+                } catch (IOException e) {
+                    // The segment might still be mapped, it will be deleted on the next rotation
+                }
+            }
+        } catch (IOException e) {
+            lastError = e;
+        }
+    }
+
+    private static long getStartMillis(final Path SEGMENT) {
+        String name = SEGMENT.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), SEGMENT_PREFIX.length() + 13));
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Bounded multi producer / single consumer queue that stores the
+     * records in primitive arrays. Every slot has a sequence number that
+     * tells producers and the consumer whether the slot is free or filled.
+     */
+    private static final class RecordQueue {
+        private final int             mask;
+        private final int[]           ids;
+        private final long[]          timestamps;
+        private final double[]        values;
+        private final AtomicLongArray sequences;
+        private final AtomicLong      tail;
+        private       long            head;
+        // The record of the last successful poll()
+        private       int             id;
+        private       long            timestamp;
+        private       double          value;
+
+
+        // ******************** Constructors **********************************
+        private RecordQueue(final int CAPACITY) {
+            int capacity = Integer.highestOneBit(Helper.clamp(2, 1 << 28, CAPACITY) * 2 - 1);
+            mask       = capacity - 1;
+            ids        = new int[capacity];
+            timestamps = new long[capacity];
+            values     = new double[capacity];
+            sequences  = new AtomicLongArray(capacity);
+            tail       = new AtomicLong();
+            for (int i = 0 ; i < capacity ; i++) { sequences.set(i, i); }
+        }
+
+
+        // ******************** Methods ***************************************
+        private boolean offer(final int ID, final long TIMESTAMP, final double VALUE) {
+            long position;
+            int  index;
+            while (true) {
+                position = tail.get();
+                index    = (int) (position & mask);
+                long difference = sequences.get(index) - position;
+                if (difference == 0) {
+                    if (tail.compareAndSet(position, position + 1)) break;
+                } else if (difference < 0) {
+                    return false; // full
+                }
+            }
+            ids[index]        = ID;
+            timestamps[index] = TIMESTAMP;
+            values[index]     = VALUE;
+            sequences.lazySet(index, position + 1);
+            return true;
+        }
+
+        private boolean poll() {
+            final int INDEX = (int) (head & mask);
+            if (sequences.get(INDEX) != head + 1) return false;
+            id        = ids[INDEX];
+            timestamp = timestamps[INDEX];
+            value     = values[INDEX];
+            sequences.lazySet(INDEX, head + mask + 1);
+            head++;
+            return true;
+        }
+
+        private boolean isEmpty() { return sequences.get((int) (head & mask)) != head + 1; }
+    }
+}
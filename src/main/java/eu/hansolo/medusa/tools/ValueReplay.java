@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import javafx.animation.AnimationTimer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Replays values that have been recorded by a ValueRecorder into gauges.
+ * The replay runs on the JavaFX application thread and is driven by the
+ * pulse: on every pulse the replay clock is advanced by the elapsed time
+ * multiplied with the speed and all records up to the replay clock are
+ * read from the mapped segments. Only the latest value per gauge will be
+ * applied, so a gauge gets at most one setValue() call per pulse no
+ * matter how fast the replay runs.
+ * The original timestamps are honored at every speed except
+ * AS_FAST_AS_POSSIBLE, which replays a fixed number of records per pulse.
+ * A sparse time index (one entry every INDEX_STRIDE records) is built
+ * when the replay is created and will be used for seeking.
+ * Gauges that replay at high speed should not be animated.
+ */
+public class ValueReplay {
+    public  static final double AS_FAST_AS_POSSIBLE   = Double.POSITIVE_INFINITY;
+    public  static final int    MAX_GAUGE_ID          = 65_535;
+    private static final int    INDEX_STRIDE          = 4096;
+    private static final int    MAX_RECORDS_PER_PULSE = 100_000;
+
+    private final List<MappedByteBuffer> segments;
+    private final int[]                  noOfRecords;
+    private       long[]                 indexTimestamps;
+    private       int[]                  indexSegments;
+    private       int[]                  indexRecords;
+    private       int                    indexSize;
+    private       long                   startTime;
+    private       long                   endTime;
+    private       Slot[]                 slots;
+    private final List<Slot>             dirtySlots;
+    private final AnimationTimer         timer;
+    private       double                 speed;
+    private       double                 replayTime;
+    private       long                   lastPulse;
+    private       int                    segment;
+    private       int                    record;
+    private       boolean                playing;
+    private       Runnable               onFinished;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Maps all segments of the given recorder directory and builds the time index.
+     * @param DIRECTORY
+     * @throws IOException
+     */
+    public ValueReplay(final Path DIRECTORY) throws IOException {
+        segments        = new ArrayList<>();
+        for (Path file : ValueRecorder.getSegments(DIRECTORY)) {
+            MappedByteBuffer buffer = ValueRecorder.mapSegment(file);
+            if (ValueRecorder.getNoOfRecords(buffer) > 0) { segments.add(buffer); }
+        }
+        noOfRecords     = new int[segments.size()];
+        indexTimestamps = new long[16];
+        indexSegments   = new int[16];
+        indexRecords    = new int[16];
+        slots           = new Slot[0];
+        dirtySlots      = new ArrayList<>();
+        speed           = 1;
+        timer           = new AnimationTimer() {
+            @Override public void handle(final long NOW) { pulse(NOW); }
+        };
+        buildIndex();
+        seek(startTime);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Replays the records with the given id into the given gauge.
+     * @param ID the id that was used to record the values (0 - MAX_GAUGE_ID)
+     * @param GAUGE
+     */
+    public void addGauge(final int ID, final Gauge GAUGE) {
+        if (ID < 0 || ID > MAX_GAUGE_ID) { throw new IllegalArgumentException("Id must be in the range of 0 - " + MAX_GAUGE_ID); }
+        if (ID >= slots.length) { slots = Arrays.copyOf(slots, Math.min(MAX_GAUGE_ID + 1, Math.max(ID + 1, slots.length * 2))); }
+        slots[ID] = null == GAUGE ? null : new Slot(GAUGE);
+    }
+    public void removeGauge(final int ID) { if (ID >= 0 && ID < slots.length) { addGauge(ID, null); } }
+
+    public void play() {
+        if (playing || isFinished()) return;
+        playing   = true;
+        lastPulse = 0;
+        timer.start();
+    }
+
+    public void pause() {
+        if (!playing) return;
+        playing = false;
+        timer.stop();
+    }
+
+    public void stop() {
+        pause();
+        seek(startTime);
+    }
+
+    public boolean isPlaying() { return playing; }
+
+    public boolean isFinished() { return segment >= segments.size(); }
+
+    /**
+     * Returns the speed of the replay where 1 is real time.
+     * @return the speed of the replay
+     */
+    public double getSpeed() { return speed; }
+    /**
+     * Defines the speed of the replay where 1 is real time, 10 is ten
+     * times faster than real time and AS_FAST_AS_POSSIBLE replays a fixed
+     * number of records per pulse without taking the timestamps into account.
+     * @param SPEED
+     */
+    public void setSpeed(final double SPEED) {
+        if (Double.isNaN(SPEED) || SPEED <= 0) { throw new IllegalArgumentException("Speed must be larger than 0"); }
+        speed = SPEED;
+    }
+
+    public long getStartTime() { return startTime; }
+
+    public long getEndTime() { return endTime; }
+
+    /**
+     * Returns the current position of the replay in epoch milliseconds.
+     * @return the current position of the replay in epoch milliseconds
+     */
+    public long getReplayTime() { return (long) replayTime; }
+
+    /**
+     * Moves the replay to the first record with a timestamp that is equal
+     * or later than the given epoch milliseconds.
+     * @param EPOCH_MILLIS
+     */
+    public void seek(final long EPOCH_MILLIS) {
+        // Find the last index entry before the given time and scan from there
+        int low   = 0;
+        int high  = indexSize - 1;
+        int entry = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (indexTimestamps[mid] < EPOCH_MILLIS) {
+                entry = mid;
+                low   = mid + 1;
+            } else {
+                high  = mid - 1;
+            }
+        }
+        if (0 == indexSize) {
+            segment = 0;
+            record  = 0;
+        } else {
+            segment = indexSegments[entry];
+            record  = indexRecords[entry];
+            while (!isFinished() && getTimestamp() < EPOCH_MILLIS) { next(); }
+        }
+        replayTime = Math.max(EPOCH_MILLIS, startTime);
+        lastPulse  = 0;
+    }
+
+    public void setOnFinished(final Runnable ON_FINISHED) { onFinished = ON_FINISHED; }
+
+    private void pulse(final long NOW) {
+        final long ELAPSED = 0 == lastPulse ? 0 : NOW - lastPulse;
+        lastPulse = NOW;
+
+        final boolean UNLIMITED = Double.isInfinite(speed);
+        final long    TARGET;
+        if (UNLIMITED) {
+            TARGET = Long.MAX_VALUE;
+        } else {
+            replayTime += ELAPSED / 1_000_000.0 * speed;
+            TARGET      = (long) replayTime;
+        }
+
+        // Collect the latest value per gauge
+        int count = 0;
+        while (!isFinished() && count < MAX_RECORDS_PER_PULSE) {
+            final MappedByteBuffer BUFFER    = segments.get(segment);
+            final int              POSITION  = ValueRecorder.HEADER_SIZE + record * ValueRecorder.RECORD_SIZE;
+            final long             TIMESTAMP = BUFFER.getLong(POSITION + 4);
+            if (TIMESTAMP > TARGET) break;
+            final int ID = BUFFER.getInt(POSITION);
+            if (ID >= 0 && ID < slots.length && null != slots[ID]) {
+                Slot slot = slots[ID];
+                slot.value = BUFFER.getDouble(POSITION + 12);
+                if (!slot.dirty) {
+                    slot.dirty = true;
+                    dirtySlots.add(slot);
+                }
+            }
+            if (UNLIMITED) { replayTime = TIMESTAMP; }
+            next();
+            count++;
+        }
+
+        // Apply them once per pulse
+        for (Slot slot : dirtySlots) {
+            slot.dirty = false;
+            slot.gauge.setValue(slot.value);
+        }
+        dirtySlots.clear();
+
+        if (isFinished()) {
+            pause();
+            if (null != onFinished) { onFinished.run(); }
+        }
+    }
+
+    private long getTimestamp() { return segments.get(segment).getLong(ValueRecorder.HEADER_SIZE + record * ValueRecorder.RECORD_SIZE + 4); }
+
+    private void next() {
+        if (++record >= noOfRecords[segment]) {
+            segment++;
+            record = 0;
+        }
+    }
+
+    private void buildIndex() {
+        startTime = Long.MAX_VALUE;
+        endTime   = Long.MIN_VALUE;
+        long maxTimestamp = Long.MIN_VALUE;
+        for (int s = 0 ; s < segments.size() ; s++) {
+            final MappedByteBuffer BUFFER = segments.get(s);
+            noOfRecords[s] = ValueRecorder.getNoOfRecords(BUFFER);
+            for (int r = 0 ; r < noOfRecords[s] ; r += INDEX_STRIDE) {
+                // Records of different threads might be slightly out of order, the index has to be monotonic
+                maxTimestamp = Math.max(maxTimestamp, BUFFER.getLong(ValueRecorder.HEADER_SIZE + r * ValueRecorder.RECORD_SIZE + 4));
+                addIndexEntry(maxTimestamp, s, r);
+            }
+            startTime = Math.min(startTime, BUFFER.getLong(ValueRecorder.HEADER_SIZE + 4));
+            endTime   = Math.max(endTime, BUFFER.getLong(ValueRecorder.HEADER_SIZE + (noOfRecords[s] - 1) * ValueRecorder.RECORD_SIZE + 4));
+        }
+        if (segments.isEmpty()) {
+            startTime = 0;
+            endTime   = 0;
+        }
+    }
+
+    private void addIndexEntry(final long TIMESTAMP, final int SEGMENT, final int RECORD) {
+        if (indexSize == indexTimestamps.length) {
+            indexTimestamps = Arrays.copyOf(indexTimestamps, indexSize * 2);
+            indexSegments   = Arrays.copyOf(indexSegments, indexSize * 2);
+            indexRecords    = Arrays.copyOf(indexRecords, indexSize * 2);
+        }
+        indexTimestamps[indexSize] = TIMESTAMP;
+        indexSegments[indexSize]   = SEGMENT;
+        indexRecords[indexSize]    = RECORD;
+        indexSize++;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Slot {
+        private final Gauge   gauge;
+        private       double  value;
+        private       boolean dirty;
+
+
+        // ******************** Constructors **********************************
+        private Slot(final Gauge GAUGE) { gauge = GAUGE; }
+    }
+}
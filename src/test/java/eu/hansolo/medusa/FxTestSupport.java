@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import com.sun.javafx.application.PlatformImpl;
+import javafx.application.Platform;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+
+/**
+ * Starts the JavaFX toolkit once for all tests and runs code on the
+ * JavaFX application thread.
+ */
+public final class FxTestSupport {
+    private static boolean started;
+
+
+    // ******************** Constructors **************************************
+    private FxTestSupport() {}
+
+
+    // ******************** Methods *******************************************
+    public static synchronized void startToolkit() throws InterruptedException {
+        if (started) return;
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            PlatformImpl.startup(latch::countDown);
+        } catch (IllegalStateException e) {
+            // Toolkit was already started by someone else
+            latch.countDown();
+        }
+        if (!latch.await(10, TimeUnit.SECONDS)) { throw new IllegalStateException("JavaFX toolkit did not start"); }
+        Platform.setImplicitExit(false);
+        started = true;
+    }
+
+    /**
+     * Runs the given code on the JavaFX application thread, waits for it
+     * and rethrows anything it has thrown.
+     */
+    public static void runAndWait(final Runnable RUNNABLE) throws InterruptedException {
+        if (Platform.isFxApplicationThread()) {
+            RUNNABLE.run();
+            return;
+        }
+        CountDownLatch             latch = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                RUNNABLE.run();
+            } catch (Throwable t) {
+                error.set(t);
+            } finally {
+                latch.countDown();
+            }
+        });
+        if (!latch.await(60, TimeUnit.SECONDS)) { throw new IllegalStateException("Timeout on the JavaFX application thread"); }
+        Throwable t = error.get();
+        if (t instanceof RuntimeException) { throw (RuntimeException) t; }
+        if (t instanceof Error)            { throw (Error) t; }
+    }
+
+    /**
+     * Requests garbage collections until the given condition is met or
+     * about 5 seconds have passed.
+     * @return true if the condition was met
+     */
+    public static boolean collectGarbageUntil(final BooleanSupplier CONDITION) throws InterruptedException {
+        for (int i = 0 ; i < 50 ; i++) {
+            if (CONDITION.getAsBoolean()) return true;
+            System.gc();
+            System.runFinalization();
+            Thread.sleep(100);
+        }
+        return CONDITION.getAsBoolean();
+    }
+}
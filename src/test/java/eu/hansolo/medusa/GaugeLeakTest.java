@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Gauge.SkinType;
+import javafx.scene.Scene;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Creates, shows and drops gauges that share their sections and their
+ * model and checks that all of them can be garbage collected.
+ */
+public class GaugeLeakTest {
+    private static final int      NO_OF_GAUGES = 10_000;
+    private static final int      BATCH_SIZE   = 500;
+    private static       Stage    stage;
+    private static       FlowPane pane;
+
+
+    // ******************** Setup *********************************************
+    @BeforeClass public static void setup() throws InterruptedException {
+        FxTestSupport.startToolkit();
+        FxTestSupport.runAndWait(() -> {
+            pane  = new FlowPane();
+            stage = new Stage();
+            stage.setScene(new Scene(pane, 800, 600));
+            stage.show();
+        });
+    }
+
+    @AfterClass public static void tearDown() throws InterruptedException {
+        FxTestSupport.runAndWait(() -> stage.close());
+    }
+
+
+    // ******************** Tests *********************************************
+    @Test public void droppedGaugesAreCollected() throws InterruptedException {
+        final List<Section>              sections   = Arrays.asList(new Section(0, 30, Color.GREEN), new Section(30, 70, Color.YELLOW), new Section(70, 100, Color.RED));
+        final GaugeModel                 model      = new GaugeModel(0, 100);
+        final SkinType[]                 skinTypes  = SkinType.values();
+        final List<WeakReference<Gauge>> references = new ArrayList<>(NO_OF_GAUGES);
+
+        for (int created = 0 ; created < NO_OF_GAUGES ; created += BATCH_SIZE) {
+            final int OFFSET = created;
+            FxTestSupport.runAndWait(() -> {
+                List<Gauge> batch = new ArrayList<>(BATCH_SIZE);
+                for (int i = 0 ; i < BATCH_SIZE ; i++) {
+                    Gauge gauge = new Gauge(skinTypes[(OFFSET + i) % skinTypes.length]);
+                    gauge.setPrefSize(50, 50);
+                    gauge.setSections(sections);
+                    gauge.setModel(model);
+                    gauge.setLedBlinking(i % 10 == 0);
+                    batch.add(gauge);
+                    references.add(new WeakReference<>(gauge));
+                }
+                pane.getChildren().setAll(batch);
+                pane.applyCss();
+                pane.layout();
+            });
+            model.setValue(OFFSET % 100);
+        }
+        FxTestSupport.runAndWait(() -> pane.getChildren().clear());
+
+        boolean collected = FxTestSupport.collectGarbageUntil(() -> references.stream().allMatch(reference -> null == reference.get()));
+        long    alive     = references.stream().filter(reference -> null != reference.get()).count();
+        assertTrue(alive + " of " + NO_OF_GAUGES + " gauges are still reachable", collected);
+
+        // The shared objects stay in use and must not have kept the gauges alive
+        model.setValue(50);
+        assertEquals(3, sections.size());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.events.ModelEvent.EventType;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Drives a GaugeModel and a non animated Gauge with the same sequences of
+ * range, threshold and value changes and checks that both end up in the
+ * same state after every step.
+ */
+public class GaugeModelTest {
+    private static final double   DELTA     = 1e-9;
+    private static final String[] RANGES    = { "threshold=80", "value=50", "max=60", "max=100", "min=90", "min=0", "threshold=150", "max=120",
+                                                "max=50", "max=200", "threshold=-10", "min=-50", "min=10", "min=-100", "max=-200", "max=300" };
+    private static final String[] VALUES    = { "check=1", "threshold=40", "value=10", "value=50", "value=30", "value=45", "value=45", "value=39",
+                                                "max=35", "value=20", "max=100", "value=80", "min=60", "value=70", "min=0", "value=5", "reset=0",
+                                                "value=-20", "value=120", "value=95" };
+    private static final String[] AVERAGING = { "averaging=1", "period=5", "value=10", "value=20", "value=30", "value=40", "value=50",
+                                                "value=60", "value=70", "period=3", "value=10", "value=5", "value=90", "value=42" };
+
+
+    // ******************** Setup *********************************************
+    @BeforeClass public static void setup() throws InterruptedException {
+        FxTestSupport.startToolkit();
+    }
+
+
+    // ******************** Tests *********************************************
+    @Test public void rangeAndThresholdChangesHaveTheSameResult() throws InterruptedException { run(RANGES); }
+
+    @Test public void valueChangesHaveTheSameResult() throws InterruptedException { run(VALUES); }
+
+    @Test public void averagingHasTheSameResult() throws InterruptedException { run(AVERAGING); }
+
+
+    // ******************** Methods *******************************************
+    private static void run(final String[] STEPS) throws InterruptedException {
+        FxTestSupport.runAndWait(() -> {
+            final AtomicInteger gaugeExceeded = new AtomicInteger();
+            final AtomicInteger gaugeUnderrun = new AtomicInteger();
+            final AtomicInteger modelExceeded = new AtomicInteger();
+            final AtomicInteger modelUnderrun = new AtomicInteger();
+            final Gauge         gauge         = new Gauge();
+            final GaugeModel    model         = new GaugeModel(0, 100);
+            gauge.setAnimated(false);
+            gauge.setOnThresholdExceeded(e -> gaugeExceeded.incrementAndGet());
+            gauge.setOnThresholdUnderrun(e -> gaugeUnderrun.incrementAndGet());
+            model.addModelEventListener(e -> {
+                if (EventType.THRESHOLD_EXCEEDED == e.eventType) { modelExceeded.incrementAndGet(); }
+                if (EventType.THRESHOLD_UNDERRUN == e.eventType) { modelUnderrun.incrementAndGet(); }
+            });
+
+            assertState("initial", gauge, model);
+            for (String step : STEPS) {
+                apply(step, gauge, model);
+                assertState(step, gauge, model);
+                assertEquals(step + ": thresholdExceeded", gaugeExceeded.get(), modelExceeded.get());
+                assertEquals(step + ": thresholdUnderrun", gaugeUnderrun.get(), modelUnderrun.get());
+            }
+        });
+    }
+
+    private static void apply(final String STEP, final Gauge GAUGE, final GaugeModel MODEL) {
+        final String[] PARTS = STEP.split("=");
+        final double   VALUE = Double.parseDouble(PARTS[1]);
+        switch(PARTS[0]) {
+            case "value"    : GAUGE.setValue(VALUE); MODEL.setValue(VALUE); break;
+            case "min"      : GAUGE.setMinValue(VALUE); MODEL.setMinValue(VALUE); break;
+            case "max"      : GAUGE.setMaxValue(VALUE); MODEL.setMaxValue(VALUE); break;
+            case "threshold": GAUGE.setThreshold(VALUE); MODEL.setThreshold(VALUE); break;
+            case "check"    : GAUGE.setCheckThreshold(VALUE > 0); MODEL.setCheckThreshold(VALUE > 0); break;
+            case "averaging": GAUGE.setAveragingEnabled(VALUE > 0); MODEL.setAveragingEnabled(VALUE > 0); break;
+            case "period"   : GAUGE.setAveragingPeriod((int) VALUE); MODEL.setAveragingPeriod((int) VALUE); break;
+            case "reset"    : GAUGE.resetMeasuredValues(); MODEL.resetMeasuredValues(); break;
+            default         : throw new IllegalArgumentException("Unknown step " + STEP);
+        }
+    }
+
+    private static void assertState(final String STEP, final Gauge GAUGE, final GaugeModel MODEL) {
+        assertEquals(STEP + ": minValue", GAUGE.getMinValue(), MODEL.getMinValue(), DELTA);
+        assertEquals(STEP + ": maxValue", GAUGE.getMaxValue(), MODEL.getMaxValue(), DELTA);
+        assertEquals(STEP + ": range", GAUGE.getRange(), MODEL.getRange(), DELTA);
+        assertEquals(STEP + ": threshold", GAUGE.getThreshold(), MODEL.getThreshold(), DELTA);
+        assertEquals(STEP + ": value", GAUGE.getValue(), MODEL.getValue(), DELTA);
+        assertEquals(STEP + ": oldValue", GAUGE.getOldValue(), MODEL.getOldValue(), DELTA);
+        assertEquals(STEP + ": minMeasuredValue", GAUGE.getMinMeasuredValue(), MODEL.getMinMeasuredValue(), DELTA);
+        assertEquals(STEP + ": maxMeasuredValue", GAUGE.getMaxMeasuredValue(), MODEL.getMaxMeasuredValue(), DELTA);
+        assertEquals(STEP + ": average", GAUGE.getAverage(), MODEL.getAverage(), DELTA);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.FxTestSupport;
+import eu.hansolo.medusa.Gauge;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Checks that the value recorder records value changes of a gauge, that
+ * the records can be read back and that the recorder does not keep the
+ * gauge alive.
+ */
+public class ValueRecorderTest {
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+
+    // ******************** Setup *********************************************
+    @BeforeClass public static void setup() throws InterruptedException {
+        FxTestSupport.startToolkit();
+    }
+
+
+    // ******************** Tests *********************************************
+    @Test public void recordedGaugeCanBeReadBackAndCollected() throws Exception {
+        final AtomicReference<Gauge> gauge      = new AtomicReference<>();
+        final List<Integer>          ids        = new ArrayList<>();
+        final List<Long>             timestamps = new ArrayList<>();
+        final List<Double>           values     = new ArrayList<>();
+        final long                   start      = System.currentTimeMillis();
+        try (ValueRecorder recorder = new ValueRecorder(folder.getRoot().toPath(), ValueRecorder.DEFAULT_SEGMENT_SIZE, Duration.ofHours(1), 1024)) {
+            recorder.start();
+            FxTestSupport.runAndWait(() -> {
+                gauge.set(new Gauge());
+                gauge.get().setAnimated(false);
+                recorder.addGauge(gauge.get(), 7);
+                gauge.get().setValue(42);
+                gauge.get().setValue(43);
+            });
+            assertEquals(1, recorder.getNoOfGauges());
+
+            final WeakReference<Gauge> reference = new WeakReference<>(gauge.getAndSet(null));
+            assertTrue("Gauge has not been collected", FxTestSupport.collectGarbageUntil(() -> null == reference.get()));
+            assertEquals(0, recorder.getNoOfGauges());
+            recorder.stop();
+            assertEquals(2, recorder.getNoOfWrittenRecords());
+            assertEquals(0, recorder.getNoOfDroppedRecords());
+        }
+        final long stop = System.currentTimeMillis();
+
+        ValueRecorder.read(folder.getRoot().toPath(), (id, timestamp, value) -> {
+            ids.add(id);
+            timestamps.add(timestamp);
+            values.add(value);
+        });
+        assertEquals(2, ids.size());
+        assertEquals(7, (int) ids.get(0));
+        assertEquals(42.0, values.get(0), 0);
+        assertEquals(7, (int) ids.get(1));
+        assertEquals(43.0, values.get(1), 0);
+        assertTrue(timestamps.get(0) >= start);
+        assertTrue(timestamps.get(0) <= timestamps.get(1));
+        assertTrue(timestamps.get(1) <= stop);
+    }
+}